@@ -0,0 +1,131 @@
+package com.meli.rest.evaluacion.benchmark;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.meli.rest.evaluacion.model.Producto;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.runner.IterationType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Costo de codificar y decodificar una página del listado (20 productos) en JSON, Smile y CBOR,
+ * con la misma configuración que los convertidores de {@code FormatosBinariosConfig}.
+ * <p>
+ * El tamaño de cada formato, sin comprimir y con gzip, se reporta como métricas secundarias de
+ * {@code serializar} ({@code bytesSinComprimir} y {@code bytesGzip} en {@code jmh-result.json}) para
+ * comparar el costo de CPU con el ahorro de bytes transferidos.
+ *
+ * @author [Mauricio Gomez Farias]
+ * @version 1.0
+ * @since 2025-12-04
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FormatosSerializacionBenchmark {
+
+    private static final int PRODUCTOS_POR_PAGINA = 20;
+
+    @Param({"json", "smile", "cbor"})
+    private String formato;
+
+    @Param({ProductosDePrueba.NORMAL, ProductosDePrueba.GRANDE})
+    private String tamanio;
+
+    private ObjectWriter writer;
+    private ObjectReader reader;
+    private List<Producto> pagina;
+    private byte[] codificada;
+    private int bytesGzip;
+
+    @Setup
+    public void preparar() throws IOException {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build().copyWith(fabrica(formato));
+        writer = objectMapper.writerFor(Producto[].class);
+        reader = objectMapper.readerFor(Producto[].class);
+        pagina = new ArrayList<>(PRODUCTOS_POR_PAGINA);
+        for (int i = 0; i < PRODUCTOS_POR_PAGINA; i++) {
+            Producto producto = ProductosDePrueba.crear(tamanio);
+            producto.setId(1000L + i);
+            producto.setTitulo(producto.getTitulo() + " " + i);
+            pagina.add(producto);
+        }
+        codificada = codificar();
+        bytesGzip = comprimir(codificada).length;
+    }
+
+    @Benchmark
+    public byte[] serializar(Tamanios tamanios) throws IOException {
+        byte[] resultado = codificar();
+        tamanios.registrar(resultado.length, bytesGzip);
+        return resultado;
+    }
+
+    @Benchmark
+    public Producto[] deserializar() throws IOException {
+        return reader.readValue(codificada);
+    }
+
+    private byte[] codificar() throws IOException {
+        return writer.writeValueAsBytes(pagina.toArray(Producto[]::new));
+    }
+
+    /**
+     * Tamaño de la página codificada, como contadores auxiliares de JMH.
+     * <p>
+     * JMH pone los contadores en cero al iniciar cada iteración y suma los {@code EVENTS} de todas
+     * las iteraciones medidas: cada invocación asigna (no acumula) la fracción del tamaño que le
+     * corresponde a su iteración, para que el resultado sea el tamaño de la página y no dependa de
+     * la cantidad de iteraciones. El calentamiento no aporta.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Tamanios {
+
+        public double bytesSinComprimir;
+        public double bytesGzip;
+        private double fraccion;
+
+        @Setup(Level.Iteration)
+        public void preparar(IterationParams iteracion) {
+            fraccion = iteracion.getType() == IterationType.MEASUREMENT ? 1.0 / iteracion.getCount() : 0;
+        }
+
+        private void registrar(int sinComprimir, int gzip) {
+            bytesSinComprimir = sinComprimir * fraccion;
+            bytesGzip = gzip * fraccion;
+        }
+    }
+
+    private static JsonFactory fabrica(String formato) {
+        return switch (formato) {
+            case "smile" -> SmileFactory.builder().enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES).build();
+            case "cbor" -> new CBORFactory();
+            default -> new JsonFactory();
+        };
+    }
+
+    private static byte[] comprimir(byte[] datos) throws IOException {
+        ByteArrayOutputStream salida = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(salida)) {
+            gzip.write(datos);
+        }
+        return salida.toByteArray();
+    }
+}
@@ -0,0 +1,55 @@
+package com.meli.rest.evaluacion.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.meli.rest.evaluacion.model.Producto;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialización y deserialización JSON de {@link Producto} con la misma configuración de Jackson
+ * que usa Spring MVC, para un producto normal y uno grande.
+ *
+ * @author [Mauricio Gomez Farias]
+ * @version 1.0
+ * @since 2025-12-04
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProductoJsonBenchmark {
+
+    @Param({ProductosDePrueba.NORMAL, ProductosDePrueba.GRANDE})
+    private String tamanio;
+
+    private ObjectWriter writer;
+    private ObjectReader reader;
+    private Producto producto;
+    private byte[] json;
+
+    @Setup
+    public void preparar() throws IOException {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        writer = objectMapper.writerFor(Producto.class);
+        reader = objectMapper.readerFor(Producto.class);
+        producto = ProductosDePrueba.crear(tamanio);
+        json = writer.writeValueAsBytes(producto);
+    }
+
+    @Benchmark
+    public byte[] serializar() throws IOException {
+        return writer.writeValueAsBytes(producto);
+    }
+
+    @Benchmark
+    public Producto deserializar() throws IOException {
+        return reader.readValue(json);
+    }
+}
@@ -0,0 +1,99 @@
+package com.meli.rest.evaluacion.benchmark;
+
+import com.meli.rest.evaluacion.EvaluacionApplication;
+import com.meli.rest.evaluacion.dto.PaginaProductos;
+import com.meli.rest.evaluacion.dto.RespuestaIngestaLote;
+import com.meli.rest.evaluacion.model.Producto;
+import com.meli.rest.evaluacion.service.ProductoService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ProductoService} completo (Spring + Hibernate + cache de segundo nivel) contra H2 en memoria:
+ * lectura por id, página del listado, guardado de un producto y carga masiva (tiempo por producto).
+ *
+ * @author [Mauricio Gomez Farias]
+ * @version 1.0
+ * @since 2025-12-04
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProductoServiceBenchmark {
+
+    private static final int PRODUCTOS = 1_000;
+    private static final int LOTE_INGESTA = 1_000;
+
+    private ConfigurableApplicationContext contexto;
+    private ProductoService productoService;
+    private Long[] ids;
+    private int siguiente;
+
+    @Setup(Level.Trial)
+    public void iniciar() {
+        contexto = new SpringApplicationBuilder(EvaluacionApplication.class)
+                .web(WebApplicationType.NONE)
+                // Como argumentos y no como propiedades por defecto, para que prevalezcan sobre application.properties
+                .run("--spring.datasource.url=jdbc:h2:mem:benchmarkdb",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.jpa.properties.hibernate.generate_statistics=false",
+                        "--logging.level.root=WARN",
+                        "--logging.level.com.meli.rest.evaluacion=WARN");
+        productoService = contexto.getBean(ProductoService.class);
+
+        List<Producto> productos = new ArrayList<>(PRODUCTOS);
+        for (int i = 0; i < PRODUCTOS; i++) {
+            productos.add(ProductosDePrueba.crear(ProductosDePrueba.NORMAL));
+        }
+        productoService.guardarProductos(productos);
+        ids = productos.stream().map(Producto::getId).toArray(Long[]::new);
+    }
+
+    @TearDown(Level.Trial)
+    public void detener() {
+        contexto.close();
+    }
+
+    @Benchmark
+    public Optional<Producto> obtenerProductoPorId() {
+        siguiente = (siguiente + 1) % ids.length;
+        return productoService.obtenerProductoPorId(ids[siguiente]);
+    }
+
+    @Benchmark
+    public PaginaProductos obtenerPaginaProductos() {
+        return productoService.obtenerPaginaProductos(null, 20);
+    }
+
+    @Benchmark
+    public Producto guardarProducto() {
+        return productoService.guardarProducto(ProductosDePrueba.crear(ProductosDePrueba.NORMAL));
+    }
+
+    /**
+     * Carga masiva de {@value #LOTE_INGESTA} productos con 2 especificaciones y 2 imágenes cada uno;
+     * el resultado es el tiempo por producto (el objetivo de 5.000 productos/s equivale a 200 µs/op).
+     */
+    @Benchmark
+    @OperationsPerInvocation(LOTE_INGESTA)
+    public RespuestaIngestaLote guardarProductos() {
+        List<Producto> productos = new ArrayList<>(LOTE_INGESTA);
+        for (int i = 0; i < LOTE_INGESTA; i++) {
+            Producto producto = ProductosDePrueba.crear(ProductosDePrueba.NORMAL);
+            producto.setEspecificaciones(new ArrayList<>(producto.getEspecificaciones().subList(0, 2)));
+            producto.setUrlsImagenes(new ArrayList<>(producto.getUrlsImagenes().subList(0, 2)));
+            productos.add(producto);
+        }
+        return productoService.guardarProductos(productos);
+    }
+}
@@ -0,0 +1,71 @@
+package com.meli.rest.evaluacion.benchmark;
+
+import com.meli.rest.evaluacion.exceptions.InvalidDataException;
+import com.meli.rest.evaluacion.model.Producto;
+import com.meli.rest.evaluacion.validation.ProductoValidator;
+import com.meli.rest.evaluacion.validation.ResultadoValidacion;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Validación de {@link Producto} con datos válidos e inválidos, reutilizando el resultado. El caso
+ * de la frontera mide también el costo de crear la {@link InvalidDataException} (sin traza), y el
+ * del lote la validación en paralelo de una carga masiva.
+ *
+ * @author [Mauricio Gomez Farias]
+ * @version 1.0
+ * @since 2025-12-04
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProductoValidatorBenchmark {
+
+    private static final int TAMANIO_LOTE = 50_000;
+
+    private ProductoValidator validator;
+    private Producto valido;
+    private Producto invalido;
+    private List<Producto> lote;
+    private final ResultadoValidacion resultado = new ResultadoValidacion();
+
+    @Setup
+    public void preparar() {
+        validator = new ProductoValidator();
+        valido = ProductosDePrueba.crear(ProductosDePrueba.NORMAL);
+        invalido = ProductosDePrueba.crear(ProductosDePrueba.NORMAL);
+        invalido.setPrecio(BigDecimal.ZERO);
+        lote = new ArrayList<>(TAMANIO_LOTE);
+        for (int i = 0; i < TAMANIO_LOTE; i++) {
+            lote.add(i % 10 == 0 ? invalido : valido);
+        }
+    }
+
+    @Benchmark
+    public boolean validarValido() {
+        return validator.validar(valido, resultado);
+    }
+
+    @Benchmark
+    public boolean validarInvalido() {
+        return validator.validar(invalido, resultado);
+    }
+
+    @Benchmark
+    public InvalidDataException validarInvalidoConExcepcion() {
+        validator.validar(invalido, resultado);
+        return resultado.comoExcepcion();
+    }
+
+    @Benchmark
+    public String[] validarLote() {
+        return validator.validarLote(lote);
+    }
+}
@@ -0,0 +1,61 @@
+package com.meli.rest.evaluacion.benchmark;
+
+import com.meli.rest.evaluacion.model.Producto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Productos de prueba para los benchmarks, en dos tamaños representativos del catálogo.
+ *
+ * @author [Mauricio Gomez Farias]
+ * @version 1.0
+ * @since 2025-12-04
+ */
+final class ProductosDePrueba {
+
+    /** Producto típico: descripción corta, 4 especificaciones y 3 imágenes. */
+    static final String NORMAL = "normal";
+
+    /** Producto grande: descripción de ~8 KB, 60 especificaciones y 20 imágenes. */
+    static final String GRANDE = "grande";
+
+    private ProductosDePrueba() {
+    }
+
+    static Producto crear(String tamanio) {
+        boolean grande = GRANDE.equals(tamanio);
+        int especificaciones = grande ? 60 : 4;
+        int imagenes = grande ? 20 : 3;
+
+        Producto producto = new Producto();
+        producto.setTitulo("Samsung Galaxy S23 Ultra 512GB Verde");
+        producto.setPrecio(new BigDecimal("999.99"));
+        producto.setMoneda("USD");
+        producto.setStockDisponible(15);
+        producto.setDescripcion(grande
+                ? "El último modelo de Samsung con cámara de 200MP y S Pen integrado. ".repeat(120)
+                : "El último modelo de Samsung con cámara de 200MP y S Pen integrado.");
+        List<String> listaEspecificaciones = new ArrayList<>(especificaciones);
+        for (int i = 0; i < especificaciones; i++) {
+            listaEspecificaciones.add("Característica " + i + ": valor de la característica " + i);
+        }
+        producto.setEspecificaciones(listaEspecificaciones);
+        List<String> listaImagenes = new ArrayList<>(imagenes);
+        for (int i = 0; i < imagenes; i++) {
+            listaImagenes.add("https://http2.mlstatic.com/D_NQ_NP_2X_" + (721843 + i) + "-MLU73651065883_122023-F.webp");
+        }
+        producto.setUrlsImagenes(listaImagenes);
+        producto.setIdVendedor(1005L);
+        producto.setNombreVendedor("TecnoExpress Limitada");
+        producto.setReputacionVendedor(4.9f);
+        producto.setFechaPublicacion(LocalDateTime.of(2025, 12, 5, 19, 4, 39));
+        producto.setEnvioGratis(true);
+        producto.setMetodoEnvioPrincipal("Chilexpress Prioritario");
+        producto.setRatingPromedio(4.8f);
+        producto.setTotalOpiniones(85);
+        return producto;
+    }
+}
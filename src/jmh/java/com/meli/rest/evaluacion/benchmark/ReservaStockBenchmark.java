@@ -0,0 +1,72 @@
+package com.meli.rest.evaluacion.benchmark;
+
+import com.meli.rest.evaluacion.EvaluacionApplication;
+import com.meli.rest.evaluacion.model.Producto;
+import com.meli.rest.evaluacion.model.ReservaStock;
+import com.meli.rest.evaluacion.service.ProductoService;
+import com.meli.rest.evaluacion.service.ReservaStockService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput de {@link ReservaStockService} contra H2 en memoria con 16 hilos reservando el mismo
+ * producto: el caso que agrupa {@code CoordinadorReservas} en un único UPDATE por turno. Se mide la
+ * reserva sola y la reserva seguida de su confirmación.
+ *
+ * @author [Mauricio Gomez Farias]
+ * @version 1.0
+ * @since 2025-12-04
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(16)
+@Fork(1)
+public class ReservaStockBenchmark {
+
+    // Suficiente para que el producto no se quede sin stock durante la medición
+    private static final int STOCK = 2_000_000_000;
+
+    private ConfigurableApplicationContext contexto;
+    private ReservaStockService reservaStockService;
+    private Long productoId;
+
+    @Setup(Level.Trial)
+    public void iniciar() {
+        contexto = new SpringApplicationBuilder(EvaluacionApplication.class)
+                .web(WebApplicationType.NONE)
+                // Como argumentos y no como propiedades por defecto, para que prevalezcan sobre application.properties
+                .run("--spring.datasource.url=jdbc:h2:mem:benchmarkreservasdb",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.jpa.properties.hibernate.generate_statistics=false",
+                        "--logging.level.root=WARN",
+                        "--logging.level.com.meli.rest.evaluacion=WARN");
+        reservaStockService = contexto.getBean(ReservaStockService.class);
+
+        Producto producto = ProductosDePrueba.crear(ProductosDePrueba.NORMAL);
+        producto.setStockDisponible(STOCK);
+        productoId = contexto.getBean(ProductoService.class).guardarProducto(producto).getId();
+    }
+
+    @TearDown(Level.Trial)
+    public void detener() {
+        contexto.close();
+    }
+
+    @Benchmark
+    public ReservaStock reservar() {
+        return reservaStockService.reservar(productoId, 1);
+    }
+
+    @Benchmark
+    public ReservaStock reservarYConfirmar() {
+        ReservaStock reserva = reservaStockService.reservar(productoId, 1);
+        return reservaStockService.confirmar(reserva.getId());
+    }
+}
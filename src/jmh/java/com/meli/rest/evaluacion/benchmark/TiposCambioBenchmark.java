@@ -0,0 +1,71 @@
+package com.meli.rest.evaluacion.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.meli.rest.evaluacion.dto.PaginaProductos;
+import com.meli.rest.evaluacion.dto.PaginaProductosEnMoneda;
+import com.meli.rest.evaluacion.dto.ProductoEnMoneda;
+import com.meli.rest.evaluacion.model.Producto;
+import com.meli.rest.evaluacion.util.TablaTiposCambio;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversión de los precios de una página completa del listado (100 productos en USD) a CLP con
+ * la tabla de tipos de cambio incluida en la aplicación, y su serialización JSON comparada con la
+ * de la página sin convertir.
+ *
+ * @author [Mauricio Gomez Farias]
+ * @version 1.0
+ * @since 2025-12-04
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TiposCambioBenchmark {
+
+    private static final int TAMANIO_PAGINA = 100;
+
+    private TablaTiposCambio.Conversion conversion;
+    private List<Producto> productos;
+    private ObjectWriter writer;
+
+    @Setup
+    public void preparar() throws IOException {
+        Properties propiedades = new Properties();
+        try (InputStream entrada = new ClassPathResource("tipos-cambio.properties").getInputStream()) {
+            propiedades.load(entrada);
+        }
+        conversion = TablaTiposCambio.desde(propiedades).hacia("CLP");
+        productos = new ArrayList<>(TAMANIO_PAGINA);
+        for (int i = 0; i < TAMANIO_PAGINA; i++) {
+            productos.add(ProductosDePrueba.crear(ProductosDePrueba.NORMAL));
+        }
+        writer = Jackson2ObjectMapperBuilder.json().build().writer();
+    }
+
+    @Benchmark
+    public List<ProductoEnMoneda> convertirPagina() {
+        return ProductoEnMoneda.de(productos, conversion);
+    }
+
+    @Benchmark
+    public byte[] serializarPagina() throws IOException {
+        return writer.writeValueAsBytes(new PaginaProductos(productos, null));
+    }
+
+    @Benchmark
+    public byte[] serializarPaginaConvertida() throws IOException {
+        return writer.writeValueAsBytes(new PaginaProductosEnMoneda(ProductoEnMoneda.de(productos, conversion), null));
+    }
+}
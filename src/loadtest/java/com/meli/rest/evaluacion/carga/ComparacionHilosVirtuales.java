@@ -0,0 +1,90 @@
+package com.meli.rest.evaluacion.carga;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Compara la concurrencia máxima sostenible con y sin hilos virtuales.
+ * <p>
+ * Ejecuta {@link PruebaCarga} dos veces con los mismos escalones de concurrencia, la primera con
+ * el pool de hilos de plataforma de Tomcat y la segunda con hilos virtuales. Cada modo corre en
+ * su propia JVM para que la compilación JIT y el heap de una ejecución no favorezcan a la otra.
+ * Los parámetros se pasan tal cual a {@link PruebaCarga}; si no se indican escalones se usan
+ * {@code 50,100,200,400,800,1600,3200}.
+ * <p>
+ * Uso: {@code mvn -P loadtest test-compile exec:exec -Dcarga.clase=com.meli.rest.evaluacion.carga.ComparacionHilosVirtuales
+ * -Dcarga.args="--productos 100k --duracion 20 --calentamiento 5"}
+ *
+ * @author [Mauricio Gomez Farias]
+ * @version 1.0
+ * @since 2025-12-04
+ */
+public class ComparacionHilosVirtuales {
+
+    private static final String ESCALONES_DEFECTO = "50,100,200,400,800,1600,3200";
+
+    public static void main(String[] args) throws Exception {
+        List<String> parametros = new ArrayList<>(Arrays.asList(args));
+        if (!parametros.contains("--escalones")) {
+            parametros.addAll(List.of("--escalones", ESCALONES_DEFECTO));
+        }
+        Path directorio = Path.of("target/loadtest");
+        Files.createDirectories(directorio);
+
+        Path plataforma = ejecutar(parametros, false, directorio.resolve("comparacion-plataforma.json"));
+        Path virtual = ejecutar(parametros, true, directorio.resolve("comparacion-virtual.json"));
+        imprimir(new ObjectMapper().readTree(plataforma.toFile()), new ObjectMapper().readTree(virtual.toFile()));
+    }
+
+    private static Path ejecutar(List<String> parametros, boolean hilosVirtuales, Path reporte) throws Exception {
+        System.out.printf("%n=== Hilos %s ===%n", hilosVirtuales ? "virtuales" : "de plataforma");
+        List<String> comando = new ArrayList<>();
+        comando.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        // Misma configuración de heap y flags que la JVM actual
+        comando.addAll(ManagementFactory.getRuntimeMXBean().getInputArguments());
+        comando.addAll(List.of("-classpath", System.getProperty("java.class.path"), PruebaCarga.class.getName()));
+        comando.addAll(parametros);
+        comando.addAll(List.of("--hilos-virtuales", String.valueOf(hilosVirtuales), "--reporte", reporte.toString()));
+
+        Process proceso = new ProcessBuilder(comando).inheritIO().directory(new File(".")).start();
+        if (proceso.waitFor() != 0) {
+            throw new IllegalStateException("La prueba de carga terminó con código " + proceso.exitValue());
+        }
+        return reporte;
+    }
+
+    private static void imprimir(JsonNode plataforma, JsonNode virtual) {
+        System.out.printf("%n%-12s | %-30s | %-30s%n", "", "plataforma", "virtual");
+        System.out.printf("%-12s | %10s %10s %8s | %10s %10s %8s%n", "concurrencia",
+                "ops/s", "p99 ms", "errores", "ops/s", "p99 ms", "errores");
+        int escalones = Math.max(plataforma.get("escalones").size(), virtual.get("escalones").size());
+        for (int i = 0; i < escalones; i++) {
+            JsonNode escalonPlataforma = plataforma.get("escalones").get(i);
+            JsonNode escalonVirtual = virtual.get("escalones").get(i);
+            JsonNode referencia = escalonPlataforma != null ? escalonPlataforma : escalonVirtual;
+            System.out.printf(Locale.ROOT, "%-12d | %s | %s%n", referencia.get("concurrencia").asInt(),
+                    columnas(escalonPlataforma), columnas(escalonVirtual));
+        }
+        System.out.printf("%nConcurrencia máxima sostenible: plataforma %d, virtual %d (p99 <= %s ms, sin errores)%n",
+                plataforma.get("concurrenciaMaximaSostenible").asInt(),
+                virtual.get("concurrenciaMaximaSostenible").asInt(),
+                plataforma.get("configuracion").get("sloP99Ms").asText());
+    }
+
+    private static String columnas(JsonNode escalon) {
+        if (escalon == null) {
+            return String.format("%-30s", "-");
+        }
+        return String.format(Locale.ROOT, "%10.1f %10.2f %8d", escalon.get("porSegundo").asDouble(),
+                escalon.get("latenciaMs").get("p99").asDouble(), escalon.get("errores").asLong());
+    }
+}
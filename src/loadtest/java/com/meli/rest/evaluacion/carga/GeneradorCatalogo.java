@@ -0,0 +1,151 @@
+package com.meli.rest.evaluacion.carga;
+
+import com.meli.rest.evaluacion.model.Producto;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Generador determinista de productos realistas para las pruebas de carga.
+ * <p>
+ * El producto número {@code n} depende solo de la semilla y de {@code n}, por lo que un catálogo
+ * puede generarse por partes (o en paralelo) y dos ejecuciones con la misma semilla producen
+ * exactamente los mismos datos. Las distribuciones imitan un catálogo real:
+ * <ul>
+ *     <li>descripción: 70% de 200 a 1.000 caracteres, 25% de 1 a 4 KB y 5% de 8 a 32 KB;</li>
+ *     <li>especificaciones: la mayoría entre 3 y 12, algunos productos hasta 40;</li>
+ *     <li>imágenes: entre 1 y 12;</li>
+ *     <li>precio, moneda, vendedor, envío, rating, ventas y fecha de publicación variados.</li>
+ * </ul>
+ *
+ * @author [Mauricio Gomez Farias]
+ * @version 1.0
+ * @since 2025-12-04
+ */
+public class GeneradorCatalogo {
+
+    static final String[] CATEGORIAS = {
+            "Celular", "Notebook", "Smart TV", "Zapatillas", "Polera", "Audífonos", "Parlante", "Bicicleta",
+            "Cafetera", "Refrigerador", "Lavadora", "Silla Gamer", "Monitor", "Teclado", "Mouse", "Tablet",
+            "Reloj", "Mochila", "Cámara", "Consola"};
+
+    static final String[] MARCAS = {
+            "Samsung", "Apple", "Lenovo", "Xiaomi", "Sony", "LG", "Nike", "Adidas", "Philips", "HP", "Asus",
+            "Logitech", "JBL", "Oster", "Trek", "Motorola", "Huawei", "Dell", "Puma", "Bosch"};
+
+    private static final String[] ATRIBUTOS = {
+            "Negro", "Blanco", "Azul", "Rojo", "Verde", "Pro", "Max", "Lite", "Plus", "Ultra", "Inalámbrico",
+            "Reacondicionado", "Edición Especial", "2025", "Compacto"};
+
+    private static final String[] PALABRAS = {
+            "producto", "original", "garantía", "calidad", "envío", "rápido", "batería", "pantalla", "diseño",
+            "resistente", "liviano", "potente", "memoria", "almacenamiento", "conectividad", "bluetooth", "wifi",
+            "cargador", "incluye", "compatible", "moderno", "ideal", "uso", "diario", "profesional", "hogar",
+            "oficina", "deporte", "viaje", "tecnología"};
+
+    private static final String[] MONEDAS = {"CLP", "CLP", "CLP", "USD", "ARS", "MXN"};
+
+    private static final String[] ENVIOS = {"Mercado Envíos", "Chilexpress Prioritario", "Starken", "Retiro en tienda"};
+
+    private static final LocalDateTime INICIO_PUBLICACIONES = LocalDateTime.of(2023, 1, 1, 0, 0);
+
+    private final long semilla;
+
+    public GeneradorCatalogo(long semilla) {
+        this.semilla = semilla;
+    }
+
+    /**
+     * Genera el producto número {@code indice} del catálogo (sin id).
+     *
+     * @param indice Posición del producto en el catálogo.
+     * @return Un producto nuevo, siempre igual para la misma semilla e índice.
+     */
+    public Producto generar(long indice) {
+        SplittableRandom aleatorio = new SplittableRandom(semilla * 0x9E3779B97F4A7C15L + indice);
+
+        String categoria = elegir(aleatorio, CATEGORIAS);
+        String marca = elegir(aleatorio, MARCAS);
+        Producto producto = new Producto();
+        producto.setTitulo(categoria + " " + marca + " " + (char) ('A' + aleatorio.nextInt(26))
+                + aleatorio.nextInt(10, 999) + " " + elegir(aleatorio, ATRIBUTOS));
+        producto.setMoneda(elegir(aleatorio, MONEDAS));
+        producto.setPrecio(BigDecimal.valueOf(Math.exp(aleatorio.nextDouble(Math.log(5), Math.log(5_000)))
+                * ("CLP".equals(producto.getMoneda()) ? 1_000 : 1)).setScale(2, RoundingMode.HALF_UP));
+        producto.setStockDisponible(aleatorio.nextInt(0, 500));
+        producto.setDescripcion(descripcion(aleatorio, categoria, marca));
+        producto.setEspecificaciones(especificaciones(aleatorio));
+        producto.setUrlsImagenes(imagenes(aleatorio, indice));
+        producto.setIdVendedor(1_000L + aleatorio.nextInt(5_000));
+        producto.setNombreVendedor("Vendedor " + producto.getIdVendedor());
+        producto.setReputacionVendedor(redondear(aleatorio.nextDouble(3.0, 5.0)));
+        producto.setCantidadVendida(aleatorio.nextInt(10) < 7 ? aleatorio.nextInt(0, 50) : aleatorio.nextInt(50, 20_000));
+        producto.setFechaPublicacion(INICIO_PUBLICACIONES.plusMinutes(aleatorio.nextLong(0, 3L * 365 * 24 * 60)));
+        producto.setEnvioGratis(aleatorio.nextBoolean());
+        producto.setMetodoEnvioPrincipal(elegir(aleatorio, ENVIOS));
+        producto.setRatingPromedio(redondear(aleatorio.nextDouble(1.0, 5.0)));
+        producto.setTotalOpiniones(aleatorio.nextInt(0, 2_000));
+        return producto;
+    }
+
+    /**
+     * Genera los productos {@code [desde, hasta)}.
+     */
+    public List<Producto> generar(long desde, long hasta) {
+        List<Producto> productos = new ArrayList<>((int) (hasta - desde));
+        for (long indice = desde; indice < hasta; indice++) {
+            productos.add(generar(indice));
+        }
+        return productos;
+    }
+
+    /**
+     * @return Un término de búsqueda presente en los títulos generados.
+     */
+    public static String terminoDeBusqueda(SplittableRandom aleatorio) {
+        return aleatorio.nextBoolean() ? elegir(aleatorio, CATEGORIAS)
+                : elegir(aleatorio, CATEGORIAS) + " " + elegir(aleatorio, MARCAS);
+    }
+
+    private String descripcion(SplittableRandom aleatorio, String categoria, String marca) {
+        int tramo = aleatorio.nextInt(100);
+        int largo = tramo < 70 ? aleatorio.nextInt(200, 1_000)
+                : tramo < 95 ? aleatorio.nextInt(1_000, 4_096)
+                : aleatorio.nextInt(8_192, 32_768);
+        StringBuilder texto = new StringBuilder(largo + 16).append(categoria).append(' ').append(marca).append('.');
+        while (texto.length() < largo) {
+            texto.append(' ').append(elegir(aleatorio, PALABRAS));
+        }
+        return texto.toString();
+    }
+
+    private List<String> especificaciones(SplittableRandom aleatorio) {
+        int cantidad = aleatorio.nextInt(10) < 9 ? aleatorio.nextInt(3, 13) : aleatorio.nextInt(13, 41);
+        List<String> especificaciones = new ArrayList<>(cantidad);
+        for (int i = 0; i < cantidad; i++) {
+            especificaciones.add("Característica " + (i + 1) + ": " + elegir(aleatorio, ATRIBUTOS));
+        }
+        return especificaciones;
+    }
+
+    private List<String> imagenes(SplittableRandom aleatorio, long indice) {
+        int cantidad = aleatorio.nextInt(1, 13);
+        List<String> imagenes = new ArrayList<>(cantidad);
+        for (int i = 0; i < cantidad; i++) {
+            imagenes.add("https://http2.mlstatic.com/D_NQ_NP_" + indice + "-" + i + "-F.webp");
+        }
+        return imagenes;
+    }
+
+    private static String elegir(SplittableRandom aleatorio, String[] valores) {
+        return valores[aleatorio.nextInt(valores.length)];
+    }
+
+    private static float redondear(double valor) {
+        return Math.round(valor * 10) / 10.0f;
+    }
+}
@@ -0,0 +1,559 @@
+package com.meli.rest.evaluacion.carga;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.meli.rest.evaluacion.EvaluacionApplication;
+import com.meli.rest.evaluacion.model.Producto;
+import com.meli.rest.evaluacion.service.ProductoService;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Prueba de carga de punta a punta de {@code /api/evaluacion}.
+ * <p>
+ * Levanta la aplicación en un puerto aleatorio contra H2 embebido, genera el catálogo con
+ * {@link GeneradorCatalogo} (solo los productos que falten, el catálogo en archivo se reutiliza
+ * entre ejecuciones) y luego envía peticiones HTTP con la concurrencia y la mezcla de
+ * operaciones configuradas. La latencia de cada operación se registra en histogramas HDR
+ * (microsegundos, 3 dígitos significativos) y al terminar se escribe un reporte JSON con
+ * p50/p90/p99/p999 y la distribución completa de cada histograma ({@code .hgrm}).
+ * <p>
+ * Uso: {@code mvn -P loadtest test-compile exec:exec -Dcarga.args="--productos 1M --concurrencia 64"}
+ * <pre>
+ *   --productos      tamaño del catálogo: 10k, 1M, 5M, ...          (10k)
+ *   --concurrencia   clientes simultáneos                            (32)
+ *   --duracion       segundos de medición                            (60)
+ *   --calentamiento  segundos previos que no se miden                (15)
+ *   --mezcla         pesos por operación                             (lectura=70,listado=15,busqueda=10,escritura=5)
+ *                    también venta: POST /{id}/ventas sobre los 100 primeros productos
+ *   --semilla        semilla del generador                           (42)
+ *   --base-datos     archivo | memoria                               (archivo, en target/loadtest)
+ *   --comparar       reporte JSON anterior para mostrar diferencias
+ *   --hilos-virtuales  true: peticiones atendidas con hilos virtuales (false)
+ *   --hilos-tomcat     máximo de hilos de plataforma de Tomcat        (200)
+ *   --pool-conexiones  máximo de conexiones JDBC de Hikari            (10)
+ *   --escalones        concurrencias a recorrer, p. ej. 100,200,400   (sin escalones)
+ *   --slo-p99          p99 máximo en ms para que un escalón sea sostenible (500)
+ *   --reporte          archivo del reporte JSON                       (target/loadtest/...)
+ *   --logs             silencio | sincrono | produccion               (silencio: solo WARN)
+ * </pre>
+ * Con {@code --escalones} se mide cada nivel de concurrencia por separado y el reporte indica la
+ * concurrencia máxima sostenible (sin errores y con p99 dentro de {@code --slo-p99}); ver
+ * {@link ComparacionHilosVirtuales}.
+ * <p>
+ * {@code --logs sincrono} reproduce los logs de desarrollo (DEBUG síncrono y SQL en consola) y
+ * {@code --logs produccion} usa el perfil {@code produccion} (asíncrono y muestreado); ejecutando
+ * uno y luego el otro con {@code --comparar} se mide la ganancia de throughput.
+ *
+ * @author [Mauricio Gomez Farias]
+ * @version 1.0
+ * @since 2025-12-04
+ */
+public class PruebaCarga {
+
+    private static final String RUTA_API = "/api/evaluacion";
+    private static final int TAMANIO_LOTE_GENERACION = 5_000;
+    private static final long LATENCIA_MAXIMA_US = TimeUnit.MINUTES.toMicros(2);
+    // Las ventas se concentran en pocos productos, como los más vendidos de un catálogo real
+    private static final int PRODUCTOS_MAS_VENDIDOS = 100;
+
+    /**
+     * Operaciones que ejecuta cada cliente.
+     */
+    enum Operacion {
+        LECTURA, LISTADO, BUSQUEDA, ESCRITURA, VENTA
+    }
+
+    private final Configuracion configuracion;
+    private final GeneradorCatalogo generador;
+    private final Map<Operacion, Recorder> latencias = new EnumMap<>(Operacion.class);
+    private final Map<Operacion, LongAdder> errores = new EnumMap<>(Operacion.class);
+    private final Map<String, Object> catalogo = new LinkedHashMap<>();
+    private final AtomicLong siguienteEscritura = new AtomicLong();
+    private final HttpClient cliente = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+
+    private ObjectMapper objectMapper;
+    private String baseUrl;
+    private long idMinimo;
+    private long idMaximo;
+
+    PruebaCarga(Configuracion configuracion) {
+        this.configuracion = configuracion;
+        this.generador = new GeneradorCatalogo(configuracion.semilla());
+        for (Operacion operacion : Operacion.values()) {
+            latencias.put(operacion, new Recorder(LATENCIA_MAXIMA_US, 3));
+            errores.put(operacion, new LongAdder());
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        Configuracion configuracion = Configuracion.desde(args);
+        System.out.println("Prueba de carga: " + configuracion);
+        new PruebaCarga(configuracion).ejecutar();
+    }
+
+    Path ejecutar() throws Exception {
+        long inicio = System.nanoTime();
+        try (ConfigurableApplicationContext contexto = iniciarAplicacion()) {
+            catalogo.put("segundosInicio", segundosDesde(inicio));
+            objectMapper = contexto.getBean(ObjectMapper.class);
+            baseUrl = "http://localhost:" + contexto.getEnvironment().getProperty("local.server.port") + RUTA_API;
+
+            poblarCatalogo(contexto);
+            Path reporte = configuracion.escalones().isEmpty()
+                    ? escribirReporte(medir(configuracion.concurrencia()))
+                    : medirEscalones();
+            System.out.println("Reporte: " + reporte.toAbsolutePath());
+            if (configuracion.comparar() != null) {
+                compararCon(reporte, configuracion.comparar(), System.out);
+            }
+            return reporte;
+        }
+    }
+
+    private ConfigurableApplicationContext iniciarAplicacion() {
+        String url = configuracion.enMemoria()
+                ? "jdbc:h2:mem:carga"
+                : "jdbc:h2:file:" + configuracion.directorio().resolve(
+                "catalogo-" + configuracion.productos() + "-" + configuracion.semilla()).toAbsolutePath();
+        // Como argumentos y no como propiedades por defecto, para que prevalezcan sobre application.properties
+        List<String> argumentos = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--spring.datasource.url=" + url,
+                "--spring.jpa.hibernate.ddl-auto=update",
+                "--spring.jpa.properties.hibernate.generate_statistics=false",
+                "--evaluacion.hilos-virtuales.habilitado=" + configuracion.hilosVirtuales(),
+                "--server.tomcat.threads.max=" + configuracion.hilosTomcat(),
+                "--spring.datasource.hikari.maximum-pool-size=" + configuracion.poolConexiones(),
+                // Un solo cliente mide el throughput máximo: sin límite de tasa ni compartimentos
+                "--evaluacion.admision.habilitado=false"));
+        argumentos.addAll(switch (configuracion.logs()) {
+            // Configuración de logs anterior al perfil produccion: DEBUG síncrono y todas las sentencias SQL
+            case "sincrono" -> List.of("--spring.jpa.show-sql=true");
+            case "produccion" -> List.of("--spring.profiles.active=produccion");
+            default -> List.of("--spring.jpa.show-sql=false",
+                    "--logging.level.root=WARN",
+                    "--logging.level.com.meli.rest.evaluacion=WARN");
+        });
+        return new SpringApplicationBuilder(EvaluacionApplication.class).run(argumentos.toArray(String[]::new));
+    }
+
+    /**
+     * Genera los productos que falten para llegar al tamaño configurado, en lotes por el servicio
+     * de carga masiva (el mismo camino que {@code POST /batch}, sin el costo del transporte HTTP).
+     */
+    private void poblarCatalogo(ConfigurableApplicationContext contexto) {
+        JdbcTemplate jdbcTemplate = contexto.getBean(JdbcTemplate.class);
+        ProductoService productoService = contexto.getBean(ProductoService.class);
+
+        long existentes = contar(jdbcTemplate);
+        long inicio = System.nanoTime();
+        for (long desde = existentes; desde < configuracion.productos(); desde += TAMANIO_LOTE_GENERACION) {
+            long hasta = Math.min(desde + TAMANIO_LOTE_GENERACION, configuracion.productos());
+            productoService.guardarProductos(generador.generar(desde, hasta));
+            if ((hasta / TAMANIO_LOTE_GENERACION) % 20 == 0 || hasta == configuracion.productos()) {
+                System.out.printf("  generados %,d / %,d productos%n", hasta, configuracion.productos());
+            }
+        }
+        double segundos = segundosDesde(inicio);
+        long generados = Math.max(0, configuracion.productos() - existentes);
+
+        Map<String, Object> rango = jdbcTemplate.queryForMap("select min(id) as minimo, max(id) as maximo from productos");
+        idMinimo = ((Number) rango.get("minimo")).longValue();
+        idMaximo = ((Number) rango.get("maximo")).longValue();
+        siguienteEscritura.set(Math.max(configuracion.productos(), contar(jdbcTemplate)));
+
+        catalogo.put("productos", contar(jdbcTemplate));
+        catalogo.put("generados", generados);
+        catalogo.put("segundosGeneracion", segundos);
+        catalogo.put("productosPorSegundo", generados == 0 ? 0 : Math.round(generados / segundos));
+        System.out.printf("Catálogo listo: %,d productos (%,d generados en %.1f s)%n",
+                catalogo.get("productos"), generados, segundos);
+    }
+
+    /**
+     * Ejecuta los clientes durante el calentamiento y la medición, y retorna el histograma de
+     * cada operación correspondiente solo al período de medición. Los clientes usan hilos
+     * virtuales para que el generador de carga no limite la concurrencia.
+     */
+    private Map<Operacion, Histogram> medir(int concurrencia) throws Exception {
+        ExecutorService clientes = Executors.newVirtualThreadPerTaskExecutor();
+        long finCalentamiento = System.nanoTime() + configuracion.calentamiento().toNanos();
+        long fin = finCalentamiento + configuracion.duracion().toNanos();
+        try {
+            List<Future<?>> futuros = new ArrayList<>();
+            for (int i = 0; i < concurrencia; i++) {
+                SplittableRandom aleatorio = new SplittableRandom(configuracion.semilla() * 31 + i);
+                futuros.add(clientes.submit(() -> ejecutarCliente(aleatorio, fin)));
+            }
+
+            System.out.printf("Calentamiento de %d s...%n", configuracion.calentamiento().toSeconds());
+            TimeUnit.NANOSECONDS.sleep(Math.max(0, finCalentamiento - System.nanoTime()));
+            // Se descarta lo registrado durante el calentamiento
+            Map<Operacion, Long> erroresCalentamiento = new EnumMap<>(Operacion.class);
+            for (Operacion operacion : Operacion.values()) {
+                latencias.get(operacion).reset();
+                erroresCalentamiento.put(operacion, errores.get(operacion).sum());
+            }
+            System.out.printf("Midiendo %d s con %d clientes...%n", configuracion.duracion().toSeconds(),
+                    concurrencia);
+
+            for (Future<?> futuro : futuros) {
+                futuro.get();
+            }
+            Map<Operacion, Histogram> resultados = new EnumMap<>(Operacion.class);
+            for (Operacion operacion : Operacion.values()) {
+                resultados.put(operacion, latencias.get(operacion).getIntervalHistogram());
+                long medidos = errores.get(operacion).sum() - erroresCalentamiento.get(operacion);
+                errores.get(operacion).reset();
+                errores.get(operacion).add(medidos);
+            }
+            return resultados;
+        } finally {
+            clientes.shutdownNow();
+        }
+    }
+
+    private Void ejecutarCliente(SplittableRandom aleatorio, long fin) {
+        String cursor = null;
+        while (System.nanoTime() < fin) {
+            Operacion operacion = configuracion.elegir(aleatorio);
+            HttpRequest peticion = switch (operacion) {
+                case LECTURA -> get("/" + aleatorio.nextLong(idMinimo, idMaximo + 1));
+                case LISTADO -> get(cursor == null ? "?tamanio=20" : "?tamanio=20&cursor=" + cursor);
+                case BUSQUEDA -> get("/buscar?q=" + URLEncoder.encode(
+                        GeneradorCatalogo.terminoDeBusqueda(aleatorio), StandardCharsets.UTF_8));
+                case ESCRITURA -> post(generador.generar(siguienteEscritura.getAndIncrement()));
+                case VENTA -> post("/" + (idMinimo + aleatorio.nextLong(Math.min(PRODUCTOS_MAS_VENDIDOS, idMaximo - idMinimo + 1)))
+                        + "/ventas", "{\"cantidad\": 1}".getBytes(StandardCharsets.UTF_8));
+            };
+
+            long inicio = System.nanoTime();
+            try {
+                HttpResponse<byte[]> respuesta = cliente.send(peticion, HttpResponse.BodyHandlers.ofByteArray());
+                latencias.get(operacion).recordValue(Math.min(LATENCIA_MAXIMA_US,
+                        TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - inicio)));
+                // Una lectura de un id borrado (404) no es un error de la aplicación
+                boolean exitosa = respuesta.statusCode() < 300 || respuesta.statusCode() == 304
+                        || (operacion == Operacion.LECTURA && respuesta.statusCode() == 404);
+                if (!exitosa) {
+                    errores.get(operacion).increment();
+                }
+                if (operacion == Operacion.LISTADO) {
+                    // Cada cliente avanza algunas páginas y vuelve al inicio
+                    JsonNode siguiente = exitosa ? objectMapper.readTree(respuesta.body()).get("siguienteCursor") : null;
+                    cursor = siguiente == null || siguiente.isNull() || aleatorio.nextInt(5) == 0 ? null : siguiente.asText();
+                }
+            } catch (IOException e) {
+                errores.get(operacion).increment();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+        }
+        return null;
+    }
+
+    private HttpRequest get(String ruta) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + ruta)).timeout(Duration.ofSeconds(60)).GET().build();
+    }
+
+    private HttpRequest post(Producto producto) {
+        try {
+            return post("", objectMapper.writeValueAsBytes(producto));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private HttpRequest post(String ruta, byte[] cuerpo) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + ruta))
+                .timeout(Duration.ofSeconds(60))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(cuerpo))
+                .build();
+    }
+
+    /**
+     * Mide cada escalón de concurrencia con la misma mezcla de operaciones. Se detiene en el
+     * primer escalón no sostenible (con errores o con p99 sobre el objetivo).
+     */
+    private Path medirEscalones() throws Exception {
+        double segundos = configuracion.duracion().toMillis() / 1000.0;
+        List<Map<String, Object>> escalones = new ArrayList<>();
+        int maximaSostenible = 0;
+        System.out.printf("%n%-12s %10s %10s %10s %8s%n", "concurrencia", "ops/s", "p99 ms", "max ms", "errores");
+        for (int concurrencia : configuracion.escalones()) {
+            Map<Operacion, Histogram> resultados = medir(concurrencia);
+            Histogram total = new Histogram(LATENCIA_MAXIMA_US, 3);
+            long erroresTotales = 0;
+            for (Operacion operacion : Operacion.values()) {
+                total.add(resultados.get(operacion));
+                erroresTotales += errores.get(operacion).sum();
+            }
+            double p99 = milisegundos(total.getValueAtPercentile(99));
+            boolean sostenible = erroresTotales == 0 && p99 <= configuracion.sloP99Ms();
+
+            Map<String, Object> escalon = new LinkedHashMap<>();
+            escalon.put("concurrencia", concurrencia);
+            escalon.putAll(resumen(total, erroresTotales, segundos));
+            escalon.put("sostenible", sostenible);
+            escalones.add(escalon);
+            System.out.printf(Locale.ROOT, "%-12d %10.1f %10.2f %10.2f %8d%s%n", concurrencia,
+                    escalon.get("porSegundo"), p99, milisegundos(total.getMaxValue()), erroresTotales,
+                    sostenible ? "" : "  <- no sostenible");
+            if (!sostenible) {
+                break;
+            }
+            maximaSostenible = concurrencia;
+        }
+
+        Map<String, Object> reporte = new LinkedHashMap<>();
+        reporte.put("fecha", LocalDateTime.now().toString());
+        reporte.put("configuracion", configuracion.comoMapa());
+        reporte.put("entorno", entorno());
+        reporte.put("catalogo", catalogo);
+        reporte.put("escalones", escalones);
+        reporte.put("concurrenciaMaximaSostenible", maximaSostenible);
+        String modo = configuracion.hilosVirtuales() ? "virtual" : "plataforma";
+        return escribirJson("escalones-" + modo + "-" + configuracion.productos() + "-" + marcaDeTiempo(), reporte);
+    }
+
+    private Path escribirReporte(Map<Operacion, Histogram> resultados) throws IOException {
+        Files.createDirectories(configuracion.directorio());
+        String nombre = "reporte-" + configuracion.productos() + "-" + marcaDeTiempo();
+        double segundos = configuracion.duracion().toMillis() / 1000.0;
+
+        Map<String, Object> operaciones = new LinkedHashMap<>();
+        Histogram total = new Histogram(LATENCIA_MAXIMA_US, 3);
+        long erroresTotales = 0;
+        for (Operacion operacion : Operacion.values()) {
+            Histogram histograma = resultados.get(operacion);
+            total.add(histograma);
+            erroresTotales += errores.get(operacion).sum();
+            operaciones.put(operacion.name(), resumen(histograma, errores.get(operacion).sum(), segundos));
+
+            try (PrintStream salida = new PrintStream(
+                    configuracion.directorio().resolve(nombre + "-" + operacion.name().toLowerCase() + ".hgrm").toFile(),
+                    StandardCharsets.UTF_8)) {
+                histograma.outputPercentileDistribution(salida, 1000.0);
+            }
+        }
+        operaciones.put("TOTAL", resumen(total, erroresTotales, segundos));
+
+        Map<String, Object> reporte = new LinkedHashMap<>();
+        reporte.put("fecha", LocalDateTime.now().toString());
+        reporte.put("configuracion", configuracion.comoMapa());
+        reporte.put("entorno", entorno());
+        reporte.put("catalogo", catalogo);
+        reporte.put("resultados", operaciones);
+        Path archivo = escribirJson(nombre, reporte);
+
+        System.out.printf("%n%-10s %12s %8s %10s %10s %10s %10s %10s%n",
+                "operacion", "ops", "errores", "ops/s", "p50 ms", "p99 ms", "p999 ms", "max ms");
+        operaciones.forEach((operacion, valores) -> {
+            @SuppressWarnings("unchecked")
+            Map<String, Object> v = (Map<String, Object>) valores;
+            @SuppressWarnings("unchecked")
+            Map<String, Object> l = (Map<String, Object>) v.get("latenciaMs");
+            System.out.printf(Locale.ROOT, "%-10s %,12d %8d %10.1f %10.2f %10.2f %10.2f %10.2f%n", operacion,
+                    v.get("operaciones"), v.get("errores"), v.get("porSegundo"),
+                    l.get("p50"), l.get("p99"), l.get("p999"), l.get("max"));
+        });
+        return archivo;
+    }
+
+    private Path escribirJson(String nombre, Map<String, Object> reporte) throws IOException {
+        Path archivo = configuracion.reporte() != null ? configuracion.reporte()
+                : configuracion.directorio().resolve(nombre + ".json");
+        Files.createDirectories(archivo.toAbsolutePath().getParent());
+        objectMapper.copy().enable(SerializationFeature.INDENT_OUTPUT).writeValue(archivo.toFile(), reporte);
+        return archivo;
+    }
+
+    private static Map<String, Object> entorno() {
+        Map<String, Object> entorno = new LinkedHashMap<>();
+        entorno.put("java", System.getProperty("java.version"));
+        entorno.put("procesadores", Runtime.getRuntime().availableProcessors());
+        entorno.put("memoriaMaximaMb", Runtime.getRuntime().maxMemory() / (1024 * 1024));
+        return entorno;
+    }
+
+    private static String marcaDeTiempo() {
+        return LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+    }
+
+    private static Map<String, Object> resumen(Histogram histograma, long errores, double segundos) {
+        Map<String, Object> latencia = new LinkedHashMap<>();
+        latencia.put("media", milisegundos(histograma.getMean()));
+        latencia.put("p50", milisegundos(histograma.getValueAtPercentile(50)));
+        latencia.put("p90", milisegundos(histograma.getValueAtPercentile(90)));
+        latencia.put("p99", milisegundos(histograma.getValueAtPercentile(99)));
+        latencia.put("p999", milisegundos(histograma.getValueAtPercentile(99.9)));
+        latencia.put("max", milisegundos(histograma.getMaxValue()));
+
+        Map<String, Object> resumen = new LinkedHashMap<>();
+        resumen.put("operaciones", histograma.getTotalCount());
+        resumen.put("errores", errores);
+        resumen.put("porSegundo", Math.round(histograma.getTotalCount() / segundos * 10) / 10.0);
+        resumen.put("latenciaMs", latencia);
+        return resumen;
+    }
+
+    /**
+     * Muestra la variación de throughput y p99 de cada operación respecto de un reporte anterior.
+     */
+    void compararCon(Path actual, Path anterior, PrintStream salida) throws IOException {
+        JsonNode nuevo = objectMapper.readTree(actual.toFile()).get("resultados");
+        JsonNode previo = objectMapper.readTree(anterior.toFile()).get("resultados");
+        salida.printf("%nComparación con %s%n%-10s %12s %12s %12s %12s%n", anterior.getFileName(),
+                "operacion", "ops/s antes", "ops/s ahora", "p99 antes", "p99 ahora");
+        nuevo.fieldNames().forEachRemaining(operacion -> {
+            if (previo.has(operacion)) {
+                salida.printf(Locale.ROOT, "%-10s %12.1f %12.1f %12.2f %12.2f%n", operacion,
+                        previo.get(operacion).get("porSegundo").asDouble(), nuevo.get(operacion).get("porSegundo").asDouble(),
+                        previo.get(operacion).get("latenciaMs").get("p99").asDouble(),
+                        nuevo.get(operacion).get("latenciaMs").get("p99").asDouble());
+            }
+        });
+    }
+
+    private static double milisegundos(double microsegundos) {
+        return Math.round(microsegundos / 10.0) / 100.0;
+    }
+
+    private static double segundosDesde(long inicio) {
+        return Math.round((System.nanoTime() - inicio) / 100_000_000.0) / 10.0;
+    }
+
+    private static long contar(JdbcTemplate jdbcTemplate) {
+        Long cantidad = jdbcTemplate.queryForObject("select count(*) from productos", Long.class);
+        return cantidad == null ? 0 : cantidad;
+    }
+
+    /**
+     * Parámetros de la prueba, leídos de la línea de comandos.
+     */
+    record Configuracion(long productos, int concurrencia, Duration duracion, Duration calentamiento,
+                         Map<Operacion, Integer> mezcla, long semilla, boolean enMemoria, Path directorio,
+                         Path comparar, boolean hilosVirtuales, int hilosTomcat, int poolConexiones,
+                         List<Integer> escalones, double sloP99Ms, Path reporte, String logs) {
+
+        static Configuracion desde(String[] args) {
+            Map<String, String> valores = new LinkedHashMap<>();
+            for (int i = 0; i + 1 < args.length; i += 2) {
+                if (!args[i].startsWith("--")) {
+                    throw new IllegalArgumentException("Parámetro inválido: " + args[i]);
+                }
+                valores.put(args[i].substring(2), args[i + 1]);
+            }
+            Map<Operacion, Integer> mezcla = new EnumMap<>(Operacion.class);
+            for (String parte : valores.getOrDefault("mezcla", "lectura=70,listado=15,busqueda=10,escritura=5").split(",")) {
+                String[] peso = parte.split("=");
+                mezcla.put(Operacion.valueOf(peso[0].trim().toUpperCase()), Integer.parseInt(peso[1].trim()));
+            }
+            return new Configuracion(
+                    cantidad(valores.getOrDefault("productos", "10k")),
+                    Integer.parseInt(valores.getOrDefault("concurrencia", "32")),
+                    Duration.ofSeconds(Long.parseLong(valores.getOrDefault("duracion", "60"))),
+                    Duration.ofSeconds(Long.parseLong(valores.getOrDefault("calentamiento", "15"))),
+                    mezcla,
+                    Long.parseLong(valores.getOrDefault("semilla", "42")),
+                    "memoria".equals(valores.getOrDefault("base-datos", "archivo")),
+                    Path.of(valores.getOrDefault("directorio", "target/loadtest")),
+                    valores.containsKey("comparar") ? Path.of(valores.get("comparar")) : null,
+                    Boolean.parseBoolean(valores.getOrDefault("hilos-virtuales", "false")),
+                    Integer.parseInt(valores.getOrDefault("hilos-tomcat", "200")),
+                    Integer.parseInt(valores.getOrDefault("pool-conexiones", "10")),
+                    valores.containsKey("escalones")
+                            ? Arrays.stream(valores.get("escalones").split(",")).map(String::trim).map(Integer::valueOf).toList()
+                            : List.of(),
+                    Double.parseDouble(valores.getOrDefault("slo-p99", "500")),
+                    valores.containsKey("reporte") ? Path.of(valores.get("reporte")) : null,
+                    logs(valores.getOrDefault("logs", "silencio")));
+        }
+
+        /**
+         * Elige una operación según los pesos de la mezcla.
+         */
+        Operacion elegir(SplittableRandom aleatorio) {
+            int total = mezcla.values().stream().mapToInt(Integer::intValue).sum();
+            int valor = aleatorio.nextInt(total);
+            for (Map.Entry<Operacion, Integer> peso : mezcla.entrySet()) {
+                valor -= peso.getValue();
+                if (valor < 0) {
+                    return peso.getKey();
+                }
+            }
+            throw new IllegalStateException("Mezcla de operaciones vacía");
+        }
+
+        Map<String, Object> comoMapa() {
+            Map<String, Object> mapa = new LinkedHashMap<>();
+            mapa.put("productos", productos);
+            mapa.put("concurrencia", concurrencia);
+            mapa.put("duracionSegundos", duracion.toSeconds());
+            mapa.put("calentamientoSegundos", calentamiento.toSeconds());
+            mapa.put("mezcla", mezcla);
+            mapa.put("semilla", semilla);
+            mapa.put("baseDatos", enMemoria ? "memoria" : "archivo");
+            mapa.put("hilosVirtuales", hilosVirtuales);
+            mapa.put("hilosTomcat", hilosTomcat);
+            mapa.put("poolConexiones", poolConexiones);
+            mapa.put("logs", logs);
+            if (!escalones.isEmpty()) {
+                mapa.put("escalones", escalones);
+                mapa.put("sloP99Ms", sloP99Ms);
+            }
+            return mapa;
+        }
+
+        private static String logs(String modo) {
+            if (!List.of("silencio", "sincrono", "produccion").contains(modo)) {
+                throw new IllegalArgumentException("--logs debe ser silencio, sincrono o produccion: " + modo);
+            }
+            return modo;
+        }
+
+        private static long cantidad(String texto) {
+            String valor = texto.trim().toLowerCase();
+            long multiplicador = valor.endsWith("k") ? 1_000 : valor.endsWith("m") ? 1_000_000 : 1;
+            return Long.parseLong(multiplicador == 1 ? valor : valor.substring(0, valor.length() - 1)) * multiplicador;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.meli.rest.evaluacion;
 
 import org.springframework.boot.SpringApplication;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.ManagementWebSecurityAutoConfiguration;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration;
 
@@ -12,13 +13,14 @@ import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfi
  * <p>
  * {@code exclude = {SecurityAutoConfiguration.class}} se utiliza para deshabilitar
  * temporalmente la configuración automática de Spring Security, lo que facilita
- * el desarrollo y las pruebas sin requerir autenticación inmediata.
+ * el desarrollo y las pruebas sin requerir autenticación inmediata. Por el mismo motivo se excluye
+ * {@code ManagementWebSecurityAutoConfiguration}, que protege los endpoints de Actuator.
  *
  * @author [Mauricio Gomez Farias]
  * @version 1.0
  * @since 2025-12-04
  */
-@SpringBootApplication(exclude = {SecurityAutoConfiguration.class})
+@SpringBootApplication(exclude = {SecurityAutoConfiguration.class, ManagementWebSecurityAutoConfiguration.class})
 public class EvaluacionApplication {
 
 	/**
@@ -0,0 +1,62 @@
+package com.meli.rest.evaluacion.config;
+
+import com.meli.rest.evaluacion.model.Producto;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Endpoint de Actuator ({@code GET /actuator/cacheproductos}) con las estadísticas de la
+ * cache de segundo nivel de {@link Producto} y sus colecciones.
+ * <p>
+ * Para cada región informa aciertos, fallos, escrituras, entradas en memoria y la tasa de aciertos.
+ *
+ * @author [Mauricio Gomez Farias]
+ * @version 1.0
+ * @since 2025-12-04
+ */
+@Component
+@Endpoint(id = "cacheproductos")
+public class CacheProductosEndpoint {
+
+    private static final String[] REGIONES = {
+            Producto.REGION_CACHE,
+            Producto.REGION_CACHE_ESPECIFICACIONES,
+            Producto.REGION_CACHE_IMAGENES
+    };
+
+    private final Statistics estadisticas;
+
+    public CacheProductosEndpoint(EntityManagerFactory entityManagerFactory) {
+        this.estadisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    /**
+     * @return Las estadísticas por región de cache.
+     */
+    @ReadOperation
+    public Map<String, Map<String, Object>> estadisticas() {
+        Map<String, Map<String, Object>> regiones = new LinkedHashMap<>();
+        for (String region : REGIONES) {
+            CacheRegionStatistics estadisticasRegion = estadisticas.getDomainDataRegionStatistics(region);
+            long aciertos = estadisticasRegion.getHitCount();
+            long fallos = estadisticasRegion.getMissCount();
+
+            Map<String, Object> valores = new LinkedHashMap<>();
+            valores.put("aciertos", aciertos);
+            valores.put("fallos", fallos);
+            valores.put("escrituras", estadisticasRegion.getPutCount());
+            valores.put("entradasEnMemoria", estadisticasRegion.getElementCountInMemory());
+            valores.put("tasaAciertos", aciertos + fallos == 0 ? 0.0 : (double) aciertos / (aciertos + fallos));
+            regiones.put(region, valores);
+        }
+        return regiones;
+    }
+}
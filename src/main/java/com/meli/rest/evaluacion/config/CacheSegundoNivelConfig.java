@@ -0,0 +1,50 @@
+package com.meli.rest.evaluacion.config;
+
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.ehcache.xml.XmlConfiguration;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ClassPathResource;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.io.IOException;
+import java.net.URI;
+import java.util.UUID;
+
+/**
+ * Configuración de la cache de segundo nivel de Hibernate.
+ * <p>
+ * Hibernate no resuelve URIs {@code classpath:} para la configuración JCache, por lo que el
+ * {@link CacheManager} de Ehcache se construye aquí a partir de {@code ehcache.xml} y se entrega
+ * a Hibernate ya inicializado.
+ *
+ * @author [Mauricio Gomez Farias]
+ * @version 1.0
+ * @since 2025-12-04
+ */
+@Configuration
+public class CacheSegundoNivelConfig {
+
+    private static final String CONFIGURACION_EHCACHE = "ehcache.xml";
+
+    /**
+     * Cada contexto de Spring tiene su propio {@link CacheManager}: JCache comparte los managers por
+     * URI dentro de la JVM, y dos contextos (por ejemplo en las pruebas, cada uno con su base de
+     * datos) verían las entradas cacheadas del otro.
+     */
+    @Bean(destroyMethod = "close")
+    public CacheManager cacheManagerSegundoNivel() throws IOException {
+        EhcacheCachingProvider proveedor = (EhcacheCachingProvider) Caching.getCachingProvider(EhcacheCachingProvider.class.getName());
+        XmlConfiguration configuracion = new XmlConfiguration(new ClassPathResource(CONFIGURACION_EHCACHE).getURL(),
+                getClass().getClassLoader());
+        return proveedor.getCacheManager(URI.create("urn:evaluacion:cache-segundo-nivel:" + UUID.randomUUID()), configuracion);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer cacheSegundoNivelCustomizer(CacheManager cacheManagerSegundoNivel) {
+        return propiedades -> propiedades.put(ConfigSettings.CACHE_MANAGER, cacheManagerSegundoNivel);
+    }
+}
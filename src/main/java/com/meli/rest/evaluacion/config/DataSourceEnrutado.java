@@ -0,0 +1,142 @@
+package com.meli.rest.evaluacion.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Enruta cada conexión a la primaria o a una réplica de lectura según la transacción en curso.
+ * <p>
+ * Las transacciones {@code @Transactional(readOnly = true)} (y los {@code TransactionTemplate} de
+ * solo lectura) usan una réplica disponible, repartidas en round-robin; todo lo demás, incluidas
+ * las sentencias fuera de una transacción, usa la primaria. Una réplica deja de recibir lecturas
+ * mientras {@link MonitorReplicas} la marque como no disponible (caída o con un retraso de
+ * replicación mayor que el permitido); sin réplicas disponibles las lecturas vuelven a la primaria.
+ * <p>
+ * La decisión se toma al obtener la conexión física, por lo que debe envolverse en un
+ * {@code LazyConnectionDataSourceProxy}: el administrador de transacciones pide la conexión antes
+ * de marcar la transacción como de solo lectura.
+ *
+ * @author [Mauricio Gomez Farias]
+ * @version 1.0
+ * @since 2025-12-04
+ */
+public class DataSourceEnrutado extends AbstractRoutingDataSource implements AutoCloseable {
+
+    static final String PRIMARIA = "primaria";
+
+    private final List<Replica> replicas;
+    private final AtomicInteger siguiente = new AtomicInteger();
+    private final LongAdder lecturasEnPrimaria = new LongAdder();
+
+    /**
+     * @param primaria Pool de la base de datos primaria.
+     * @param replicas Pools de las réplicas de lectura, en orden (pueden no haber).
+     */
+    public DataSourceEnrutado(DataSource primaria, List<DataSource> replicas) {
+        Map<Object, Object> destinos = new HashMap<>();
+        destinos.put(PRIMARIA, primaria);
+        List<Replica> lista = new ArrayList<>(replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = new Replica("replica-" + (i + 1), replicas.get(i));
+            lista.add(replica);
+            destinos.put(replica.nombre(), replica.dataSource());
+        }
+        this.replicas = List.copyOf(lista);
+        setTargetDataSources(destinos);
+        setDefaultTargetDataSource(primaria);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARIA;
+        }
+        int cantidad = replicas.size();
+        int inicio = Math.floorMod(siguiente.getAndIncrement(), Math.max(cantidad, 1));
+        for (int i = 0; i < cantidad; i++) {
+            Replica replica = replicas.get((inicio + i) % cantidad);
+            if (replica.disponible) {
+                return replica.nombre();
+            }
+        }
+        lecturasEnPrimaria.increment();
+        return PRIMARIA;
+    }
+
+    /**
+     * @return Las réplicas de lectura configuradas.
+     */
+    public List<Replica> getReplicas() {
+        return replicas;
+    }
+
+    /**
+     * @return Transacciones de solo lectura enviadas a la primaria por no haber réplicas disponibles.
+     */
+    public long getLecturasEnPrimaria() {
+        return lecturasEnPrimaria.sum();
+    }
+
+    /**
+     * Cierra los pools de las réplicas; el de la primaria tiene su propio ciclo de vida.
+     */
+    @Override
+    public void close() throws Exception {
+        for (Replica replica : replicas) {
+            if (replica.dataSource() instanceof AutoCloseable pool) {
+                pool.close();
+            }
+        }
+    }
+
+    /**
+     * Réplica de lectura y su último estado conocido. Arranca no disponible hasta la primera
+     * verificación exitosa.
+     */
+    public static final class Replica {
+
+        private final String nombre;
+        private final DataSource dataSource;
+        private volatile boolean disponible;
+        private volatile double retrasoSegundos = Double.NaN;
+
+        Replica(String nombre, DataSource dataSource) {
+            this.nombre = nombre;
+            this.dataSource = dataSource;
+        }
+
+        public String nombre() {
+            return nombre;
+        }
+
+        public DataSource dataSource() {
+            return dataSource;
+        }
+
+        public boolean isDisponible() {
+            return disponible;
+        }
+
+        /**
+         * @return El último retraso de replicación medido, o {@code NaN} si la réplica no respondió.
+         */
+        public double getRetrasoSegundos() {
+            return retrasoSegundos;
+        }
+
+        void actualizar(boolean disponible, double retrasoSegundos) {
+            this.retrasoSegundos = retrasoSegundos;
+            this.disponible = disponible;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.meli.rest.evaluacion.config;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.sql.SQLException;
+
+/**
+ * Dialecto JPA que no deja poblar la cache de segundo nivel desde una réplica de lectura.
+ * <p>
+ * Las transacciones de solo lectura van a una réplica ({@link DataSourceEnrutado}), que puede estar
+ * atrasada hasta {@code evaluacion.replicas.retraso-maximo}. Si lo leído ahí entrara en la cache de
+ * segundo nivel (estrategia READ_WRITE), la fila anterior se serviría hasta el TTL de la región aunque
+ * la réplica ya estuviera al día. Por eso sus sesiones usan {@link CacheMode#GET}: leen la cache pero
+ * no le agregan entradas. La cache se puebla con las lecturas que van a la primaria, como las de
+ * {@code CargadorProductos}.
+ *
+ * @author [Mauricio Gomez Farias]
+ * @version 1.0
+ * @since 2025-12-04
+ */
+public class DialectoLecturasReplica extends HibernateJpaDialect {
+
+    @Override
+    public Object beginTransaction(EntityManager entityManager, TransactionDefinition definition)
+            throws PersistenceException, SQLException {
+        Object datos = super.beginTransaction(entityManager, definition);
+        if (!definition.isReadOnly()) {
+            return datos;
+        }
+        Session sesion = entityManager.unwrap(Session.class);
+        CacheMode modoAnterior = sesion.getCacheMode();
+        sesion.setCacheMode(CacheMode.GET);
+        return new LecturaReplica(datos, sesion, modoAnterior);
+    }
+
+    @Override
+    public void cleanupTransaction(Object datos) {
+        if (datos instanceof LecturaReplica lectura) {
+            lectura.sesion().setCacheMode(lectura.modoAnterior());
+            super.cleanupTransaction(lectura.datos());
+        } else {
+            super.cleanupTransaction(datos);
+        }
+    }
+
+    /**
+     * Datos de la transacción del dialecto base y el modo de cache a restaurar al terminarla.
+     */
+    private record LecturaReplica(Object datos, Session sesion, CacheMode modoAnterior) {
+    }
+}
@@ -0,0 +1,62 @@
+package com.meli.rest.evaluacion.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Formatos binarios de la API, negociados con los encabezados {@code Accept} (respuestas) y
+ * {@code Content-Type} (cuerpos de {@code POST}):
+ * <ul>
+ *     <li>{@code application/x-jackson-smile}: JSON binario. Los números y fechas se escriben sin
+ *     pasar por texto y los nombres de campo y valores cortos repetidos (por ejemplo {@code moneda}
+ *     o {@code metodoEnvioPrincipal} en una página) se escriben una vez y luego se referencian.</li>
+ *     <li>{@code application/cbor}: formato binario estándar (RFC 8949), sin referencias compartidas.</li>
+ * </ul>
+ * Spring MVC registra convertidores Smile y CBOR propios con un {@link ObjectMapper} nuevo; aquí se
+ * reemplazan por otros que copian la configuración del {@link ObjectMapper} de Spring Boot, para
+ * que las fechas y las propiedades se representen igual que en JSON. JSON sigue siendo el formato
+ * por defecto cuando el cliente no indica uno.
+ *
+ * @author [Mauricio Gomez Farias]
+ * @version 1.0
+ * @since 2025-12-04
+ */
+@Configuration
+public class FormatosBinariosConfig implements WebMvcConfigurer {
+
+    private final ObjectMapper objectMapper;
+
+    public FormatosBinariosConfig(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.removeIf(converter -> converter instanceof MappingJackson2SmileHttpMessageConverter
+                || converter instanceof MappingJackson2CborHttpMessageConverter);
+
+        // Después del convertidor JSON, para que JSON se siga eligiendo con Accept: */*
+        int posicion = converters.size();
+        for (int i = 0; i < converters.size(); i++) {
+            if (converters.get(i) instanceof MappingJackson2HttpMessageConverter) {
+                posicion = i + 1;
+                break;
+            }
+        }
+        SmileFactory smile = SmileFactory.builder()
+                .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                .build();
+        converters.add(posicion, new MappingJackson2SmileHttpMessageConverter(objectMapper.copyWith(smile)));
+        converters.add(posicion + 1, new MappingJackson2CborHttpMessageConverter(objectMapper.copyWith(new CBORFactory())));
+    }
+}
@@ -0,0 +1,61 @@
+package com.meli.rest.evaluacion.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Modo de ejecución con hilos virtuales (Java 21), activado con
+ * {@code evaluacion.hilos-virtuales.habilitado=true}.
+ * <p>
+ * Tomcat atiende cada petición en un hilo virtual nuevo en lugar de usar su pool de hilos de
+ * plataforma ({@code server.tomcat.threads.max}), por lo que las peticiones que esperan a JDBC
+ * dentro de {@code ProductoServiceImpl} ya no ocupan un hilo del sistema operativo mientras
+ * esperan. Las tareas asíncronas de Spring MVC (por ejemplo la exportación NDJSON en streaming)
+ * también se ejecutan en hilos virtuales.
+ * <p>
+ * El límite real de concurrencia contra la base de datos sigue siendo el pool de conexiones
+ * ({@code spring.datasource.hikari.maximum-pool-size}); las peticiones en espera de una conexión
+ * quedan estacionadas sin consumir hilos de plataforma.
+ * <p>
+ * El camino de persistencia propio (servicios, repositorios, índice de búsqueda y coordinador de
+ * reservas) no usa {@code synchronized}: las exclusiones son {@code ReentrantLock},
+ * {@code ReentrantReadWriteLock} o atómicos, que no fijan el hilo virtual a su hilo portador.
+ * Con {@code -Djdk.tracePinnedThreads=short} la prueba de carga solo reporta fijaciones dentro del
+ * motor H2 embebido ({@code Command} sincroniza sobre la sesión mientras accede al archivo), que
+ * desaparecen con una base de datos externa.
+ *
+ * @author [Mauricio Gomez Farias]
+ * @version 1.0
+ * @since 2025-12-04
+ */
+@Configuration
+@ConditionalOnProperty(name = "evaluacion.hilos-virtuales.habilitado", havingValue = "true")
+public class HilosVirtualesConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(HilosVirtualesConfig.class);
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> protocolHandlerHilosVirtuales() {
+        logger.info("Peticiones HTTP atendidas con hilos virtuales");
+        return protocolHandler -> protocolHandler.setExecutor(ejecutorVirtual("http-virtual-"));
+    }
+
+    @Bean(name = TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+    public AsyncTaskExecutor applicationTaskExecutor() {
+        return new TaskExecutorAdapter(ejecutorVirtual("tarea-virtual-"));
+    }
+
+    private static ExecutorService ejecutorVirtual(String prefijo) {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(prefijo, 0).factory());
+    }
+}
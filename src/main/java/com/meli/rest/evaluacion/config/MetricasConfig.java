@@ -0,0 +1,87 @@
+package com.meli.rest.evaluacion.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuración de métricas publicadas en {@code /actuator/prometheus}.
+ * <p>
+ * Además de las métricas que Spring Boot registra por sí solo ({@code http.server.requests} por
+ * endpoint, estadísticas de Hibernate y conexiones del pool Hikari), registra:
+ * <ul>
+ *     <li>{@link TimedAspect}, necesario para que {@code @Timed} mida los métodos de los servicios.</li>
+ *     <li>{@code hikaricp.connections.saturacion}: conexiones en uso sobre el máximo del pool (0 a 1).
+ *     Junto con {@code hikaricp.connections.pending} indica cuándo el pool es el cuello de botella.
+ *     Con réplicas de lectura (ver {@link ReplicasLecturaConfig}) se publica para cada pool.</li>
+ * </ul>
+ *
+ * @author [Mauricio Gomez Farias]
+ * @version 1.0
+ * @since 2025-12-04
+ */
+@Configuration
+public class MetricasConfig {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry registry) {
+        return new TimedAspect(registry);
+    }
+
+    @Bean
+    public MeterBinder saturacionPoolConexiones(DataSource dataSource) {
+        return registry -> {
+            for (HikariDataSource hikari : pools(dataSource)) {
+                Gauge.builder("hikaricp.connections.saturacion", hikari, MetricasConfig::saturacion)
+                        .description("Conexiones en uso sobre el máximo del pool")
+                        .tag("pool", String.valueOf(hikari.getPoolName()))
+                        .register(registry);
+            }
+        };
+    }
+
+    private static List<HikariDataSource> pools(DataSource dataSource) {
+        DataSourceEnrutado enrutado = desenvolver(dataSource, DataSourceEnrutado.class);
+        if (enrutado == null) {
+            HikariDataSource hikari = desenvolver(dataSource, HikariDataSource.class);
+            return hikari == null ? List.of() : List.of(hikari);
+        }
+        List<HikariDataSource> pools = new ArrayList<>();
+        for (DataSource destino : enrutado.getResolvedDataSources().values()) {
+            HikariDataSource hikari = desenvolver(destino, HikariDataSource.class);
+            if (hikari != null) {
+                pools.add(hikari);
+            }
+        }
+        return pools;
+    }
+
+    /**
+     * El pool se crea con la primera conexión; hasta entonces la saturación no está disponible.
+     */
+    private static double saturacion(HikariDataSource hikari) {
+        HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+        if (pool == null || hikari.getMaximumPoolSize() <= 0) {
+            return Double.NaN;
+        }
+        return (double) pool.getActiveConnections() / hikari.getMaximumPoolSize();
+    }
+
+    private static <T> T desenvolver(DataSource dataSource, Class<T> tipo) {
+        try {
+            return dataSource.isWrapperFor(tipo) ? dataSource.unwrap(tipo) : null;
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.meli.rest.evaluacion.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mide el retraso de replicación de cada réplica de lectura y decide si recibe lecturas.
+ * <p>
+ * Cada {@code evaluacion.replicas.intervalo-verificacion} escribe la hora actual en la fila única
+ * de {@code latido_replicacion} de la primaria y la lee en cada réplica: la diferencia con la hora
+ * actual es el retraso de esa réplica (más, como máximo, un intervalo). Una réplica que no responde,
+ * que todavía no tiene la tabla o cuyo retraso supera {@code evaluacion.replicas.retraso-maximo}
+ * deja de recibir lecturas hasta una verificación posterior dentro del límite.
+ * <p>
+ * Métricas en {@code /actuator/prometheus}: {@code evaluacion.replicas.retraso} y
+ * {@code evaluacion.replicas.disponible} por réplica, y {@code evaluacion.replicas.lecturas.primaria}
+ * (lecturas de solo lectura enviadas a la primaria por falta de réplicas disponibles).
+ *
+ * @author [Mauricio Gomez Farias]
+ * @version 1.0
+ * @since 2025-12-04
+ */
+public class MonitorReplicas implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(MonitorReplicas.class);
+
+    static final String CREAR_LATIDO = "create table if not exists latido_replicacion "
+            + "(id int primary key, instante timestamp not null)";
+    static final String ESCRIBIR_LATIDO = "merge into latido_replicacion key (id) values (1, ?)";
+    static final String LEER_LATIDO = "select instante from latido_replicacion where id = 1";
+
+    private final DataSourceEnrutado dataSource;
+    private final JdbcTemplate primaria;
+    private final Duration retrasoMaximo;
+    private final Duration intervalo;
+    private ScheduledExecutorService programador;
+    private volatile boolean ejecutando;
+
+    public MonitorReplicas(DataSourceEnrutado dataSource, DataSource primaria, Duration retrasoMaximo,
+                           Duration intervalo, MeterRegistry registry) {
+        this.dataSource = dataSource;
+        this.primaria = new JdbcTemplate(primaria);
+        this.retrasoMaximo = retrasoMaximo;
+        this.intervalo = intervalo;
+        if (registry != null) {
+            for (DataSourceEnrutado.Replica replica : dataSource.getReplicas()) {
+                Gauge.builder("evaluacion.replicas.retraso", replica, DataSourceEnrutado.Replica::getRetrasoSegundos)
+                        .description("Retraso de replicación medido con el latido de la primaria")
+                        .baseUnit("seconds")
+                        .tag("replica", replica.nombre())
+                        .register(registry);
+                Gauge.builder("evaluacion.replicas.disponible", replica, r -> r.isDisponible() ? 1 : 0)
+                        .description("1 si la réplica recibe lecturas, 0 si las lecturas van a la primaria")
+                        .tag("replica", replica.nombre())
+                        .register(registry);
+            }
+            FunctionCounter.builder("evaluacion.replicas.lecturas.primaria", dataSource, DataSourceEnrutado::getLecturasEnPrimaria)
+                    .description("Transacciones de solo lectura enviadas a la primaria por falta de réplicas disponibles")
+                    .register(registry);
+        }
+    }
+
+    /**
+     * Escribe el latido en la primaria y actualiza el estado de cada réplica.
+     */
+    public void verificar() {
+        long ahora = System.currentTimeMillis();
+        try {
+            primaria.update(ESCRIBIR_LATIDO, new Timestamp(ahora));
+        } catch (RuntimeException e) {
+            // Sin latido nuevo el retraso medido crece y las réplicas salen de servicio por sí solas
+            logger.error("No fue posible escribir el latido de replicación en la primaria", e);
+        }
+        for (DataSourceEnrutado.Replica replica : dataSource.getReplicas()) {
+            verificar(replica, ahora);
+        }
+    }
+
+    private void verificar(DataSourceEnrutado.Replica replica, long ahora) {
+        boolean disponibleAntes = replica.isDisponible();
+        try {
+            Timestamp latido = new JdbcTemplate(replica.dataSource()).queryForObject(LEER_LATIDO, Timestamp.class);
+            double retraso = Math.max(0, ahora - latido.getTime()) / 1e3;
+            boolean disponible = retraso <= retrasoMaximo.toMillis() / 1e3;
+            replica.actualizar(disponible, retraso);
+            if (disponible != disponibleAntes) {
+                logger.warn("Réplica {} {} (retraso {} s, máximo {})", replica.nombre(),
+                        disponible ? "vuelve a recibir lecturas" : "fuera de servicio por retraso", retraso, retrasoMaximo);
+            }
+        } catch (RuntimeException e) {
+            replica.actualizar(false, Double.NaN);
+            if (disponibleAntes) {
+                logger.warn("Réplica {} fuera de servicio: {}", replica.nombre(), e.getMessage());
+            }
+        }
+    }
+
+    // --- Ciclo de vida ---
+
+    @Override
+    public void start() {
+        primaria.execute(CREAR_LATIDO);
+        verificar();
+        programador = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("monitor-replicas").daemon().factory());
+        programador.scheduleWithFixedDelay(this::verificarProgramado, intervalo.toMillis(), intervalo.toMillis(),
+                TimeUnit.MILLISECONDS);
+        ejecutando = true;
+    }
+
+    @Override
+    public void stop() {
+        ejecutando = false;
+        programador.shutdownNow();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return ejecutando;
+    }
+
+    private void verificarProgramado() {
+        try {
+            verificar();
+        } catch (RuntimeException e) {
+            logger.error("Fallo la verificación de las réplicas de lectura", e);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.meli.rest.evaluacion.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Réplicas de lectura: las transacciones de solo lectura van a una réplica y las escrituras a la primaria.
+ * <p>
+ * Con {@code evaluacion.replicas.habilitado=true} reemplaza el {@code DataSource} de Spring Boot por
+ * {@link DataSourceEnrutado} detrás de un {@link LazyConnectionDataSourceProxy}. La primaria se
+ * configura como siempre ({@code spring.datasource.*}); cada URL de {@code evaluacion.replicas.urls}
+ * es una réplica con su propio pool Hikari ({@code evaluacion.replicas.tamanio-pool} conexiones, usuario
+ * y contraseña de la primaria salvo que se indiquen otros). {@link MonitorReplicas} retira de las
+ * lecturas las réplicas atrasadas o caídas, y {@link DialectoLecturasReplica} evita que lo leído en
+ * una réplica quede en la cache de segundo nivel.
+ *
+ * @author [Mauricio Gomez Farias]
+ * @version 1.0
+ * @since 2025-12-04
+ */
+@Configuration
+@ConditionalOnProperty(name = "evaluacion.replicas.habilitado", havingValue = "true")
+public class ReplicasLecturaConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource dataSourcePrimaria(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public DataSourceEnrutado dataSourceEnrutado(HikariDataSource dataSourcePrimaria, DataSourceProperties properties,
+                                                 ObjectProvider<MeterRegistry> registry,
+                                                 @Value("${evaluacion.replicas.urls:}") List<String> urls,
+                                                 @Value("${evaluacion.replicas.usuario:}") String usuario,
+                                                 @Value("${evaluacion.replicas.contrasenia:}") String contrasenia,
+                                                 @Value("${evaluacion.replicas.tamanio-pool:10}") int tamanioPool) {
+        List<DataSource> replicas = new ArrayList<>(urls.size());
+        for (String url : urls) {
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName(dataSourcePrimaria.getPoolName() + "-replica-" + (replicas.size() + 1));
+            replica.setJdbcUrl(url);
+            replica.setDriverClassName(properties.determineDriverClassName());
+            replica.setUsername(usuario.isEmpty() ? properties.determineUsername() : usuario);
+            replica.setPassword(contrasenia.isEmpty() ? properties.determinePassword() : contrasenia);
+            replica.setMaximumPoolSize(tamanioPool);
+            replica.setReadOnly(true);
+            registry.ifAvailable(r -> replica.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(r)));
+            replicas.add(replica);
+        }
+        return new DataSourceEnrutado(dataSourcePrimaria, replicas);
+    }
+
+    /**
+     * El proxy obtiene la conexión física recién en la primera sentencia: cuando el administrador de
+     * transacciones pide la conexión la transacción todavía no figura como de solo lectura.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(DataSourceEnrutado dataSourceEnrutado) {
+        return new LazyConnectionDataSourceProxy(dataSourceEnrutado);
+    }
+
+    /**
+     * Reemplaza el dialecto JPA por {@link DialectoLecturasReplica} antes de inicializar la fábrica de
+     * EntityManager; el administrador de transacciones toma el dialecto de la fábrica.
+     */
+    @Bean
+    public static BeanPostProcessor dialectoLecturasReplica() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String nombre) {
+                if (bean instanceof LocalContainerEntityManagerFactoryBean fabrica) {
+                    fabrica.setJpaDialect(new DialectoLecturasReplica());
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public MonitorReplicas monitorReplicas(DataSourceEnrutado dataSourceEnrutado, HikariDataSource dataSourcePrimaria,
+                                           ObjectProvider<MeterRegistry> registry,
+                                           @Value("${evaluacion.replicas.retraso-maximo:5s}") Duration retrasoMaximo,
+                                           @Value("${evaluacion.replicas.intervalo-verificacion:1s}") Duration intervalo) {
+        return new MonitorReplicas(dataSourceEnrutado, dataSourcePrimaria, retrasoMaximo, intervalo,
+                registry.getIfAvailable());
+    }
+}
@@ -0,0 +1,72 @@
+package com.meli.rest.evaluacion.config;
+
+import com.meli.rest.evaluacion.service.TiposCambio;
+import com.meli.rest.evaluacion.util.TablaTiposCambio;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Endpoint de Actuator ({@code /actuator/tiposcambio}) de la tabla de tipos de cambio.
+ * <p>
+ * {@code GET} informa la tabla vigente (versión, fecha de carga y, por moneda, la tasa y su regla de
+ * redondeo); {@code POST} la vuelve a leer del archivo configurado. Una tabla inválida responde
+ * 400 con el motivo y no reemplaza a la vigente.
+ *
+ * @author [Mauricio Gomez Farias]
+ * @version 1.0
+ * @since 2025-12-04
+ */
+@Component
+@Endpoint(id = "tiposcambio")
+public class TiposCambioEndpoint {
+
+    private final TiposCambio tiposCambio;
+
+    public TiposCambioEndpoint(TiposCambio tiposCambio) {
+        this.tiposCambio = tiposCambio;
+    }
+
+    /**
+     * @return La tabla de tipos de cambio vigente.
+     */
+    @ReadOperation
+    public Map<String, Object> tabla() {
+        TablaTiposCambio tabla = tiposCambio.getTabla();
+        Map<String, Object> monedas = new LinkedHashMap<>();
+        for (Map.Entry<String, BigDecimal> tasa : tabla.getTasas().entrySet()) {
+            TablaTiposCambio.Redondeo redondeo = tabla.hacia(tasa.getKey()).getRedondeo();
+            Map<String, Object> valores = new LinkedHashMap<>();
+            valores.put("tasa", tasa.getValue());
+            valores.put("decimales", redondeo.decimales());
+            valores.put("redondeo", redondeo.modo());
+            monedas.put(tasa.getKey(), valores);
+        }
+        Map<String, Object> respuesta = new LinkedHashMap<>();
+        respuesta.put("version", Long.toHexString(tabla.getVersion()));
+        respuesta.put("fechaCarga", tiposCambio.getFechaCarga());
+        respuesta.put("monedas", monedas);
+        return respuesta;
+    }
+
+    /**
+     * Vuelve a leer la tabla del archivo de tipos de cambio.
+     *
+     * @return La tabla cargada, o 400 con el motivo si el archivo no es válido.
+     */
+    @WriteOperation
+    public WebEndpointResponse<Map<String, Object>> recargar() {
+        try {
+            tiposCambio.recargar();
+        } catch (IllegalStateException e) {
+            return new WebEndpointResponse<>(Map.of("error", e.getMessage()), WebEndpointResponse.STATUS_BAD_REQUEST);
+        }
+        return new WebEndpointResponse<>(tabla());
+    }
+}
@@ -0,0 +1,42 @@
+package com.meli.rest.evaluacion.controller;
+
+import com.meli.rest.evaluacion.dto.ResultadoBusqueda;
+import com.meli.rest.evaluacion.service.BusquedaService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Controlador REST para la búsqueda de productos por texto.
+ * <p>
+ * La ruta base para este controlador es {/api/evaluacion}.
+ *
+ * @author [Mauricio Gomez Farias]
+ * @version 1.0
+ * @since 2025-12-04
+ */
+@RestController
+@RequestMapping(value = "/api/evaluacion")
+public class BusquedaController {
+
+    private final BusquedaService busquedaService;
+
+    public BusquedaController(BusquedaService busquedaService) {
+        this.busquedaService = busquedaService;
+    }
+
+    /**
+     * Metodo GET que busca productos por texto en título, descripción y especificaciones
+     * @param q Texto a buscar (sin distinguir mayúsculas, tildes ni singular/plural)
+     * @param tamanio Cantidad máxima de resultados (opcional, acotado al máximo configurado)
+     * @return ResponseEntity con los productos ordenados por relevancia y HTTP 200 OK,
+     *  o HTTP 400 BAD REQUEST si la consulta está vacía
+     */
+    @GetMapping("/buscar")
+    public ResponseEntity<ResultadoBusqueda> buscar(@RequestParam(required = false) String q,
+                                                    @RequestParam(required = false) Integer tamanio) {
+        return ResponseEntity.ok(busquedaService.buscar(q, tamanio));
+    }
+}
@@ -0,0 +1,59 @@
+package com.meli.rest.evaluacion.controller;
+
+import com.meli.rest.evaluacion.dto.PaginaOpiniones;
+import com.meli.rest.evaluacion.dto.SolicitudOpinion;
+import com.meli.rest.evaluacion.model.Opinion;
+import com.meli.rest.evaluacion.service.OpinionService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Controlador REST para las opiniones de productos.
+ * <p>
+ * Cada opinión publicada actualiza los agregados del producto ({@code ratingPromedio},
+ * {@code totalOpiniones} e histograma), que se leen con el detalle del producto sin recorrer las
+ * opiniones. La ruta base para este controlador es {/api/evaluacion}.
+ *
+ * @author [Mauricio Gomez Farias]
+ * @version 1.0
+ * @since 2025-12-04
+ */
+@RestController
+@RequestMapping(value = "/api/evaluacion")
+public class OpinionesController {
+
+    private final OpinionService opinionService;
+
+    public OpinionesController(OpinionService opinionService) {
+        this.opinionService = opinionService;
+    }
+
+    /**
+     * Metodo POST que publica una opinión de un producto
+     * @param id Identificador del producto
+     * @param solicitud json con el puntaje (1 a 5), autor y comentario
+     * @return ResponseEntity que contiene:
+     *  La opinión creada y HTTP 201 CREATED
+     *  HTTP 400 BAD REQUEST si el puntaje no es válido
+     *  HTTP 404 NOT FOUND si el producto no existe
+     */
+    @PostMapping("/{id}/opiniones")
+    public ResponseEntity<Opinion> publicarOpinion(@PathVariable Long id, @RequestBody SolicitudOpinion solicitud) {
+        return new ResponseEntity<>(opinionService.publicarOpinion(id, solicitud), HttpStatus.CREATED);
+    }
+
+    /**
+     * Metodo GET que lista las opiniones de un producto, de la más reciente a la más antigua
+     * @param id Identificador del producto
+     * @param cursor cursor opaco devuelto en la página anterior (opcional)
+     * @param tamanio cantidad de opiniones por página (opcional)
+     * @return ResponseEntity con la página de opiniones y HTTP 200 OK, o HTTP 404 NOT FOUND si el producto no existe
+     */
+    @GetMapping("/{id}/opiniones")
+    public ResponseEntity<PaginaOpiniones> obtenerOpiniones(@PathVariable Long id,
+                                                            @RequestParam(required = false) String cursor,
+                                                            @RequestParam(required = false) Integer tamanio) {
+        return ResponseEntity.ok(opinionService.obtenerOpiniones(id, cursor, tamanio));
+    }
+}
@@ -1,14 +1,35 @@
 package com.meli.rest.evaluacion.controller;
 
+import com.meli.rest.evaluacion.dto.CamposProducto;
+import com.meli.rest.evaluacion.dto.FiltroProductos;
+import com.meli.rest.evaluacion.dto.PaginaProductos;
+import com.meli.rest.evaluacion.dto.PaginaProductosEnMoneda;
+import com.meli.rest.evaluacion.dto.PaginaProductosParciales;
+import com.meli.rest.evaluacion.dto.PaginaVersiones;
+import com.meli.rest.evaluacion.dto.ProductoEnMoneda;
+import com.meli.rest.evaluacion.dto.ProductoParcial;
+import com.meli.rest.evaluacion.dto.RespuestaIngestaLote;
+import com.meli.rest.evaluacion.dto.SolicitudVenta;
+import com.meli.rest.evaluacion.dto.VersionProducto;
+import com.meli.rest.evaluacion.exceptions.InvalidDataException;
 import com.meli.rest.evaluacion.model.Producto;
 import com.meli.rest.evaluacion.service.ProductoService;
+import com.meli.rest.evaluacion.service.TiposCambio;
+import com.meli.rest.evaluacion.util.EtagProducto;
+import com.meli.rest.evaluacion.util.TablaTiposCambio;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -30,6 +51,9 @@ public class ProductosController {
     @Autowired
     private ProductoService productoService;
 
+    @Autowired
+    private TiposCambio tiposCambio;
+
     //public EvaluacionController(ProductoService userService) {
     //    this.productoService = userService;
     //}
@@ -48,22 +72,100 @@ public class ProductosController {
         return new ResponseEntity<>(nuevoProducto, HttpStatus.CREATED);
     }
 
+    /**
+     * Metodo POST para la carga masiva de productos en la tabla productos
+     * @param productos arreglo json con los productos a guardar
+     * @return ResponseEntity que incluye el resultado de cada producto y:
+     *  HTTP 201 CREATED si todos los productos fueron guardados
+     *  HTTP 207 MULTI_STATUS si algún producto fue rechazado o no pudo guardarse
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<RespuestaIngestaLote> guardarProductos(@RequestBody List<Producto> productos) {
+        RespuestaIngestaLote respuesta = productoService.guardarProductos(productos);
+
+        HttpStatus estado = respuesta.esCompleta() ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS;
+        return new ResponseEntity<>(respuesta, estado);
+    }
+
+    /**
+     * Metodo POST que registra unidades vendidas de un producto sin reescribir el producto
+     * @param id Identificador del producto
+     * @param solicitud json con la cantidad vendida
+     * @return ResponseEntity que contiene:
+     *  HTTP 202 ACCEPTED: la venta se suma a cantidadVendida en el próximo flush (ver ContadorVentas)
+     *  HTTP 400 BAD REQUEST si la cantidad no es mayor que cero
+     *  HTTP 404 NOT FOUND si el producto no existe
+     */
+    @PostMapping("/{id}/ventas")
+    public ResponseEntity<Void> registrarVenta(@PathVariable Long id, @RequestBody SolicitudVenta solicitud) {
+        productoService.registrarVenta(id, solicitud.getCantidad());
+        return ResponseEntity.accepted().build();
+    }
+
     /**
      * Metodo GET que obtiene los datos del registro de acuerdo con el ID recibido como variable de path
+     * <p>
+     * Soporta GET condicional: la respuesta incluye {@code ETag} y {@code Last-Modified} (derivados de
+     * {@code fechaActualizacion} del producto y de su vendedor). Si el cliente envía {@code If-None-Match} / {@code If-Modified-Since}
+     * y el producto no cambió, se responde 304 consultando solo la versión del producto, sin cargar
+     * sus colecciones ni serializar el cuerpo. Sin esos encabezados no se consulta la versión: el
+     * producto y sus validadores salen de {@link ProductoService#obtenerProductoPorId(Long)}.
+     * <p>
+     * Con {@code currency} el precio se convierte a esa moneda (ver {@link ProductoEnMoneda}) y el
+     * {@code ETag} incluye la moneda y la versión de la tabla de tipos de cambio; la respuesta no
+     * lleva {@code Last-Modified}, porque también cambia al recargar la tabla.
+     *
      * @param id Identificador del registro
+     * @param currency Código ISO 4217 de la moneda en que se muestra el precio (opcional)
+     * @param request Petición actual, usada para evaluar los encabezados condicionales
      * @return ResponseEntity que contiene:
      *  Si el producto es encontrado: El objeto Producto y el código de estado HTTP 200 OK
+     *  Si la moneda solicitada no está disponible: HTTP 400 Bad Request
+     *  Si el producto no cambió desde la versión del cliente: Un cuerpo vacío y HTTP 304 Not Modified
      *  Si el producto NO es encontrado: Un cuerpo vacío y el código de estado HTTP 404 Not Found
      *
      */
     @GetMapping("/{id}")
-    public ResponseEntity<Producto> obtenerProductoPorId(@PathVariable Long id) {
+    public ResponseEntity<?> obtenerProductoPorId(@PathVariable Long id,
+                                                  @RequestParam(required = false) String currency,
+                                                  WebRequest request) {
+        TablaTiposCambio.Conversion conversion = tiposCambio.conversion(currency);
+
+        // 1. Solo con encabezados condicionales se valida la versión del cliente con una consulta
+        // liviana; sin ellos el producto sale del cargador (cache de segundo nivel) sin ir a la base
+        if (request.getHeader(HttpHeaders.IF_NONE_MATCH) != null || request.getHeader(HttpHeaders.IF_MODIFIED_SINCE) != null) {
+            // Sin versión no se responde 404 aquí: el 404 lo decide la carga del producto completo
+            Optional<VersionProducto> version = productoService.obtenerVersionProducto(id);
+            String etagVersion = version
+                    .map(v -> EtagProducto.enMoneda(EtagProducto.deProducto(id, v.fechaActualizacion()), conversion))
+                    .orElse(null);
+            if (etagVersion != null && (conversion == null
+                    ? request.checkNotModified(etagVersion, EtagProducto.ultimaModificacion(version.get().fechaActualizacion()))
+                    : request.checkNotModified(etagVersion))) {
+                // checkNotModified ya dejó la respuesta en 304 con los encabezados de validación
+                return null;
+            }
+        }
+
+        // 2. El cliente no tiene la versión vigente: se carga el producto completo
         // El Optional maneja el caso de que el producto no exista
         Optional<Producto> productoOptional = productoService.obtenerProductoPorId(id);
 
         if (productoOptional.isPresent()) {
             // Retorna el producto encontrado con el código HTTP 200 (OK)
-            return new ResponseEntity<>(productoOptional.get(), HttpStatus.OK);
+            Producto producto = productoOptional.get();
+            ResponseEntity.BodyBuilder respuesta = ResponseEntity.ok().cacheControl(CacheControl.noCache());
+            String etag = EtagProducto.deProducto(producto.getId(), producto.fechaVersion());
+            if (conversion != null) {
+                if (etag != null) {
+                    respuesta.eTag(EtagProducto.enMoneda(etag, conversion));
+                }
+                return respuesta.body(ProductoEnMoneda.de(producto, conversion));
+            }
+            if (etag != null) {
+                respuesta.eTag(etag).lastModified(EtagProducto.ultimaModificacion(producto.fechaVersion()));
+            }
+            return respuesta.body(producto);
         } else {
             // Retorna un código HTTP 404 (NOT FOUND) si no existe
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
@@ -71,18 +173,219 @@ public class ProductosController {
     }
 
     /**
-     * Recupera una lista de todos los productos disponibles en el sistema.
-     * Si no existen productos, devuelve una lista vacía.
+     * Obtiene solo los campos indicados de un producto ({@code GET /api/evaluacion/{id}?fields=titulo,precio}).
+     * <p>
+     * Los campos se leen con una consulta de proyección, sin cargar la descripción ni las colecciones
+     * que no se pidieron. El {@code ETag} depende del producto y de los campos solicitados.
+     * Con {@code currency} el precio se convierte a esa moneda (requiere los campos {@code precio} y {@code moneda}).
      *
+     * @param id Identificador del registro
+     * @param fields Campos separados por coma (ver {@link CamposProducto}); el id se incluye siempre
+     * @param currency Código ISO 4217 de la moneda en que se muestra el precio (opcional)
+     * @param request Petición actual, usada para evaluar los encabezados condicionales
+     * @return ResponseEntity que contiene:
+     *  Si el producto es encontrado: Solo los campos solicitados y HTTP 200 OK (o 304 si no cambió)
+     *  Si el producto NO es encontrado: Un cuerpo vacío y HTTP 404 Not Found
+     *  Si algún campo no existe: HTTP 400 Bad Request
+     */
+    @GetMapping(value = "/{id}", params = "fields")
+    public ResponseEntity<ProductoParcial> obtenerCamposProducto(@PathVariable Long id, @RequestParam String fields,
+                                                                 @RequestParam(required = false) String currency,
+                                                                 WebRequest request) {
+        CamposProducto campos = CamposProducto.desde(fields);
+        TablaTiposCambio.Conversion conversion = conversionDeCampos(currency, campos);
+        Optional<ProductoParcial> parcial = productoService.obtenerCamposProducto(id, campos);
+        if (parcial.isEmpty()) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+        if (conversion != null) {
+            parcial.get().convertirPrecio(conversion);
+        }
+        LocalDateTime fechaActualizacion = parcial.get().getFechaActualizacion();
+        String etag = EtagProducto.enMoneda(EtagProducto.deProducto(id, fechaActualizacion, campos), conversion);
+        if (etag == null) {
+            return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(parcial.get());
+        }
+        if (conversion != null) {
+            if (request.checkNotModified(etag)) {
+                return null;
+            }
+            return ResponseEntity.ok().cacheControl(CacheControl.noCache()).eTag(etag).body(parcial.get());
+        }
+        long ultimaModificacion = EtagProducto.ultimaModificacion(fechaActualizacion);
+        if (request.checkNotModified(etag, ultimaModificacion)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(etag)
+                .lastModified(ultimaModificacion)
+                .body(parcial.get());
+    }
+
+    /**
+     * Recupera una página del catálogo de productos usando paginación por cursor.
+     * Para obtener la página siguiente se debe enviar el {@code siguienteCursor} de la respuesta anterior
+     * junto con los mismos filtros y orden.
+     * <p>
+     * La respuesta incluye un {@code ETag} débil calculado a partir de los productos de la página. Si el
+     * cliente envía {@code If-None-Match}, el ETag vigente se calcula primero con una consulta de
+     * proyección (id y fecha de actualización de cada producto, ver {@link ProductoService#obtenerVersionesPagina});
+     * si coincide se responde 304 sin cargar los productos ni sus colecciones.
+     *
+     * @param filtro Filtros opcionales ({@code precioMin}, {@code precioMax}, {@code moneda}, {@code envioGratis},
+     *               {@code idVendedor}, {@code ratingMin}) y orden ({@code orden}, {@code direccion}).
+     * @param cursor Cursor opaco de la página anterior (opcional, sin cursor retorna la primera página).
+     * @param tamanio Cantidad de productos por página (opcional, acotado al máximo configurado).
+     * @param currency Código ISO 4217 de la moneda en que se muestran los precios (opcional, ver {@link ProductoEnMoneda}).
+     * @param request Petición actual, usada para evaluar los encabezados condicionales
      * @return ResponseEntity que contiene:
-     * Una lista de objetos (List<Producto>)
-     * El código de estado HTTP 200 OK si la operación fue exitosa
+     * Una página de productos (PaginaProductos) con el cursor siguiente
+     * El código de estado HTTP 200 OK si la operación fue exitosa, o 304 si la página no cambió
      */
     @GetMapping
-    public ResponseEntity<List<Producto>> obtenerTodosLosProductos () {
-        List<Producto> productos = productoService.obtenerTodosLosProductos();
+    public ResponseEntity<?> obtenerPaginaProductos(FiltroProductos filtro,
+                                                    @RequestParam(required = false) String cursor,
+                                                    @RequestParam(required = false) Integer tamanio,
+                                                    @RequestParam(required = false) String currency,
+                                                    WebRequest request) {
+        TablaTiposCambio.Conversion conversion = tiposCambio.conversion(currency);
+
+        // 1. Si el cliente tiene una versión de la página, validarla sin cargar los productos
+        if (request.getHeader(HttpHeaders.IF_NONE_MATCH) != null) {
+            PaginaVersiones versiones = productoService.obtenerVersionesPagina(filtro, cursor, tamanio);
+            String etagVersiones = EtagProducto.enMoneda(
+                    EtagProducto.deVersiones(versiones.getVersiones(), versiones.getSiguienteCursor()), conversion);
+            if (request.checkNotModified(etagVersiones)) {
+                // checkNotModified ya dejó la respuesta en 304 con el ETag
+                return null;
+            }
+        }
+
+        // 2. La página cambió (o el cliente no tiene versión): se cargan los productos
+        PaginaProductos pagina = productoService.obtenerPaginaProductos(filtro, cursor, tamanio);
+        String etag = EtagProducto.enMoneda(EtagProducto.dePagina(pagina.getProductos(), pagina.getSiguienteCursor()), conversion);
 
-        // Retorna la lista de productos con el código HTTP 200 (OK)
-        return new ResponseEntity<>(productos, HttpStatus.OK);
+        // Retorna la página de productos con el código HTTP 200 (OK)
+        ResponseEntity.BodyBuilder respuesta = ResponseEntity.ok().cacheControl(CacheControl.noCache()).eTag(etag);
+        if (conversion != null) {
+            return respuesta.body(new PaginaProductosEnMoneda(ProductoEnMoneda.de(pagina.getProductos(), conversion),
+                    pagina.getSiguienteCursor()));
+        }
+        return respuesta.body(pagina);
+    }
+
+    /**
+     * Igual que {@link #obtenerPaginaProductos} pero con solo los campos indicados en {@code fields}
+     * (por ejemplo {@code fields=titulo,precio,moneda,primeraImagen}). Acepta los mismos filtros,
+     * orden y cursores que el listado completo.
+     *
+     * @param filtro Filtros y orden opcionales.
+     * @param cursor Cursor opaco de la página anterior (opcional).
+     * @param tamanio Cantidad de productos por página (opcional, acotado al máximo configurado).
+     * @param fields Campos separados por coma (ver {@link CamposProducto}); el id se incluye siempre.
+     * @param currency Moneda en que se muestran los precios (opcional, requiere los campos {@code precio} y {@code moneda}).
+     * @return ResponseEntity con la página de productos parciales y HTTP 200 OK, 304 si la página
+     * no cambió, o 400 si algún campo no existe
+     */
+    @GetMapping(params = "fields")
+    public ResponseEntity<PaginaProductosParciales> obtenerPaginaCamposProductos(FiltroProductos filtro,
+                                                                                 @RequestParam(required = false) String cursor,
+                                                                                 @RequestParam(required = false) Integer tamanio,
+                                                                                 @RequestParam String fields,
+                                                                                 @RequestParam(required = false) String currency) {
+        CamposProducto campos = CamposProducto.desde(fields);
+        TablaTiposCambio.Conversion conversion = conversionDeCampos(currency, campos);
+        PaginaProductosParciales pagina = productoService.obtenerPaginaProductos(filtro, cursor, tamanio, campos);
+        convertirPrecios(pagina.getProductos(), conversion);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(EtagProducto.enMoneda(
+                        EtagProducto.dePaginaParcial(pagina.getProductos(), campos, pagina.getSiguienteCursor()), conversion))
+                .body(pagina);
+    }
+
+    /**
+     * Obtiene varios productos por id en una sola petición ({@code GET /api/evaluacion?ids=1,2,3}).
+     * <p>
+     * Los ids se cargan juntos en una consulta, junto con los de otras peticiones concurrentes.
+     * La respuesta incluye un {@code ETag} débil de los productos retornados.
+     *
+     * @param ids Ids de los productos, separados por coma (como máximo el tamaño máximo de página).
+     * @param currency Código ISO 4217 de la moneda en que se muestran los precios (opcional, ver {@link ProductoEnMoneda}).
+     * @return ResponseEntity que contiene:
+     * Los productos encontrados en el orden solicitado (los inexistentes se omiten) y HTTP 200 OK,
+     * o 304 si los productos no cambiaron desde la versión del cliente
+     */
+    @GetMapping(params = "ids")
+    public ResponseEntity<List<?>> obtenerProductosPorIds(@RequestParam List<Long> ids,
+                                                          @RequestParam(required = false) String currency) {
+        TablaTiposCambio.Conversion conversion = tiposCambio.conversion(currency);
+        List<Producto> productos = productoService.obtenerProductosPorIds(ids);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(EtagProducto.enMoneda(EtagProducto.dePagina(productos, null), conversion))
+                .body(conversion == null ? productos : ProductoEnMoneda.de(productos, conversion));
+    }
+
+    /**
+     * Obtiene solo los campos indicados de varios productos ({@code GET /api/evaluacion?ids=1,2&fields=titulo}).
+     *
+     * @param ids Ids de los productos, separados por coma (como máximo el tamaño máximo de página).
+     * @param fields Campos separados por coma (ver {@link CamposProducto}); el id se incluye siempre.
+     * @param currency Moneda en que se muestran los precios (opcional, requiere los campos {@code precio} y {@code moneda}).
+     * @return ResponseEntity con los productos parciales en el orden solicitado y HTTP 200 OK, o 304
+     * si no cambiaron desde la versión del cliente
+     */
+    @GetMapping(params = {"ids", "fields"})
+    public ResponseEntity<List<ProductoParcial>> obtenerCamposProductosPorIds(@RequestParam List<Long> ids,
+                                                                              @RequestParam String fields,
+                                                                              @RequestParam(required = false) String currency) {
+        CamposProducto campos = CamposProducto.desde(fields);
+        TablaTiposCambio.Conversion conversion = conversionDeCampos(currency, campos);
+        List<ProductoParcial> productos = productoService.obtenerCamposProductosPorIds(ids, campos);
+        convertirPrecios(productos, conversion);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(EtagProducto.enMoneda(EtagProducto.dePaginaParcial(productos, campos, null), conversion))
+                .body(productos);
+    }
+
+    /**
+     * Exporta el catálogo completo en formato NDJSON ({@code application/x-ndjson}), un producto por línea.
+     * <p>
+     * La respuesta se escribe de forma incremental a medida que se leen los productos desde la
+     * base de datos, sin construir la lista completa en memoria.
+     *
+     * @return ResponseEntity con el cuerpo en streaming y el código de estado HTTP 200 OK
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportarCatalogo() {
+        StreamingResponseBody cuerpo = salida -> productoService.exportarCatalogo(salida);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(cuerpo);
+    }
+
+    /**
+     * Resuelve {@code currency} para una respuesta con campos parciales: convertir el precio requiere
+     * conocer su moneda, por lo que si se pide {@code precio} también se debe pedir {@code moneda}.
+     */
+    private TablaTiposCambio.Conversion conversionDeCampos(String currency, CamposProducto campos) {
+        TablaTiposCambio.Conversion conversion = tiposCambio.conversion(currency);
+        if (conversion != null && campos.getNombres().contains("precio") && !campos.getNombres().contains("moneda")) {
+            throw new InvalidDataException("Para convertir el precio con currency se debe solicitar también el campo moneda.");
+        }
+        return conversion;
+    }
+
+    private static void convertirPrecios(List<ProductoParcial> productos, TablaTiposCambio.Conversion conversion) {
+        if (conversion == null) {
+            return;
+        }
+        for (ProductoParcial producto : productos) {
+            producto.convertirPrecio(conversion);
+        }
     }
 }
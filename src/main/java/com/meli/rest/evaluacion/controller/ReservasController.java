@@ -0,0 +1,64 @@
+package com.meli.rest.evaluacion.controller;
+
+import com.meli.rest.evaluacion.dto.SolicitudReserva;
+import com.meli.rest.evaluacion.model.ReservaStock;
+import com.meli.rest.evaluacion.service.ReservaStockService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Controlador REST para las reservas de stock de productos.
+ * <p>
+ * Una reserva descuenta stock al crearse y luego se confirma (venta) o se libera (reposición).
+ * La ruta base para este controlador es {/api/evaluacion}.
+ *
+ * @author [Mauricio Gomez Farias]
+ * @version 1.0
+ * @since 2025-12-04
+ */
+@RestController
+@RequestMapping(value = "/api/evaluacion")
+public class ReservasController {
+
+    private final ReservaStockService reservaStockService;
+
+    public ReservasController(ReservaStockService reservaStockService) {
+        this.reservaStockService = reservaStockService;
+    }
+
+    /**
+     * Metodo POST que reserva stock de un producto
+     * @param id Identificador del producto
+     * @param solicitud json con la cantidad a reservar
+     * @return ResponseEntity que contiene:
+     *  La reserva creada y HTTP 201 CREATED
+     *  HTTP 409 CONFLICT si no hay stock suficiente
+     *  HTTP 404 NOT FOUND si el producto no existe
+     */
+    @PostMapping("/{id}/reservas")
+    public ResponseEntity<ReservaStock> reservar(@PathVariable Long id, @RequestBody SolicitudReserva solicitud) {
+        ReservaStock reserva = reservaStockService.reservar(id, solicitud.getCantidad());
+        return new ResponseEntity<>(reserva, HttpStatus.CREATED);
+    }
+
+    /**
+     * Metodo POST que confirma una reserva pendiente
+     * @param reservaId Identificador de la reserva
+     * @return ResponseEntity con la reserva confirmada y HTTP 200 OK, o HTTP 409 CONFLICT si ya no estaba pendiente
+     */
+    @PostMapping("/reservas/{reservaId}/confirmar")
+    public ResponseEntity<ReservaStock> confirmar(@PathVariable Long reservaId) {
+        return ResponseEntity.ok(reservaStockService.confirmar(reservaId));
+    }
+
+    /**
+     * Metodo POST que libera una reserva pendiente y repone su stock
+     * @param reservaId Identificador de la reserva
+     * @return ResponseEntity con la reserva liberada y HTTP 200 OK, o HTTP 409 CONFLICT si ya no estaba pendiente
+     */
+    @PostMapping("/reservas/{reservaId}/liberar")
+    public ResponseEntity<ReservaStock> liberar(@PathVariable Long reservaId) {
+        return ResponseEntity.ok(reservaStockService.liberar(reservaId));
+    }
+}
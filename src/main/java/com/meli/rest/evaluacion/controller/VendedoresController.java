@@ -0,0 +1,72 @@
+package com.meli.rest.evaluacion.controller;
+
+import com.meli.rest.evaluacion.dto.PaginaProductos;
+import com.meli.rest.evaluacion.dto.SolicitudVendedor;
+import com.meli.rest.evaluacion.model.Vendedor;
+import com.meli.rest.evaluacion.service.VendedorService;
+import com.meli.rest.evaluacion.util.EtagProducto;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Controlador REST para los vendedores y su catálogo.
+ * <p>
+ * La ruta base para este controlador es {/api/evaluacion/vendedores}.
+ *
+ * @author [Mauricio Gomez Farias]
+ * @version 1.0
+ * @since 2025-12-04
+ */
+@RestController
+@RequestMapping(value = "/api/evaluacion/vendedores")
+public class VendedoresController {
+
+    private final VendedorService vendedorService;
+
+    public VendedoresController(VendedorService vendedorService) {
+        this.vendedorService = vendedorService;
+    }
+
+    /**
+     * Metodo GET que obtiene un vendedor
+     * @param id Identificador del vendedor
+     * @return ResponseEntity con el vendedor y HTTP 200 OK, o HTTP 404 NOT FOUND si no existe
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<Vendedor> obtenerVendedor(@PathVariable Long id) {
+        return vendedorService.obtenerVendedor(id)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> new ResponseEntity<>(HttpStatus.NOT_FOUND));
+    }
+
+    /**
+     * Metodo PUT que registra un vendedor o actualiza su nombre y reputación
+     * @param id Identificador del vendedor
+     * @param solicitud json con el nombre y la reputación (0 a 5)
+     * @return ResponseEntity con el vendedor guardado y HTTP 200 OK, o HTTP 400 BAD REQUEST si los datos no son válidos
+     */
+    @PutMapping("/{id}")
+    public ResponseEntity<Vendedor> guardarVendedor(@PathVariable Long id, @RequestBody SolicitudVendedor solicitud) {
+        return ResponseEntity.ok(vendedorService.guardarVendedor(id, solicitud));
+    }
+
+    /**
+     * Metodo GET que lista los productos de un vendedor, del más reciente al más antiguo, con paginación por cursor
+     * @param id Identificador del vendedor
+     * @param cursor cursor opaco devuelto en la página anterior (opcional)
+     * @param tamanio cantidad de productos por página (opcional)
+     * @return ResponseEntity con la página de productos y HTTP 200 OK (304 si no cambió), o HTTP 404 NOT FOUND si el vendedor no existe
+     */
+    @GetMapping("/{id}/productos")
+    public ResponseEntity<PaginaProductos> obtenerProductos(@PathVariable Long id,
+                                                            @RequestParam(required = false) String cursor,
+                                                            @RequestParam(required = false) Integer tamanio) {
+        PaginaProductos pagina = vendedorService.obtenerProductos(id, cursor, tamanio);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(EtagProducto.dePagina(pagina.getProductos(), pagina.getSiguienteCursor()))
+                .body(pagina);
+    }
+}
@@ -0,0 +1,119 @@
+package com.meli.rest.evaluacion.dto;
+
+import com.meli.rest.evaluacion.exceptions.InvalidDataException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Campos de un producto solicitados con el parámetro {@code fields} (por ejemplo
+ * {@code fields=titulo,precio,moneda,primeraImagen}).
+ * <p>
+ * Los campos escalares se leen con una consulta de proyección que selecciona solo esas columnas;
+ * las colecciones ({@code especificaciones}, {@code urlsImagenes}) se leen aparte y solo si se
+ * piden. {@code primeraImagen} es un campo virtual con la primera URL de {@code urlsImagenes}.
+ * El {@code id} se incluye siempre, en primer lugar.
+ *
+ * @author [Mauricio Gomez Farias]
+ * @version 1.0
+ * @since 2025-12-04
+ */
+public final class CamposProducto {
+
+    public static final String ESPECIFICACIONES = "especificaciones";
+    public static final String URLS_IMAGENES = "urlsImagenes";
+    public static final String PRIMERA_IMAGEN = "primeraImagen";
+
+    // Atributos de Producto que se pueden seleccionar como columnas
+    private static final Set<String> ESCALARES = Set.of("id", "titulo", "precio", "moneda", "stockDisponible",
+            "descripcion", "idVendedor", "cantidadVendida", "fechaPublicacion", "envioGratis", "metodoEnvioPrincipal", "ratingPromedio", "totalOpiniones",
+            "opiniones1", "opiniones2", "opiniones3", "opiniones4", "opiniones5", "fechaActualizacion");
+
+    // Datos del vendedor: no son columnas de productos, se resuelven a partir de idVendedor
+    public static final String NOMBRE_VENDEDOR = "nombreVendedor";
+    public static final String REPUTACION_VENDEDOR = "reputacionVendedor";
+
+    private final List<String> nombres;
+
+    private CamposProducto(List<String> nombres) {
+        this.nombres = Collections.unmodifiableList(nombres);
+    }
+
+    /**
+     * Interpreta el valor del parámetro {@code fields}.
+     *
+     * @param fields Nombres de campos separados por coma; los repetidos se consideran una vez.
+     * @return Los campos solicitados, con el {@code id} en primer lugar.
+     * @throws InvalidDataException si no se indica ningún campo o alguno no existe.
+     */
+    public static CamposProducto desde(String fields) {
+        Set<String> nombres = new LinkedHashSet<>();
+        nombres.add("id");
+        boolean alguno = false;
+        if (fields != null) {
+            for (String nombre : fields.split(",")) {
+                nombre = nombre.trim();
+                if (nombre.isEmpty()) {
+                    continue;
+                }
+                if (!ESCALARES.contains(nombre) && !esColeccion(nombre) && !esDelVendedor(nombre)) {
+                    throw new InvalidDataException("El campo '" + nombre + "' no existe en el producto.");
+                }
+                nombres.add(nombre);
+                alguno = true;
+            }
+        }
+        if (!alguno) {
+            throw new InvalidDataException("Se debe indicar al menos un campo en el parámetro fields.");
+        }
+        return new CamposProducto(new ArrayList<>(nombres));
+    }
+
+    /**
+     * @return Todos los campos solicitados, en el orden de la petición y con el {@code id} primero.
+     */
+    public List<String> getNombres() {
+        return nombres;
+    }
+
+    /**
+     * @return Los campos solicitados que corresponden a columnas de la tabla de productos.
+     */
+    public List<String> escalares() {
+        return nombres.stream().filter(ESCALARES::contains).toList();
+    }
+
+    public boolean incluye(String campo) {
+        return nombres.contains(campo);
+    }
+
+    /**
+     * @return {@code true} si se pidió alguna de las imágenes ({@code urlsImagenes} o {@code primeraImagen}).
+     */
+    public boolean incluyeImagenes() {
+        return incluye(URLS_IMAGENES) || incluye(PRIMERA_IMAGEN);
+    }
+
+    /**
+     * @return {@code true} si se pidió el nombre o la reputación del vendedor.
+     */
+    public boolean incluyeVendedor() {
+        return incluye(NOMBRE_VENDEDOR) || incluye(REPUTACION_VENDEDOR);
+    }
+
+    private static boolean esDelVendedor(String nombre) {
+        return NOMBRE_VENDEDOR.equals(nombre) || REPUTACION_VENDEDOR.equals(nombre);
+    }
+
+    private static boolean esColeccion(String nombre) {
+        return ESPECIFICACIONES.equals(nombre) || URLS_IMAGENES.equals(nombre) || PRIMERA_IMAGEN.equals(nombre);
+    }
+
+    @Override
+    public String toString() {
+        return String.join(",", nombres);
+    }
+}
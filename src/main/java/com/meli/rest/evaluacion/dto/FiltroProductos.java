@@ -0,0 +1,89 @@
+package com.meli.rest.evaluacion.dto;
+
+import com.meli.rest.evaluacion.exceptions.InvalidDataException;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+
+/**
+ * Filtros y orden del listado de productos, recibidos como parámetros de consulta
+ * ({@code GET /api/evaluacion?precioMin=...&moneda=CLP&orden=precio}).
+ * <p>
+ * Todos los filtros son opcionales y se combinan con AND. Sin filtros y con el orden por
+ * defecto el listado usa la consulta de paginación original por fecha de publicación.
+ *
+ * @author [Mauricio Gomez Farias]
+ * @version 1.0
+ * @since 2025-12-04
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class FiltroProductos {
+
+    private BigDecimal precioMin;
+    private BigDecimal precioMax;
+    private String moneda;
+    private Boolean envioGratis;
+    private Long idVendedor;
+    private Float ratingMin;
+
+    /** Atributo de orden: {@code fechaPublicacion} (defecto), {@code precio} o {@code cantidadVendida}. */
+    private String orden;
+
+    /** Dirección del orden: {@code asc} o {@code desc}; por defecto depende del atributo. */
+    private String direccion;
+
+    /**
+     * @return El criterio de orden solicitado.
+     * @throws InvalidDataException si el atributo de orden no es válido.
+     */
+    public OrdenProductos criterioOrden() {
+        return OrdenProductos.desde(orden);
+    }
+
+    /**
+     * @return {@code true} si el orden es descendente.
+     * @throws InvalidDataException si la dirección no es {@code asc} ni {@code desc}.
+     */
+    public boolean esDescendente() {
+        if (direccion == null || direccion.isBlank()) {
+            return criterioOrden().isDescendentePorDefecto();
+        }
+        if ("desc".equalsIgnoreCase(direccion)) {
+            return true;
+        }
+        if ("asc".equalsIgnoreCase(direccion)) {
+            return false;
+        }
+        throw new InvalidDataException("La dirección de orden debe ser 'asc' o 'desc'.");
+    }
+
+    /**
+     * @return {@code true} si no hay filtros y el orden es el por defecto (fecha de publicación descendente).
+     */
+    public boolean esListadoPorDefecto() {
+        return precioMin == null && precioMax == null && (moneda == null || moneda.isBlank())
+                && envioGratis == null && idVendedor == null && ratingMin == null
+                && criterioOrden() == OrdenProductos.FECHA_PUBLICACION && esDescendente();
+    }
+
+    /**
+     * Valida la coherencia de los filtros.
+     * @throws InvalidDataException si algún filtro tiene un valor inválido.
+     */
+    public void validar() {
+        if (precioMin != null && precioMax != null && precioMin.compareTo(precioMax) > 0) {
+            throw new InvalidDataException("precioMin no puede ser mayor que precioMax.");
+        }
+        if (ratingMin != null && (ratingMin < 0 || ratingMin > 5)) {
+            throw new InvalidDataException("ratingMin debe estar entre 0 y 5.");
+        }
+        if (moneda != null && !moneda.isBlank() && moneda.trim().length() != 3) {
+            throw new InvalidDataException("La moneda debe ser un código de 3 letras (ej. CLP, USD).");
+        }
+        esDescendente();
+    }
+}
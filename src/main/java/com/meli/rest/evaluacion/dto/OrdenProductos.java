@@ -0,0 +1,79 @@
+package com.meli.rest.evaluacion.dto;
+
+import com.meli.rest.evaluacion.exceptions.InvalidDataException;
+import com.meli.rest.evaluacion.model.Producto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.function.Function;
+
+/**
+ * Criterios de orden del listado filtrado de productos.
+ * <p>
+ * Cada criterio indica el atributo de {@link Producto} por el que se ordena, su dirección por
+ * defecto y cómo leer su valor desde un cursor. El {@code id} siempre se agrega como desempate.
+ *
+ * @author [Mauricio Gomez Farias]
+ * @version 1.0
+ * @since 2025-12-04
+ */
+public enum OrdenProductos {
+
+    FECHA_PUBLICACION("fechaPublicacion", true, LocalDateTime::parse, Producto::getFechaPublicacion),
+    PRECIO("precio", false, BigDecimal::new, Producto::getPrecio),
+    CANTIDAD_VENDIDA("cantidadVendida", true, Integer::valueOf, Producto::getCantidadVendida);
+
+    private final String atributo;
+    private final boolean descendentePorDefecto;
+    private final Function<String, Comparable<?>> lector;
+    private final Function<Producto, Comparable<?>> valor;
+
+    OrdenProductos(String atributo, boolean descendentePorDefecto,
+                   Function<String, Comparable<?>> lector, Function<Producto, Comparable<?>> valor) {
+        this.atributo = atributo;
+        this.descendentePorDefecto = descendentePorDefecto;
+        this.lector = lector;
+        this.valor = valor;
+    }
+
+    /**
+     * Obtiene el criterio a partir del nombre del atributo recibido en la petición.
+     * @param atributo Nombre del atributo ({@code fechaPublicacion}, {@code precio} o {@code cantidadVendida}).
+     * @return El criterio; {@link #FECHA_PUBLICACION} si el nombre es nulo.
+     * @throws InvalidDataException si el atributo no admite orden.
+     */
+    public static OrdenProductos desde(String atributo) {
+        if (atributo == null || atributo.isBlank()) {
+            return FECHA_PUBLICACION;
+        }
+        for (OrdenProductos orden : values()) {
+            if (orden.atributo.equals(atributo)) {
+                return orden;
+            }
+        }
+        throw new InvalidDataException("No se puede ordenar por '" + atributo
+                + "'. Valores permitidos: fechaPublicacion, precio, cantidadVendida.");
+    }
+
+    public String getAtributo() {
+        return atributo;
+    }
+
+    public boolean isDescendentePorDefecto() {
+        return descendentePorDefecto;
+    }
+
+    /**
+     * @return El valor del atributo de orden en el producto.
+     */
+    public Comparable<?> valorDe(Producto producto) {
+        return valor.apply(producto);
+    }
+
+    /**
+     * @return El valor del atributo de orden leído desde su representación en el cursor.
+     */
+    public Comparable<?> leerValor(String texto) {
+        return lector.apply(texto);
+    }
+}
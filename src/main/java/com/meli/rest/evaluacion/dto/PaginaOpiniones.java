@@ -0,0 +1,25 @@
+package com.meli.rest.evaluacion.dto;
+
+import com.meli.rest.evaluacion.model.Opinion;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Respuesta paginada del listado de opiniones de un producto.
+ * <p>
+ * {@code siguienteCursor} es un valor opaco que el cliente debe enviar en el parámetro
+ * {@code cursor} para obtener la página siguiente. Es {@code null} cuando no quedan más opiniones.
+ *
+ * @author [Mauricio Gomez Farias]
+ * @version 1.0
+ * @since 2025-12-04
+ */
+@Getter
+@AllArgsConstructor
+public class PaginaOpiniones {
+
+    private List<Opinion> opiniones;
+    private String siguienteCursor;
+}
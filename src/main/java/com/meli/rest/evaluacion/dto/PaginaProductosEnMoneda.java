@@ -0,0 +1,22 @@
+package com.meli.rest.evaluacion.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Respuesta paginada del listado de productos con los precios convertidos a la moneda de
+ * {@code currency}. El cursor es el mismo que el de {@link PaginaProductos}.
+ *
+ * @author [Mauricio Gomez Farias]
+ * @version 1.0
+ * @since 2025-12-04
+ */
+@Getter
+@AllArgsConstructor
+public class PaginaProductosEnMoneda {
+
+    private List<ProductoEnMoneda> productos;
+    private String siguienteCursor;
+}
@@ -0,0 +1,24 @@
+package com.meli.rest.evaluacion.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Respuesta paginada del listado de productos cuando se solicitan campos con {@code fields}.
+ * <p>
+ * El cursor es el mismo que el de {@link PaginaProductos}: se puede cambiar el parámetro
+ * {@code fields} entre páginas sin perder la posición.
+ *
+ * @author [Mauricio Gomez Farias]
+ * @version 1.0
+ * @since 2025-12-04
+ */
+@Getter
+@AllArgsConstructor
+public class PaginaProductosParciales {
+
+    private List<ProductoParcial> productos;
+    private String siguienteCursor;
+}
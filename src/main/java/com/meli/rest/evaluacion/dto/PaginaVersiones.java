@@ -0,0 +1,22 @@
+package com.meli.rest.evaluacion.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Versiones ({@code id} y fecha de actualización) de los productos de una página del listado y su
+ * cursor siguiente: lo necesario para calcular el {@code ETag} de la página sin cargar los productos.
+ *
+ * @author [Mauricio Gomez Farias]
+ * @version 1.0
+ * @since 2025-12-04
+ */
+@Getter
+@AllArgsConstructor
+public class PaginaVersiones {
+
+    private List<VersionProducto> versiones;
+    private String siguienteCursor;
+}
@@ -0,0 +1,86 @@
+package com.meli.rest.evaluacion.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import com.meli.rest.evaluacion.model.Producto;
+import com.meli.rest.evaluacion.util.TablaTiposCambio;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Producto con el precio convertido a la moneda solicitada con {@code currency}.
+ * <p>
+ * Envuelve la entidad sin modificarla (puede estar en la cache de segundo nivel o en el contexto de
+ * persistencia): se serializa como el producto, con {@code precio} y {@code moneda} convertidos y
+ * además {@code precioOriginal} y {@code monedaOriginal}. Si la moneda del producto no está en la
+ * tabla de tipos de cambio se conservan el precio y la moneda originales, sin los campos adicionales.
+ *
+ * @author [Mauricio Gomez Farias]
+ * @version 1.0
+ * @since 2025-12-04
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ProductoEnMoneda {
+
+    @JsonUnwrapped
+    @JsonIgnoreProperties({"precio", "moneda"})
+    private final Producto producto;
+    private final BigDecimal precio;
+    private final String moneda;
+    private final BigDecimal precioOriginal;
+    private final String monedaOriginal;
+
+    private ProductoEnMoneda(Producto producto, BigDecimal precio, String moneda, BigDecimal precioOriginal,
+                             String monedaOriginal) {
+        this.producto = producto;
+        this.precio = precio;
+        this.moneda = moneda;
+        this.precioOriginal = precioOriginal;
+        this.monedaOriginal = monedaOriginal;
+    }
+
+    /**
+     * @return El producto con el precio convertido con {@code conversion}.
+     */
+    public static ProductoEnMoneda de(Producto producto, TablaTiposCambio.Conversion conversion) {
+        BigDecimal convertido = conversion.convertir(producto.getPrecio(), producto.getMoneda());
+        if (convertido == null) {
+            return new ProductoEnMoneda(producto, producto.getPrecio(), producto.getMoneda(), null, null);
+        }
+        return new ProductoEnMoneda(producto, convertido, conversion.getMoneda(), producto.getPrecio(), producto.getMoneda());
+    }
+
+    /**
+     * @return Los productos con el precio convertido, en el mismo orden.
+     */
+    public static List<ProductoEnMoneda> de(List<Producto> productos, TablaTiposCambio.Conversion conversion) {
+        List<ProductoEnMoneda> convertidos = new ArrayList<>(productos.size());
+        for (Producto producto : productos) {
+            convertidos.add(de(producto, conversion));
+        }
+        return convertidos;
+    }
+
+    public Producto getProducto() {
+        return producto;
+    }
+
+    public BigDecimal getPrecio() {
+        return precio;
+    }
+
+    public String getMoneda() {
+        return moneda;
+    }
+
+    public BigDecimal getPrecioOriginal() {
+        return precioOriginal;
+    }
+
+    public String getMonedaOriginal() {
+        return monedaOriginal;
+    }
+}
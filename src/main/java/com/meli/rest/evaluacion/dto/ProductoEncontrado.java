@@ -0,0 +1,19 @@
+package com.meli.rest.evaluacion.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * Producto resultante de una búsqueda, con los datos necesarios para mostrar el listado de resultados.
+ *
+ * @param id Identificador del producto.
+ * @param titulo Título del producto.
+ * @param precio Precio del producto.
+ * @param moneda Moneda del precio.
+ * @param puntaje Relevancia del producto para la consulta (BM25), mayor es más relevante.
+ *
+ * @author [Mauricio Gomez Farias]
+ * @version 1.0
+ * @since 2025-12-04
+ */
+public record ProductoEncontrado(Long id, String titulo, BigDecimal precio, String moneda, float puntaje) {
+}
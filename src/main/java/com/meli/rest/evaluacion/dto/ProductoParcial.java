@@ -0,0 +1,64 @@
+package com.meli.rest.evaluacion.dto;
+
+import com.fasterxml.jackson.annotation.JsonAnyGetter;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import com.meli.rest.evaluacion.util.TablaTiposCambio;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Producto con solo los campos solicitados en el parámetro {@code fields}.
+ * <p>
+ * Se serializa como un objeto JSON con esos campos, en el orden solicitado. El {@code id} y la
+ * fecha de actualización se conservan aparte para calcular el {@code ETag}, aunque la fecha no
+ * se haya solicitado.
+ *
+ * @author [Mauricio Gomez Farias]
+ * @version 1.0
+ * @since 2025-12-04
+ */
+public class ProductoParcial {
+
+    private final Long id;
+    private final LocalDateTime fechaActualizacion;
+    private final Map<String, Object> campos;
+
+    public ProductoParcial(Long id, LocalDateTime fechaActualizacion, Map<String, Object> campos) {
+        this.id = id;
+        this.fechaActualizacion = fechaActualizacion;
+        this.campos = campos;
+    }
+
+    @JsonIgnore
+    public Long getId() {
+        return id;
+    }
+
+    @JsonIgnore
+    public LocalDateTime getFechaActualizacion() {
+        return fechaActualizacion;
+    }
+
+    /**
+     * Reemplaza {@code precio} y {@code moneda} por los convertidos con {@code conversion}, en la misma
+     * posición. Requiere que ambos campos se hayan solicitado; si la moneda del producto no está en
+     * la tabla de tipos de cambio los deja como están.
+     */
+    public void convertirPrecio(TablaTiposCambio.Conversion conversion) {
+        if (campos.get("precio") instanceof BigDecimal precio && campos.get("moneda") instanceof String moneda) {
+            BigDecimal convertido = conversion.convertir(precio, moneda);
+            if (convertido != null) {
+                campos.put("precio", convertido);
+                campos.put("moneda", conversion.getMoneda());
+            }
+        }
+    }
+
+    @JsonAnyGetter
+    public Map<String, Object> getCampos() {
+        return campos;
+    }
+}
@@ -0,0 +1,45 @@
+package com.meli.rest.evaluacion.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Respuesta de la carga masiva de productos ({@code POST /api/evaluacion/batch}).
+ *
+ * @author [Mauricio Gomez Farias]
+ * @version 1.0
+ * @since 2025-12-04
+ */
+@Getter
+@AllArgsConstructor
+public class RespuestaIngestaLote {
+
+    private int total;
+    private int guardados;
+    private int rechazados;
+    private List<ResultadoIngesta> resultados;
+
+    /**
+     * Construye la respuesta contando los estados de cada resultado.
+     * @param resultados Resultados por producto, en el mismo orden de la entrada.
+     * @return respuesta con los totales calculados.
+     */
+    public static RespuestaIngestaLote de(List<ResultadoIngesta> resultados) {
+        int guardados = 0;
+        for (ResultadoIngesta resultado : resultados) {
+            if (resultado.getEstado() == ResultadoIngesta.Estado.GUARDADO) {
+                guardados++;
+            }
+        }
+        return new RespuestaIngestaLote(resultados.size(), guardados, resultados.size() - guardados, resultados);
+    }
+
+    /**
+     * @return {@code true} si todos los productos de la carga fueron guardados.
+     */
+    public boolean esCompleta() {
+        return guardados == total;
+    }
+}
@@ -0,0 +1,25 @@
+package com.meli.rest.evaluacion.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Respuesta de la búsqueda de productos.
+ * <p>
+ * {@code productos} viene ordenado por relevancia descendente y acotado al tamaño solicitado;
+ * {@code total} es la cantidad de productos que coinciden con la consulta.
+ *
+ * @author [Mauricio Gomez Farias]
+ * @version 1.0
+ * @since 2025-12-04
+ */
+@Getter
+@AllArgsConstructor
+public class ResultadoBusqueda {
+
+    private String consulta;
+    private int total;
+    private List<ProductoEncontrado> productos;
+}
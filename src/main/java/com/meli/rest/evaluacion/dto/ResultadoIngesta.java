@@ -0,0 +1,50 @@
+package com.meli.rest.evaluacion.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Resultado de la ingesta de un producto dentro de una carga masiva.
+ * <p>
+ * {@code indice} corresponde a la posición del producto en el arreglo recibido, para que el
+ * cliente pueda correlacionar cada resultado con su elemento de entrada.
+ *
+ * @author [Mauricio Gomez Farias]
+ * @version 1.0
+ * @since 2025-12-04
+ */
+@Getter
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ResultadoIngesta {
+
+    /**
+     * Estado final de cada producto de la carga.
+     */
+    public enum Estado {
+        /** El producto fue persistido. */
+        GUARDADO,
+        /** El producto no cumple las reglas de negocio y no se intentó persistir. */
+        RECHAZADO,
+        /** El producto era válido pero falló la persistencia del lote que lo contenía. */
+        ERROR
+    }
+
+    private int indice;
+    private Long id;
+    private Estado estado;
+    private String mensaje;
+
+    public static ResultadoIngesta guardado(int indice, Long id) {
+        return new ResultadoIngesta(indice, id, Estado.GUARDADO, null);
+    }
+
+    public static ResultadoIngesta rechazado(int indice, String mensaje) {
+        return new ResultadoIngesta(indice, null, Estado.RECHAZADO, mensaje);
+    }
+
+    public static ResultadoIngesta error(int indice, String mensaje) {
+        return new ResultadoIngesta(indice, null, Estado.ERROR, mensaje);
+    }
+}
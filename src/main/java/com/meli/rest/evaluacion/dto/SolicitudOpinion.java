@@ -0,0 +1,23 @@
+package com.meli.rest.evaluacion.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Cuerpo de la petición para publicar una opinión de un producto.
+ *
+ * @author [Mauricio Gomez Farias]
+ * @version 1.0
+ * @since 2025-12-04
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class SolicitudOpinion {
+
+    /** Estrellas, de 1 a 5. */
+    private Integer puntaje;
+    private String autor;
+    private String comentario;
+}
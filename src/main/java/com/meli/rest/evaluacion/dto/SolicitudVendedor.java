@@ -0,0 +1,22 @@
+package com.meli.rest.evaluacion.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Cuerpo de la petición para registrar o actualizar un vendedor.
+ *
+ * @author [Mauricio Gomez Farias]
+ * @version 1.0
+ * @since 2025-12-04
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class SolicitudVendedor {
+
+    private String nombre;
+    /** De 0 a 5. */
+    private Float reputacion;
+}
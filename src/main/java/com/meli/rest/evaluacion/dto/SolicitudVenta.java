@@ -0,0 +1,20 @@
+package com.meli.rest.evaluacion.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Cuerpo de la petición para registrar unidades vendidas de un producto.
+ *
+ * @author [Mauricio Gomez Farias]
+ * @version 1.0
+ * @since 2025-12-04
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class SolicitudVenta {
+
+    private Integer cantidad;
+}
@@ -0,0 +1,15 @@
+package com.meli.rest.evaluacion.dto;
+
+/**
+ * Proyección de un elemento de una colección de producto ({@code especificaciones} o
+ * {@code urlsImagenes}) junto al id de su producto, para leer la colección sin cargar la entidad.
+ *
+ * @param productoId Identificador del producto.
+ * @param valor Elemento de la colección.
+ *
+ * @author [Mauricio Gomez Farias]
+ * @version 1.0
+ * @since 2025-12-04
+ */
+public record ValorColeccion(Long productoId, String valor) {
+}
@@ -0,0 +1,17 @@
+package com.meli.rest.evaluacion.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Proyección mínima de un producto con los datos necesarios para responder un GET condicional
+ * ({@code If-None-Match} / {@code If-Modified-Since}) sin cargar el resto de la entidad.
+ *
+ * @param id Identificador del producto.
+ * @param fechaActualizacion Fecha de la última escritura del producto o de su vendedor (la más reciente).
+ *
+ * @author [Mauricio Gomez Farias]
+ * @version 1.0
+ * @since 2025-12-04
+ */
+public record VersionProducto(Long id, LocalDateTime fechaActualizacion) {
+}
@@ -30,13 +30,41 @@ public class GlobalExceptionHandler {
      * Maneja las excepciones de negocio personalizadas {@code InvalidDataException}.
      *
      * @param ex La excepción {@code InvalidDataException} lanzada.
-     * @return Una respuesta HTTP con estado 400 Bad Request y el mensaje de la excepción.
+     * @return Una respuesta HTTP con estado 400 Bad Request, el mensaje de la excepción y cada regla incumplida.
      */
     @ExceptionHandler(InvalidDataException.class)
     public ResponseEntity<ResponseException> handleInvalidDataException(InvalidDataException ex) {
-        log.error("Datos Invalidos: " + ex.getMessage());
+        log.error("Datos Invalidos: {}", ex.getMessage());
         return ResponseEntity
                 .status(HttpStatus.BAD_REQUEST)
+                .body(new ResponseException(ex.getMessage(), ex.getErrores()));
+    }
+
+    /**
+     * Maneja las excepciones {@code StockInsuficienteException} (stock insuficiente o reserva en estado inválido).
+     *
+     * @param ex La excepción {@code StockInsuficienteException} lanzada.
+     * @return Una respuesta HTTP con estado 409 Conflict y el mensaje de la excepción.
+     */
+    @ExceptionHandler(StockInsuficienteException.class)
+    public ResponseEntity<ResponseException> handleStockInsuficienteException(StockInsuficienteException ex) {
+        log.warn("Conflicto de stock: " + ex.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.CONFLICT)
+                .body(new ResponseException(ex.getMessage()));
+    }
+
+    /**
+     * Maneja las excepciones {@code RecursoNoEncontradoException}.
+     *
+     * @param ex La excepción {@code RecursoNoEncontradoException} lanzada.
+     * @return Una respuesta HTTP con estado 404 Not Found y el mensaje de la excepción.
+     */
+    @ExceptionHandler(RecursoNoEncontradoException.class)
+    public ResponseEntity<ResponseException> handleRecursoNoEncontradoException(RecursoNoEncontradoException ex) {
+        log.warn("Recurso no encontrado: " + ex.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.NOT_FOUND)
                 .body(new ResponseException(ex.getMessage()));
     }
 
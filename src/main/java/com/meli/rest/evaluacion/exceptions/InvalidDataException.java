@@ -1,5 +1,7 @@
 package com.meli.rest.evaluacion.exceptions;
 
+import java.util.List;
+
 /**
  * Excepción personalizada utilizada para indicar fallos en la validación
  * de datos de negocio.
@@ -11,15 +13,41 @@ package com.meli.rest.evaluacion.exceptions;
  * Al extender de {@code RuntimeException}, es una excepción no comprobada (unchecked),
  * lo que permite que sea manejada de forma centralizada por el {@code GlobalExceptionHandler}
  * sin necesidad de declararla en las firmas de los métodos.
+ * <p>
+ * No captura la traza de la pila: la respuesta 400 solo usa los mensajes, y llenar la traza es la
+ * mayor parte del costo de crear la excepción cuando un cliente envía muchos datos inválidos.
  */
 public class InvalidDataException extends RuntimeException {
 
+    private final List<String> errores;
+
     /**
      * Constructor que crea una nueva excepción con un mensaje detallado.
      *
      * @param message El mensaje descriptivo que indica la razón exacta de la invalidez de los datos.
      */
     public InvalidDataException(String message) {
-        super(message);
+        this(message, List.of(message));
+    }
+
+    /**
+     * Constructor que crea una nueva excepción con todas las reglas incumplidas.
+     *
+     * @param errores Los mensajes de cada regla incumplida, en el orden en que se evaluaron (al menos uno).
+     */
+    public InvalidDataException(List<String> errores) {
+        this(String.join(" ", errores), List.copyOf(errores));
+    }
+
+    private InvalidDataException(String message, List<String> errores) {
+        super(message, null, false, false);
+        this.errores = errores;
+    }
+
+    /**
+     * @return Los mensajes de cada regla incumplida; uno solo si la excepción se creó con un mensaje.
+     */
+    public List<String> getErrores() {
+        return errores;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,16 @@
+package com.meli.rest.evaluacion.exceptions;
+
+/**
+ * Excepción utilizada cuando el recurso sobre el que se opera (producto, reserva) no existe.
+ * <p>
+ * Es manejada por el {@code GlobalExceptionHandler} y se traduce en una respuesta 404 Not Found.
+ */
+public class RecursoNoEncontradoException extends RuntimeException {
+
+    /**
+     * @param message El mensaje descriptivo indicando el recurso no encontrado.
+     */
+    public RecursoNoEncontradoException(String message) {
+        super(message);
+    }
+}
@@ -1,17 +1,27 @@
 package com.meli.rest.evaluacion.exceptions;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Getter;
 import lombok.Setter;
 
-import java.util.Date;
+import java.util.List;
 
 @Getter
 @Setter
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class ResponseException {
     private String mensaje;
 
+    // Todas las reglas incumplidas, solo cuando hay más de una (el mensaje ya las une)
+    private List<String> errores;
+
     public ResponseException(String detail) {
         this.mensaje = detail;
     }
 
+    public ResponseException(String detail, List<String> errores) {
+        this.mensaje = detail;
+        this.errores = errores.size() > 1 ? errores : null;
+    }
+
 }
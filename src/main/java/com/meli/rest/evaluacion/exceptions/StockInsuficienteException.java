@@ -0,0 +1,17 @@
+package com.meli.rest.evaluacion.exceptions;
+
+/**
+ * Excepción utilizada cuando una reserva no puede realizarse porque el producto no tiene
+ * stock disponible suficiente, o cuando una reserva no está en un estado que permita la operación.
+ * <p>
+ * Es manejada por el {@code GlobalExceptionHandler} y se traduce en una respuesta 409 Conflict.
+ */
+public class StockInsuficienteException extends RuntimeException {
+
+    /**
+     * @param message El mensaje descriptivo del conflicto.
+     */
+    public StockInsuficienteException(String message) {
+        super(message);
+    }
+}
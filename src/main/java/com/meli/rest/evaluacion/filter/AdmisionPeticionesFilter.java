@@ -0,0 +1,292 @@
+package com.meli.rest.evaluacion.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.meli.rest.evaluacion.exceptions.ResponseException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * Control de admisión de la API ({@code /api/evaluacion/**}): límite de tasa por cliente y un
+ * compartimento (bulkhead) de concurrencia por tipo de operación.
+ * <p>
+ * Cada cliente, identificado por su {@code X-Api-Key} si es una de {@code evaluacion.admision.api-keys}
+ * o, si no, por su dirección, tiene una cubeta de tokens ({@link LimitadorTasa}); al agotarla recibe
+ * 429 Too Many Requests con {@code Retry-After}. Una clave desconocida no abre una cubeta propia:
+ * rotar claves inventadas no evita el límite ni llena el mapa de clientes.
+ * Las cubetas llenas se descartan en un barrido cada {@code evaluacion.admision.barrido-clientes}.
+ * Las peticiones admitidas toman un permiso del compartimento de su clase: listados (listado,
+ * exportación, búsqueda, opiniones y catálogo por vendedor), detalles (lecturas por id) y
+ * escrituras. Un listado costoso solo puede ocupar los permisos de los listados, así que no deja
+ * sin hilos ni conexiones a las lecturas por id. Con el compartimento lleno la petición se
+ * rechaza de inmediato con 503 Service Unavailable y {@code Retry-After}: nunca se encola.
+ * <p>
+ * Las respuestas asíncronas (exportación NDJSON) conservan su permiso hasta completarse. Métricas
+ * en {@code /actuator/prometheus}: {@code evaluacion.admision.rechazos} (etiquetas {@code motivo}
+ * y {@code clase}) y {@code evaluacion.admision.en.curso} por clase.
+ *
+ * @author [Mauricio Gomez Farias]
+ * @version 1.0
+ * @since 2025-12-04
+ */
+@Component
+// Después de MuestreoLogsFilter (los rechazos llevan el id de petición) y antes de descomprimir el cuerpo
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class AdmisionPeticionesFilter extends OncePerRequestFilter implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdmisionPeticionesFilter.class);
+
+    static final String PREFIJO_API = "/api/evaluacion";
+    static final String ENCABEZADO_API_KEY = "X-Api-Key";
+
+    /**
+     * Tipo de operación; cada uno tiene su propio compartimento de concurrencia.
+     */
+    enum Clase {
+        LISTADO, DETALLE, ESCRITURA
+    }
+
+    private final boolean habilitado;
+    private final LimitadorTasa limitador;
+    // Claves que identifican a un cliente; cualquier otra se ignora y cuenta la dirección
+    private final Set<String> apiKeys;
+    private final Duration barridoClientes;
+    private final Map<Clase, Semaphore> compartimentos = new EnumMap<>(Clase.class);
+    private final Map<Clase, Integer> capacidades = new EnumMap<>(Clase.class);
+    private final long reintentoSaturado;
+    private final ObjectMapper objectMapper;
+    private final Map<Clase, Counter> rechazosTasa = new EnumMap<>(Clase.class);
+    private final Map<Clase, Counter> rechazosSaturado = new EnumMap<>(Clase.class);
+    private ScheduledExecutorService programador;
+    private volatile boolean ejecutando;
+
+    public AdmisionPeticionesFilter(@Value("${evaluacion.admision.habilitado:true}") boolean habilitado,
+                                    @Value("${evaluacion.admision.tasa-por-cliente:100}") double tasaPorCliente,
+                                    @Value("${evaluacion.admision.rafaga:200}") int rafaga,
+                                    @Value("${evaluacion.admision.maximo-clientes:100000}") int maximoClientes,
+                                    @Value("${evaluacion.admision.barrido-clientes:10s}") Duration barridoClientes,
+                                    @Value("${evaluacion.admision.api-keys:}") Set<String> apiKeys,
+                                    @Value("${evaluacion.admision.concurrencia.listado:8}") int concurrenciaListado,
+                                    @Value("${evaluacion.admision.concurrencia.detalle:64}") int concurrenciaDetalle,
+                                    @Value("${evaluacion.admision.concurrencia.escritura:16}") int concurrenciaEscritura,
+                                    @Value("${evaluacion.admision.reintento-saturado:1s}") Duration reintentoSaturado,
+                                    ObjectMapper objectMapper, ObjectProvider<MeterRegistry> registry) {
+        this.habilitado = habilitado;
+        this.limitador = new LimitadorTasa(tasaPorCliente, rafaga, maximoClientes);
+        this.barridoClientes = barridoClientes;
+        this.apiKeys = apiKeys.stream().map(String::trim).filter(clave -> !clave.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+        this.reintentoSaturado = Math.max(1, reintentoSaturado.toSeconds());
+        this.objectMapper = objectMapper;
+        capacidades.put(Clase.LISTADO, concurrenciaListado);
+        capacidades.put(Clase.DETALLE, concurrenciaDetalle);
+        capacidades.put(Clase.ESCRITURA, concurrenciaEscritura);
+        capacidades.forEach((clase, capacidad) -> compartimentos.put(clase, new Semaphore(capacidad)));
+        MeterRegistry meterRegistry = registry.getIfAvailable();
+        if (meterRegistry != null) {
+            for (Clase clase : Clase.values()) {
+                String etiqueta = clase.name().toLowerCase();
+                rechazosTasa.put(clase, Counter.builder("evaluacion.admision.rechazos")
+                        .description("Peticiones rechazadas por el control de admisión")
+                        .tags("motivo", "tasa", "clase", etiqueta)
+                        .register(meterRegistry));
+                rechazosSaturado.put(clase, Counter.builder("evaluacion.admision.rechazos")
+                        .description("Peticiones rechazadas por el control de admisión")
+                        .tags("motivo", "saturado", "clase", etiqueta)
+                        .register(meterRegistry));
+                Gauge.builder("evaluacion.admision.en.curso", this, filtro -> filtro.enCurso(clase))
+                        .description("Peticiones en curso por compartimento de concurrencia")
+                        .tags("clase", etiqueta)
+                        .register(meterRegistry);
+            }
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !habilitado || !request.getRequestURI().startsWith(PREFIJO_API);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        Clase clase = clasificar(request);
+
+        // 1. Límite de tasa del cliente
+        long espera = limitador.adquirir(cliente(request));
+        if (espera > 0) {
+            contar(rechazosTasa, clase);
+            long segundos = (espera + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1);
+            rechazar(response, HttpStatus.TOO_MANY_REQUESTS, segundos, "Se superó el límite de peticiones del cliente.");
+            return;
+        }
+
+        // 2. Compartimento de la clase de operación, sin espera
+        Semaphore compartimento = compartimentos.get(clase);
+        if (!compartimento.tryAcquire()) {
+            contar(rechazosSaturado, clase);
+            logger.debug("Compartimento {} saturado ({} peticiones en curso), se rechaza {} {}", clase,
+                    capacidades.get(clase), request.getMethod(), request.getRequestURI());
+            rechazar(response, HttpStatus.SERVICE_UNAVAILABLE, reintentoSaturado,
+                    "El servicio está saturado, reintente más tarde.");
+            return;
+        }
+        Permiso permiso = new Permiso(compartimento);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            if (request.isAsyncStarted()) {
+                // La respuesta sigue escribiéndose en otro hilo: el permiso se libera al completarse
+                request.getAsyncContext().addListener(permiso);
+            } else {
+                permiso.liberar();
+            }
+        }
+    }
+
+    // --- Ciclo de vida: barrido de las cubetas del limitador ---
+
+    @Override
+    public void start() {
+        programador = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("barrido-clientes").daemon().factory());
+        programador.scheduleWithFixedDelay(this::barrerClientes, barridoClientes.toMillis(), barridoClientes.toMillis(),
+                TimeUnit.MILLISECONDS);
+        ejecutando = true;
+    }
+
+    @Override
+    public void stop() {
+        ejecutando = false;
+        programador.shutdownNow();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return ejecutando;
+    }
+
+    private void barrerClientes() {
+        int descartadas = limitador.barrer();
+        logger.debug("Barrido del limitador de tasa: {} cubetas descartadas, {} vigentes", descartadas, limitador.clientes());
+    }
+
+    /**
+     * @return Peticiones en curso en el compartimento de la clase.
+     */
+    int enCurso(Clase clase) {
+        return capacidades.get(clase) - compartimentos.get(clase).availablePermits();
+    }
+
+    /**
+     * Clasifica la petición por su costo: las escrituras por método, y entre las lecturas, las que
+     * recorren varios productos (o los exportan) como listados.
+     */
+    static Clase clasificar(HttpServletRequest request) {
+        String metodo = request.getMethod();
+        if (!"GET".equals(metodo) && !"HEAD".equals(metodo)) {
+            return Clase.ESCRITURA;
+        }
+        String ruta = request.getRequestURI();
+        if (ruta.endsWith("/")) {
+            ruta = ruta.substring(0, ruta.length() - 1);
+        }
+        if (ruta.equals(PREFIJO_API) || ruta.equals(PREFIJO_API + "/export") || ruta.equals(PREFIJO_API + "/buscar")
+                || ruta.endsWith("/opiniones") || ruta.endsWith("/productos")) {
+            return Clase.LISTADO;
+        }
+        return Clase.DETALLE;
+    }
+
+    private String cliente(HttpServletRequest request) {
+        String apiKey = request.getHeader(ENCABEZADO_API_KEY);
+        return apiKey != null && apiKeys.contains(apiKey) ? "k:" + apiKey : "ip:" + request.getRemoteAddr();
+    }
+
+    private static void contar(Map<Clase, Counter> contadores, Clase clase) {
+        Counter contador = contadores.get(clase);
+        if (contador != null) {
+            contador.increment();
+        }
+    }
+
+    private void rechazar(HttpServletResponse response, HttpStatus estado, long segundos, String mensaje)
+            throws IOException {
+        response.setStatus(estado.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(segundos));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getOutputStream(), new ResponseException(mensaje));
+    }
+
+    /**
+     * Permiso tomado de un compartimento; se libera una sola vez, al terminar la petición síncrona
+     * o al completarse (o fallar) la asíncrona.
+     */
+    private static final class Permiso implements AsyncListener {
+
+        private final Semaphore compartimento;
+        private final AtomicBoolean liberado = new AtomicBoolean();
+
+        private Permiso(Semaphore compartimento) {
+            this.compartimento = compartimento;
+        }
+
+        private void liberar() {
+            if (liberado.compareAndSet(false, true)) {
+                compartimento.release();
+            }
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            liberar();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            liberar();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            liberar();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // Un nuevo ciclo asíncrono reemplaza la lista de listeners: se vuelve a registrar
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package com.meli.rest.evaluacion.filter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Descomprime los cuerpos de petición enviados con {@code Content-Encoding: gzip}, en cualquiera
+ * de los formatos aceptados (JSON, Smile o CBOR).
+ * <p>
+ * La descompresión es en streaming: el convertidor de Spring MVC lee el cuerpo descomprimido a
+ * medida que lo deserializa, sin materializar el cuerpo completo. Para acotar el efecto de un
+ * cuerpo malicioso que se expande mucho al descomprimirse, la lectura falla al superar
+ * {@code evaluacion.compresion.maximo-descomprimido} (la petición termina en 400).
+ * Otras codificaciones se rechazan con 415 Unsupported Media Type. La lectura no bloqueante
+ * ({@code setReadListener}) también está soportada.
+ *
+ * @author [Mauricio Gomez Farias]
+ * @version 1.0
+ * @since 2025-12-04
+ */
+@Component
+public class DescompresionPeticionFilter extends OncePerRequestFilter {
+
+    @Value("${evaluacion.compresion.maximo-descomprimido:64MB}")
+    private DataSize maximoDescomprimido;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String codificacion = request.getHeader(HttpHeaders.CONTENT_ENCODING);
+        if (codificacion == null || codificacion.isBlank() || "identity".equalsIgnoreCase(codificacion.trim())) {
+            chain.doFilter(request, response);
+            return;
+        }
+        if (!"gzip".equalsIgnoreCase(codificacion.trim()) && !"x-gzip".equalsIgnoreCase(codificacion.trim())) {
+            response.sendError(HttpServletResponse.SC_UNSUPPORTED_MEDIA_TYPE,
+                    "Content-Encoding no soportado: " + codificacion);
+            return;
+        }
+        chain.doFilter(new PeticionDescomprimida(request, maximoDescomprimido.toBytes()), response);
+    }
+
+    /**
+     * Petición cuyo cuerpo es el contenido descomprimido; oculta {@code Content-Encoding} y el
+     * {@code Content-Length} comprimido.
+     */
+    private static final class PeticionDescomprimida extends HttpServletRequestWrapper {
+
+        private final long maximo;
+        private ServletInputStream cuerpo;
+
+        PeticionDescomprimida(HttpServletRequest request, long maximo) {
+            super(request);
+            this.maximo = maximo;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() throws IOException {
+            if (cuerpo == null) {
+                cuerpo = new CuerpoDescomprimido(super.getInputStream(), maximo);
+            }
+            return cuerpo;
+        }
+
+        @Override
+        public BufferedReader getReader() throws IOException {
+            String charset = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(getInputStream(),
+                    charset == null ? StandardCharsets.UTF_8 : Charset.forName(charset)));
+        }
+
+        @Override
+        public int getContentLength() {
+            return -1;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return -1;
+        }
+
+        @Override
+        public String getHeader(String nombre) {
+            return esOculto(nombre) ? null : super.getHeader(nombre);
+        }
+
+        @Override
+        public Enumeration<String> getHeaders(String nombre) {
+            return esOculto(nombre) ? Collections.emptyEnumeration() : super.getHeaders(nombre);
+        }
+
+        @Override
+        public Enumeration<String> getHeaderNames() {
+            return Collections.enumeration(Collections.list(super.getHeaderNames()).stream()
+                    .filter(nombre -> !esOculto(nombre))
+                    .toList());
+        }
+
+        private static boolean esOculto(String nombre) {
+            return HttpHeaders.CONTENT_ENCODING.equalsIgnoreCase(nombre) || HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(nombre);
+        }
+    }
+
+    /**
+     * Stream descomprimido que falla al superar el máximo de bytes permitido.
+     * <p>
+     * En lectura bloqueante infla el cuerpo a medida que se lee. En lectura no bloqueante
+     * ({@link #setReadListener}) acumula el cuerpo comprimido a medida que el contenedor lo tiene
+     * disponible, sin bloquear, y al recibirlo completo lo entrega inflado al listener
+     * ({@code onDataAvailable} y luego {@code onAllDataRead}).
+     */
+    private static final class CuerpoDescomprimido extends ServletInputStream {
+
+        private final ServletInputStream entrada;
+        private final long maximo;
+        private InputStream origen;
+        private long leidos;
+        private boolean terminado;
+        private boolean noBloqueante;
+
+        CuerpoDescomprimido(ServletInputStream entrada, long maximo) {
+            this.entrada = entrada;
+            this.maximo = maximo;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int valor = origen().read();
+            contar(valor < 0 ? -1 : 1);
+            return valor;
+        }
+
+        @Override
+        public int read(byte[] destino, int desde, int largo) throws IOException {
+            int cantidad = origen().read(destino, desde, largo);
+            contar(cantidad);
+            return cantidad;
+        }
+
+        private InputStream origen() throws IOException {
+            if (origen == null) {
+                if (noBloqueante) {
+                    throw new IllegalStateException("El cuerpo comprimido aún no se recibe completo (isReady() es false)");
+                }
+                // GZIPInputStream lee la cabecera al crearse, por eso se crea en la primera lectura
+                origen = new GZIPInputStream(entrada);
+            }
+            return origen;
+        }
+
+        private void contar(int cantidad) throws IOException {
+            if (cantidad < 0) {
+                terminado = true;
+                return;
+            }
+            leidos += cantidad;
+            if (leidos > maximo) {
+                throw new IOException("El cuerpo descomprimido supera el máximo permitido de " + maximo + " bytes");
+            }
+        }
+
+        @Override
+        public boolean isFinished() {
+            return terminado;
+        }
+
+        @Override
+        public boolean isReady() {
+            return !noBloqueante || origen != null;
+        }
+
+        @Override
+        public void setReadListener(ReadListener listener) {
+            if (listener == null) {
+                throw new NullPointerException("listener");
+            }
+            if (noBloqueante || origen != null) {
+                throw new IllegalStateException("El cuerpo ya se está leyendo");
+            }
+            noBloqueante = true;
+            ByteArrayOutputStream comprimido = new ByteArrayOutputStream();
+            entrada.setReadListener(new ReadListener() {
+                @Override
+                public void onDataAvailable() throws IOException {
+                    byte[] bloque = new byte[8192];
+                    while (entrada.isReady()) {
+                        int cantidad = entrada.read(bloque);
+                        if (cantidad < 0) {
+                            return;
+                        }
+                        comprimido.write(bloque, 0, cantidad);
+                        if (comprimido.size() > maximo) {
+                            throw new IOException("El cuerpo comprimido supera el máximo permitido de " + maximo + " bytes");
+                        }
+                    }
+                }
+
+                @Override
+                public void onAllDataRead() throws IOException {
+                    origen = new GZIPInputStream(new ByteArrayInputStream(comprimido.toByteArray()));
+                    listener.onDataAvailable();
+                    if (terminado) {
+                        listener.onAllDataRead();
+                    }
+                }
+
+                @Override
+                public void onError(Throwable error) {
+                    listener.onError(error);
+                }
+            });
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (origen != null) {
+                origen.close();
+            } else {
+                entrada.close();
+            }
+        }
+    }
+}
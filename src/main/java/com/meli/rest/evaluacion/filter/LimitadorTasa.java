@@ -0,0 +1,128 @@
+package com.meli.rest.evaluacion.filter;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Límite de tasa por cliente con cubetas de tokens sin bloqueos (algoritmo GCRA).
+ * <p>
+ * Cada cliente tiene un solo {@link AtomicLong}: el instante teórico de llegada (TAT) de su próxima
+ * petición, en nanosegundos. Admitir una petición avanza el TAT un intervalo de emisión
+ * ({@code 1 / tasa}) con un {@code compareAndSet}; se rechaza si el TAT quedaría más de
+ * {@code rafaga} intervalos por delante del reloj. Equivale a una cubeta de {@code rafaga} tokens
+ * que se repone a {@code tasa} tokens por segundo, sin hilo de reposición ni locks, y la espera
+ * hasta el próximo token sale directamente de la diferencia.
+ * <p>
+ * Un cliente cuyo TAT ya pasó tiene la cubeta llena, igual que uno sin entrada: {@link #barrer()},
+ * llamado periódicamente fuera de las peticiones, descarta esas entradas. Nunca hay más de
+ * {@code maximoClientes} cubetas: con el máximo alcanzado, los clientes nuevos comparten una sola
+ * cubeta (con la misma tasa y ráfaga) hasta el próximo barrido, sin recorrer el mapa en la petición.
+ *
+ * @author [Mauricio Gomez Farias]
+ * @version 1.0
+ * @since 2025-12-04
+ */
+public class LimitadorTasa {
+
+    private final ConcurrentHashMap<String, AtomicLong> cubetas = new ConcurrentHashMap<>();
+    // Cubetas creadas o reservadas; se reserva antes de insertar para no superar maximoClientes
+    private final AtomicInteger ocupadas = new AtomicInteger();
+    // Cubeta de los clientes nuevos mientras el mapa está lleno
+    private final AtomicLong compartida;
+    private final long intervaloEmision;
+    private final long tolerancia;
+    private final int maximoClientes;
+    private final LongSupplier reloj;
+
+    /**
+     * @param tasaPorSegundo Peticiones por segundo sostenidas por cliente (mayor que cero).
+     * @param rafaga         Peticiones que un cliente inactivo puede enviar de una vez (al menos 1).
+     * @param maximoClientes Cantidad máxima de cubetas; los clientes que no caben comparten una.
+     */
+    public LimitadorTasa(double tasaPorSegundo, int rafaga, int maximoClientes) {
+        this(tasaPorSegundo, rafaga, maximoClientes, System::nanoTime);
+    }
+
+    LimitadorTasa(double tasaPorSegundo, int rafaga, int maximoClientes, LongSupplier reloj) {
+        if (tasaPorSegundo <= 0 || rafaga < 1) {
+            throw new IllegalArgumentException("La tasa debe ser mayor que cero y la ráfaga al menos 1.");
+        }
+        this.intervaloEmision = Math.max(1, Math.round(1_000_000_000L / tasaPorSegundo));
+        this.tolerancia = intervaloEmision * rafaga;
+        this.maximoClientes = maximoClientes;
+        this.reloj = reloj;
+        this.compartida = new AtomicLong(reloj.getAsLong());
+    }
+
+    /**
+     * Consume un token del cliente si hay disponible.
+     *
+     * @param cliente Clave del cliente (API key o dirección).
+     * @return {@code 0} si la petición se admite; si no, los nanosegundos hasta que haya un token.
+     */
+    public long adquirir(String cliente) {
+        long ahora = reloj.getAsLong();
+        AtomicLong cubeta = cubetas.get(cliente);
+        if (cubeta == null) {
+            cubeta = registrar(cliente, ahora);
+        }
+        while (true) {
+            long tat = cubeta.get();
+            long nuevoTat = Math.max(tat, ahora) + intervaloEmision;
+            long exceso = nuevoTat - ahora - tolerancia;
+            if (exceso > 0) {
+                return exceso;
+            }
+            if (cubeta.compareAndSet(tat, nuevoTat)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * @return Cantidad de clientes con cubeta en memoria.
+     */
+    public int clientes() {
+        return cubetas.size();
+    }
+
+    /**
+     * Quita las cubetas llenas (TAT en el pasado): volver a crearlas da el mismo resultado. Recorre
+     * todas las cubetas, por lo que se llama periódicamente y no desde {@link #adquirir(String)}.
+     *
+     * @return Cantidad de cubetas descartadas.
+     */
+    public int barrer() {
+        long ahora = reloj.getAsLong();
+        int descartadas = 0;
+        for (Map.Entry<String, AtomicLong> entrada : cubetas.entrySet()) {
+            if (entrada.getValue().get() - ahora <= 0 && cubetas.remove(entrada.getKey(), entrada.getValue())) {
+                ocupadas.decrementAndGet();
+                descartadas++;
+            }
+        }
+        return descartadas;
+    }
+
+    /**
+     * Crea la cubeta del cliente si hay lugar; si no, retorna la cubeta compartida.
+     */
+    private AtomicLong registrar(String cliente, long ahora) {
+        if (ocupadas.incrementAndGet() > maximoClientes) {
+            ocupadas.decrementAndGet();
+            AtomicLong existente = cubetas.get(cliente);
+            return existente != null ? existente : compartida;
+        }
+        AtomicLong nueva = new AtomicLong(ahora);
+        AtomicLong existente = cubetas.putIfAbsent(cliente, nueva);
+        if (existente != null) {
+            // Otro hilo la creó primero: se libera la reserva
+            ocupadas.decrementAndGet();
+            return existente;
+        }
+        return nueva;
+    }
+}
@@ -0,0 +1,64 @@
+package com.meli.rest.evaluacion.filter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Decide al inicio de cada petición si sus logs de detalle se escriben (muestreo por petición).
+ * <p>
+ * Con {@code evaluacion.logs.muestreo} menor que 1 solo esa fracción de las peticiones escribe sus
+ * logs INFO/DEBUG de la aplicación; el resto los descarta en {@link MuestreoLogsTurboFilter} antes
+ * de formatear el mensaje. WARN y ERROR se escriben siempre. Como la decisión es por petición, los
+ * logs de una petición muestreada quedan completos y se pueden seguir con el identificador que se
+ * deja en el MDC ({@code peticion}), tomado de {@code X-Request-Id} si el cliente lo envía.
+ *
+ * @author [Mauricio Gomez Farias]
+ * @version 1.0
+ * @since 2025-12-04
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class MuestreoLogsFilter extends OncePerRequestFilter {
+
+    /** Clave MDC con el identificador de la petición. */
+    public static final String CLAVE_PETICION = "peticion";
+
+    /** Clave MDC presente solo en las peticiones cuyos logs de detalle se descartan. */
+    public static final String CLAVE_DESCARTADA = "logsDescartados";
+
+    private static final String ENCABEZADO_ID = "X-Request-Id";
+
+    private final AtomicLong contador = new AtomicLong();
+
+    // Fracción de peticiones que escriben sus logs INFO/DEBUG (1 = todas)
+    @Value("${evaluacion.logs.muestreo:1.0}")
+    private double muestreo;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String id = request.getHeader(ENCABEZADO_ID);
+        MDC.put(CLAVE_PETICION, id != null && !id.isBlank() ? id : Long.toHexString(contador.incrementAndGet()));
+        if (muestreo < 1.0 && ThreadLocalRandom.current().nextDouble() >= muestreo) {
+            MDC.put(CLAVE_DESCARTADA, "1");
+        }
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            MDC.remove(CLAVE_PETICION);
+            MDC.remove(CLAVE_DESCARTADA);
+        }
+    }
+}
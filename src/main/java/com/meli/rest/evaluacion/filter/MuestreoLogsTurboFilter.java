@@ -0,0 +1,38 @@
+package com.meli.rest.evaluacion.filter;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.MDC;
+import org.slf4j.Marker;
+
+/**
+ * Filtro de Logback que descarta los logs INFO/DEBUG de la aplicación en las peticiones no
+ * muestreadas por {@link MuestreoLogsFilter}. Se declara en {@code logback-spring.xml}.
+ * <p>
+ * Un turbo filter se evalúa antes de crear el evento, por lo que un log descartado no formatea
+ * su mensaje ni evalúa sus argumentos ({@code toString}), y {@code isDebugEnabled()} retorna
+ * {@code false}. Fuera de una petición HTTP no descarta nada.
+ *
+ * @author [Mauricio Gomez Farias]
+ * @version 1.0
+ * @since 2025-12-04
+ */
+public class MuestreoLogsTurboFilter extends TurboFilter {
+
+    // Prefijo de los loggers afectados; los de frameworks no se muestrean
+    private String prefijo = "com.meli.rest.evaluacion";
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (level == null || level.isGreaterOrEqual(Level.WARN) || !logger.getName().startsWith(prefijo)) {
+            return FilterReply.NEUTRAL;
+        }
+        return MDC.get(MuestreoLogsFilter.CLAVE_DESCARTADA) != null ? FilterReply.DENY : FilterReply.NEUTRAL;
+    }
+
+    public void setPrefijo(String prefijo) {
+        this.prefijo = prefijo;
+    }
+}
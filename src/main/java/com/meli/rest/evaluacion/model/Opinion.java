@@ -0,0 +1,54 @@
+package com.meli.rest.evaluacion.model;
+
+import com.meli.rest.evaluacion.util.Utils;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Representa una opinión (reseña) de un {@link Producto}.
+ * <p>
+ * Cada opinión se guarda una sola vez y no se modifica. Los agregados del producto
+ * ({@code ratingPromedio}, {@code totalOpiniones} y el histograma por estrellas) se actualizan en
+ * la misma transacción que la inserta, por lo que leer un producto nunca recorre sus opiniones.
+ *
+ * @author [Mauricio Gomez Farias]
+ * @version 1.0
+ * @since 2025-12-04
+ * @see com.meli.rest.evaluacion.repository.OpinionRepository
+ */
+@Entity
+@Table(name = "opiniones", indexes = {
+        // Listado de opiniones de un producto por clave (keyset): WHERE producto_id = ? AND id < ? ORDER BY id DESC
+        @Index(name = "idx_opiniones_producto_id_id", columnList = "productoId, id")
+})
+@Getter
+@Setter
+public class Opinion {
+
+    /** Puntaje mínimo y máximo de una opinión (estrellas). */
+    public static final int PUNTAJE_MINIMO = 1;
+    public static final int PUNTAJE_MAXIMO = 5;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "opiniones_seq")
+    @SequenceGenerator(name = "opiniones_seq", sequenceName = "opiniones_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long productoId;
+
+    @Column(nullable = false)
+    private Integer puntaje;
+
+    @Column(length = 100)
+    private String autor;
+
+    @Column(length = 2000)
+    private String comentario;
+
+    @Column(nullable = false)
+    private LocalDateTime fechaCreacion = Utils.fechaActual();
+}
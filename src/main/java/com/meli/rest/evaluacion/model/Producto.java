@@ -1,9 +1,17 @@
 package com.meli.rest.evaluacion.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.meli.rest.evaluacion.util.Utils;
 import jakarta.persistence.*;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -22,27 +30,66 @@ import java.util.List;
  * @see com.meli.rest.evaluacion.repository.ProductoRepository
  */
 @Entity
-@Table(name = "productos")
+@Table(name = "productos", indexes = {
+        // Soporta la paginación por clave (keyset) del listado: ORDER BY fecha_publicacion DESC, id DESC
+        @Index(name = "idx_productos_fecha_publicacion_id", columnList = "fechaPublicacion, id"),
+        // Listado filtrado (ver ProductoEspecificaciones): orden por precio o por ventas, con o sin rango de precio
+        @Index(name = "idx_productos_precio_id", columnList = "precio, id"),
+        @Index(name = "idx_productos_cantidad_vendida_id", columnList = "cantidadVendida, id"),
+        // Filtros de igualdad seguidos de la columna de orden/rango más usada con ellos
+        @Index(name = "idx_productos_moneda_precio_id", columnList = "moneda, precio, id"),
+        @Index(name = "idx_productos_vendedor_fecha_id", columnList = "idVendedor, fechaPublicacion, id"),
+        @Index(name = "idx_productos_envio_gratis_fecha_id", columnList = "envioGratis, fechaPublicacion, id"),
+        @Index(name = "idx_productos_rating_id", columnList = "ratingPromedio, id")
+})
+// Cache de segundo nivel: las lecturas por id repetidas no van a la base de datos (ver ehcache.xml)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Producto.REGION_CACHE)
 @Data // lombok
 @Getter
 @Setter
+// Resumen para logs: sin la descripción (LOB) ni las colecciones, que además podrían no estar inicializadas
+@ToString(onlyExplicitlyIncluded = true)
 public class Producto {
 
+    /**
+     * Cantidad de colecciones que Hibernate inicializa por consulta. Debe ser mayor que el
+     * tamaño máximo de página + 1 para que una página completa se resuelva en una sola consulta.
+     */
+    public static final int TAMANIO_LOTE_COLECCIONES = 128;
+
+    /** Regiones de la cache de segundo nivel, configuradas en {@code ehcache.xml}. */
+    public static final String REGION_CACHE = "productos";
+    public static final String REGION_CACHE_ESPECIFICACIONES = "productos.especificaciones";
+    public static final String REGION_CACHE_IMAGENES = "productos.urlsImagenes";
+
+    /**
+     * Tamaño del bloque de ids que Hibernate reserva por cada llamada a la secuencia (optimizador pooled).
+     * Con IDENTITY Hibernate no puede agrupar INSERTs en batch JDBC; con una secuencia sí.
+     */
+    public static final int TAMANIO_BLOQUE_IDS = 50;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @ToString.Include
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "productos_seq")
+    @SequenceGenerator(name = "productos_seq", sequenceName = "productos_seq", allocationSize = TAMANIO_BLOQUE_IDS)
     private Long id;
 
     // --- Información Básica del Artículo ---
     @Column(nullable = false, length = 255)
+    @ToString.Include
     private String titulo;
 
     @Column(nullable = false)
+    @ToString.Include
     private BigDecimal precio;
 
     @Column(nullable = false, length = 3)
+    @ToString.Include
     private String moneda = "CLP"; // Moneda por defecto
 
     @Column(nullable = false)
+    @ToString.Include
     private Integer stockDisponible;
 
     // --- Descripción y Características ---
@@ -50,25 +97,54 @@ public class Producto {
     @Column(nullable = false)
     private String descripcion;
 
+    // @BatchSize: las colecciones de una página completa se cargan en una sola consulta (evita N+1)
     @ElementCollection // Para listas simples como especificaciones técnicas
     @CollectionTable(name = "producto_especificaciones", joinColumns = @JoinColumn(name = "producto_id"))
+    @BatchSize(size = TAMANIO_LOTE_COLECCIONES)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = REGION_CACHE_ESPECIFICACIONES)
     @Column(name = "especificacion")
     private List<String> especificaciones;
 
     // --- Imágenes ---
     @ElementCollection // Para guardar una lista de URLs de imágenes
     @CollectionTable(name = "producto_imagenes", joinColumns = @JoinColumn(name = "producto_id"))
+    @BatchSize(size = TAMANIO_LOTE_COLECCIONES)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = REGION_CACHE_IMAGENES)
     @Column(name = "url_imagen")
     private List<String> urlsImagenes;
 
     // --- Información del Vendedor ---
-    // En un caso real, esto sería una relación @ManyToOne con una Entity Vendedor
-    // Para simplificar, usamos solo campos de referencia:
+    // Clave foránea a vendedores, indexada por idx_productos_vendedor_fecha_id. El nombre y la
+    // reputación no se copian en cada producto: los servicios los completan por página o lote desde
+    // CacheVendedores. Los servicios registran el vendedor antes de guardar sus productos
     private Long idVendedor;
+
+    // Asociación de solo lectura (consultas por vendedor). Sin restricción en el DDL: H2 crea un
+    // índice propio de una columna para cada FOREIGN KEY y lo prefiere al compuesto, con lo que el
+    // catálogo por vendedor dejaría de leer en el orden del índice y ordenaría todos sus productos
+    @ManyToOne(fetch = FetchType.LAZY)
+    // Mismo nombre lógico que idVendedor: ambos se mapean a la columna id_vendedor
+    @JoinColumn(name = "idVendedor", insertable = false, updatable = false,
+            foreignKey = @ForeignKey(value = ConstraintMode.NO_CONSTRAINT))
+    @JsonIgnore
+    @EqualsAndHashCode.Exclude
+    private Vendedor vendedor;
+
+    // Al crear un producto con un vendedor aún no registrado, se registra con estos datos
+    @Transient
     private String nombreVendedor;
+
+    @Transient
     private Float reputacionVendedor; // Ejemplo: 4.5
 
+    @Transient
+    @JsonIgnore
+    @EqualsAndHashCode.Exclude
+    private LocalDateTime fechaActualizacionVendedor;
+
     // --- Métricas y Tiempos ---
+    // No nulo: es clave de orden del listado (la paginación por clave no admite nulos)
+    @Column(nullable = false)
     private Integer cantidadVendida = 0;
 
     @Column(nullable = false)
@@ -79,12 +155,74 @@ public class Producto {
     private String metodoEnvioPrincipal; // Ej: "Mercado Envíos"
     // Podrías agregar una relación con una entidad 'Ubicacion' si es necesario
 
-    // --- Opiniones (Simulación) ---
+    // --- Opiniones ---
+    // Agregados de las opiniones, mantenidos de forma incremental por OpinionServiceImpl con un UPDATE
+    // atómico por opinión. updatable = false: actualizar el producto no los pisa. El promedio y el
+    // total se aceptan al crear el producto (catálogos migrados con sus opiniones ya agregadas)
+    @Column(updatable = false)
     private Float ratingPromedio = 0.0f; // 4.8
+
+    @Column(updatable = false)
     private Integer totalOpiniones = 0; // 542
 
+    // Suma de los puntajes: el promedio se recalcula exacto, sin acumular error de redondeo.
+    // Nula en productos cargados con ratingPromedio/totalOpiniones iniciales (se deriva de ellos)
+    @JsonIgnore
+    @Column(updatable = false)
+    private Long sumaPuntajes;
+
+    // Histograma: cantidad de opiniones de 1 a 5 estrellas registradas por la API
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @Column(updatable = false)
+    private Integer opiniones1 = 0;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @Column(updatable = false)
+    private Integer opiniones2 = 0;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @Column(updatable = false)
+    private Integer opiniones3 = 0;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @Column(updatable = false)
+    private Integer opiniones4 = 0;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @Column(updatable = false)
+    private Integer opiniones5 = 0;
+
     // --- Campos de Auditoría (Opcional pero Recomendado) ---
+    // Se mantiene en cada escritura; es la base del ETag / Last-Modified de las lecturas
     private LocalDateTime fechaActualizacion;
 
+    /**
+     * Fecha de la última escritura del producto o de su vendedor (lo más reciente): base de los
+     * validadores HTTP, porque la representación del producto incluye los datos del vendedor.
+     *
+     * @return La fecha de la versión vigente, o {@code null} si el producto no tiene fecha de actualización.
+     */
+    public LocalDateTime fechaVersion() {
+        if (fechaActualizacion == null || fechaActualizacionVendedor == null
+                || fechaActualizacionVendedor.isBefore(fechaActualizacion)) {
+            return fechaActualizacion;
+        }
+        return fechaActualizacionVendedor;
+    }
+
+    /**
+     * Registra la fecha de la última escritura en cada INSERT y UPDATE, y completa
+     * {@code cantidadVendida} si el cliente la envió nula.
+     * Los UPDATE masivos (JPQL/JDBC) no pasan por este callback y deben asignarla explícitamente.
+     */
+    @PrePersist
+    @PreUpdate
+    void registrarFechaActualizacion() {
+        this.fechaActualizacion = Utils.fechaActual();
+        if (this.cantidadVendida == null) {
+            this.cantidadVendida = 0;
+        }
+    }
+
     // NOTA: Con Lombok, no necesitas escribir los constructores, getters y setters.
 }
\ No newline at end of file
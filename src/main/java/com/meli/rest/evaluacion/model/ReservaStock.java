@@ -0,0 +1,66 @@
+package com.meli.rest.evaluacion.model;
+
+import com.meli.rest.evaluacion.util.Utils;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Representa una reserva de stock sobre un {@link Producto}.
+ * <p>
+ * Al crear la reserva el stock ya fue descontado de {@code stockDisponible}. La reserva se
+ * confirma (la venta se suma a {@code cantidadVendida}) o se libera (el stock se repone).
+ * Cada transición se aplica una sola vez con un UPDATE condicional sobre {@code estado}.
+ *
+ * @author [Mauricio Gomez Farias]
+ * @version 1.0
+ * @since 2025-12-04
+ * @see com.meli.rest.evaluacion.repository.ReservaStockRepository
+ */
+@Entity
+@Table(name = "reservas_stock", indexes = {
+        @Index(name = "idx_reservas_stock_producto_id", columnList = "productoId")
+})
+@Getter
+@Setter
+public class ReservaStock {
+
+    /**
+     * Estados posibles de una reserva. Solo una reserva PENDIENTE puede confirmarse o liberarse.
+     */
+    public enum Estado {
+        PENDIENTE,
+        CONFIRMADA,
+        LIBERADA
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reservas_stock_seq")
+    @SequenceGenerator(name = "reservas_stock_seq", sequenceName = "reservas_stock_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long productoId;
+
+    @Column(nullable = false)
+    private Integer cantidad;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Estado estado = Estado.PENDIENTE;
+
+    @Column(nullable = false)
+    private LocalDateTime fechaCreacion = Utils.fechaActual();
+
+    private LocalDateTime fechaActualizacion;
+
+    public ReservaStock() {
+    }
+
+    public ReservaStock(Long productoId, Integer cantidad) {
+        this.productoId = productoId;
+        this.cantidad = cantidad;
+    }
+}
@@ -0,0 +1,48 @@
+package com.meli.rest.evaluacion.model;
+
+import com.meli.rest.evaluacion.util.Utils;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Representa un vendedor del catálogo.
+ * <p>
+ * Los productos lo referencian con {@code idVendedor} (clave foránea indexada); su nombre y
+ * reputación se guardan una sola vez aquí y se resuelven en cada lectura de productos a través de
+ * {@code CacheVendedores}. Cambiar la reputación de un vendedor escribe solo esta fila.
+ *
+ * @author [Mauricio Gomez Farias]
+ * @version 1.0
+ * @since 2025-12-04
+ * @see com.meli.rest.evaluacion.repository.VendedorRepository
+ */
+@Entity
+@Table(name = "vendedores")
+@Getter
+@Setter
+public class Vendedor {
+
+    /** Reputación máxima de un vendedor (la mínima es 0). */
+    public static final float REPUTACION_MAXIMA = 5.0f;
+
+    // Asignado por la plataforma de vendedores: es el mismo idVendedor que traen los productos
+    @Id
+    private Long id;
+
+    @Column(length = 255)
+    private String nombre;
+
+    private Float reputacion; // Ejemplo: 4.5
+
+    // Se mantiene en cada escritura; participa en el ETag de los productos del vendedor
+    private LocalDateTime fechaActualizacion;
+
+    @PrePersist
+    @PreUpdate
+    void registrarFechaActualizacion() {
+        this.fechaActualizacion = Utils.fechaActual();
+    }
+}
@@ -0,0 +1,114 @@
+package com.meli.rest.evaluacion.repository;
+
+import com.meli.rest.evaluacion.model.Producto;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Protege la cache de segundo nivel de {@link Producto} durante los UPDATE JDBC que no pasan por
+ * Hibernate, con el mismo protocolo de bloqueos blandos que usa Hibernate en sus propias escrituras.
+ * <p>
+ * Invalidar la entrada después del commit no basta: una lectura concurrente que leyó la fila anterior
+ * puede guardarla en la cache ({@code putFromLoad}) justo después de la invalidación, y la fila
+ * obsoleta se sirve hasta el TTL de la región. Aquí la entrada de cada producto se bloquea
+ * ({@link EntityDataAccess#lockItem}) antes del UPDATE y se libera ({@link EntityDataAccess#unlockItem})
+ * al terminar la transacción: mientras está bloqueada las lecturas van a la base de datos y no
+ * pueden cachear lo leído, y al liberarla la región rechaza las cargas de transacciones que
+ * empezaron antes. El bloqueo expira solo pasado el timeout de la región si la liberación no llega.
+ *
+ * @author [Mauricio Gomez Farias]
+ * @version 1.0
+ * @since 2025-12-04
+ */
+@Component
+public class BloqueoCacheProductos {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final SessionFactoryImplementor sessionFactory;
+    private final EntityPersister persister;
+
+    public BloqueoCacheProductos(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        this.persister = sessionFactory.getMappingMetamodel().getEntityDescriptor(Producto.class);
+    }
+
+    /**
+     * Ejecuta una escritura sobre las filas de los productos con sus entradas de la cache bloqueadas.
+     * Dentro de una transacción las entradas se liberan al terminarla (commit o rollback); sin
+     * transacción, al terminar la escritura.
+     *
+     * @param ids Productos que modifica la escritura.
+     * @param escritura UPDATE JDBC a ejecutar.
+     * @return El resultado de la escritura.
+     */
+    public <T> T ejecutar(Collection<Long> ids, Supplier<T> escritura) {
+        EntityDataAccess acceso = persister.getCacheAccessStrategy();
+        if (acceso == null || ids.isEmpty()) {
+            return escritura.get();
+        }
+        EntityManager transaccional = EntityManagerFactoryUtils.getTransactionalEntityManager(entityManagerFactory);
+        SharedSessionContractImplementor sesion = transaccional != null
+                ? transaccional.unwrap(SharedSessionContractImplementor.class)
+                : (SharedSessionContractImplementor) sessionFactory.openSession();
+        List<Bloqueo> bloqueos = bloquear(acceso, sesion, ids);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // Registrado antes de escribir: un rollback por error en el UPDATE también libera
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int estado) {
+                    liberar(acceso, sesion, bloqueos, transaccional == null);
+                }
+            });
+            return escritura.get();
+        }
+        try {
+            return escritura.get();
+        } finally {
+            liberar(acceso, sesion, bloqueos, transaccional == null);
+        }
+    }
+
+    private List<Bloqueo> bloquear(EntityDataAccess acceso, SharedSessionContractImplementor sesion, Collection<Long> ids) {
+        List<Bloqueo> bloqueos = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            Object clave = acceso.generateCacheKey(id, persister, sessionFactory, sesion.getTenantIdentifier());
+            bloqueos.add(new Bloqueo(clave, acceso.lockItem(sesion, clave, null)));
+        }
+        return bloqueos;
+    }
+
+    private static void liberar(EntityDataAccess acceso, SharedSessionContractImplementor sesion,
+                                List<Bloqueo> bloqueos, boolean cerrarSesion) {
+        try {
+            for (Bloqueo bloqueo : bloqueos) {
+                acceso.unlockItem(sesion, bloqueo.clave(), bloqueo.lock());
+            }
+        } finally {
+            if (cerrarSesion) {
+                sesion.close();
+            }
+        }
+    }
+
+    /**
+     * Entrada bloqueada de la cache y el bloqueo con que se libera.
+     */
+    private record Bloqueo(Object clave, SoftLock lock) {
+    }
+}
@@ -0,0 +1,35 @@
+package com.meli.rest.evaluacion.repository;
+
+import com.meli.rest.evaluacion.model.Opinion;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Interfaz de repositorio para la entidad {@link Opinion}.
+ *
+ * @author [Mauricio Gomez Farias]
+ * @version 1.0
+ * @since 2025-12-04
+ */
+@Repository
+public interface OpinionRepository extends JpaRepository<Opinion, Long> {
+
+    /**
+     * Primera página de opiniones de un producto, de la más reciente a la más antigua.
+     * Recorre el índice (productoId, id) sin ordenar ni saltar filas.
+     */
+    @Query("select o from Opinion o where o.productoId = :productoId order by o.id desc")
+    List<Opinion> buscarPrimeraPagina(@Param("productoId") Long productoId, Pageable pageable);
+
+    /**
+     * Página siguiente (keyset): opiniones anteriores a la última entregada.
+     */
+    @Query("select o from Opinion o where o.productoId = :productoId and o.id < :ultimoId order by o.id desc")
+    List<Opinion> buscarPaginaSiguiente(@Param("productoId") Long productoId, @Param("ultimoId") Long ultimoId,
+                                        Pageable pageable);
+}
@@ -0,0 +1,107 @@
+package com.meli.rest.evaluacion.repository;
+
+import com.meli.rest.evaluacion.dto.FiltroProductos;
+import com.meli.rest.evaluacion.model.Producto;
+import com.meli.rest.evaluacion.util.CursorOrdenado;
+import jakarta.persistence.criteria.Path;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+
+/**
+ * Especificaciones (Criteria API) para el listado filtrado de productos.
+ * <p>
+ * Cada filtro es una {@link Specification} independiente; {@link #de(FiltroProductos)} combina con
+ * AND solo los filtros presentes, por lo que las condiciones ausentes no llegan al SQL y la base de
+ * datos puede elegir el índice compuesto que corresponde a la combinación recibida.
+ *
+ * @author [Mauricio Gomez Farias]
+ * @version 1.0
+ * @since 2025-12-04
+ */
+public final class ProductoEspecificaciones {
+
+    private ProductoEspecificaciones() {
+    }
+
+    /**
+     * Combina los filtros presentes en la petición.
+     * @param filtro Filtros recibidos.
+     * @return La especificación resultante (sin condiciones si no hay filtros).
+     */
+    public static Specification<Producto> de(FiltroProductos filtro) {
+        Specification<Producto> especificacion = Specification.where(null);
+        if (filtro.getMoneda() != null && !filtro.getMoneda().isBlank()) {
+            especificacion = especificacion.and(moneda(filtro.getMoneda().trim().toUpperCase()));
+        }
+        if (filtro.getIdVendedor() != null) {
+            especificacion = especificacion.and(vendedor(filtro.getIdVendedor()));
+        }
+        if (filtro.getEnvioGratis() != null) {
+            especificacion = especificacion.and(envioGratis(filtro.getEnvioGratis()));
+        }
+        if (filtro.getPrecioMin() != null) {
+            especificacion = especificacion.and(precioDesde(filtro.getPrecioMin()));
+        }
+        if (filtro.getPrecioMax() != null) {
+            especificacion = especificacion.and(precioHasta(filtro.getPrecioMax()));
+        }
+        if (filtro.getRatingMin() != null) {
+            especificacion = especificacion.and(ratingDesde(filtro.getRatingMin()));
+        }
+        return especificacion;
+    }
+
+    public static Specification<Producto> moneda(String moneda) {
+        return (root, query, cb) -> cb.equal(root.get("moneda"), moneda);
+    }
+
+    public static Specification<Producto> vendedor(Long idVendedor) {
+        return (root, query, cb) -> cb.equal(root.get("idVendedor"), idVendedor);
+    }
+
+    public static Specification<Producto> envioGratis(Boolean envioGratis) {
+        return (root, query, cb) -> cb.equal(root.get("envioGratis"), envioGratis);
+    }
+
+    public static Specification<Producto> precioDesde(BigDecimal precio) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("precio"), precio);
+    }
+
+    public static Specification<Producto> precioHasta(BigDecimal precio) {
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("precio"), precio);
+    }
+
+    public static Specification<Producto> conIds(Collection<Long> ids) {
+        return (root, query, cb) -> root.get("id").in(ids);
+    }
+
+    public static Specification<Producto> ratingDesde(Float rating) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("ratingPromedio"), rating);
+    }
+
+    /**
+     * Posición posterior al cursor en el orden ({@code atributo}, {@code id}) del listado.
+     * <p>
+     * Igual que la paginación por fecha, la condición redundante {@code atributo <= valor}
+     * (o {@code >=} en orden ascendente) permite posicionar el índice directamente en el cursor.
+     *
+     * @param cursor Posición del último producto entregado.
+     * @return La especificación de la página siguiente.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static Specification<Producto> despuesDe(CursorOrdenado cursor) {
+        return (root, query, cb) -> {
+            Path atributo = root.get(cursor.orden().getAtributo());
+            Comparable valor = cursor.valor();
+            Path<Long> id = root.get("id");
+            if (cursor.descendente()) {
+                return cb.and(cb.lessThanOrEqualTo(atributo, valor),
+                        cb.or(cb.lessThan(atributo, valor), cb.lessThan(id, cursor.id())));
+            }
+            return cb.and(cb.greaterThanOrEqualTo(atributo, valor),
+                    cb.or(cb.greaterThan(atributo, valor), cb.greaterThan(id, cursor.id())));
+        };
+    }
+}
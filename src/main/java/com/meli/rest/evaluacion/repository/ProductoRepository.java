@@ -1,24 +1,121 @@
 package com.meli.rest.evaluacion.repository;
 
+import com.meli.rest.evaluacion.dto.ValorColeccion;
+import com.meli.rest.evaluacion.dto.VersionProducto;
 import com.meli.rest.evaluacion.model.Producto;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
 /**
  * Interfaz de repositorio para la gestión de datos de la entidad Producto.
  *
  * Proporciona métodos de persistencia básicos (CRUD: Create, Read, Update, Delete),
  * hereda de {@code JpaRepository<Producto, Long>}.
  * Spring Data JPA genera la implementación en tiempo de ejecución.
+ * Los listados filtrados se arman con {@link ProductoEspecificaciones} y
+ * {@link ProductoRepositoryCustom#buscarPorFiltro}.
  *
  * @author [Mauricio Gomez Farias]
  * @version 1.0
  * @since 2025-12-04
  */
 @Repository
-public interface ProductoRepository extends JpaRepository<Producto, Long> {
+public interface ProductoRepository extends JpaRepository<Producto, Long>, JpaSpecificationExecutor<Producto>,
+        ProductoRepositoryCustom {
+
+    /**
+     * Obtiene la primera página del catálogo ordenada por fecha de publicación descendente
+     * y luego por id descendente (orden estable).
+     * <p>
+     * Se retorna {@code List} y no {@code Page} para evitar la consulta {@code count(*)} adicional.
+     *
+     * @param pageable Solo se utiliza el tamaño de página; el offset siempre es 0.
+     * @return Los productos más recientes.
+     */
+    @Query("select p from Producto p order by p.fechaPublicacion desc, p.id desc")
+    List<Producto> buscarPrimeraPagina(Pageable pageable);
+
+    /**
+     * Obtiene la página siguiente a la posición ({@code fecha}, {@code id}) usando paginación por clave.
+     * <p>
+     * La condición {@code fechaPublicacion <= :fecha} permite que la base de datos posicione el índice
+     * directamente en el cursor, por lo que el costo por página no depende de la profundidad.
+     *
+     * @param fecha Fecha de publicación del último producto entregado.
+     * @param id Id del último producto entregado.
+     * @param pageable Solo se utiliza el tamaño de página; el offset siempre es 0.
+     * @return Los productos posteriores al cursor.
+     */
+    @Query("select p from Producto p " +
+            "where p.fechaPublicacion <= :fecha " +
+            "and (p.fechaPublicacion < :fecha or p.id < :id) " +
+            "order by p.fechaPublicacion desc, p.id desc")
+    List<Producto> buscarPaginaDespuesDe(@Param("fecha") LocalDateTime fecha,
+                                         @Param("id") Long id,
+                                         Pageable pageable);
+
+    /**
+     * Obtiene solo el id y la fecha de actualización de un producto (o la de su vendedor si es
+     * posterior, ver {@code Producto.fechaVersion()}), sin cargar la descripción ni las colecciones.
+     * Se usa para responder GET condicionales (304 Not Modified).
+     *
+     * @param id Id del producto.
+     * @return La versión del producto, o vacío si no existe.
+     */
+    @Query("select new com.meli.rest.evaluacion.dto.VersionProducto(p.id, " +
+            "greatest(p.fechaActualizacion, coalesce(v.fechaActualizacion, p.fechaActualizacion))) " +
+            "from Producto p left join p.vendedor v where p.id = :id")
+    Optional<VersionProducto> buscarVersion(@Param("id") Long id);
+
+    /**
+     * Obtiene las especificaciones de varios productos sin cargar las entidades (campos parciales).
+     *
+     * @param ids Ids de los productos.
+     * @return Una fila por especificación, con el id de su producto.
+     */
+    @Query("select new com.meli.rest.evaluacion.dto.ValorColeccion(p.id, e) " +
+            "from Producto p join p.especificaciones e where p.id in :ids")
+    List<ValorColeccion> buscarEspecificaciones(@Param("ids") Collection<Long> ids);
 
-    // No se definieron métodos en esta clase ya que
-    // utilizare los que JpaRepository proporciona automáticamente.
+    /**
+     * Obtiene las URLs de imágenes de varios productos sin cargar las entidades (campos parciales).
+     * Las filas de cada producto llegan en el mismo orden en que Hibernate arma {@code urlsImagenes}.
+     *
+     * @param ids Ids de los productos.
+     * @return Una fila por imagen, con el id de su producto.
+     */
+    @Query("select new com.meli.rest.evaluacion.dto.ValorColeccion(p.id, u) " +
+            "from Producto p join p.urlsImagenes u where p.id in :ids")
+    List<ValorColeccion> buscarImagenes(@Param("ids") Collection<Long> ids);
 
+    /**
+     * Recorre el catálogo completo en orden de id mediante un cursor de base de datos de solo avance.
+     * <p>
+     * Las filas se leen de a {@code fetchSize} y las entidades se cargan en modo solo lectura
+     * (sin snapshot para dirty checking) y sin pasar por la cache de segundo nivel, para que una
+     * exportación no desplace el conjunto de productos más consultados. El {@link Stream} debe
+     * consumirse dentro de una transacción y cerrarse al terminar (try-with-resources).
+     *
+     * @return Stream de productos ordenado por id.
+     */
+    @Query("select p from Producto p order by p.id")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE")
+    })
+    Stream<Producto> recorrerCatalogo();
 }
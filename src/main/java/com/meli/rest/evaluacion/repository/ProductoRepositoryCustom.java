@@ -0,0 +1,84 @@
+package com.meli.rest.evaluacion.repository;
+
+import com.meli.rest.evaluacion.model.Producto;
+import jakarta.persistence.Tuple;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Consultas de {@link ProductoRepository} implementadas con Criteria API y actualizaciones de stock con JDBC.
+ * <p>
+ * Las actualizaciones de stock y ventas no son UPDATE JPQL masivos: Hibernate invalidaría con cada una
+ * la región completa de productos (y la de sus colecciones) en la cache de segundo nivel. Se ejecutan
+ * con JDBC en la transacción actual y al terminarla se invalida solo la entrada del producto actualizado.
+ *
+ * @author [Mauricio Gomez Farias]
+ * @version 1.0
+ * @since 2025-12-04
+ */
+public interface ProductoRepositoryCustom {
+
+    /**
+     * Obtiene los primeros {@code limite} productos que cumplen la especificación, en el orden indicado.
+     * <p>
+     * A diferencia de {@code findAll(Specification, Pageable)} no ejecuta un {@code count(*)} adicional.
+     *
+     * @param especificacion Filtros (y posición del cursor) a aplicar.
+     * @param orden Orden del listado.
+     * @param limite Máximo de productos a retornar.
+     * @return Los productos encontrados.
+     */
+    List<Producto> buscarPorFiltro(Specification<Producto> especificacion, Sort orden, int limite);
+
+    /**
+     * Igual que {@link #buscarPorFiltro} pero selecciona solo las columnas indicadas, sin cargar
+     * entidades: no lee la descripción (LOB) si no se pide y nunca inicializa colecciones.
+     *
+     * @param especificacion Filtros (y posición del cursor) a aplicar.
+     * @param orden Orden del listado ({@link Sort#unsorted()} si no importa).
+     * @param limite Máximo de filas a retornar.
+     * @param atributos Atributos escalares de {@link Producto} a seleccionar; cada uno queda con su nombre como alias.
+     * @return Una fila por producto encontrado.
+     */
+    List<Tuple> buscarColumnas(Specification<Producto> especificacion, Sort orden, int limite,
+                               Collection<String> atributos);
+
+    /**
+     * Versiones de los productos de una página: selecciona solo el {@code id}, {@code fechaActualizacion},
+     * la fecha de actualización del vendedor (alias {@code fechaVendedor}, con un LEFT JOIN por clave
+     * primaria) y el atributo de orden, para calcular el ETag de la página sin cargar entidades.
+     *
+     * @param especificacion Filtros (y posición del cursor) a aplicar.
+     * @param orden Orden del listado.
+     * @param limite Máximo de filas a retornar.
+     * @param atributoOrden Atributo de orden del listado, seleccionado con su nombre como alias (para el cursor).
+     * @return Una fila por producto encontrado.
+     */
+    List<Tuple> buscarVersiones(Specification<Producto> especificacion, Sort orden, int limite, String atributoOrden);
+
+    /**
+     * Descuenta stock de forma atómica solo si hay stock suficiente (UPDATE condicional).
+     * La base de datos serializa los UPDATE sobre la misma fila, por lo que nunca se sobrevende.
+     *
+     * @return 1 si se descontó, 0 si el producto no existe o no tiene stock suficiente.
+     */
+    int descontarStock(Long id, int cantidad, LocalDateTime fecha);
+
+    /**
+     * Repone stock de forma atómica (liberación de una reserva).
+     *
+     * @return 1 si se repuso, 0 si el producto no existe.
+     */
+    int reponerStock(Long id, int cantidad, LocalDateTime fecha);
+
+    /**
+     * Suma unidades vendidas de forma atómica (confirmación de una reserva).
+     *
+     * @return 1 si se actualizó, 0 si el producto no existe.
+     */
+    int sumarCantidadVendida(Long id, int cantidad, LocalDateTime fecha);
+}
@@ -0,0 +1,139 @@
+package com.meli.rest.evaluacion.repository;
+
+import com.meli.rest.evaluacion.model.Producto;
+import com.meli.rest.evaluacion.model.Vendedor;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Implementación de {@link ProductoRepositoryCustom}. Spring Data la combina con
+ * {@link ProductoRepository} por convención de nombre.
+ *
+ * @author [Mauricio Gomez Farias]
+ * @version 1.0
+ * @since 2025-12-04
+ */
+public class ProductoRepositoryCustomImpl implements ProductoRepositoryCustom {
+
+    private static final String UPDATE_DESCONTAR_STOCK = "update productos set stock_disponible = stock_disponible - ?, "
+            + "fecha_actualizacion = ? where id = ? and stock_disponible >= ?";
+
+    private static final String UPDATE_REPONER_STOCK = "update productos set stock_disponible = stock_disponible + ?, "
+            + "fecha_actualizacion = ? where id = ?";
+
+    private static final String UPDATE_CANTIDAD_VENDIDA = "update productos set cantidad_vendida = "
+            + "coalesce(cantidad_vendida, 0) + ?, fecha_actualizacion = ? where id = ?";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BloqueoCacheProductos bloqueoCache;
+
+    public ProductoRepositoryCustomImpl(JdbcTemplate jdbcTemplate, BloqueoCacheProductos bloqueoCache) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.bloqueoCache = bloqueoCache;
+    }
+
+    @Override
+    public List<Producto> buscarPorFiltro(Specification<Producto> especificacion, Sort orden, int limite) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Producto> consulta = cb.createQuery(Producto.class);
+        Root<Producto> root = consulta.from(Producto.class);
+
+        Predicate condicion = especificacion.toPredicate(root, consulta, cb);
+        if (condicion != null) {
+            consulta.where(condicion);
+        }
+        consulta.select(root).orderBy(QueryUtils.toOrders(orden, root, cb));
+
+        return entityManager.createQuery(consulta)
+                .setMaxResults(limite)
+                .getResultList();
+    }
+
+    @Override
+    public List<Tuple> buscarColumnas(Specification<Producto> especificacion, Sort orden, int limite,
+                                      Collection<String> atributos) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> consulta = cb.createTupleQuery();
+        Root<Producto> root = consulta.from(Producto.class);
+
+        Predicate condicion = especificacion.toPredicate(root, consulta, cb);
+        if (condicion != null) {
+            consulta.where(condicion);
+        }
+        List<Selection<?>> columnas = atributos.stream()
+                .<Selection<?>>map(atributo -> root.get(atributo).alias(atributo))
+                .toList();
+        consulta.multiselect(columnas).orderBy(QueryUtils.toOrders(orden, root, cb));
+
+        return entityManager.createQuery(consulta)
+                .setMaxResults(limite)
+                .getResultList();
+    }
+
+    @Override
+    public List<Tuple> buscarVersiones(Specification<Producto> especificacion, Sort orden, int limite,
+                                       String atributoOrden) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> consulta = cb.createTupleQuery();
+        Root<Producto> root = consulta.from(Producto.class);
+        Join<Producto, Vendedor> vendedor = root.join("vendedor", JoinType.LEFT);
+
+        Predicate condicion = especificacion.toPredicate(root, consulta, cb);
+        if (condicion != null) {
+            consulta.where(condicion);
+        }
+        consulta.multiselect(root.get("id").alias("id"),
+                        root.get("fechaActualizacion").alias("fechaActualizacion"),
+                        vendedor.get("fechaActualizacion").alias("fechaVendedor"),
+                        root.get(atributoOrden).alias(atributoOrden))
+                .orderBy(QueryUtils.toOrders(orden, root, cb));
+
+        return entityManager.createQuery(consulta)
+                .setMaxResults(limite)
+                .getResultList();
+    }
+
+    @Override
+    public int descontarStock(Long id, int cantidad, LocalDateTime fecha) {
+        return actualizar(id, UPDATE_DESCONTAR_STOCK, cantidad, Timestamp.valueOf(fecha), id, cantidad);
+    }
+
+    @Override
+    public int reponerStock(Long id, int cantidad, LocalDateTime fecha) {
+        return actualizar(id, UPDATE_REPONER_STOCK, cantidad, Timestamp.valueOf(fecha), id);
+    }
+
+    @Override
+    public int sumarCantidadVendida(Long id, int cantidad, LocalDateTime fecha) {
+        return actualizar(id, UPDATE_CANTIDAD_VENDIDA, cantidad, Timestamp.valueOf(fecha), id);
+    }
+
+    /**
+     * Ejecuta el UPDATE con JDBC (en la transacción actual, si hay una) con la entrada del producto
+     * bloqueada en la cache de segundo nivel hasta terminar la transacción (ver
+     * {@link BloqueoCacheProductos}): una lectura concurrente no puede volver a cachear la fila anterior.
+     */
+    private int actualizar(Long id, String sql, Object... parametros) {
+        return bloqueoCache.ejecutar(List.of(id), () -> jdbcTemplate.update(sql, parametros));
+    }
+}
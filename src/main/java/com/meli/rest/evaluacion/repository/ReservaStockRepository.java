@@ -0,0 +1,35 @@
+package com.meli.rest.evaluacion.repository;
+
+import com.meli.rest.evaluacion.model.ReservaStock;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Interfaz de repositorio para la entidad {@link ReservaStock}.
+ *
+ * @author [Mauricio Gomez Farias]
+ * @version 1.0
+ * @since 2025-12-04
+ */
+@Repository
+public interface ReservaStockRepository extends JpaRepository<ReservaStock, Long> {
+
+    /**
+     * Cambia el estado de una reserva solo si está en el estado esperado (UPDATE condicional).
+     * Si dos peticiones intentan confirmar/liberar la misma reserva a la vez, solo una actualiza la fila.
+     *
+     * @return 1 si la transición se aplicó, 0 si la reserva no estaba en el estado esperado.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("update ReservaStock r set r.estado = :nuevoEstado, r.fechaActualizacion = :fecha " +
+            "where r.id = :id and r.estado = :estadoEsperado")
+    int cambiarEstado(@Param("id") Long id,
+                      @Param("estadoEsperado") ReservaStock.Estado estadoEsperado,
+                      @Param("nuevoEstado") ReservaStock.Estado nuevoEstado,
+                      @Param("fecha") LocalDateTime fecha);
+}
@@ -0,0 +1,16 @@
+package com.meli.rest.evaluacion.repository;
+
+import com.meli.rest.evaluacion.model.Vendedor;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Interfaz de repositorio para la entidad {@link Vendedor}.
+ *
+ * @author [Mauricio Gomez Farias]
+ * @version 1.0
+ * @since 2025-12-04
+ */
+@Repository
+public interface VendedorRepository extends JpaRepository<Vendedor, Long> {
+}
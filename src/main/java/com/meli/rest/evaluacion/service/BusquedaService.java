@@ -0,0 +1,29 @@
+package com.meli.rest.evaluacion.service;
+
+import com.meli.rest.evaluacion.dto.ResultadoBusqueda;
+
+/**
+ * Interface del servicio de búsqueda de productos.
+ * <p>
+ * Definicion de los metodos que seran implementados en BusquedaServiceImpl
+ *
+ * @author [Mauricio Gomez Farias]
+ * @version 1.0
+ * @since 2025-12-04
+ */
+public interface BusquedaService {
+
+    /**
+     * Busca productos por texto en título, descripción y especificaciones.
+     * @param consulta Texto a buscar.
+     * @param tamanio Cantidad máxima de resultados (opcional).
+     * @return Los productos encontrados ordenados por relevancia.
+     */
+    ResultadoBusqueda buscar(String consulta, Integer tamanio);
+
+    /**
+     * Reconstruye el índice de búsqueda completo a partir de la base de datos.
+     * @return La cantidad de productos indexados.
+     */
+    int reconstruirIndice();
+}
@@ -0,0 +1,205 @@
+package com.meli.rest.evaluacion.service;
+
+import com.meli.rest.evaluacion.dto.ProductoEncontrado;
+import com.meli.rest.evaluacion.dto.ResultadoBusqueda;
+import com.meli.rest.evaluacion.exceptions.InvalidDataException;
+import com.meli.rest.evaluacion.model.Producto;
+import com.meli.rest.evaluacion.repository.ProductoRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * Implementación del servicio de búsqueda de productos sobre un {@link IndiceInvertido} en memoria.
+ * <p>
+ * El índice se construye completo al iniciar la aplicación (tokenización en paralelo) y luego se
+ * mantiene al día de forma incremental con los {@link ProductosGuardadosEvent} que publica
+ * {@link ProductoServiceImpl} después de cada commit. Las actualizaciones que llegan mientras se
+ * reconstruye el índice se aplican también al índice nuevo antes de reemplazar al anterior.
+ *
+ * @author [Mauricio Gomez Farias]
+ * @version 1.0
+ * @since 2025-12-04
+ */
+@Service
+public class BusquedaServiceImpl implements BusquedaService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BusquedaServiceImpl.class);
+
+    private final ProductoRepository productoRepository;
+    private final TransactionTemplate lecturaTemplate;
+
+    // Serializa las actualizaciones incrementales con el reemplazo del índice
+    private final ReentrantLock bloqueoActualizaciones = new ReentrantLock();
+    private final List<List<IndiceInvertido.Documento>> pendientesDuranteReconstruccion = new ArrayList<>();
+    private boolean reconstruyendo;
+
+    private volatile IndiceInvertido indice = new IndiceInvertido();
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${evaluacion.paginacion.tamanio-defecto:20}")
+    private int tamanioDefecto;
+
+    @Value("${evaluacion.paginacion.tamanio-maximo:100}")
+    private int tamanioMaximo;
+
+    // Cada cuantos productos leídos se vacía el contexto de persistencia durante la reconstrucción
+    @Value("${evaluacion.exportacion.tamanio-lote:500}")
+    private int tamanioLoteLectura;
+
+    public BusquedaServiceImpl(ProductoRepository productoRepository, TransactionTemplate transactionTemplate) {
+        this.productoRepository = productoRepository;
+        // Sin readOnly: con réplicas de lectura (ver DataSourceEnrutado) la reconstrucción lee de la
+        // primaria, que ya tiene todo lo indexado antes de empezar; la sesión se marca de solo lectura
+        this.lecturaTemplate = new TransactionTemplate(transactionTemplate.getTransactionManager());
+    }
+
+    /**
+     * Busca en el índice y carga los productos encontrados por id. La carga usa
+     * {@code byMultipleIds}, que resuelve desde la cache de segundo nivel los productos cacheados
+     * y consulta el resto en un solo {@code IN}.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ResultadoBusqueda buscar(String consulta, Integer tamanio) {
+        if (consulta == null || consulta.isBlank()) {
+            throw new InvalidDataException("El texto de búsqueda es obligatorio.");
+        }
+        int limite = resolverTamanio(tamanio);
+        long inicio = System.nanoTime();
+
+        IndiceInvertido.Resultado resultado = indice.buscar(consulta, limite);
+        List<Long> ids = resultado.coincidencias().stream().map(IndiceInvertido.Coincidencia::productoId).toList();
+        Session sesion = entityManager.unwrap(Session.class);
+        List<Producto> productos = sesion.byMultipleIds(Producto.class)
+                // Sin un CacheMode explícito Hibernate no consulta la cache de segundo nivel. Se usa el de
+                // la sesión: con réplicas de lectura es GET (ver DialectoLecturasReplica)
+                .with(sesion.getCacheMode())
+                .multiLoad(ids);
+
+        List<ProductoEncontrado> encontrados = new ArrayList<>(productos.size());
+        for (int i = 0; i < productos.size(); i++) {
+            Producto producto = productos.get(i);
+            // Un producto borrado directamente en la base de datos puede seguir en el índice
+            if (producto != null) {
+                encontrados.add(new ProductoEncontrado(producto.getId(), producto.getTitulo(), producto.getPrecio(),
+                        producto.getMoneda(), resultado.coincidencias().get(i).puntaje()));
+            }
+        }
+        logger.debug("Busqueda '{}': {} coincidencias en {} us", consulta, resultado.total(),
+                (System.nanoTime() - inicio) / 1_000);
+        return new ResultadoBusqueda(consulta, resultado.total(), encontrados);
+    }
+
+    @Override
+    public int reconstruirIndice() {
+        logger.info("-> Reconstruyendo indice de busqueda");
+        long inicio = System.nanoTime();
+        bloqueoActualizaciones.lock();
+        try {
+            reconstruyendo = true;
+        } finally {
+            bloqueoActualizaciones.unlock();
+        }
+
+        IndiceInvertido nuevo = null;
+        try {
+            List<IndiceInvertido.Documento> documentos = lecturaTemplate.execute(estado -> {
+                entityManager.unwrap(Session.class).setDefaultReadOnly(true);
+                return leerDocumentos();
+            });
+            nuevo = IndiceInvertido.construir(documentos);
+        } finally {
+            bloqueoActualizaciones.lock();
+            try {
+                if (nuevo != null) {
+                    // Los productos guardados durante la lectura pueden no estar en el índice nuevo
+                    pendientesDuranteReconstruccion.forEach(nuevo::indexar);
+                    indice = nuevo;
+                }
+                pendientesDuranteReconstruccion.clear();
+                reconstruyendo = false;
+            } finally {
+                bloqueoActualizaciones.unlock();
+            }
+        }
+
+        logger.info("<- Indice de busqueda reconstruido: {} productos en {} ms", nuevo.tamanio(),
+                (System.nanoTime() - inicio) / 1_000_000);
+        return nuevo.tamanio();
+    }
+
+    /**
+     * Construye el índice al iniciar la aplicación.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconstruirAlIniciar() {
+        reconstruirIndice();
+    }
+
+    /**
+     * Indexa los productos guardados, después del commit de la transacción que los guardó.
+     *
+     * @param evento Productos guardados.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void indexarProductosGuardados(ProductosGuardadosEvent evento) {
+        bloqueoActualizaciones.lock();
+        try {
+            indice.indexar(evento.documentos());
+            if (reconstruyendo) {
+                pendientesDuranteReconstruccion.add(evento.documentos());
+            }
+        } finally {
+            bloqueoActualizaciones.unlock();
+        }
+    }
+
+    /**
+     * Lee el texto indexable de todo el catálogo con un cursor de solo avance, vaciando el
+     * contexto de persistencia cada {@code tamanioLoteLectura} productos.
+     */
+    private List<IndiceInvertido.Documento> leerDocumentos() {
+        List<IndiceInvertido.Documento> documentos = new ArrayList<>();
+        try (Stream<Producto> productos = productoRepository.recorrerCatalogo()) {
+            Iterator<Producto> iterador = productos.iterator();
+            while (iterador.hasNext()) {
+                documentos.add(IndiceInvertido.Documento.de(iterador.next()));
+                if (documentos.size() % tamanioLoteLectura == 0) {
+                    entityManager.clear();
+                }
+            }
+        }
+        return documentos;
+    }
+
+    /**
+     * Acota la cantidad de resultados solicitada al rango [1, máximo configurado].
+     */
+    private int resolverTamanio(Integer tamanio) {
+        if (tamanio == null) {
+            return Math.min(tamanioDefecto, tamanioMaximo);
+        }
+        if (tamanio <= 0) {
+            throw new InvalidDataException("El tamaño de página debe ser mayor que cero.");
+        }
+        return Math.min(tamanio, tamanioMaximo);
+    }
+}
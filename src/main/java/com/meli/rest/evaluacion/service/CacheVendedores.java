@@ -0,0 +1,213 @@
+package com.meli.rest.evaluacion.service;
+
+import com.meli.rest.evaluacion.model.Producto;
+import com.meli.rest.evaluacion.util.Utils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Cache en memoria de los datos de los vendedores que se muestran con cada producto.
+ * <p>
+ * Los productos solo guardan {@code idVendedor}; los servicios completan el nombre y la reputación
+ * de cada página o lote de productos con {@link #completar(Collection)}: una lectura {@code getAll}
+ * de la cache y, para los vendedores que faltan, una sola consulta {@code WHERE id IN (...)}. Los
+ * vendedores inexistentes también se cachean (como ausentes), para no consultarlos en cada carga.
+ * La cache es la región {@code vendedores} de Ehcache ({@code ehcache.xml}): acotada por cantidad
+ * de entradas y con TTL, que también acota el atraso si una lectura concurrente vuelve a cachear
+ * datos anteriores a una actualización.
+ * <p>
+ * Actualizar un vendedor invalida solo su entrada ({@link #invalidar(Long)}), sin tocar la cache
+ * de segundo nivel de productos ni sus filas.
+ *
+ * @author [Mauricio Gomez Farias]
+ * @version 1.0
+ * @since 2025-12-04
+ */
+@Component
+public class CacheVendedores {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheVendedores.class);
+
+    public static final String REGION_CACHE = "vendedores";
+
+    private static final String SELECT_VENDEDORES = "select id, nombre, reputacion, fecha_actualizacion from vendedores where id in (%s)";
+
+    // Entrada de un vendedor inexistente; los vendedores registrados siempre tienen fecha de actualización
+    private static final DatosVendedor AUSENTE = new DatosVendedor(null, null, null);
+
+    // Inserta el vendedor solo si no existe: los datos de un vendedor registrado no se pisan desde un producto
+    private static final String INSERT_SI_NO_EXISTE = "merge into vendedores v using (values (cast(? as bigint), "
+            + "cast(? as varchar(255)), cast(? as real), cast(? as timestamp))) n(id, nombre, reputacion, fecha) "
+            + "on v.id = n.id when not matched then insert (id, nombre, reputacion, fecha_actualizacion) "
+            + "values (n.id, n.nombre, n.reputacion, n.fecha)";
+
+    private static final RowMapper<DatosVendedor> MAPEO = (fila, numero) -> new DatosVendedor(
+            fila.getString("nombre"), fila.getObject("reputacion", Float.class),
+            fila.getObject("fecha_actualizacion", LocalDateTime.class));
+
+    private final Cache<Object, Object> cache;
+    private final JdbcTemplate jdbcTemplate;
+
+    public CacheVendedores(CacheManager cacheManagerSegundoNivel, JdbcTemplate jdbcTemplate) {
+        this.cache = cacheManagerSegundoNivel.getCache(REGION_CACHE);
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * @param id Identificador del vendedor.
+     * @return Los datos del vendedor, o vacío si no existe.
+     */
+    public Optional<DatosVendedor> obtener(Long id) {
+        return Optional.ofNullable(obtenerTodos(List.of(id)).get(id));
+    }
+
+    /**
+     * Obtiene varios vendedores con una lectura de la cache y, para los que no están cacheados, una
+     * sola consulta por clave primaria. Los que no existen se cachean como ausentes.
+     *
+     * @param ids Identificadores de los vendedores; los nulos y repetidos se ignoran.
+     * @return Los datos de los vendedores que existen, por id.
+     */
+    public Map<Long, DatosVendedor> obtenerTodos(Collection<Long> ids) {
+        Set<Long> buscados = new LinkedHashSet<>(ids);
+        buscados.remove(null);
+        if (buscados.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, DatosVendedor> vendedores = new HashMap<>();
+        cache.getAll(buscados).forEach((id, datos) -> {
+            if (!AUSENTE.equals(datos)) {
+                vendedores.put((Long) id, (DatosVendedor) datos);
+            }
+            buscados.remove(id);
+        });
+        if (buscados.isEmpty()) {
+            return vendedores;
+        }
+
+        String marcadores = String.join(", ", Collections.nCopies(buscados.size(), "?"));
+        Map<Long, DatosVendedor> leidos = new HashMap<>();
+        jdbcTemplate.query(String.format(SELECT_VENDEDORES, marcadores),
+                        (fila, numero) -> Map.entry(fila.getLong("id"), MAPEO.mapRow(fila, numero)), buscados.toArray())
+                .forEach(fila -> leidos.put(fila.getKey(), fila.getValue()));
+        Map<Long, DatosVendedor> aCachear = new HashMap<>();
+        for (Long id : buscados) {
+            aCachear.put(id, leidos.getOrDefault(id, AUSENTE));
+        }
+        cache.putAll(aCachear);
+        vendedores.putAll(leidos);
+        return vendedores;
+    }
+
+    /**
+     * Asigna a cada producto el nombre, la reputación y la fecha de actualización de su vendedor,
+     * resolviendo todos los vendedores del lote juntos ({@link #obtenerTodos(Collection)}).
+     *
+     * @param productos Productos a completar; los nulos se ignoran.
+     */
+    public void completar(Collection<Producto> productos) {
+        List<Long> ids = new ArrayList<>(productos.size());
+        for (Producto producto : productos) {
+            if (producto != null) {
+                ids.add(producto.getIdVendedor());
+            }
+        }
+        Map<Long, DatosVendedor> vendedores = obtenerTodos(ids);
+        for (Producto producto : productos) {
+            if (producto != null) {
+                DatosVendedor datos = producto.getIdVendedor() == null ? null : vendedores.get(producto.getIdVendedor());
+                producto.setNombreVendedor(datos == null ? null : datos.nombre());
+                producto.setReputacionVendedor(datos == null ? null : datos.reputacion());
+                producto.setFechaActualizacionVendedor(datos == null ? null : datos.fechaActualizacion());
+            }
+        }
+    }
+
+    /**
+     * Registra, dentro de la transacción actual, los vendedores referenciados por los productos que
+     * todavía no existen, con el nombre y la reputación del primer producto de cada uno. Los
+     * vendedores existentes no se modifican. Se ejecuta antes de insertar los productos, que
+     * referencian al vendedor con una clave foránea.
+     *
+     * @param productos Productos a guardar.
+     */
+    public void registrarFaltantes(Collection<Producto> productos) {
+        // Orden por id: dos lotes concurrentes no bloquean las mismas filas en orden inverso
+        Map<Long, Producto> porVendedor = new TreeMap<>();
+        for (Producto producto : productos) {
+            if (producto.getIdVendedor() != null) {
+                porVendedor.putIfAbsent(producto.getIdVendedor(), producto);
+            }
+        }
+        if (porVendedor.isEmpty()) {
+            return;
+        }
+        Timestamp fecha = Timestamp.valueOf(Utils.fechaActual());
+        List<Object[]> filas = new ArrayList<>(porVendedor.size());
+        for (Map.Entry<Long, Producto> entrada : porVendedor.entrySet()) {
+            filas.add(new Object[]{entrada.getKey(), entrada.getValue().getNombreVendedor(),
+                    entrada.getValue().getReputacionVendedor(), fecha});
+        }
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SI_NO_EXISTE, filas);
+        } catch (DuplicateKeyException e) {
+            // Otra transacción registró el mismo vendedor a la vez; al reintentar ya existe y se omite
+            logger.debug("Vendedor registrado concurrentemente, se reintenta: {}", e.getMessage());
+            jdbcTemplate.batchUpdate(INSERT_SI_NO_EXISTE, filas);
+        }
+        // Los que estaban cacheados como ausentes ahora existen. Si la transacción se revierte, lo que
+        // se haya cacheado de estos vendedores no existe; si se confirma, se quitan las ausencias que
+        // otra lectura haya cacheado antes del commit
+        porVendedor.keySet().forEach(id -> cache.remove(id, AUSENTE));
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int estado) {
+                    if (estado != STATUS_COMMITTED) {
+                        porVendedor.keySet().forEach(cache::remove);
+                    } else {
+                        porVendedor.keySet().forEach(id -> cache.remove(id, AUSENTE));
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * Quita un vendedor de la cache; la próxima lectura de sus productos lo vuelve a leer.
+     */
+    public void invalidar(Long id) {
+        cache.remove(id);
+    }
+
+    /**
+     * Datos del vendedor que se muestran con sus productos.
+     *
+     * @param nombre Nombre del vendedor.
+     * @param reputacion Reputación (0 a 5).
+     * @param fechaActualizacion Fecha de la última escritura del vendedor.
+     */
+    public record DatosVendedor(String nombre, Float reputacion, LocalDateTime fechaActualizacion) {
+    }
+}
@@ -0,0 +1,278 @@
+package com.meli.rest.evaluacion.service;
+
+import com.meli.rest.evaluacion.model.Producto;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Cache;
+import org.hibernate.Hibernate;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Cargador de productos por id que agrupa las lecturas concurrentes.
+ * <p>
+ * Hace dos cosas:
+ * <ul>
+ *     <li><b>Una sola carga por id en curso</b>: si llegan muchas peticiones por el mismo id mientras
+ *     se está cargando, todas esperan el mismo {@link CompletableFuture} en lugar de consultar cada una.</li>
+ *     <li><b>Micro-lotes</b>: los ids distintos que llegan dentro de una ventana corta
+ *     ({@code evaluacion.cargador.ventana-micros}) se cargan juntos con {@code byMultipleIds}, que
+ *     resuelve desde la cache de segundo nivel los que estén cacheados y consulta el resto en un
+ *     solo {@code WHERE id IN (...)}. Las colecciones se inicializan por lote gracias a
+ *     {@code @BatchSize} (una consulta por colección para todo el lote). Los vendedores del lote se
+ *     completan con una sola resolución ({@link CacheVendedores#completar(Collection)}).</li>
+ * </ul>
+ * Como en {@link CoordinadorReservas}, las cargas pendientes las ejecutan los propios hilos que
+ * esperan ("combinadores"), pero hay hasta {@code evaluacion.cargador.concurrencia} turnos a la vez
+ * y cada turno carga un solo lote (a lo más {@link #MAXIMO_POR_LOTE} ids) y cede el turno: si quedan
+ * ids pendientes despierta al hilo que encoló el primero. Ningún hilo carga lotes de otras peticiones
+ * indefinidamente ni hay una única carga en curso para toda la aplicación.
+ * <p>
+ * Un lote cuyos productos y colecciones están todos en la cache de segundo nivel se arma con una
+ * sesión propia, sin abrir una transacción ni tomar una conexión. Los productos retornados quedan
+ * separados de la sesión y pueden ser compartidos por varias peticiones, por lo que se tratan como de solo lectura.
+ *
+ * @author [Mauricio Gomez Farias]
+ * @version 1.0
+ * @since 2025-12-04
+ */
+@Component
+public class CargadorProductos {
+
+    private static final Logger logger = LoggerFactory.getLogger(CargadorProductos.class);
+
+    // Máximo de ids por consulta; no supera Producto.TAMANIO_LOTE_COLECCIONES para que cada
+    // colección del lote se cargue en una sola consulta
+    static final int MAXIMO_POR_LOTE = 100;
+
+    private static final String ROL_ESPECIFICACIONES = Producto.class.getName() + ".especificaciones";
+    private static final String ROL_IMAGENES = Producto.class.getName() + ".urlsImagenes";
+
+    private final ConcurrentHashMap<Long, CompletableFuture<Producto>> enCurso = new ConcurrentHashMap<>();
+    private final Queue<Pendiente> pendientes = new ConcurrentLinkedQueue<>();
+    private final Semaphore turnos;
+    private final TransactionTemplate lecturaTemplate;
+    private final SessionFactory sessionFactory;
+    private final CacheVendedores cacheVendedores;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Tiempo que el combinador espera a que lleguen más ids antes de consultar (0 = sin espera)
+    @Value("${evaluacion.cargador.ventana-micros:200}")
+    private long ventanaMicros;
+
+    public CargadorProductos(TransactionTemplate transactionTemplate, EntityManagerFactory entityManagerFactory,
+                             CacheVendedores cacheVendedores,
+                             @Value("${evaluacion.cargador.concurrencia:4}") int concurrencia) {
+        // Sin readOnly: con réplicas de lectura (ver DataSourceEnrutado) la carga lee de la primaria y
+        // puede poblar la cache de segundo nivel; la sesión se marca de solo lectura
+        this.lecturaTemplate = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        this.cacheVendedores = cacheVendedores;
+        this.turnos = new Semaphore(Math.max(1, concurrencia));
+    }
+
+    /**
+     * Carga un producto con sus colecciones inicializadas.
+     *
+     * @param id Id del producto.
+     * @return El producto, o vacío si no existe.
+     */
+    public Optional<Producto> cargar(Long id) {
+        Semaphore aviso = new Semaphore(0);
+        CompletableFuture<Producto> resultado = solicitar(id, aviso);
+        resolver(List.of(resultado), aviso);
+        return Optional.ofNullable(obtener(resultado));
+    }
+
+    /**
+     * Carga varios productos con sus colecciones inicializadas.
+     *
+     * @param ids Ids de los productos; los repetidos se cargan una vez.
+     * @return Los productos encontrados, en el orden de los ids. Los ids inexistentes se omiten.
+     */
+    public List<Producto> cargarTodos(Collection<Long> ids) {
+        Semaphore aviso = new Semaphore(0);
+        List<CompletableFuture<Producto>> resultados = new ArrayList<>(ids.size());
+        for (Long id : new LinkedHashSet<>(ids)) {
+            resultados.add(solicitar(id, aviso));
+        }
+        resolver(resultados, aviso);
+
+        List<Producto> productos = new ArrayList<>(resultados.size());
+        for (CompletableFuture<Producto> resultado : resultados) {
+            Producto producto = obtener(resultado);
+            if (producto != null) {
+                productos.add(producto);
+            }
+        }
+        return productos;
+    }
+
+    /**
+     * Registra la carga de un id, o retorna la carga ya en curso para ese id. {@code aviso} se libera
+     * cuando la carga termina y cuando el hilo recibe un turno para cargar.
+     */
+    private CompletableFuture<Producto> solicitar(Long id, Semaphore aviso) {
+        CompletableFuture<Producto> nueva = new CompletableFuture<>();
+        CompletableFuture<Producto> resultado = enCurso.putIfAbsent(id, nueva);
+        if (resultado == null) {
+            resultado = nueva;
+            pendientes.add(new Pendiente(id, aviso));
+        }
+        resultado.whenComplete((producto, error) -> aviso.release());
+        return resultado;
+    }
+
+    /**
+     * Espera a que se completen las cargas, cargando un lote cada vez que obtiene un turno libre.
+     */
+    private void resolver(List<CompletableFuture<Producto>> resultados, Semaphore aviso) {
+        for (CompletableFuture<Producto> resultado : resultados) {
+            while (!resultado.isDone()) {
+                if (turnos.tryAcquire()) {
+                    try {
+                        if (ventanaMicros > 0) {
+                            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(ventanaMicros));
+                        }
+                        cargarLote();
+                    } finally {
+                        turnos.release();
+                    }
+                    // Se cede el turno al hilo que encoló el primer id pendiente. Un id encolado
+                    // después de esta lectura lo carga el propio hilo que lo encoló (hay un turno libre)
+                    Pendiente siguiente = pendientes.peek();
+                    if (siguiente != null) {
+                        siguiente.aviso().release();
+                    }
+                } else {
+                    // Se despierta cuando termina alguna de sus cargas o cuando recibe un turno
+                    aviso.acquireUninterruptibly();
+                }
+            }
+        }
+    }
+
+    /**
+     * Toma hasta {@link #MAXIMO_POR_LOTE} ids pendientes y los carga: desde la cache de segundo
+     * nivel si están todos cacheados, o en una transacción que lee de la primaria.
+     */
+    private void cargarLote() {
+        List<Long> lote = new ArrayList<>();
+        Pendiente pendiente;
+        while (lote.size() < MAXIMO_POR_LOTE && (pendiente = pendientes.poll()) != null) {
+            lote.add(pendiente.id());
+        }
+        if (lote.isEmpty()) {
+            return;
+        }
+
+        try {
+            List<Producto> productos = estanEnCache(lote) ? leerDeCache(lote) : lecturaTemplate.execute(estado -> {
+                Session sesion = entityManager.unwrap(Session.class);
+                if (estado.isNewTransaction()) {
+                    sesion.setDefaultReadOnly(true);
+                }
+                List<Producto> cargados = leer(sesion, lote);
+                // Si la lectura se unió a una transacción del llamador, los productos de otras
+                // peticiones no deben quedar asociados a su sesión
+                if (!estado.isNewTransaction()) {
+                    cargados.stream().filter(producto -> producto != null).forEach(entityManager::detach);
+                }
+                return cargados;
+            });
+            // Los vendedores de todo el lote se resuelven juntos, fuera de la transacción de lectura
+            cacheVendedores.completar(productos);
+            for (int i = 0; i < lote.size(); i++) {
+                enCurso.remove(lote.get(i)).complete(productos.get(i));
+            }
+            logger.debug("Lote de {} productos cargado", lote.size());
+        } catch (RuntimeException e) {
+            logger.warn("No se pudo cargar el lote de {} productos: {}", lote.size(), e.getMessage());
+            lote.forEach(idFallido -> enCurso.remove(idFallido).completeExceptionally(e));
+        }
+    }
+
+    /**
+     * @return {@code true} si los productos y sus dos colecciones están en la cache de segundo nivel.
+     */
+    private boolean estanEnCache(List<Long> ids) {
+        Cache cache = sessionFactory.getCache();
+        for (Long id : ids) {
+            if (!cache.containsEntity(Producto.class, id)
+                    || !cache.containsCollection(ROL_ESPECIFICACIONES, id)
+                    || !cache.containsCollection(ROL_IMAGENES, id)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Arma los productos desde la cache de segundo nivel con una sesión propia, sin transacción: la
+     * sesión solo toma una conexión si alguna entrada fue invalidada después de {@link #estanEnCache}.
+     */
+    private List<Producto> leerDeCache(List<Long> ids) {
+        try (Session sesion = sessionFactory.openSession()) {
+            sesion.setDefaultReadOnly(true);
+            return leer(sesion, ids);
+        }
+    }
+
+    /**
+     * @return Los productos alineados con los ids; {@code null} para los que no existen.
+     */
+    private static List<Producto> leer(Session sesion, List<Long> ids) {
+        List<Producto> productos = sesion.byMultipleIds(Producto.class)
+                // Sin un CacheMode explícito Hibernate no consulta la cache de segundo nivel. Se usa el de
+                // la sesión: GET si la carga se unió a una transacción de solo lectura (réplica)
+                .with(sesion.getCacheMode())
+                .multiLoad(ids);
+        for (Producto producto : productos) {
+            if (producto != null) {
+                Hibernate.initialize(producto.getEspecificaciones());
+                Hibernate.initialize(producto.getUrlsImagenes());
+            }
+        }
+        return productos;
+    }
+
+    private static Producto obtener(CompletableFuture<Producto> resultado) {
+        try {
+            return resultado.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException causa) {
+                throw causa;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Id por cargar y aviso del hilo que lo encoló, al que se cede el turno cuando el id llega al
+     * frente de la cola.
+     */
+    private record Pendiente(Long id, Semaphore aviso) {
+    }
+}
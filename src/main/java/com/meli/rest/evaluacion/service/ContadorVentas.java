@@ -0,0 +1,241 @@
+package com.meli.rest.evaluacion.service;
+
+import com.meli.rest.evaluacion.repository.BloqueoCacheProductos;
+import com.meli.rest.evaluacion.util.Utils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Acumula en memoria las unidades vendidas por producto y las escribe en la base de datos en
+ * lotes (write-behind de {@code cantidadVendida}).
+ * <p>
+ * Registrar una venta solo suma en un {@link LongAdder} del producto: los hilos que venden el
+ * mismo producto a la vez suman en celdas distintas, sin contención ni acceso a la base de datos.
+ * Cada {@code evaluacion.ventas.intervalo-flush} un hilo propio escribe los deltas acumulados con
+ * un solo batch JDBC ({@code UPDATE productos SET cantidad_vendida = cantidad_vendida + ?}) en una
+ * transacción, por lo que un producto con miles de ventas por segundo se actualiza una vez por
+ * intervalo. El UPDATE no pasa por Hibernate: solo las entradas de los productos actualizados se
+ * bloquean en la cache de segundo nivel hasta el fin de la transacción (ver {@link BloqueoCacheProductos};
+ * un UPDATE JPQL masivo invalidaría la región completa).
+ * <p>
+ * Los acumuladores nunca se reinician: cada uno guarda además lo ya escrito, y el delta de un
+ * flush es la diferencia. Así una venta que llega durante el flush no se pierde (queda para el
+ * siguiente) y un flush fallido se reintenta completo en el siguiente intervalo. Hay un acumulador
+ * por producto vendido desde el inicio de la aplicación.
+ * <p>
+ * Como {@link SmartLifecycle} se detiene después del servidor web (ya no llegan ventas) y antes
+ * del snapshot del catálogo, con un flush final. Métricas en {@code /actuator/prometheus}:
+ * {@code evaluacion.ventas.flush} (duración y cantidad de flushes), {@code evaluacion.ventas.pendientes}
+ * (unidades aún no escritas), {@code evaluacion.ventas.retraso} (segundos desde el último flush
+ * exitoso, cota del atraso de {@code cantidadVendida} en la base de datos),
+ * {@code evaluacion.ventas.intervalo} y {@code evaluacion.ventas.flush.errores}.
+ *
+ * @author [Mauricio Gomez Farias]
+ * @version 1.0
+ * @since 2025-12-04
+ */
+@Component
+public class ContadorVentas implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(ContadorVentas.class);
+
+    private static final String UPDATE_CANTIDAD_VENDIDA = "update productos set cantidad_vendida = cantidad_vendida + ?, "
+            + "fecha_actualizacion = ? where id = ?";
+
+    private final ConcurrentHashMap<Long, Acumulado> acumulados = new ConcurrentHashMap<>();
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final BloqueoCacheProductos bloqueoCache;
+    private final Timer duracionFlush;
+    private final Counter erroresFlush;
+
+    // Serializa el flush periódico con el final y con los invocados directamente
+    private final ReentrantLock bloqueoFlush = new ReentrantLock();
+    private volatile long inicioUltimoFlushExitoso = System.nanoTime();
+    private ScheduledExecutorService programador;
+    private volatile boolean ejecutando;
+
+    @Value("${evaluacion.ventas.intervalo-flush:1s}")
+    private Duration intervalo;
+
+    public ContadorVentas(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                          BloqueoCacheProductos bloqueoCache, MeterRegistry registry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.bloqueoCache = bloqueoCache;
+        this.duracionFlush = Timer.builder("evaluacion.ventas.flush")
+                .description("Duración de cada escritura de los contadores de ventas acumulados")
+                .publishPercentileHistogram()
+                .register(registry);
+        this.erroresFlush = Counter.builder("evaluacion.ventas.flush.errores")
+                .description("Escrituras de contadores de ventas fallidas (se reintentan en el siguiente intervalo)")
+                .register(registry);
+        Gauge.builder("evaluacion.ventas.pendientes", this, ContadorVentas::pendientes)
+                .description("Unidades vendidas aún no escritas en la base de datos")
+                .register(registry);
+        Gauge.builder("evaluacion.ventas.retraso", this, contador -> (System.nanoTime() - contador.inicioUltimoFlushExitoso) / 1e9)
+                .description("Segundos desde el inicio del último flush exitoso de los contadores de ventas")
+                .baseUnit("seconds")
+                .register(registry);
+        Gauge.builder("evaluacion.ventas.intervalo", this, contador -> contador.intervalo.toMillis() / 1e3)
+                .description("Intervalo configurado entre flushes de los contadores de ventas")
+                .baseUnit("seconds")
+                .register(registry);
+    }
+
+    /**
+     * Suma unidades vendidas de un producto; se escriben en el próximo flush.
+     *
+     * @param productoId Id del producto.
+     * @param cantidad   Unidades vendidas (mayor que cero).
+     */
+    public void registrar(Long productoId, int cantidad) {
+        acumulados.computeIfAbsent(productoId, id -> new Acumulado()).vendidas.add(cantidad);
+    }
+
+    /**
+     * @return Unidades registradas que todavía no se escribieron en la base de datos.
+     */
+    public long pendientes() {
+        long total = 0;
+        for (Acumulado acumulado : acumulados.values()) {
+            total += acumulado.vendidas.sum() - acumulado.escritas;
+        }
+        return total;
+    }
+
+    /**
+     * Escribe los deltas acumulados en un solo batch JDBC, en orden de id (las transacciones
+     * concurrentes que también bloquean filas de productos no se cruzan en orden inverso).
+     *
+     * @return Cantidad de productos actualizados.
+     */
+    public int vaciar() {
+        bloqueoFlush.lock();
+        try {
+            long inicio = System.nanoTime();
+            List<Delta> deltas = new ArrayList<>();
+            for (Map.Entry<Long, Acumulado> entrada : acumulados.entrySet()) {
+                Acumulado acumulado = entrada.getValue();
+                // sum() de un acumulador que solo crece nunca excede lo ya registrado
+                long vendidas = acumulado.vendidas.sum();
+                if (vendidas > acumulado.escritas) {
+                    deltas.add(new Delta(entrada.getKey(), acumulado, vendidas));
+                }
+            }
+            if (deltas.isEmpty()) {
+                inicioUltimoFlushExitoso = inicio;
+                return 0;
+            }
+            deltas.sort(Comparator.comparing(Delta::productoId));
+
+            Timestamp fecha = Timestamp.valueOf(Utils.fechaActual());
+            List<Long> ids = deltas.stream().map(Delta::productoId).toList();
+            int[] actualizados = transactionTemplate.execute(tx -> bloqueoCache.ejecutar(ids,
+                    () -> jdbcTemplate.batchUpdate(UPDATE_CANTIDAD_VENDIDA,
+                            deltas.stream().map(delta -> new Object[]{delta.cantidad(), fecha, delta.productoId()}).toList())));
+            for (int i = 0; i < deltas.size(); i++) {
+                Delta delta = deltas.get(i);
+                if (actualizados[i] == 0) {
+                    logger.warn("Se descartan {} unidades vendidas del producto {}: el producto no existe",
+                            delta.cantidad(), delta.productoId());
+                    acumulados.remove(delta.productoId());
+                }
+                delta.acumulado().escritas = delta.vendidas();
+            }
+            inicioUltimoFlushExitoso = inicio;
+            duracionFlush.record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+            logger.debug("Contadores de ventas escritos: {} productos en {} us", deltas.size(),
+                    (System.nanoTime() - inicio) / 1_000);
+            return deltas.size();
+        } finally {
+            bloqueoFlush.unlock();
+        }
+    }
+
+    // --- Ciclo de vida ---
+
+    @Override
+    public void start() {
+        programador = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("flush-ventas").daemon().factory());
+        programador.scheduleWithFixedDelay(this::vaciarProgramado, intervalo.toMillis(), intervalo.toMillis(),
+                TimeUnit.MILLISECONDS);
+        ejecutando = true;
+    }
+
+    @Override
+    public void stop() {
+        ejecutando = false;
+        programador.shutdownNow();
+        try {
+            programador.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        vaciarProgramado();
+        long perdidas = pendientes();
+        if (perdidas > 0) {
+            logger.error("Se detiene la aplicacion con {} unidades vendidas sin escribir", perdidas);
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return ejecutando;
+    }
+
+    /**
+     * Se detiene después del servidor web y antes de {@code SnapshotCatalogoServiceImpl} (fase 0),
+     * para que el snapshot final incluya las ventas acumuladas.
+     */
+    @Override
+    public int getPhase() {
+        return 1;
+    }
+
+    private void vaciarProgramado() {
+        try {
+            vaciar();
+        } catch (RuntimeException e) {
+            erroresFlush.increment();
+            logger.error("Fallo la escritura de los contadores de ventas, se reintenta en {}", intervalo, e);
+        }
+    }
+
+    /**
+     * Unidades vendidas registradas y las ya escritas (esta última solo la modifica el flush).
+     */
+    private static final class Acumulado {
+        private final LongAdder vendidas = new LongAdder();
+        private volatile long escritas;
+    }
+
+    private record Delta(Long productoId, Acumulado acumulado, long vendidas) {
+        long cantidad() {
+            return vendidas - acumulado.escritas;
+        }
+    }
+}
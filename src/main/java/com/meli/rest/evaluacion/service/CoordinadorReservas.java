@@ -0,0 +1,222 @@
+package com.meli.rest.evaluacion.service;
+
+import com.meli.rest.evaluacion.exceptions.RecursoNoEncontradoException;
+import com.meli.rest.evaluacion.exceptions.StockInsuficienteException;
+import com.meli.rest.evaluacion.model.ReservaStock;
+import com.meli.rest.evaluacion.repository.ProductoRepository;
+import com.meli.rest.evaluacion.repository.ReservaStockRepository;
+import com.meli.rest.evaluacion.util.Utils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Agrupa (coalesce) las reservas concurrentes sobre un mismo producto.
+ * <p>
+ * Cuando muchas peticiones reservan el mismo SKU a la vez, cada una encola su solicitud y solo un
+ * hilo por producto (el "combinador") toma todas las pendientes y las resuelve en una sola
+ * transacción: un único UPDATE condicional descuenta la suma de las cantidades y las reservas se
+ * insertan en batch. Si la suma no alcanza, se resuelven de a una (cada una con su UPDATE
+ * condicional), por lo que nunca se sobrevende. Así las peticiones sobre un producto caliente no
+ * compiten por el bloqueo de la misma fila una por una.
+ * <p>
+ * El combinador resuelve un solo lote (a lo más {@link #MAXIMO_POR_LOTE} solicitudes) y cede el rol:
+ * si quedan pendientes despierta a la primera de la cola, que toma el rol y resuelve el lote
+ * siguiente, que incluye su propia solicitud. Así ningún hilo resuelve más de dos lotes, aunque el
+ * producto reciba reservas sin pausa, y la cola se atiende en orden de llegada.
+ * <p>
+ * No se usan bloques {@code synchronized}: la exclusión es un {@link AtomicBoolean} por producto y
+ * las demás peticiones se bloquean (sin espera activa) hasta que su solicitud se resuelve o reciben el rol.
+ *
+ * @author [Mauricio Gomez Farias]
+ * @version 1.0
+ * @since 2025-12-04
+ */
+@Component
+public class CoordinadorReservas {
+
+    private static final Logger logger = LoggerFactory.getLogger(CoordinadorReservas.class);
+
+    // Máximo de solicitudes resueltas en una misma transacción (un turno de combinador)
+    private static final int MAXIMO_POR_LOTE = 256;
+
+    private final ConcurrentHashMap<Long, ColaReservas> colas = new ConcurrentHashMap<>();
+    private final ProductoRepository productoRepository;
+    private final ReservaStockRepository reservaStockRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public CoordinadorReservas(ProductoRepository productoRepository,
+                               ReservaStockRepository reservaStockRepository,
+                               TransactionTemplate transactionTemplate) {
+        this.productoRepository = productoRepository;
+        this.reservaStockRepository = reservaStockRepository;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    /**
+     * Reserva stock de un producto. Bloquea hasta que la solicitud es resuelta por el combinador
+     * del producto (que puede ser el propio hilo).
+     *
+     * @param productoId Id del producto.
+     * @param cantidad Unidades a reservar (mayor que cero).
+     * @return La reserva creada.
+     * @throws StockInsuficienteException si no hay stock suficiente.
+     * @throws RecursoNoEncontradoException si el producto no existe.
+     */
+    public ReservaStock reservar(Long productoId, int cantidad) {
+        Solicitud solicitud = new Solicitud(cantidad);
+        ColaReservas cola = colas.computeIfAbsent(productoId, id -> new ColaReservas());
+        cola.pendientes.add(solicitud);
+
+        while (!solicitud.resultado.isDone()) {
+            if (cola.enProceso.compareAndSet(false, true)) {
+                try {
+                    procesarLote(productoId, cola.pendientes);
+                } finally {
+                    cola.enProceso.set(false);
+                }
+                // Se cede el rol a la primera solicitud pendiente. Si la cola quedó vacía se retira
+                // del mapa; un hilo que aún tenga la referencia encola después de esta lectura y, al
+                // no haber combinador, procesa él mismo su solicitud.
+                Solicitud siguiente = cola.pendientes.peek();
+                if (siguiente != null) {
+                    siguiente.aviso.release();
+                } else {
+                    colas.remove(productoId, cola);
+                }
+            } else {
+                // Se despierta cuando su solicitud se resuelve o cuando recibe el rol de combinador
+                solicitud.aviso.acquireUninterruptibly();
+            }
+        }
+
+        try {
+            return solicitud.resultado.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException causa) {
+                throw causa;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Toma hasta {@link #MAXIMO_POR_LOTE} solicitudes pendientes y las resuelve en una transacción
+     * (un turno del combinador).
+     */
+    private void procesarLote(Long productoId, Queue<Solicitud> pendientes) {
+        List<Solicitud> lote = new ArrayList<>();
+        Solicitud solicitud;
+        while (lote.size() < MAXIMO_POR_LOTE && (solicitud = pendientes.poll()) != null) {
+            lote.add(solicitud);
+        }
+        if (lote.isEmpty()) {
+            return;
+        }
+
+        try {
+            ReservaStock[] reservas = transactionTemplate.execute(estado -> reservarLote(productoId, lote));
+            for (int i = 0; i < lote.size(); i++) {
+                if (reservas[i] != null) {
+                    lote.get(i).completar(reservas[i]);
+                } else {
+                    lote.get(i).fallar(new StockInsuficienteException(
+                            "Stock insuficiente para reservar " + lote.get(i).cantidad + " unidades del producto " + productoId));
+                }
+            }
+        } catch (RuntimeException e) {
+            logger.warn("No se pudo procesar el lote de {} reservas del producto {}: {}", lote.size(), productoId, e.getMessage());
+            lote.forEach(s -> s.fallar(e));
+        }
+    }
+
+    /**
+     * Resuelve un lote dentro de la transacción actual.
+     *
+     * @return Las reservas creadas, alineadas con el lote; {@code null} para las que no tuvieron stock.
+     */
+    private ReservaStock[] reservarLote(Long productoId, List<Solicitud> lote) {
+        LocalDateTime fecha = Utils.fechaActual();
+        ReservaStock[] reservas = new ReservaStock[lote.size()];
+
+        long total = 0;
+        for (Solicitud solicitud : lote) {
+            total += solicitud.cantidad;
+        }
+
+        // 1. Intento combinado: un solo UPDATE condicional para todo el lote
+        boolean combinado = total <= Integer.MAX_VALUE
+                && productoRepository.descontarStock(productoId, (int) total, fecha) == 1;
+
+        // 2. Si no alcanza para todas, se resuelven de a una (si el lote tiene una sola, ya falló)
+        boolean algunaReservada = combinado;
+        for (int i = 0; i < lote.size(); i++) {
+            int cantidad = lote.get(i).cantidad;
+            if (combinado || (lote.size() > 1 && productoRepository.descontarStock(productoId, cantidad, fecha) == 1)) {
+                reservas[i] = new ReservaStock(productoId, cantidad);
+                algunaReservada = true;
+            }
+        }
+
+        if (!algunaReservada) {
+            if (!productoRepository.existsById(productoId)) {
+                throw new RecursoNoEncontradoException("No existe el producto con ID: " + productoId);
+            }
+            return reservas;
+        }
+
+        List<ReservaStock> nuevas = new ArrayList<>(lote.size());
+        for (ReservaStock reserva : reservas) {
+            if (reserva != null) {
+                nuevas.add(reserva);
+            }
+        }
+        reservaStockRepository.saveAll(nuevas);
+        logger.debug("Lote de reservas del producto {}: {} solicitudes, combinado: {}", productoId, lote.size(), combinado);
+        return reservas;
+    }
+
+    /**
+     * Solicitudes pendientes de un producto y marca de combinador activo.
+     */
+    private static final class ColaReservas {
+        private final Queue<Solicitud> pendientes = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean enProceso = new AtomicBoolean();
+    }
+
+    /**
+     * Solicitud de reserva. {@code aviso} despierta al hilo que la envió cuando se resuelve o cuando
+     * recibe el rol de combinador; los permisos sobrantes solo provocan una vuelta más del ciclo.
+     */
+    private static final class Solicitud {
+        private final int cantidad;
+        private final CompletableFuture<ReservaStock> resultado = new CompletableFuture<>();
+        private final Semaphore aviso = new Semaphore(0);
+
+        private Solicitud(int cantidad) {
+            this.cantidad = cantidad;
+        }
+
+        private void completar(ReservaStock reserva) {
+            resultado.complete(reserva);
+            aviso.release();
+        }
+
+        private void fallar(RuntimeException error) {
+            resultado.completeExceptionally(error);
+            aviso.release();
+        }
+    }
+}
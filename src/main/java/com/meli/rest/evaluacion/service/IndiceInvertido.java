@@ -0,0 +1,428 @@
+package com.meli.rest.evaluacion.service;
+
+import com.meli.rest.evaluacion.model.Producto;
+import com.meli.rest.evaluacion.util.TokenizadorEspanol;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.IntStream;
+
+/**
+ * Índice invertido en memoria sobre {@code titulo}, {@code descripcion} y {@code especificaciones}.
+ * <p>
+ * Cada producto indexado recibe un número de documento interno ({@code int}) y cada término
+ * guarda su lista de documentos y frecuencias en arreglos primitivos ordenados por documento.
+ * Las ocurrencias se ponderan por campo: título x3, especificaciones x2 y descripción x1.
+ * Los resultados se ordenan por BM25.
+ * <p>
+ * Re-indexar un producto marca su documento anterior como eliminado (tombstone) y agrega uno
+ * nuevo; cuando los eliminados superan un cuarto del índice se purgan de las listas y los
+ * documentos vigentes se renumeran en forma compacta, conservando su orden. Así los números de
+ * documento y los arreglos por documento no crecen con las re-indexaciones. Una
+ * consulta solo recorre las listas de sus términos, por lo que su costo depende de cuántos
+ * productos contienen esos términos y no del tamaño del catálogo.
+ * <p>
+ * Es seguro para uso concurrente: las consultas toman el bloqueo de lectura y las
+ * actualizaciones el de escritura.
+ *
+ * @author [Mauricio Gomez Farias]
+ * @version 1.0
+ * @since 2025-12-04
+ */
+public class IndiceInvertido {
+
+    // Parámetros estándar de BM25
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+
+    private static final int PESO_TITULO = 3;
+    private static final int PESO_ESPECIFICACIONES = 2;
+    private static final int PESO_DESCRIPCION = 1;
+
+    // Máximo de términos distintos considerados por consulta
+    private static final int MAXIMO_TERMINOS_CONSULTA = 16;
+
+    private final ReentrantReadWriteLock bloqueo = new ReentrantReadWriteLock();
+    private final Map<String, ListaPosteo> listas = new HashMap<>();
+    private final Map<Long, Integer> documentoPorProducto = new HashMap<>();
+    private final BitSet eliminados = new BitSet();
+    private long[] productoPorDocumento = new long[1024];
+    private int[] largoPorDocumento = new int[1024];
+    private int totalDocumentos;
+    private int documentosVigentes;
+    private long largoTotalVigentes;
+    // Documentos eliminados que todavía aparecen en las listas
+    private int eliminadosSinPurgar;
+
+    /**
+     * Texto indexable de un producto, copiado al momento de guardarlo.
+     */
+    public record Documento(Long productoId, String titulo, String descripcion, List<String> especificaciones) {
+
+        public static Documento de(Producto producto) {
+            List<String> especificaciones = producto.getEspecificaciones() == null
+                    ? List.of() : List.copyOf(producto.getEspecificaciones());
+            return new Documento(producto.getId(), producto.getTitulo(), producto.getDescripcion(), especificaciones);
+        }
+    }
+
+    /**
+     * Producto encontrado y su puntaje BM25.
+     */
+    public record Coincidencia(long productoId, float puntaje) {
+    }
+
+    /**
+     * Resultado de una consulta: las mejores coincidencias y el total de productos que coinciden.
+     */
+    public record Resultado(List<Coincidencia> coincidencias, int total) {
+    }
+
+    /**
+     * Construye un índice con todos los documentos tokenizándolos en paralelo.
+     * <p>
+     * Los documentos se dividen en segmentos contiguos; cada segmento arma sus listas en un hilo
+     * distinto y luego se concatenan en orden, manteniendo las listas ordenadas por documento.
+     *
+     * @param documentos Documentos a indexar (un documento por producto).
+     * @return El índice construido.
+     */
+    public static IndiceInvertido construir(List<Documento> documentos) {
+        int procesadores = Runtime.getRuntime().availableProcessors();
+        int segmentos = Math.max(1, Math.min(procesadores * 4, documentos.size() / 512));
+        int porSegmento = (documentos.size() + segmentos - 1) / segmentos;
+        int[] largos = new int[documentos.size()];
+
+        List<Map<String, ListaPosteo>> parciales = IntStream.range(0, segmentos).parallel()
+                .mapToObj(segmento -> {
+                    Map<String, ListaPosteo> parcial = new HashMap<>();
+                    int desde = segmento * porSegmento;
+                    int hasta = Math.min(desde + porSegmento, documentos.size());
+                    for (int documento = desde; documento < hasta; documento++) {
+                        Map<String, Integer> frecuencias = frecuencias(documentos.get(documento));
+                        largos[documento] = largo(frecuencias);
+                        for (Map.Entry<String, Integer> termino : frecuencias.entrySet()) {
+                            parcial.computeIfAbsent(termino.getKey(), t -> new ListaPosteo())
+                                    .agregar(documento, termino.getValue());
+                        }
+                    }
+                    return parcial;
+                })
+                .toList();
+
+        IndiceInvertido indice = new IndiceInvertido();
+        for (Map<String, ListaPosteo> parcial : parciales) {
+            parcial.forEach((termino, lista) -> indice.listas.merge(termino, lista, ListaPosteo::concatenar));
+        }
+        for (int i = 0; i < documentos.size(); i++) {
+            // Los números de documento coinciden con la posición en la lista usada por los segmentos
+            int numero = indice.nuevoDocumento(documentos.get(i).productoId(), largos[i]);
+            Integer anterior = indice.documentoPorProducto.put(documentos.get(i).productoId(), numero);
+            if (anterior != null) {
+                indice.marcarEliminado(anterior);
+            }
+        }
+        return indice;
+    }
+
+    /**
+     * Agrega o re-indexa documentos. La tokenización se hace antes de tomar el bloqueo.
+     *
+     * @param documentos Documentos a indexar.
+     */
+    public void indexar(List<Documento> documentos) {
+        List<Map<String, Integer>> terminos = new ArrayList<>(documentos.size());
+        for (Documento documento : documentos) {
+            terminos.add(frecuencias(documento));
+        }
+
+        bloqueo.writeLock().lock();
+        try {
+            for (int i = 0; i < documentos.size(); i++) {
+                Documento documento = documentos.get(i);
+                Integer anterior = documentoPorProducto.get(documento.productoId());
+                if (anterior != null) {
+                    marcarEliminado(anterior);
+                }
+                int numero = nuevoDocumento(documento.productoId(), largo(terminos.get(i)));
+                documentoPorProducto.put(documento.productoId(), numero);
+                for (Map.Entry<String, Integer> termino : terminos.get(i).entrySet()) {
+                    listas.computeIfAbsent(termino.getKey(), t -> new ListaPosteo()).agregar(numero, termino.getValue());
+                }
+            }
+            if (eliminadosSinPurgar > documentosVigentes / 4) {
+                purgarEliminados();
+            }
+        } finally {
+            bloqueo.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Busca los productos que contienen alguno de los términos de la consulta.
+     *
+     * @param consulta Texto de la consulta.
+     * @param limite Máximo de coincidencias a retornar.
+     * @return Las mejores coincidencias ordenadas por puntaje descendente y el total de coincidencias.
+     */
+    public Resultado buscar(String consulta, int limite) {
+        List<String> terminos = new ArrayList<>(new LinkedHashSet<>(TokenizadorEspanol.tokenizar(consulta)));
+        if (terminos.size() > MAXIMO_TERMINOS_CONSULTA) {
+            terminos = terminos.subList(0, MAXIMO_TERMINOS_CONSULTA);
+        }
+
+        bloqueo.readLock().lock();
+        try {
+            if (terminos.isEmpty() || documentosVigentes == 0) {
+                return new Resultado(List.of(), 0);
+            }
+            float largoPromedio = (float) largoTotalVigentes / documentosVigentes;
+            AcumuladorPuntajes acumulador = new AcumuladorPuntajes();
+
+            for (String termino : terminos) {
+                ListaPosteo lista = listas.get(termino);
+                if (lista == null) {
+                    continue;
+                }
+                double idf = Math.log(1 + (documentosVigentes - lista.tamanio + 0.5) / (lista.tamanio + 0.5));
+                for (int i = 0; i < lista.tamanio; i++) {
+                    int documento = lista.documentos[i];
+                    if (eliminados.get(documento)) {
+                        continue;
+                    }
+                    int frecuencia = lista.frecuencias[i];
+                    float normalizacion = K1 * (1 - B + B * largoPorDocumento[documento] / largoPromedio);
+                    acumulador.sumar(documento, (float) (idf * frecuencia * (K1 + 1) / (frecuencia + normalizacion)));
+                }
+            }
+
+            // Selección de las mejores coincidencias con un heap acotado
+            PriorityQueue<Coincidencia> mejores = new PriorityQueue<>(Math.max(1, limite),
+                    (a, b) -> Float.compare(a.puntaje(), b.puntaje()));
+            for (int i = 0; i < acumulador.claves.length; i++) {
+                if (acumulador.ocupados[i]) {
+                    Coincidencia coincidencia = new Coincidencia(productoPorDocumento[acumulador.claves[i]], acumulador.valores[i]);
+                    if (mejores.size() < limite) {
+                        mejores.add(coincidencia);
+                    } else if (limite > 0 && coincidencia.puntaje() > mejores.peek().puntaje()) {
+                        mejores.poll();
+                        mejores.add(coincidencia);
+                    }
+                }
+            }
+            Coincidencia[] ordenadas = mejores.toArray(new Coincidencia[0]);
+            Arrays.sort(ordenadas, (a, b) -> Float.compare(b.puntaje(), a.puntaje()));
+            return new Resultado(List.of(ordenadas), acumulador.tamanio);
+        } finally {
+            bloqueo.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return La cantidad de productos indexados (sin contar documentos eliminados).
+     */
+    public int tamanio() {
+        bloqueo.readLock().lock();
+        try {
+            return documentosVigentes;
+        } finally {
+            bloqueo.readLock().unlock();
+        }
+    }
+
+    private int nuevoDocumento(long productoId, int largo) {
+        int numero = totalDocumentos++;
+        if (numero == productoPorDocumento.length) {
+            productoPorDocumento = Arrays.copyOf(productoPorDocumento, numero * 2);
+            largoPorDocumento = Arrays.copyOf(largoPorDocumento, numero * 2);
+        }
+        productoPorDocumento[numero] = productoId;
+        largoPorDocumento[numero] = largo;
+        documentosVigentes++;
+        largoTotalVigentes += largo;
+        return numero;
+    }
+
+    private void marcarEliminado(int documento) {
+        eliminados.set(documento);
+        eliminadosSinPurgar++;
+        documentosVigentes--;
+        largoTotalVigentes -= largoPorDocumento[documento];
+    }
+
+    /**
+     * Quita los documentos eliminados de las listas y renumera los vigentes desde 0. La renumeración
+     * conserva el orden, por lo que las listas siguen ordenadas por documento.
+     */
+    private void purgarEliminados() {
+        int[] nuevoNumero = new int[totalDocumentos];
+        int vigentes = 0;
+        for (int documento = 0; documento < totalDocumentos; documento++) {
+            if (eliminados.get(documento)) {
+                nuevoNumero[documento] = -1;
+            } else {
+                nuevoNumero[documento] = vigentes;
+                productoPorDocumento[vigentes] = productoPorDocumento[documento];
+                largoPorDocumento[vigentes] = largoPorDocumento[documento];
+                vigentes++;
+            }
+        }
+        listas.values().removeIf(lista -> lista.compactar(nuevoNumero));
+        documentoPorProducto.replaceAll((producto, documento) -> nuevoNumero[documento]);
+        totalDocumentos = vigentes;
+        eliminados.clear();
+        eliminadosSinPurgar = 0;
+
+        // Si el índice se achicó, los arreglos por documento también
+        int capacidad = Math.max(1024, vigentes + vigentes / 2);
+        if (productoPorDocumento.length > 2 * capacidad) {
+            productoPorDocumento = Arrays.copyOf(productoPorDocumento, capacidad);
+            largoPorDocumento = Arrays.copyOf(largoPorDocumento, capacidad);
+        }
+    }
+
+    /**
+     * @return Números de documento en uso, incluidos los eliminados aún no purgados.
+     */
+    int documentosAsignados() {
+        bloqueo.readLock().lock();
+        try {
+            return totalDocumentos;
+        } finally {
+            bloqueo.readLock().unlock();
+        }
+    }
+
+    private static Map<String, Integer> frecuencias(Documento documento) {
+        Map<String, Integer> frecuencias = new HashMap<>();
+        sumarFrecuencias(frecuencias, TokenizadorEspanol.tokenizar(documento.titulo()), PESO_TITULO);
+        sumarFrecuencias(frecuencias, TokenizadorEspanol.tokenizar(documento.descripcion()), PESO_DESCRIPCION);
+        for (String especificacion : documento.especificaciones()) {
+            sumarFrecuencias(frecuencias, TokenizadorEspanol.tokenizar(especificacion), PESO_ESPECIFICACIONES);
+        }
+        return frecuencias;
+    }
+
+    private static void sumarFrecuencias(Map<String, Integer> frecuencias, List<String> terminos, int peso) {
+        for (String termino : terminos) {
+            frecuencias.merge(termino, peso, Integer::sum);
+        }
+    }
+
+    private static int largo(Map<String, Integer> frecuencias) {
+        int largo = 0;
+        for (int frecuencia : frecuencias.values()) {
+            largo += frecuencia;
+        }
+        return largo;
+    }
+
+    /**
+     * Lista de documentos de un término, en arreglos primitivos ordenados por documento.
+     */
+    private static final class ListaPosteo {
+        private int[] documentos = new int[4];
+        private int[] frecuencias = new int[4];
+        private int tamanio;
+
+        private void agregar(int documento, int frecuencia) {
+            if (tamanio == documentos.length) {
+                documentos = Arrays.copyOf(documentos, tamanio * 2);
+                frecuencias = Arrays.copyOf(frecuencias, tamanio * 2);
+            }
+            documentos[tamanio] = documento;
+            frecuencias[tamanio] = frecuencia;
+            tamanio++;
+        }
+
+        /**
+         * Concatena dos listas de segmentos consecutivos (todos los documentos de {@code a} son menores).
+         */
+        private static ListaPosteo concatenar(ListaPosteo a, ListaPosteo b) {
+            ListaPosteo resultado = new ListaPosteo();
+            resultado.documentos = Arrays.copyOf(a.documentos, a.tamanio + b.tamanio);
+            resultado.frecuencias = Arrays.copyOf(a.frecuencias, a.tamanio + b.tamanio);
+            System.arraycopy(b.documentos, 0, resultado.documentos, a.tamanio, b.tamanio);
+            System.arraycopy(b.frecuencias, 0, resultado.frecuencias, a.tamanio, b.tamanio);
+            resultado.tamanio = a.tamanio + b.tamanio;
+            return resultado;
+        }
+
+        /**
+         * Quita los documentos eliminados ({@code -1} en {@code nuevoNumero}) y renumera los demás.
+         *
+         * @return {@code true} si la lista quedó vacía.
+         */
+        private boolean compactar(int[] nuevoNumero) {
+            int destino = 0;
+            for (int i = 0; i < tamanio; i++) {
+                int numero = nuevoNumero[documentos[i]];
+                if (numero >= 0) {
+                    documentos[destino] = numero;
+                    frecuencias[destino] = frecuencias[i];
+                    destino++;
+                }
+            }
+            tamanio = destino;
+            return tamanio == 0;
+        }
+    }
+
+    /**
+     * Mapa documento → puntaje con direccionamiento abierto, sin boxing.
+     */
+    private static final class AcumuladorPuntajes {
+        private int[] claves = new int[64];
+        private float[] valores = new float[64];
+        private boolean[] ocupados = new boolean[64];
+        private int tamanio;
+
+        private void sumar(int documento, float puntaje) {
+            if (tamanio * 2 >= claves.length) {
+                crecer();
+            }
+            int posicion = posicion(documento, claves.length);
+            while (ocupados[posicion] && claves[posicion] != documento) {
+                posicion = (posicion + 1) & (claves.length - 1);
+            }
+            if (!ocupados[posicion]) {
+                ocupados[posicion] = true;
+                claves[posicion] = documento;
+                tamanio++;
+            }
+            valores[posicion] += puntaje;
+        }
+
+        private void crecer() {
+            int[] clavesAnteriores = claves;
+            float[] valoresAnteriores = valores;
+            boolean[] ocupadosAnteriores = ocupados;
+            claves = new int[clavesAnteriores.length * 2];
+            valores = new float[clavesAnteriores.length * 2];
+            ocupados = new boolean[clavesAnteriores.length * 2];
+            for (int i = 0; i < clavesAnteriores.length; i++) {
+                if (ocupadosAnteriores[i]) {
+                    int posicion = posicion(clavesAnteriores[i], claves.length);
+                    while (ocupados[posicion]) {
+                        posicion = (posicion + 1) & (claves.length - 1);
+                    }
+                    ocupados[posicion] = true;
+                    claves[posicion] = clavesAnteriores[i];
+                    valores[posicion] = valoresAnteriores[i];
+                }
+            }
+        }
+
+        private static int posicion(int documento, int capacidad) {
+            int hash = documento * 0x9E3779B9;
+            return (hash ^ (hash >>> 16)) & (capacidad - 1);
+        }
+    }
+}
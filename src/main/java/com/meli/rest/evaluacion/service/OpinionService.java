@@ -0,0 +1,35 @@
+package com.meli.rest.evaluacion.service;
+
+import com.meli.rest.evaluacion.dto.PaginaOpiniones;
+import com.meli.rest.evaluacion.dto.SolicitudOpinion;
+import com.meli.rest.evaluacion.model.Opinion;
+
+/**
+ * Interface del servicio de opiniones de productos.
+ * <p>
+ * Definicion de los metodos que seran implementados en OpinionServiceImpl
+ *
+ * @author [Mauricio Gomez Farias]
+ * @version 1.0
+ * @since 2025-12-04
+ */
+public interface OpinionService {
+
+    /**
+     * Guarda una opinión y actualiza en la misma transacción los agregados del producto
+     * (promedio, total e histograma por estrellas).
+     * @param productoId Identificador del producto.
+     * @param solicitud Puntaje (1 a 5), autor y comentario.
+     * @return La opinión creada.
+     */
+    Opinion publicarOpinion(Long productoId, SolicitudOpinion solicitud);
+
+    /**
+     * Obtiene una página de opiniones de un producto, de la más reciente a la más antigua.
+     * @param productoId Identificador del producto.
+     * @param cursor Cursor opaco de la página anterior, o {@code null} para la primera página.
+     * @param tamanio Tamaño solicitado; si es nulo se usa el valor por defecto.
+     * @return Las opiniones de la página y el cursor siguiente.
+     */
+    PaginaOpiniones obtenerOpiniones(Long productoId, String cursor, Integer tamanio);
+}
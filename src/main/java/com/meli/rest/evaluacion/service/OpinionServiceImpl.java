@@ -0,0 +1,176 @@
+package com.meli.rest.evaluacion.service;
+
+import com.meli.rest.evaluacion.dto.PaginaOpiniones;
+import com.meli.rest.evaluacion.dto.SolicitudOpinion;
+import com.meli.rest.evaluacion.exceptions.InvalidDataException;
+import com.meli.rest.evaluacion.exceptions.RecursoNoEncontradoException;
+import com.meli.rest.evaluacion.model.Opinion;
+import com.meli.rest.evaluacion.repository.BloqueoCacheProductos;
+import com.meli.rest.evaluacion.repository.OpinionRepository;
+import com.meli.rest.evaluacion.util.CursorOpinion;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * Implementación del servicio de opiniones.
+ * <p>
+ * Publicar una opinión cuesta O(1) sin importar cuántas tenga el producto: en la misma transacción
+ * se inserta la opinión y se ejecuta un único UPDATE condicional sobre la fila del producto que suma
+ * el total, la suma de puntajes y la columna del histograma del puntaje, y recalcula el promedio
+ * desde la suma. El UPDATE toma el bloqueo de la fila, por lo que las opiniones concurrentes de un
+ * mismo producto se aplican una tras otra sin perder incrementos ni leer-modificar-escribir en
+ * memoria. Como en {@link ContadorVentas}, el UPDATE es JDBC y solo la entrada del producto queda
+ * bloqueada en la cache de segundo nivel hasta el fin de la transacción (ver {@link BloqueoCacheProductos}).
+ * <p>
+ * Los productos que llegan con {@code ratingPromedio} y {@code totalOpiniones} iniciales (sin suma
+ * de puntajes) la derivan de ellos en la primera opinión.
+ *
+ * @author [Mauricio Gomez Farias]
+ * @version 1.0
+ * @since 2025-12-04
+ */
+@Service
+public class OpinionServiceImpl implements OpinionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(OpinionServiceImpl.class);
+
+    private static final int LARGO_MAXIMO_AUTOR = 100;
+    private static final int LARGO_MAXIMO_COMENTARIO = 2000;
+
+    // En un UPDATE todas las expresiones de SET leen los valores anteriores de la fila
+    private static final String SUMA_ANTERIOR = "coalesce(suma_puntajes, "
+            + "cast(round(coalesce(rating_promedio, 0) * coalesce(total_opiniones, 0)) as bigint))";
+
+    // Una sentencia por puntaje: la columna del histograma no puede ser un parámetro
+    private static final String[] UPDATE_AGREGADOS = new String[Opinion.PUNTAJE_MAXIMO + 1];
+
+    static {
+        for (int puntaje = Opinion.PUNTAJE_MINIMO; puntaje <= Opinion.PUNTAJE_MAXIMO; puntaje++) {
+            String histograma = "opiniones" + puntaje;
+            UPDATE_AGREGADOS[puntaje] = "update productos set "
+                    + "total_opiniones = coalesce(total_opiniones, 0) + 1, "
+                    + "suma_puntajes = " + SUMA_ANTERIOR + " + " + puntaje + ", "
+                    + "rating_promedio = (" + SUMA_ANTERIOR + " + " + puntaje + ") / (coalesce(total_opiniones, 0) + 1.0), "
+                    + histograma + " = coalesce(" + histograma + ", 0) + 1, "
+                    + "fecha_actualizacion = ? where id = ?";
+        }
+    }
+
+    private final OpinionRepository opinionRepository;
+    private final CargadorProductos cargadorProductos;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final BloqueoCacheProductos bloqueoCache;
+
+    // Tamaños de página del listado (los mismos del listado de productos)
+    @Value("${evaluacion.paginacion.tamanio-defecto:20}")
+    private int tamanioPaginaDefecto;
+
+    @Value("${evaluacion.paginacion.tamanio-maximo:100}")
+    private int tamanioPaginaMaximo;
+
+    public OpinionServiceImpl(OpinionRepository opinionRepository, CargadorProductos cargadorProductos,
+                              JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                              BloqueoCacheProductos bloqueoCache) {
+        this.opinionRepository = opinionRepository;
+        this.cargadorProductos = cargadorProductos;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.bloqueoCache = bloqueoCache;
+    }
+
+    /**
+     * @throws InvalidDataException si el puntaje no está entre 1 y 5 o el autor o el comentario son muy largos.
+     * @throws RecursoNoEncontradoException si el producto no existe.
+     */
+    @Override
+    public Opinion publicarOpinion(Long productoId, SolicitudOpinion solicitud) {
+        Opinion opinion = crearOpinion(productoId, solicitud);
+
+        transactionTemplate.executeWithoutResult(estado -> {
+            int actualizados = bloqueoCache.ejecutar(List.of(productoId), () -> jdbcTemplate.update(
+                    UPDATE_AGREGADOS[opinion.getPuntaje()], Timestamp.valueOf(opinion.getFechaCreacion()), productoId));
+            if (actualizados == 0) {
+                throw new RecursoNoEncontradoException("No existe el producto con ID: " + productoId);
+            }
+            opinionRepository.save(opinion);
+        });
+
+        logger.info("Opinion {} publicada: {} estrellas para el producto {}", opinion.getId(), opinion.getPuntaje(), productoId);
+        return opinion;
+    }
+
+    /**
+     * Pagina por clave sobre el índice (productoId, id): cada página cuesta lo mismo sin importar
+     * su posición. Se pide una fila más que el tamaño para saber si hay página siguiente.
+     *
+     * @throws InvalidDataException si el cursor o el tamaño no son válidos.
+     * @throws RecursoNoEncontradoException si el producto no existe.
+     */
+    @Override
+    public PaginaOpiniones obtenerOpiniones(Long productoId, String cursor, Integer tamanio) {
+        int tamanioPagina = resolverTamanioPagina(tamanio);
+        // Sin producto no hay opiniones: 404 en lugar de una página vacía
+        if (cargadorProductos.cargar(productoId).isEmpty()) {
+            throw new RecursoNoEncontradoException("No existe el producto con ID: " + productoId);
+        }
+
+        Pageable limite = PageRequest.of(0, tamanioPagina + 1);
+        List<Opinion> opiniones;
+        if (cursor == null || cursor.isBlank()) {
+            opiniones = opinionRepository.buscarPrimeraPagina(productoId, limite);
+        } else {
+            CursorOpinion posicion = CursorOpinion.decodificar(cursor);
+            opiniones = opinionRepository.buscarPaginaSiguiente(productoId, posicion.id(), limite);
+        }
+
+        String siguienteCursor = null;
+        if (opiniones.size() > tamanioPagina) {
+            opiniones = opiniones.subList(0, tamanioPagina);
+            siguienteCursor = new CursorOpinion(opiniones.get(tamanioPagina - 1).getId()).codificar();
+        }
+        return new PaginaOpiniones(opiniones, siguienteCursor);
+    }
+
+    private static Opinion crearOpinion(Long productoId, SolicitudOpinion solicitud) {
+        if (solicitud == null || solicitud.getPuntaje() == null
+                || solicitud.getPuntaje() < Opinion.PUNTAJE_MINIMO || solicitud.getPuntaje() > Opinion.PUNTAJE_MAXIMO) {
+            throw new InvalidDataException("El puntaje de la opinión debe estar entre "
+                    + Opinion.PUNTAJE_MINIMO + " y " + Opinion.PUNTAJE_MAXIMO + ".");
+        }
+        if (solicitud.getAutor() != null && solicitud.getAutor().length() > LARGO_MAXIMO_AUTOR) {
+            throw new InvalidDataException("El autor no puede superar " + LARGO_MAXIMO_AUTOR + " caracteres.");
+        }
+        if (solicitud.getComentario() != null && solicitud.getComentario().length() > LARGO_MAXIMO_COMENTARIO) {
+            throw new InvalidDataException("El comentario no puede superar " + LARGO_MAXIMO_COMENTARIO + " caracteres.");
+        }
+        Opinion opinion = new Opinion();
+        opinion.setProductoId(productoId);
+        opinion.setPuntaje(solicitud.getPuntaje());
+        opinion.setAutor(solicitud.getAutor());
+        opinion.setComentario(solicitud.getComentario());
+        return opinion;
+    }
+
+    /**
+     * Acota el tamaño de página solicitado al rango [1, máximo configurado].
+     */
+    private int resolverTamanioPagina(Integer tamanio) {
+        if (tamanio == null) {
+            return Math.min(tamanioPaginaDefecto, tamanioPaginaMaximo);
+        }
+        if (tamanio <= 0) {
+            throw new InvalidDataException("El tamaño de página debe ser mayor que cero.");
+        }
+        return Math.min(tamanio, tamanioPaginaMaximo);
+    }
+}
@@ -1,7 +1,17 @@
 package com.meli.rest.evaluacion.service;
 
+import com.meli.rest.evaluacion.dto.CamposProducto;
+import com.meli.rest.evaluacion.dto.FiltroProductos;
+import com.meli.rest.evaluacion.dto.PaginaProductos;
+import com.meli.rest.evaluacion.dto.PaginaProductosParciales;
+import com.meli.rest.evaluacion.dto.PaginaVersiones;
+import com.meli.rest.evaluacion.dto.ProductoParcial;
+import com.meli.rest.evaluacion.dto.RespuestaIngestaLote;
+import com.meli.rest.evaluacion.dto.VersionProducto;
 import com.meli.rest.evaluacion.model.Producto;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,6 +33,21 @@ public interface ProductoService {
      */
     Producto guardarProducto(Producto producto);
 
+    /**
+     * Guarda una carga masiva de productos en lotes transaccionales.
+     * @param productos Los productos a guardar.
+     * @return El resultado de cada producto (guardado, rechazado o con error) y los totales.
+     */
+    RespuestaIngestaLote guardarProductos(List<Producto> productos);
+
+    /**
+     * Registra unidades vendidas de un producto. La suma a {@code cantidadVendida} se escribe
+     * en la base de datos de forma diferida, agrupada con las demás ventas del intervalo.
+     * @param id El ID del producto.
+     * @param cantidad Unidades vendidas.
+     */
+    void registrarVenta(Long id, Integer cantidad);
+
     /**
      * Obtiene todos los campos de un producto por su ID.
      * @param id El ID del producto.
@@ -31,8 +56,77 @@ public interface ProductoService {
     Optional<Producto> obtenerProductoPorId(Long id);
 
     /**
-     * Obtiene una lista de todos los productos.
-     * @return Una lista de todos los productos.
+     * Obtiene varios productos por sus IDs en una sola consulta.
+     * @param ids Los IDs de los productos.
+     * @return Los productos encontrados, en el orden de los IDs; los que no existen se omiten.
+     */
+    List<Producto> obtenerProductosPorIds(List<Long> ids);
+
+    /**
+     * Obtiene la versión (id y fecha de actualización) de un producto sin cargar sus datos.
+     * @param id El ID del producto.
+     * @return Un Optional con la versión si el producto existe, o vacío si no.
+     */
+    Optional<VersionProducto> obtenerVersionProducto(Long id);
+
+    /**
+     * Obtiene solo los campos solicitados de un producto, sin cargar la entidad completa.
+     * @param id El ID del producto.
+     * @param campos Campos solicitados con el parámetro {@code fields}.
+     * @return Un Optional con el producto parcial si existe, o vacío si no.
+     */
+    Optional<ProductoParcial> obtenerCamposProducto(Long id, CamposProducto campos);
+
+    /**
+     * Obtiene solo los campos solicitados de varios productos.
+     * @param ids Los IDs de los productos.
+     * @param campos Campos solicitados con el parámetro {@code fields}.
+     * @return Los productos parciales encontrados, en el orden de los IDs; los que no existen se omiten.
+     */
+    List<ProductoParcial> obtenerCamposProductosPorIds(List<Long> ids, CamposProducto campos);
+
+    /**
+     * Obtiene una página del catálogo usando paginación por cursor.
+     * @param cursor Cursor opaco entregado en la página anterior, o {@code null} para la primera página.
+     * @param tamanio Cantidad de productos solicitada; se acota al máximo configurado.
+     * @return La página de productos y el cursor de la página siguiente.
+     */
+    PaginaProductos obtenerPaginaProductos(String cursor, Integer tamanio);
+
+    /**
+     * Obtiene una página del catálogo filtrada y ordenada, usando paginación por cursor.
+     * @param filtro Filtros y orden del listado.
+     * @param cursor Cursor opaco entregado en la página anterior, o {@code null} para la primera página.
+     * @param tamanio Cantidad de productos solicitada; se acota al máximo configurado.
+     * @return La página de productos y el cursor de la página siguiente.
+     */
+    PaginaProductos obtenerPaginaProductos(FiltroProductos filtro, String cursor, Integer tamanio);
+
+    /**
+     * Obtiene las versiones (id y fecha de actualización) de los productos de una página del catálogo,
+     * la misma que retorna {@link #obtenerPaginaProductos(FiltroProductos, String, Integer)}, sin cargarlos.
+     * @param filtro Filtros y orden del listado.
+     * @param cursor Cursor opaco entregado en la página anterior, o {@code null} para la primera página.
+     * @param tamanio Cantidad de productos solicitada; se acota al máximo configurado.
+     * @return Las versiones de los productos de la página y el cursor de la página siguiente.
+     */
+    PaginaVersiones obtenerVersionesPagina(FiltroProductos filtro, String cursor, Integer tamanio);
+
+    /**
+     * Obtiene una página del catálogo filtrada y ordenada con solo los campos solicitados.
+     * @param filtro Filtros y orden del listado.
+     * @param cursor Cursor opaco entregado en la página anterior, o {@code null} para la primera página.
+     * @param tamanio Cantidad de productos solicitada; se acota al máximo configurado.
+     * @param campos Campos solicitados con el parámetro {@code fields}.
+     * @return La página de productos parciales y el cursor de la página siguiente.
+     */
+    PaginaProductosParciales obtenerPaginaProductos(FiltroProductos filtro, String cursor, Integer tamanio,
+                                                    CamposProducto campos);
+
+    /**
+     * Escribe el catálogo completo en formato NDJSON (un producto JSON por línea).
+     * @param salida Stream de salida donde se escriben los productos a medida que se leen.
+     * @throws IOException si ocurre un error al escribir en la salida.
      */
-    List<Producto> obtenerTodosLosProductos();
-}
\ No newline at end of file
+    void exportarCatalogo(OutputStream salida) throws IOException;
+}
@@ -1,29 +1,80 @@
 package com.meli.rest.evaluacion.service;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.meli.rest.evaluacion.dto.CamposProducto;
+import com.meli.rest.evaluacion.dto.FiltroProductos;
+import com.meli.rest.evaluacion.dto.OrdenProductos;
+import com.meli.rest.evaluacion.dto.PaginaProductos;
+import com.meli.rest.evaluacion.dto.PaginaProductosParciales;
+import com.meli.rest.evaluacion.dto.PaginaVersiones;
+import com.meli.rest.evaluacion.dto.ProductoParcial;
+import com.meli.rest.evaluacion.dto.RespuestaIngestaLote;
+import com.meli.rest.evaluacion.dto.ResultadoIngesta;
+import com.meli.rest.evaluacion.dto.ValorColeccion;
+import com.meli.rest.evaluacion.dto.VersionProducto;
 import com.meli.rest.evaluacion.exceptions.InvalidDataException;
+import com.meli.rest.evaluacion.exceptions.RecursoNoEncontradoException;
 import com.meli.rest.evaluacion.model.Producto;
+import com.meli.rest.evaluacion.repository.ProductoEspecificaciones;
 import com.meli.rest.evaluacion.repository.ProductoRepository;
+import com.meli.rest.evaluacion.util.CursorOrdenado;
+import com.meli.rest.evaluacion.util.CursorProducto;
 import com.meli.rest.evaluacion.validation.ProductoValidator;
+import com.meli.rest.evaluacion.validation.ResultadoValidacion;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import org.hibernate.CacheMode;
+import org.hibernate.Hibernate;
+import org.hibernate.Session;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Implementación del servicio de Productos.
  * <p>
  * Contiene la lógica de negocio para la gestión de la entidad {@link Producto},
  * incluyendo validación y delegación de la persistencia al repositorio.
+ * <p>
+ * Cada método público se mide con {@code @Timed} (métrica {@code evaluacion.servicio.productos},
+ * etiquetada por {@code method}) para seguir su latencia en {@code /actuator/prometheus}.
  *
  * @author [Mauricio Gomez Farias]
  * @version 1.0
  * @since 2025-12-04
  */
 @Service
+@Timed(value = "evaluacion.servicio.productos", histogram = true)
 public class ProductoServiceImpl implements ProductoService {
 
     // 1. Instanciar el Logger
@@ -31,17 +82,59 @@ public class ProductoServiceImpl implements ProductoService {
 
     private final ProductoRepository productoRepository;
     private final ProductoValidator productoValidator;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CargadorProductos cargadorProductos;
+    private final ContadorVentas contadorVentas;
+    private final CacheVendedores cacheVendedores;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Tamaños de página del listado (configurables en application.properties)
+    @Value("${evaluacion.paginacion.tamanio-defecto:20}")
+    private int tamanioPaginaDefecto;
+
+    @Value("${evaluacion.paginacion.tamanio-maximo:100}")
+    private int tamanioPaginaMaximo;
+
+    // Cada cuantos productos exportados se vacía el contexto de persistencia y se hace flush de la salida
+    @Value("${evaluacion.exportacion.tamanio-lote:500}")
+    private int tamanioLoteExportacion;
+
+    // Carga masiva: productos por transacción y máximo de productos por petición
+    @Value("${evaluacion.ingesta.tamanio-lote:500}")
+    private int tamanioLoteIngesta;
+
+    @Value("${evaluacion.ingesta.maximo-items:50000}")
+    private int maximoItemsIngesta;
 
     /**
      * Constructor para inyección de dependencias.
      *
      * @param productoRepository Repositorio para la persistencia de Producto.
      * @param productoValidator Componente para la validación de reglas de negocio.
+     * @param objectMapper Mapper JSON de Spring, usado en la exportación NDJSON.
+     * @param transactionTemplate Plantilla para abrir una transacción por lote en la carga masiva.
+     * @param eventPublisher Publicador de {@link ProductosGuardadosEvent} para el índice de búsqueda.
+     * @param cargadorProductos Cargador que agrupa las lecturas por id concurrentes.
+     * @param contadorVentas Acumulador de unidades vendidas con escritura diferida.
+     * @param cacheVendedores Cache de los datos de vendedores que se muestran con cada producto.
      */
     @Autowired
-    public ProductoServiceImpl(ProductoRepository productoRepository, ProductoValidator productoValidator) {
+    public ProductoServiceImpl(ProductoRepository productoRepository, ProductoValidator productoValidator,
+                               ObjectMapper objectMapper, TransactionTemplate transactionTemplate,
+                               ApplicationEventPublisher eventPublisher, CargadorProductos cargadorProductos,
+                               ContadorVentas contadorVentas, CacheVendedores cacheVendedores) {
         this.productoRepository = productoRepository;
         this.productoValidator = productoValidator;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.cargadorProductos = cargadorProductos;
+        this.contadorVentas = contadorVentas;
+        this.cacheVendedores = cacheVendedores;
     }
 
     /**
@@ -52,7 +145,7 @@ public class ProductoServiceImpl implements ProductoService {
      *
      * @param producto El objeto Producto a guardar en formato json.
      * @return objeto del producto creado
-     * @throws InvalidDataException si el producto no cumple con las reglas de negocio.
+     * @throws InvalidDataException si el producto no cumple con las reglas de negocio (con todas las reglas incumplidas).
      */
     @Override
     @Transactional // Garantiza que toda la operación se ejecute como una transacción
@@ -61,33 +154,182 @@ public class ProductoServiceImpl implements ProductoService {
         // 1. INFO al inicio del proceso
         logger.info("-> Iniciando proceso de guardado o actualización de producto. ID recibido: {}", producto.getId());
 
-        try {
-            logger.debug("Validando datos del producto: {}", producto);
-            productoValidator.validarDatosCreacion(producto);
-            logger.debug("Validación exitosa para el producto.");
+        logger.debug("Validando datos del producto: {}", producto);
+        ResultadoValidacion validacion = productoValidator.validar(producto);
+        if (!validacion.esValido()) {
+            logger.error("Error de validación al guardar producto: {}", validacion.mensaje());
+            throw validacion.comoExcepcion(); // El controlador la traduce a 400 con todos los errores
+        }
+        logger.debug("Validación exitosa para el producto.");
+
+        if (producto.getId() != null) {
+            productoRepository.findById(producto.getId()).ifPresent(actual -> conservarAgregadosOpiniones(producto, actual));
+        }
+        cacheVendedores.registrarFaltantes(List.of(producto));
+        Producto productoGuardado = productoRepository.save(producto);
+        // La respuesta muestra los datos registrados del vendedor, no necesariamente los recibidos
+        cacheVendedores.completar(List.of(productoGuardado));
+        logger.info("<- Producto guardado exitosamente. Nuevo ID asignado: {}", productoGuardado.getId());
+
+        // El índice de búsqueda se actualiza después del commit
+        eventPublisher.publishEvent(new ProductosGuardadosEvent(List.of(IndiceInvertido.Documento.de(productoGuardado))));
 
-            Producto productoGuardado = productoRepository.save(producto);
-            logger.info("<- Producto guardado exitosamente. Nuevo ID asignado: {}", productoGuardado.getId());
+        return productoGuardado;
+    }
 
-            return productoGuardado;
+    /**
+     * Guarda una carga masiva de productos.
+     * <p>
+     * Primero se validan todos los productos ({@link ProductoValidator#validarLote}); los inválidos se
+     * marcan como rechazados con todas sus reglas incumplidas y no se persisten. Los válidos se
+     * guardan en lotes de {@code tamanioLoteIngesta}, cada uno en su propia transacción: con ids de
+     * secuencia (optimizador pooled) y {@code hibernate.jdbc.batch_size}, los INSERT de productos y de
+     * sus colecciones se envían en batch JDBC. Después de cada lote se vacía el contexto de
+     * persistencia para mantener la memoria acotada.
+     * <p>
+     * Si un lote falla en la base de datos se revierte completo y sus productos se marcan con error,
+     * sin afectar a los lotes ya confirmados.
+     *
+     * @param productos Productos a guardar.
+     * @return El resultado por producto, en el mismo orden de la entrada.
+     * @throws InvalidDataException si la carga está vacía o supera el máximo permitido.
+     */
+    @Override
+    public RespuestaIngestaLote guardarProductos(List<Producto> productos) {
+        if (productos == null || productos.isEmpty()) {
+            throw new InvalidDataException("La carga masiva debe contener al menos un producto.");
+        }
+        if (productos.size() > maximoItemsIngesta) {
+            throw new InvalidDataException("La carga masiva no puede superar " + maximoItemsIngesta + " productos.");
+        }
+        logger.info("-> Iniciando carga masiva de {} productos", productos.size());
+        long inicio = System.nanoTime();
+
+        // 1. Validar todos los productos antes de persistir (en paralelo, sin excepciones)
+        ResultadoIngesta[] resultados = new ResultadoIngesta[productos.size()];
+        List<Integer> validos = new ArrayList<>(productos.size());
+        String[] errores = productoValidator.validarLote(productos);
+        for (int indice = 0; indice < productos.size(); indice++) {
+            if (errores[indice] == null) {
+                validos.add(indice);
+            } else {
+                resultados[indice] = ResultadoIngesta.rechazado(indice, errores[indice]);
+            }
+        }
 
-        } catch (InvalidDataException e) {
-            logger.error("Error de validación al guardar producto: {}", e.getMessage());
-            throw e; // Relanzar la excepción para que el controlador la maneje
+        // 2. Persistir los válidos en lotes, una transacción por lote
+        for (int desde = 0; desde < validos.size(); desde += tamanioLoteIngesta) {
+            List<Integer> lote = validos.subList(desde, Math.min(desde + tamanioLoteIngesta, validos.size()));
+            try {
+                Long[] ids = transactionTemplate.execute(estado -> persistirLote(productos, lote));
+                for (int i = 0; i < lote.size(); i++) {
+                    resultados[lote.get(i)] = ResultadoIngesta.guardado(lote.get(i), ids[i]);
+                }
+            } catch (RuntimeException e) {
+                logger.error("Error al persistir lote de carga masiva (desde indice {}): {}", lote.get(0), e.getMessage());
+                for (int indice : lote) {
+                    resultados[indice] = ResultadoIngesta.error(indice, "No fue posible guardar el lote que contenía el producto.");
+                }
+            }
         }
+
+        RespuestaIngestaLote respuesta = RespuestaIngestaLote.de(Arrays.asList(resultados));
+        double segundos = (System.nanoTime() - inicio) / 1_000_000_000.0;
+        logger.info("<- Carga masiva finalizada. Guardados: {}, rechazados: {}, {} productos/s",
+                respuesta.getGuardados(), respuesta.getRechazados(), Math.round(respuesta.getGuardados() / segundos));
+        return respuesta;
+    }
+
+    /**
+     * Persiste un lote de productos dentro de la transacción actual y vacía el contexto de persistencia.
+     * Los productos nuevos se insertan con {@code persist} (permite batch JDBC); los que traen id se actualizan con {@code merge}.
+     *
+     * @return Los ids asignados, en el mismo orden del lote.
+     */
+    private Long[] persistirLote(List<Producto> productos, List<Integer> lote) {
+        Producto[] guardados = new Producto[lote.size()];
+        cacheVendedores.registrarFaltantes(lote.stream().map(productos::get).toList());
+        for (int i = 0; i < lote.size(); i++) {
+            Producto producto = productos.get(lote.get(i));
+            if (producto.getId() == null) {
+                entityManager.persist(producto);
+                guardados[i] = producto;
+            } else {
+                Producto actual = entityManager.find(Producto.class, producto.getId());
+                if (actual != null) {
+                    conservarAgregadosOpiniones(producto, actual);
+                }
+                guardados[i] = entityManager.merge(producto);
+            }
+        }
+        entityManager.flush();
+
+        Long[] ids = new Long[guardados.length];
+        List<IndiceInvertido.Documento> documentos = new ArrayList<>(guardados.length);
+        for (int i = 0; i < guardados.length; i++) {
+            ids[i] = guardados[i].getId();
+            documentos.add(IndiceInvertido.Documento.de(guardados[i]));
+        }
+        entityManager.clear();
+
+        // El índice de búsqueda se actualiza después del commit del lote
+        eventPublisher.publishEvent(new ProductosGuardadosEvent(documentos));
+        return ids;
+    }
+
+    /**
+     * Copia al producto recibido los agregados de opiniones vigentes antes del {@code merge}. Las
+     * columnas no se actualizan ({@code updatable = false}), pero sin la copia la entidad devuelta y
+     * la cache de segundo nivel quedarían con los valores enviados por el cliente.
+     */
+    private static void conservarAgregadosOpiniones(Producto producto, Producto actual) {
+        producto.setRatingPromedio(actual.getRatingPromedio());
+        producto.setTotalOpiniones(actual.getTotalOpiniones());
+        producto.setSumaPuntajes(actual.getSumaPuntajes());
+        producto.setOpiniones1(actual.getOpiniones1());
+        producto.setOpiniones2(actual.getOpiniones2());
+        producto.setOpiniones3(actual.getOpiniones3());
+        producto.setOpiniones4(actual.getOpiniones4());
+        producto.setOpiniones5(actual.getOpiniones5());
+    }
+
+    /**
+     * Registra una venta sin escribir el producto: las unidades se acumulan en {@link ContadorVentas}
+     * y se suman a {@code cantidadVendida} en el próximo flush. La existencia del producto se verifica
+     * con {@link CargadorProductos}, que para los productos más vendidos resuelve desde la cache de
+     * segundo nivel.
+     *
+     * @param id Identificador del producto.
+     * @param cantidad Unidades vendidas.
+     * @throws InvalidDataException si la cantidad no es mayor que cero.
+     * @throws RecursoNoEncontradoException si el producto no existe.
+     */
+    @Override
+    public void registrarVenta(Long id, Integer cantidad) {
+        if (cantidad == null || cantidad <= 0) {
+            throw new InvalidDataException("La cantidad vendida debe ser mayor que cero.");
+        }
+        if (cargadorProductos.cargar(id).isEmpty()) {
+            throw new RecursoNoEncontradoException("No existe el producto con ID: " + id);
+        }
+        contadorVentas.registrar(id, cantidad);
+        logger.debug("Venta registrada: {} unidades del producto {}", cantidad, id);
     }
 
     /**
      * Busca y obtiene un producto por su identificador único.
+     * <p>
+     * La lectura pasa por {@link CargadorProductos}: las peticiones concurrentes por el mismo id
+     * comparten una sola carga y las de ids distintos se agrupan en una consulta. No abre una
+     * transacción propia para no retener una conexión mientras espera al cargador.
      *
      * @param id Identificador único del producto.
      * @return Un {@link Optional} que contiene el Producto si se encuentra, o vacío si no existe.
      */
     @Override
-    @Transactional(readOnly = true) // Optimización: indica que es una operación de lectura
     public Optional<Producto> obtenerProductoPorId(Long id) {
         logger.info("-> Ejecutando método de obtención de producto por ID: {}", id);
-        Optional<Producto> producto = productoRepository.findById(id);
+        Optional<Producto> producto = cargadorProductos.cargar(id);
         if (producto.isPresent()) {
             logger.debug("<- Producto encontrado con ID: {} {}", id, producto.get().getTitulo());
         } else {
@@ -97,14 +339,472 @@ public class ProductoServiceImpl implements ProductoService {
     }
 
     /**
-     * Obtiene una lista de todos los productos disponibles en la base de datos.
+     * Obtiene varios productos por id en una sola consulta (ver {@link CargadorProductos}).
+     *
+     * @param ids Ids de los productos (sin repetir cuenta como uno), entre 1 y el tamaño máximo de página.
+     * @return Los productos encontrados en el orden de los ids; los inexistentes se omiten.
+     * @throws InvalidDataException si no se indican ids o se piden más que el máximo permitido.
+     */
+    @Override
+    public List<Producto> obtenerProductosPorIds(List<Long> ids) {
+        long distintos = validarIds(ids).size();
+        logger.info("-> Obteniendo {} productos por ID", distintos);
+        List<Producto> productos = cargadorProductos.cargarTodos(ids);
+        logger.debug("<- {} de {} productos encontrados", productos.size(), distintos);
+        return productos;
+    }
+
+    /**
+     * Obtiene la versión de un producto con una consulta de proyección (sin descripción ni colecciones),
+     * usada por el controlador para responder {@code 304 Not Modified} antes de cargar el producto.
+     * <p>
+     * Se lee de la primaria, igual que el detalle en {@link CargadorProductos}: una réplica atrasada no
+     * conoce un producto recién creado ni su última versión, y el detalle respondería 404 o validaría
+     * contra una versión distinta de la que entrega.
+     *
+     * @param id Identificador único del producto.
+     * @return La versión del producto, o vacío si no existe.
+     */
+    @Override
+    // Sin readOnly: DataSourceEnrutado envía las transacciones de solo lectura a las réplicas
+    @Transactional
+    public Optional<VersionProducto> obtenerVersionProducto(Long id) {
+        return productoRepository.buscarVersion(id);
+    }
+
+    /**
+     * Obtiene solo los campos solicitados de un producto con una consulta de proyección: se
+     * seleccionan únicamente esas columnas (la descripción solo si se pide) y las colecciones se
+     * leen con una consulta aparte solo si se pidieron. No pasa por la cache de segundo nivel.
      *
-     * @return Una {@link List} de objetos Producto.
+     * @param id Identificador único del producto.
+     * @param campos Campos solicitados.
+     * @return El producto parcial, o vacío si no existe.
      */
     @Override
     @Transactional(readOnly = true)
-    public List<Producto> obtenerTodosLosProductos() {
-        logger.info("-> Ejecutando metodo get de para obtencion de todos los productos");
-        return productoRepository.findAll();
+    public Optional<ProductoParcial> obtenerCamposProducto(Long id, CamposProducto campos) {
+        logger.info("-> Obteniendo campos [{}] del producto con ID: {}", campos, id);
+        List<Tuple> filas = productoRepository.buscarColumnas(ProductoEspecificaciones.conIds(List.of(id)),
+                Sort.unsorted(), 1, columnasConsulta(campos));
+        return armarParciales(filas, campos).stream().findFirst();
+    }
+
+    /**
+     * Obtiene solo los campos solicitados de varios productos, con una consulta de proyección
+     * y a lo más una consulta por colección solicitada.
+     *
+     * @param ids Ids de los productos (sin repetir cuenta como uno), entre 1 y el tamaño máximo de página.
+     * @param campos Campos solicitados.
+     * @return Los productos parciales encontrados en el orden de los ids; los inexistentes se omiten.
+     * @throws InvalidDataException si no se indican ids o se piden más que el máximo permitido.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<ProductoParcial> obtenerCamposProductosPorIds(List<Long> ids, CamposProducto campos) {
+        List<Long> distintos = validarIds(ids);
+        logger.info("-> Obteniendo campos [{}] de {} productos por ID", campos, distintos.size());
+        List<Tuple> filas = productoRepository.buscarColumnas(ProductoEspecificaciones.conIds(distintos),
+                Sort.unsorted(), distintos.size(), columnasConsulta(campos));
+
+        Map<Long, ProductoParcial> porId = new HashMap<>();
+        armarParciales(filas, campos).forEach(parcial -> porId.put(parcial.getId(), parcial));
+        List<ProductoParcial> productos = new ArrayList<>(porId.size());
+        for (Long id : distintos) {
+            ProductoParcial parcial = porId.get(id);
+            if (parcial != null) {
+                productos.add(parcial);
+            }
+        }
+        logger.debug("<- {} de {} productos encontrados", productos.size(), distintos.size());
+        return productos;
+    }
+
+    /**
+     * Obtiene una página del catálogo usando paginación por clave (keyset) sobre
+     * ({@code fechaPublicacion}, {@code id}).
+     * <p>
+     * Se consulta un registro adicional al tamaño solicitado para saber si existe una página
+     * siguiente sin ejecutar un {@code count(*)}.
+     *
+     * @param cursor Cursor opaco de la página anterior, o {@code null} para la primera página.
+     * @param tamanio Tamaño solicitado; si es nulo se usa el valor por defecto y nunca supera el máximo.
+     * @return Una {@link PaginaProductos} con los productos y el cursor siguiente.
+     * @throws InvalidDataException si el cursor o el tamaño no son válidos.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public PaginaProductos obtenerPaginaProductos(String cursor, Integer tamanio) {
+        int tamanioPagina = resolverTamanioPagina(tamanio);
+        logger.info("-> Obteniendo pagina de productos. Tamaño: {}, cursor: {}", tamanioPagina, cursor);
+
+        Pageable limite = PageRequest.of(0, tamanioPagina + 1);
+        List<Producto> productos;
+        if (cursor == null || cursor.isBlank()) {
+            productos = productoRepository.buscarPrimeraPagina(limite);
+        } else {
+            CursorProducto posicion = CursorProducto.decodificar(cursor);
+            productos = productoRepository.buscarPaginaDespuesDe(posicion.fechaPublicacion(), posicion.id(), limite);
+        }
+
+        String siguienteCursor = null;
+        if (productos.size() > tamanioPagina) {
+            productos = productos.subList(0, tamanioPagina);
+            Producto ultimo = productos.get(tamanioPagina - 1);
+            siguienteCursor = new CursorProducto(ultimo.getFechaPublicacion(), ultimo.getId()).codificar();
+        }
+        // Con @BatchSize la primera inicialización carga las colecciones de toda la página
+        productos.forEach(this::inicializarColecciones);
+        cacheVendedores.completar(productos);
+
+        logger.debug("<- Pagina obtenida con {} productos. Hay siguiente: {}", productos.size(), siguienteCursor != null);
+        return new PaginaProductos(productos, siguienteCursor);
+    }
+
+    /**
+     * Obtiene una página del catálogo filtrada y ordenada con paginación por clave sobre
+     * ({@code atributo de orden}, {@code id}).
+     * <p>
+     * Sin filtros y con el orden por defecto delega en {@link #obtenerPaginaProductos(String, Integer)}.
+     * En otro caso arma la consulta con {@link ProductoEspecificaciones}: solo los filtros presentes
+     * llegan al SQL, y los índices compuestos declarados en {@link Producto} cubren cada combinación.
+     *
+     * @param filtro Filtros y orden del listado.
+     * @param cursor Cursor opaco de la página anterior, o {@code null} para la primera página.
+     * @param tamanio Tamaño solicitado; si es nulo se usa el valor por defecto y nunca supera el máximo.
+     * @return Una {@link PaginaProductos} con los productos y el cursor siguiente.
+     * @throws InvalidDataException si algún filtro, el orden, el cursor o el tamaño no son válidos.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public PaginaProductos obtenerPaginaProductos(FiltroProductos filtro, String cursor, Integer tamanio) {
+        if (filtro == null || filtro.esListadoPorDefecto()) {
+            return obtenerPaginaProductos(cursor, tamanio);
+        }
+        filtro.validar();
+        int tamanioPagina = resolverTamanioPagina(tamanio);
+        OrdenProductos orden = filtro.criterioOrden();
+        boolean descendente = filtro.esDescendente();
+        logger.info("-> Obteniendo pagina filtrada de productos. Orden: {} {}, tamaño: {}, cursor: {}",
+                orden.getAtributo(), descendente ? "desc" : "asc", tamanioPagina, cursor);
+
+        Specification<Producto> especificacion = ProductoEspecificaciones.de(filtro);
+        if (cursor != null && !cursor.isBlank()) {
+            especificacion = especificacion.and(
+                    ProductoEspecificaciones.despuesDe(CursorOrdenado.decodificar(cursor, orden, descendente)));
+        }
+        Sort.Direction direccion = descendente ? Sort.Direction.DESC : Sort.Direction.ASC;
+        Sort sort = Sort.by(direccion, orden.getAtributo()).and(Sort.by(direccion, "id"));
+        List<Producto> productos = productoRepository.buscarPorFiltro(especificacion, sort, tamanioPagina + 1);
+
+        String siguienteCursor = null;
+        if (productos.size() > tamanioPagina) {
+            productos = productos.subList(0, tamanioPagina);
+            Producto ultimo = productos.get(tamanioPagina - 1);
+            siguienteCursor = new CursorOrdenado(orden, descendente, orden.valorDe(ultimo), ultimo.getId()).codificar();
+        }
+        productos.forEach(this::inicializarColecciones);
+        cacheVendedores.completar(productos);
+
+        logger.debug("<- Pagina filtrada obtenida con {} productos. Hay siguiente: {}", productos.size(), siguienteCursor != null);
+        return new PaginaProductos(productos, siguienteCursor);
+    }
+
+    /**
+     * Obtiene una página del catálogo filtrada y ordenada con solo los campos solicitados.
+     * <p>
+     * Usa la misma paginación por clave que {@link #obtenerPaginaProductos(FiltroProductos, String, Integer)},
+     * incluido el listado por defecto, pero con una consulta de proyección: además de los campos
+     * solicitados solo se seleccionan el {@code id}, la fecha de actualización (para el ETag) y el
+     * atributo de orden (para el cursor). Los cursores son los mismos del listado completo.
+     *
+     * @param filtro Filtros y orden del listado.
+     * @param cursor Cursor opaco de la página anterior, o {@code null} para la primera página.
+     * @param tamanio Tamaño solicitado; si es nulo se usa el valor por defecto y nunca supera el máximo.
+     * @param campos Campos solicitados.
+     * @return Una {@link PaginaProductosParciales} con los productos y el cursor siguiente.
+     * @throws InvalidDataException si algún filtro, el orden, el cursor o el tamaño no son válidos.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public PaginaProductosParciales obtenerPaginaProductos(FiltroProductos filtro, String cursor, Integer tamanio,
+                                                           CamposProducto campos) {
+        ConsultaPagina consulta = consultaPagina(filtro, cursor);
+        int tamanioPagina = resolverTamanioPagina(tamanio);
+        logger.info("-> Obteniendo pagina de campos [{}]. Orden: {} {}, tamaño: {}, cursor: {}", campos,
+                consulta.orden().getAtributo(), consulta.descendente() ? "desc" : "asc", tamanioPagina, cursor);
+
+        List<Tuple> filas = productoRepository.buscarColumnas(consulta.especificacion(), consulta.sort(),
+                tamanioPagina + 1, columnasConsulta(campos, consulta.orden().getAtributo()));
+
+        String siguienteCursor = null;
+        if (filas.size() > tamanioPagina) {
+            filas = filas.subList(0, tamanioPagina);
+            siguienteCursor = consulta.siguienteCursor(filas.get(tamanioPagina - 1));
+        }
+        List<ProductoParcial> productos = armarParciales(filas, campos);
+
+        logger.debug("<- Pagina de campos obtenida con {} productos. Hay siguiente: {}", productos.size(), siguienteCursor != null);
+        return new PaginaProductosParciales(productos, siguienteCursor);
+    }
+
+    /**
+     * Obtiene las versiones de los productos de una página del catálogo sin cargar las entidades ni sus
+     * colecciones, para que el controlador responda {@code 304 Not Modified} a un listado que no cambió.
+     * <p>
+     * Usa la misma especificación, orden y cursores que {@link #obtenerPaginaProductos(FiltroProductos, String, Integer,
+     * CamposProducto)}, por lo que la página (y su cursor siguiente) es la misma que la del listado completo.
+     * La fecha de cada versión es la más reciente entre la del producto y la de su vendedor, como en
+     * {@link Producto#fechaVersion()}.
+     *
+     * @param filtro Filtros y orden del listado.
+     * @param cursor Cursor opaco de la página anterior, o {@code null} para la primera página.
+     * @param tamanio Tamaño solicitado; si es nulo se usa el valor por defecto y nunca supera el máximo.
+     * @return Las versiones de la página y el cursor siguiente.
+     * @throws InvalidDataException si algún filtro, el orden, el cursor o el tamaño no son válidos.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public PaginaVersiones obtenerVersionesPagina(FiltroProductos filtro, String cursor, Integer tamanio) {
+        ConsultaPagina consulta = consultaPagina(filtro, cursor);
+        int tamanioPagina = resolverTamanioPagina(tamanio);
+        List<Tuple> filas = productoRepository.buscarVersiones(consulta.especificacion(), consulta.sort(),
+                tamanioPagina + 1, consulta.orden().getAtributo());
+
+        String siguienteCursor = null;
+        if (filas.size() > tamanioPagina) {
+            filas = filas.subList(0, tamanioPagina);
+            siguienteCursor = consulta.siguienteCursor(filas.get(tamanioPagina - 1));
+        }
+        List<VersionProducto> versiones = new ArrayList<>(filas.size());
+        for (Tuple fila : filas) {
+            LocalDateTime fecha = fila.get("fechaActualizacion", LocalDateTime.class);
+            LocalDateTime fechaVendedor = fila.get("fechaVendedor", LocalDateTime.class);
+            if (fecha != null && fechaVendedor != null && fechaVendedor.isAfter(fecha)) {
+                fecha = fechaVendedor;
+            }
+            versiones.add(new VersionProducto(fila.get("id", Long.class), fecha));
+        }
+        return new PaginaVersiones(versiones, siguienteCursor);
+    }
+
+    /**
+     * Exporta el catálogo completo en NDJSON leyendo los productos con un cursor de solo avance.
+     * <p>
+     * Los productos se escriben en lotes de {@code tamanioLoteExportacion}: se completan los
+     * vendedores del lote con una sola resolución ({@link CacheVendedores#completar(Collection)}),
+     * se serializa el lote, se hace flush de la salida y se vacía el contexto de persistencia, por lo
+     * que la memoria utilizada se mantiene constante sin importar el tamaño del catálogo.
+     * <p>
+     * La sesión usa {@link CacheMode#IGNORE}: ni los productos ni sus colecciones (cargadas con
+     * {@code @BatchSize} durante la serialización) se leen de ni se agregan a la cache de segundo
+     * nivel, que de lo contrario quedaría con el final del catálogo en vez de los productos más consultados.
+     *
+     * @param salida Stream de salida de la respuesta HTTP.
+     * @throws IOException si el cliente cierra la conexión o falla la escritura.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void exportarCatalogo(OutputStream salida) throws IOException {
+        logger.info("-> Iniciando exportacion NDJSON del catalogo");
+
+        // El writer no debe hacer flush por cada producto ni cerrar la salida de la respuesta
+        ObjectWriter writer = objectMapper.writerFor(Producto.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        long exportados = 0;
+
+        Session sesion = entityManager.unwrap(Session.class);
+        CacheMode modoAnterior = sesion.getCacheMode();
+        sesion.setCacheMode(CacheMode.IGNORE);
+        try (Stream<Producto> productos = productoRepository.recorrerCatalogo();
+             JsonGenerator generador = objectMapper.getFactory().createGenerator(salida)) {
+            generador.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+            // Los vendedores se resuelven por lote, antes de escribirlo, y no por cada producto leído
+            List<Producto> lote = new ArrayList<>(tamanioLoteExportacion);
+            Iterator<Producto> iterador = productos.iterator();
+            while (iterador.hasNext()) {
+                lote.add(iterador.next());
+                if (lote.size() == tamanioLoteExportacion || !iterador.hasNext()) {
+                    cacheVendedores.completar(lote);
+                    for (Producto producto : lote) {
+                        writer.writeValue(generador, producto);
+                        generador.writeRaw('\n');
+                    }
+                    exportados += lote.size();
+                    lote.clear();
+                    generador.flush();
+                    entityManager.clear();
+                }
+            }
+            generador.flush();
+        } finally {
+            sesion.setCacheMode(modoAnterior);
+        }
+
+        logger.info("<- Exportacion NDJSON finalizada. Productos exportados: {}", exportados);
+    }
+
+    /**
+     * Inicializa las colecciones perezosas dentro de la transacción, para que la serialización
+     * JSON (fuera de la transacción, open-in-view deshabilitado) no dispare consultas.
+     * Gracias a {@code @BatchSize} las colecciones del resto de productos cargados en el
+     * contexto se resuelven en la misma consulta.
+     */
+    private void inicializarColecciones(Producto producto) {
+        Hibernate.initialize(producto.getEspecificaciones());
+        Hibernate.initialize(producto.getUrlsImagenes());
+    }
+
+    /**
+     * Columnas a seleccionar: los campos escalares solicitados más el id y la fecha de actualización,
+     * que siempre se necesitan para armar la respuesta y su ETag.
+     */
+    private static Collection<String> columnasConsulta(CamposProducto campos, String... adicionales) {
+        Collection<String> columnas = new LinkedHashSet<>(campos.escalares());
+        columnas.add("id");
+        columnas.add("fechaActualizacion");
+        if (campos.incluyeVendedor()) {
+            columnas.add("idVendedor");
+        }
+        columnas.addAll(Arrays.asList(adicionales));
+        return columnas;
+    }
+
+    /**
+     * Arma los productos parciales a partir de las filas de la proyección, leyendo las colecciones
+     * solicitadas de todos los productos en una consulta por colección y, si se pidieron, los
+     * vendedores de todas las filas juntos.
+     */
+    private List<ProductoParcial> armarParciales(List<Tuple> filas, CamposProducto campos) {
+        List<Long> ids = filas.stream().map(fila -> fila.get("id", Long.class)).toList();
+        Map<Long, List<String>> especificaciones = campos.incluye(CamposProducto.ESPECIFICACIONES) && !ids.isEmpty()
+                ? agruparPorProducto(productoRepository.buscarEspecificaciones(ids)) : Map.of();
+        Map<Long, List<String>> imagenes = campos.incluyeImagenes() && !ids.isEmpty()
+                ? agruparPorProducto(productoRepository.buscarImagenes(ids)) : Map.of();
+        Map<Long, CacheVendedores.DatosVendedor> vendedores = campos.incluyeVendedor()
+                ? cacheVendedores.obtenerTodos(filas.stream().map(fila -> fila.get("idVendedor", Long.class)).toList())
+                : Map.of();
+
+        List<ProductoParcial> productos = new ArrayList<>(filas.size());
+        for (Tuple fila : filas) {
+            Long id = fila.get("id", Long.class);
+            LocalDateTime fechaVersion = fila.get("fechaActualizacion", LocalDateTime.class);
+            Optional<CacheVendedores.DatosVendedor> vendedor = Optional.empty();
+            if (campos.incluyeVendedor() && fila.get("idVendedor") != null) {
+                vendedor = Optional.ofNullable(vendedores.get(fila.get("idVendedor", Long.class)));
+                // Como en Producto.fechaVersion(): el ETag cambia también si cambia el vendedor
+                LocalDateTime fechaVendedor = vendedor.map(CacheVendedores.DatosVendedor::fechaActualizacion).orElse(null);
+                if (fechaVersion != null && fechaVendedor != null && fechaVendedor.isAfter(fechaVersion)) {
+                    fechaVersion = fechaVendedor;
+                }
+            }
+            Map<String, Object> valores = new LinkedHashMap<>();
+            for (String nombre : campos.getNombres()) {
+                switch (nombre) {
+                    case CamposProducto.NOMBRE_VENDEDOR -> valores.put(nombre, vendedor.map(CacheVendedores.DatosVendedor::nombre).orElse(null));
+                    case CamposProducto.REPUTACION_VENDEDOR -> valores.put(nombre, vendedor.map(CacheVendedores.DatosVendedor::reputacion).orElse(null));
+                    case CamposProducto.ESPECIFICACIONES -> valores.put(nombre, especificaciones.getOrDefault(id, List.of()));
+                    case CamposProducto.URLS_IMAGENES -> valores.put(nombre, imagenes.getOrDefault(id, List.of()));
+                    case CamposProducto.PRIMERA_IMAGEN -> {
+                        List<String> urls = imagenes.get(id);
+                        valores.put(nombre, urls == null ? null : urls.get(0));
+                    }
+                    default -> valores.put(nombre, fila.get(nombre));
+                }
+            }
+            productos.add(new ProductoParcial(id, fechaVersion, valores));
+        }
+        return productos;
+    }
+
+    private static Map<Long, List<String>> agruparPorProducto(List<ValorColeccion> valores) {
+        Map<Long, List<String>> porProducto = new HashMap<>();
+        for (ValorColeccion valor : valores) {
+            porProducto.computeIfAbsent(valor.productoId(), id -> new ArrayList<>()).add(valor.valor());
+        }
+        return porProducto;
+    }
+
+    /**
+     * Resuelve los filtros, el orden y la posición del cursor de una página del listado como
+     * especificación, para las consultas de proyección. Sin filtros se usa el orden y el cursor del
+     * listado por defecto ({@link CursorProducto}).
+     *
+     * @throws InvalidDataException si algún filtro, el orden o el cursor no son válidos.
+     */
+    private static ConsultaPagina consultaPagina(FiltroProductos filtro, String cursor) {
+        boolean porDefecto = filtro == null || filtro.esListadoPorDefecto();
+        if (!porDefecto) {
+            filtro.validar();
+        }
+        OrdenProductos orden = porDefecto ? OrdenProductos.FECHA_PUBLICACION : filtro.criterioOrden();
+        boolean descendente = porDefecto || filtro.esDescendente();
+
+        Specification<Producto> especificacion = porDefecto
+                ? Specification.where(null) : ProductoEspecificaciones.de(filtro);
+        if (cursor != null && !cursor.isBlank()) {
+            // El listado por defecto usa el mismo cursor que obtenerPaginaProductos(cursor, tamanio)
+            CursorOrdenado posicion = porDefecto
+                    ? desdeCursorProducto(CursorProducto.decodificar(cursor))
+                    : CursorOrdenado.decodificar(cursor, orden, descendente);
+            especificacion = especificacion.and(ProductoEspecificaciones.despuesDe(posicion));
+        }
+        Sort.Direction direccion = descendente ? Sort.Direction.DESC : Sort.Direction.ASC;
+        Sort sort = Sort.by(direccion, orden.getAtributo()).and(Sort.by(direccion, "id"));
+        return new ConsultaPagina(porDefecto, orden, descendente, especificacion, sort);
+    }
+
+    private static CursorOrdenado desdeCursorProducto(CursorProducto cursor) {
+        return new CursorOrdenado(OrdenProductos.FECHA_PUBLICACION, true, cursor.fechaPublicacion(), cursor.id());
+    }
+
+    /**
+     * Página del listado resuelta por {@link #consultaPagina(FiltroProductos, String)}.
+     */
+    private record ConsultaPagina(boolean porDefecto, OrdenProductos orden, boolean descendente,
+                                  Specification<Producto> especificacion, Sort sort) {
+
+        /**
+         * @param ultima Última fila de la página, con el {@code id} y el atributo de orden.
+         * @return El cursor de la página siguiente, igual al del listado completo.
+         */
+        String siguienteCursor(Tuple ultima) {
+            Comparable<?> valor = (Comparable<?>) ultima.get(orden.getAtributo());
+            Long id = ultima.get("id", Long.class);
+            return porDefecto
+                    ? new CursorProducto((LocalDateTime) valor, id).codificar()
+                    : new CursorOrdenado(orden, descendente, valor, id).codificar();
+        }
+    }
+
+    /**
+     * Valida los ids de una consulta por varios ids.
+     *
+     * @return Los ids sin repetir, en el orden recibido.
+     * @throws InvalidDataException si no hay ids, alguno es nulo o se piden más que el máximo permitido.
+     */
+    private List<Long> validarIds(List<Long> ids) {
+        if (ids == null || ids.isEmpty() || ids.stream().anyMatch(Objects::isNull)) {
+            throw new InvalidDataException("Se debe indicar al menos un id válido.");
+        }
+        List<Long> distintos = ids.stream().distinct().toList();
+        if (distintos.size() > tamanioPaginaMaximo) {
+            throw new InvalidDataException("No se pueden solicitar más de " + tamanioPaginaMaximo + " productos por consulta.");
+        }
+        return distintos;
+    }
+
+    /**
+     * Acota el tamaño de página solicitado al rango [1, máximo configurado].
+     */
+    private int resolverTamanioPagina(Integer tamanio) {
+        if (tamanio == null) {
+            return Math.min(tamanioPaginaDefecto, tamanioPaginaMaximo);
+        }
+        if (tamanio <= 0) {
+            throw new InvalidDataException("El tamaño de página debe ser mayor que cero.");
+        }
+        return Math.min(tamanio, tamanioPaginaMaximo);
     }
 }
\ No newline at end of file
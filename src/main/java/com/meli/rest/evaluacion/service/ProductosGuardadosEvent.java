@@ -0,0 +1,18 @@
+package com.meli.rest.evaluacion.service;
+
+import java.util.List;
+
+/**
+ * Evento publicado por {@link ProductoServiceImpl} cuando se guardan productos (individual o por lote).
+ * <p>
+ * Lleva una copia del texto indexable de cada producto, tomada dentro de la transacción, para
+ * que el índice de búsqueda se actualice después del commit sin volver a leer la base de datos.
+ *
+ * @param documentos Texto indexable de los productos guardados.
+ *
+ * @author [Mauricio Gomez Farias]
+ * @version 1.0
+ * @since 2025-12-04
+ */
+public record ProductosGuardadosEvent(List<IndiceInvertido.Documento> documentos) {
+}
@@ -0,0 +1,37 @@
+package com.meli.rest.evaluacion.service;
+
+import com.meli.rest.evaluacion.model.ReservaStock;
+
+/**
+ * Interface del servicio de reservas de stock.
+ * <p>
+ * Definicion de los metodos que seran implementados en ReservaStockServiceImpl
+ *
+ * @author [Mauricio Gomez Farias]
+ * @version 1.0
+ * @since 2025-12-04
+ */
+public interface ReservaStockService {
+
+    /**
+     * Reserva stock de un producto, descontándolo de forma atómica de {@code stockDisponible}.
+     * @param productoId El ID del producto.
+     * @param cantidad Unidades a reservar.
+     * @return La reserva creada en estado PENDIENTE.
+     */
+    ReservaStock reservar(Long productoId, Integer cantidad);
+
+    /**
+     * Confirma una reserva pendiente y suma sus unidades a {@code cantidadVendida}.
+     * @param reservaId El ID de la reserva.
+     * @return La reserva en estado CONFIRMADA.
+     */
+    ReservaStock confirmar(Long reservaId);
+
+    /**
+     * Libera una reserva pendiente y repone sus unidades en {@code stockDisponible}.
+     * @param reservaId El ID de la reserva.
+     * @return La reserva en estado LIBERADA.
+     */
+    ReservaStock liberar(Long reservaId);
+}
@@ -0,0 +1,89 @@
+package com.meli.rest.evaluacion.service;
+
+import com.meli.rest.evaluacion.exceptions.InvalidDataException;
+import com.meli.rest.evaluacion.exceptions.RecursoNoEncontradoException;
+import com.meli.rest.evaluacion.exceptions.StockInsuficienteException;
+import com.meli.rest.evaluacion.model.ReservaStock;
+import com.meli.rest.evaluacion.repository.ProductoRepository;
+import com.meli.rest.evaluacion.repository.ReservaStockRepository;
+import com.meli.rest.evaluacion.util.Utils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * Implementación del servicio de reservas de stock.
+ * <p>
+ * Todas las modificaciones de stock son UPDATE condicionales sobre la fila del producto, sin
+ * leer-modificar-escribir en memoria: la reserva se descuenta solo si hay stock suficiente y cada
+ * reserva se confirma o libera una única vez. Las reservas concurrentes de un mismo producto se
+ * agrupan en {@link CoordinadorReservas}.
+ *
+ * @author [Mauricio Gomez Farias]
+ * @version 1.0
+ * @since 2025-12-04
+ */
+@Service
+public class ReservaStockServiceImpl implements ReservaStockService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReservaStockServiceImpl.class);
+
+    private final ReservaStockRepository reservaStockRepository;
+    private final ProductoRepository productoRepository;
+    private final CoordinadorReservas coordinadorReservas;
+
+    public ReservaStockServiceImpl(ReservaStockRepository reservaStockRepository,
+                                   ProductoRepository productoRepository,
+                                   CoordinadorReservas coordinadorReservas) {
+        this.reservaStockRepository = reservaStockRepository;
+        this.productoRepository = productoRepository;
+        this.coordinadorReservas = coordinadorReservas;
+    }
+
+    @Override
+    public ReservaStock reservar(Long productoId, Integer cantidad) {
+        if (cantidad == null || cantidad <= 0) {
+            throw new InvalidDataException("La cantidad a reservar debe ser mayor que cero.");
+        }
+        ReservaStock reserva = coordinadorReservas.reservar(productoId, cantidad);
+        logger.info("Reserva {} creada: {} unidades del producto {}", reserva.getId(), cantidad, productoId);
+        return reserva;
+    }
+
+    @Override
+    @Transactional
+    public ReservaStock confirmar(Long reservaId) {
+        ReservaStock reserva = cerrarReserva(reservaId, ReservaStock.Estado.CONFIRMADA);
+        productoRepository.sumarCantidadVendida(reserva.getProductoId(), reserva.getCantidad(), reserva.getFechaActualizacion());
+        logger.info("Reserva {} confirmada", reservaId);
+        return reserva;
+    }
+
+    @Override
+    @Transactional
+    public ReservaStock liberar(Long reservaId) {
+        ReservaStock reserva = cerrarReserva(reservaId, ReservaStock.Estado.LIBERADA);
+        productoRepository.reponerStock(reserva.getProductoId(), reserva.getCantidad(), reserva.getFechaActualizacion());
+        logger.info("Reserva {} liberada", reservaId);
+        return reserva;
+    }
+
+    /**
+     * Pasa la reserva de PENDIENTE al estado final. Si otra petición ya la cerró, falla con 409.
+     */
+    private ReservaStock cerrarReserva(Long reservaId, ReservaStock.Estado nuevoEstado) {
+        ReservaStock reserva = reservaStockRepository.findById(reservaId)
+                .orElseThrow(() -> new RecursoNoEncontradoException("No existe la reserva con ID: " + reservaId));
+
+        LocalDateTime fecha = Utils.fechaActual();
+        if (reservaStockRepository.cambiarEstado(reservaId, ReservaStock.Estado.PENDIENTE, nuevoEstado, fecha) == 0) {
+            throw new StockInsuficienteException("La reserva " + reservaId + " ya no está pendiente.");
+        }
+        reserva.setEstado(nuevoEstado);
+        reserva.setFechaActualizacion(fecha);
+        return reserva;
+    }
+}
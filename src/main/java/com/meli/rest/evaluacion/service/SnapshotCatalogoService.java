@@ -0,0 +1,28 @@
+package com.meli.rest.evaluacion.service;
+
+/**
+ * Interface del servicio de snapshot del catálogo en disco.
+ * <p>
+ * Definicion de los metodos que seran implementados en SnapshotCatalogoServiceImpl
+ *
+ * @author [Mauricio Gomez Farias]
+ * @version 1.0
+ * @since 2025-12-04
+ */
+public interface SnapshotCatalogoService {
+
+    /**
+     * Escribe el catálogo completo (productos y sus colecciones) en el archivo de snapshot,
+     * reemplazándolo de forma atómica. No escribe nada si el catálogo no cambió desde el último
+     * snapshot escrito o cargado.
+     * @return La cantidad de productos escritos, o -1 si no fue necesario escribir.
+     */
+    long escribirSnapshot();
+
+    /**
+     * Carga el archivo de snapshot en la base de datos si el catálogo está vacío.
+     * @return La cantidad de productos cargados (0 si no hay archivo, si el catálogo no está
+     * vacío o si el archivo está corrupto).
+     */
+    long cargarSnapshot();
+}
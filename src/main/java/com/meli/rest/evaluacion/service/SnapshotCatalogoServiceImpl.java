@@ -0,0 +1,437 @@
+package com.meli.rest.evaluacion.service;
+
+import com.meli.rest.evaluacion.model.Producto;
+import com.meli.rest.evaluacion.util.ArchivoSnapshot;
+import jakarta.persistence.EntityManagerFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Snapshot del catálogo en disco para reinicios rápidos, activado con
+ * {@code evaluacion.snapshot.habilitado=true}.
+ * <p>
+ * La base de datos es H2 en memoria, por lo que cada reinicio pierde el catálogo. Este servicio
+ * escribe periódicamente ({@code evaluacion.snapshot.intervalo}) y al detener la aplicación la tabla
+ * {@code productos} y sus colecciones en {@code evaluacion.snapshot.archivo}, con el formato de
+ * {@link ArchivoSnapshot}. Al iniciar, si el catálogo está vacío, lo vuelve a cargar leyendo el
+ * archivo mapeado en memoria e insertando con batch JDBC, sin pasar por la API ni por Hibernate.
+ * <p>
+ * Como {@link SmartLifecycle} de fase 0 la carga termina antes de que arranque el servidor web (no
+ * se atienden peticiones con el catálogo a medio cargar) y antes de que {@link BusquedaServiceImpl}
+ * construya el índice en {@code ApplicationReadyEvent}; al detener, el snapshot final se escribe
+ * después de que el servidor web dejó de atender peticiones.
+ * <p>
+ * La escritura lee las tres tablas ordenadas por id en una transacción de solo lectura con
+ * aislamiento {@code REPEATABLE_READ} (instantánea consistente en H2) y las combina en un solo
+ * recorrido; el archivo se escribe aparte y reemplaza al anterior con un {@code move} atómico, por
+ * lo que una caída durante la escritura deja el snapshot anterior intacto. Cada producto lleva el
+ * nombre y la reputación de su vendedor, y al cargar se registran los vendedores referenciados
+ * (los vendedores sin productos no se conservan). Las reservas de stock y las opiniones
+ * individuales no forman parte del snapshot: el stock se escribe sumando las unidades de las
+ * reservas aún pendientes, que así vuelven a estar disponibles tras el reinicio.
+ *
+ * @author [Mauricio Gomez Farias]
+ * @version 1.0
+ * @since 2025-12-04
+ */
+@Service
+@ConditionalOnProperty(name = "evaluacion.snapshot.habilitado", havingValue = "true")
+public class SnapshotCatalogoServiceImpl implements SnapshotCatalogoService, SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(SnapshotCatalogoServiceImpl.class);
+
+    private static final String COLUMNAS_PRODUCTO = "id, titulo, precio, moneda, stock_disponible, descripcion, "
+            + "id_vendedor, cantidad_vendida, fecha_publicacion, envio_gratis, metodo_envio_principal, "
+            + "rating_promedio, total_opiniones, suma_puntajes, opiniones1, opiniones2, opiniones3, opiniones4, "
+            + "opiniones5, fecha_actualizacion";
+    private static final String INSERT_PRODUCTO = "insert into productos (" + COLUMNAS_PRODUCTO + ") "
+            + "values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    // Las reservas no se conservan: el stock se escribe con las unidades de las reservas PENDIENTE
+    // devueltas, como si se liberaran al detener la aplicación
+    private static final String STOCK_SIN_RESERVAS = "p.stock_disponible + coalesce((select sum(r.cantidad) "
+            + "from reservas_stock r where r.producto_id = p.id and r.estado = 'PENDIENTE'), 0) as stock_disponible";
+    // Cada producto se escribe con el nombre y la reputación de su vendedor; al cargar se registran los vendedores
+    private static final String SELECT_PRODUCTOS = "select p." + COLUMNAS_PRODUCTO.replace(", ", ", p.")
+            .replace("p.stock_disponible", STOCK_SIN_RESERVAS)
+            + ", v.nombre as nombre_vendedor, v.reputacion as reputacion_vendedor "
+            + "from productos p left join vendedores v on v.id = p.id_vendedor order by p.id";
+    private static final String INSERT_ESPECIFICACION = "insert into producto_especificaciones (producto_id, especificacion) values (?, ?)";
+    private static final String INSERT_IMAGEN = "insert into producto_imagenes (producto_id, url_imagen) values (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate escrituraTemplate;
+    private final TransactionTemplate lecturaTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final BusquedaService busquedaService;
+    private final CacheVendedores cacheVendedores;
+
+    // Serializa las escrituras periódicas con las manuales y la final
+    private final ReentrantLock bloqueoEscritura = new ReentrantLock();
+    // Estado del catálogo en el último snapshot escrito o cargado; evita reescribir un catálogo sin cambios
+    private volatile EstadoCatalogo ultimoEstado;
+    private ScheduledExecutorService programador;
+    private volatile boolean ejecutando;
+
+    @Value("${evaluacion.snapshot.archivo:data/catalogo.snapshot}")
+    private Path archivo;
+
+    // Cada cuánto se escribe el snapshot; 0 = solo al detener la aplicación
+    @Value("${evaluacion.snapshot.intervalo:5m}")
+    private Duration intervalo;
+
+    // Productos por batch JDBC durante la carga
+    @Value("${evaluacion.snapshot.tamanio-lote:1000}")
+    private int tamanioLote;
+
+    public SnapshotCatalogoServiceImpl(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                                       EntityManagerFactory entityManagerFactory, BusquedaService busquedaService,
+                                       CacheVendedores cacheVendedores) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.escrituraTemplate = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        // Sin readOnly: con réplicas de lectura (ver DataSourceEnrutado) el snapshot se lee de la primaria
+        this.lecturaTemplate = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.lecturaTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.entityManagerFactory = entityManagerFactory;
+        this.busquedaService = busquedaService;
+        this.cacheVendedores = cacheVendedores;
+    }
+
+    @Override
+    public long escribirSnapshot() {
+        bloqueoEscritura.lock();
+        try {
+            EstadoCatalogo estado = leerEstado();
+            if (estado.equals(ultimoEstado)) {
+                logger.debug("Snapshot del catalogo sin cambios, no se escribe");
+                return -1;
+            }
+            long inicio = System.nanoTime();
+            Path temporal = archivo.resolveSibling(archivo.getFileName() + ".tmp");
+            Long cantidad;
+            try {
+                Path directorio = archivo.toAbsolutePath().getParent();
+                Files.createDirectories(directorio);
+                try (OutputStream salida = Files.newOutputStream(temporal);
+                     ArchivoSnapshot.Escritor escritor = new ArchivoSnapshot.Escritor(salida)) {
+                    cantidad = lecturaTemplate.execute(tx -> jdbcTemplate.execute(
+                            (ConnectionCallback<Long>) conexion -> recorrerCatalogo(conexion, escritor)));
+                    escritor.terminar();
+                }
+                Files.move(temporal, archivo, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException e) {
+                throw new UncheckedIOException("No fue posible escribir el snapshot del catalogo en " + archivo, e);
+            } finally {
+                try {
+                    Files.deleteIfExists(temporal);
+                } catch (IOException e) {
+                    logger.warn("No fue posible eliminar el archivo temporal {}", temporal, e);
+                }
+            }
+            ultimoEstado = estado;
+            logger.info("Snapshot del catalogo escrito: {} productos en {} ms ({} KB)", cantidad,
+                    (System.nanoTime() - inicio) / 1_000_000, tamanioKb(archivo));
+            return Objects.requireNonNull(cantidad);
+        } finally {
+            bloqueoEscritura.unlock();
+        }
+    }
+
+    @Override
+    public long cargarSnapshot() {
+        long cantidad = cargar();
+        if (cantidad > 0) {
+            busquedaService.reconstruirIndice();
+        }
+        return cantidad;
+    }
+
+    // --- Ciclo de vida ---
+
+    @Override
+    public void start() {
+        cargar();
+        if (!intervalo.isZero()) {
+            programador = Executors.newSingleThreadScheduledExecutor(
+                    Thread.ofPlatform().name("snapshot-catalogo").daemon().factory());
+            programador.scheduleWithFixedDelay(this::escribirProgramado, intervalo.toMillis(), intervalo.toMillis(),
+                    TimeUnit.MILLISECONDS);
+        }
+        ejecutando = true;
+    }
+
+    @Override
+    public void stop() {
+        ejecutando = false;
+        if (programador != null) {
+            programador.shutdownNow();
+            try {
+                // Una escritura periódica en curso termina antes que la final
+                programador.awaitTermination(1, TimeUnit.MINUTES);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        escribirProgramado();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return ejecutando;
+    }
+
+    /**
+     * Antes que el servidor web ({@code WebServerStartStopLifecycle}) al iniciar y después al detener.
+     */
+    @Override
+    public int getPhase() {
+        return 0;
+    }
+
+    private void escribirProgramado() {
+        try {
+            escribirSnapshot();
+        } catch (RuntimeException e) {
+            logger.error("Fallo la escritura del snapshot del catalogo", e);
+        }
+    }
+
+    /**
+     * Carga el archivo si existe y el catálogo está vacío. Un archivo corrupto no impide iniciar:
+     * se renombra a {@code .corrupto} (para no sobrescribirlo con el próximo snapshot) y la
+     * aplicación inicia con el catálogo vacío.
+     */
+    private long cargar() {
+        if (!Files.isRegularFile(archivo)) {
+            logger.info("Sin snapshot del catalogo en {}", archivo.toAbsolutePath());
+            return 0;
+        }
+        Long existentes = jdbcTemplate.queryForObject("select count(*) from productos", Long.class);
+        if (existentes != null && existentes > 0) {
+            logger.warn("El catalogo ya tiene {} productos, no se carga el snapshot {}", existentes, archivo);
+            return 0;
+        }
+
+        long inicio = System.nanoTime();
+        long cantidad;
+        try {
+            cantidad = escrituraTemplate.execute(tx -> insertarSnapshot());
+        } catch (UncheckedIOException e) {
+            Path corrupto = archivo.resolveSibling(archivo.getFileName() + ".corrupto");
+            logger.error("Snapshot del catalogo invalido, se renombra a {}", corrupto, e);
+            try {
+                Files.move(archivo, corrupto, StandardCopyOption.REPLACE_EXISTING);
+            } catch (IOException error) {
+                logger.error("No fue posible renombrar el snapshot {}", archivo, error);
+            }
+            return 0;
+        }
+        // Los productos insertados por JDBC no pasan por la cache de segundo nivel
+        entityManagerFactory.getCache().evictAll();
+        ultimoEstado = leerEstado();
+        logger.info("Snapshot del catalogo cargado: {} productos en {} ms ({} KB)", cantidad,
+                (System.nanoTime() - inicio) / 1_000_000, tamanioKb(archivo));
+        return cantidad;
+    }
+
+    /**
+     * Inserta los productos del archivo en lotes de {@code tamanioLote} y reinicia la secuencia de
+     * ids sobre el máximo cargado. Se ejecuta en una sola transacción: si el archivo resulta
+     * corrupto no queda nada insertado. Los vendedores de cada lote se registran antes que sus
+     * productos, con el nombre y la reputación guardados junto a ellos.
+     */
+    private long insertarSnapshot() {
+        List<Producto> conVendedor = new ArrayList<>();
+        List<Object[]> productos = new ArrayList<>(tamanioLote);
+        List<Object[]> especificaciones = new ArrayList<>();
+        List<Object[]> imagenes = new ArrayList<>();
+        long[] maximoId = {0};
+        long cantidad;
+        try {
+            cantidad = ArchivoSnapshot.leer(archivo, producto -> {
+                productos.add(columnas(producto));
+                if (producto.getIdVendedor() != null) {
+                    conVendedor.add(producto);
+                }
+                agregarColeccion(especificaciones, producto.getId(), producto.getEspecificaciones());
+                agregarColeccion(imagenes, producto.getId(), producto.getUrlsImagenes());
+                maximoId[0] = Math.max(maximoId[0], producto.getId());
+                if (productos.size() == tamanioLote) {
+                    insertarLote(conVendedor, productos, especificaciones, imagenes);
+                }
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        insertarLote(conVendedor, productos, especificaciones, imagenes);
+
+        // Con el optimizador pooled el primer valor leído de la secuencia es el extremo superior de su bloque
+        jdbcTemplate.execute("alter sequence productos_seq restart with " + (maximoId[0] + Producto.TAMANIO_BLOQUE_IDS));
+        return cantidad;
+    }
+
+    private void insertarLote(List<Producto> conVendedor, List<Object[]> productos, List<Object[]> especificaciones,
+                              List<Object[]> imagenes) {
+        cacheVendedores.registrarFaltantes(conVendedor);
+        if (!productos.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_PRODUCTO, productos);
+        }
+        if (!especificaciones.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_ESPECIFICACION, especificaciones);
+        }
+        if (!imagenes.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_IMAGEN, imagenes);
+        }
+        conVendedor.clear();
+        productos.clear();
+        especificaciones.clear();
+        imagenes.clear();
+    }
+
+    private static Object[] columnas(Producto producto) {
+        return new Object[]{producto.getId(), producto.getTitulo(), producto.getPrecio(), producto.getMoneda(),
+                producto.getStockDisponible(), producto.getDescripcion(), producto.getIdVendedor(), producto.getCantidadVendida(),
+                producto.getFechaPublicacion(), producto.getEnvioGratis(), producto.getMetodoEnvioPrincipal(),
+                producto.getRatingPromedio(), producto.getTotalOpiniones(), producto.getSumaPuntajes(),
+                producto.getOpiniones1(), producto.getOpiniones2(), producto.getOpiniones3(), producto.getOpiniones4(),
+                producto.getOpiniones5(), producto.getFechaActualizacion()};
+    }
+
+    private static void agregarColeccion(List<Object[]> filas, Long productoId, List<String> valores) {
+        for (String valor : valores) {
+            filas.add(new Object[]{productoId, valor});
+        }
+    }
+
+    /**
+     * Recorre productos, especificaciones e imágenes ordenados por id de producto y escribe cada
+     * producto con sus colecciones (merge de los tres cursores, sin cargar el catálogo en memoria).
+     */
+    private long recorrerCatalogo(Connection conexion, ArchivoSnapshot.Escritor escritor) throws SQLException {
+        try (PreparedStatement consultaProductos = conexion.prepareStatement(
+                SELECT_PRODUCTOS);
+             PreparedStatement consultaEspecificaciones = conexion.prepareStatement(
+                     "select producto_id, especificacion from producto_especificaciones order by producto_id");
+             PreparedStatement consultaImagenes = conexion.prepareStatement(
+                     "select producto_id, url_imagen from producto_imagenes order by producto_id");
+             ResultSet filasProductos = consultaProductos.executeQuery();
+             ResultSet filasEspecificaciones = consultaEspecificaciones.executeQuery();
+             ResultSet filasImagenes = consultaImagenes.executeQuery()) {
+            CursorColeccion especificaciones = new CursorColeccion(filasEspecificaciones);
+            CursorColeccion imagenes = new CursorColeccion(filasImagenes);
+            while (filasProductos.next()) {
+                Producto producto = producto(filasProductos);
+                producto.setEspecificaciones(especificaciones.valoresDe(producto.getId()));
+                producto.setUrlsImagenes(imagenes.valoresDe(producto.getId()));
+                escritor.escribir(producto);
+            }
+            return escritor.getCantidad();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Producto producto(ResultSet fila) throws SQLException {
+        Producto producto = new Producto();
+        producto.setId(fila.getLong("id"));
+        producto.setTitulo(fila.getString("titulo"));
+        producto.setPrecio(fila.getBigDecimal("precio"));
+        producto.setMoneda(fila.getString("moneda"));
+        producto.setStockDisponible(fila.getInt("stock_disponible"));
+        producto.setDescripcion(fila.getString("descripcion"));
+        producto.setIdVendedor(fila.getObject("id_vendedor", Long.class));
+        producto.setNombreVendedor(fila.getString("nombre_vendedor"));
+        producto.setReputacionVendedor(fila.getObject("reputacion_vendedor", Float.class));
+        producto.setCantidadVendida(fila.getInt("cantidad_vendida"));
+        producto.setFechaPublicacion(fila.getObject("fecha_publicacion", LocalDateTime.class));
+        producto.setEnvioGratis(fila.getObject("envio_gratis", Boolean.class));
+        producto.setMetodoEnvioPrincipal(fila.getString("metodo_envio_principal"));
+        producto.setRatingPromedio(fila.getObject("rating_promedio", Float.class));
+        producto.setTotalOpiniones(fila.getObject("total_opiniones", Integer.class));
+        producto.setSumaPuntajes(fila.getObject("suma_puntajes", Long.class));
+        producto.setOpiniones1(fila.getObject("opiniones1", Integer.class));
+        producto.setOpiniones2(fila.getObject("opiniones2", Integer.class));
+        producto.setOpiniones3(fila.getObject("opiniones3", Integer.class));
+        producto.setOpiniones4(fila.getObject("opiniones4", Integer.class));
+        producto.setOpiniones5(fila.getObject("opiniones5", Integer.class));
+        producto.setFechaActualizacion(fila.getObject("fecha_actualizacion", LocalDateTime.class));
+        return producto;
+    }
+
+    private EstadoCatalogo leerEstado() {
+        return jdbcTemplate.queryForObject("select (select count(*) from productos), greatest("
+                        + "(select max(fecha_actualizacion) from productos), (select max(fecha_actualizacion) from vendedores))",
+                (fila, numero) -> new EstadoCatalogo(fila.getLong(1), fila.getTimestamp(2)));
+    }
+
+    private static long tamanioKb(Path archivo) {
+        try {
+            return Files.size(archivo) / 1024;
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Cantidad de productos y última fecha de actualización de productos o vendedores: toda escritura
+     * del catálogo (incluidos los UPDATE de stock y los cambios de vendedores) cambia alguno de los dos.
+     */
+    private record EstadoCatalogo(long productos, Timestamp ultimaActualizacion) {
+    }
+
+    /**
+     * Avanza sobre una tabla de colección ordenada por {@code producto_id}, entregando los valores
+     * de cada producto en el orden en que se piden los ids (ascendente).
+     */
+    private static final class CursorColeccion {
+
+        private final ResultSet filas;
+        private boolean hayFila;
+
+        CursorColeccion(ResultSet filas) throws SQLException {
+            this.filas = filas;
+            this.hayFila = filas.next();
+        }
+
+        List<String> valoresDe(long productoId) throws SQLException {
+            // Filas de productos borrados entre consultas no pueden aparecer (instantánea), pero se toleran
+            while (hayFila && filas.getLong(1) < productoId) {
+                hayFila = filas.next();
+            }
+            List<String> valores = new ArrayList<>();
+            while (hayFila && filas.getLong(1) == productoId) {
+                valores.add(filas.getString(2));
+                hayFila = filas.next();
+            }
+            return valores;
+        }
+    }
+}
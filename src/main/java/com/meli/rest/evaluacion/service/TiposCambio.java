@@ -0,0 +1,125 @@
+package com.meli.rest.evaluacion.service;
+
+import com.meli.rest.evaluacion.exceptions.InvalidDataException;
+import com.meli.rest.evaluacion.util.TablaTiposCambio;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Tipos de cambio vigentes para mostrar los precios en otra moneda ({@code currency=} en las lecturas).
+ * <p>
+ * La tabla se lee de {@code evaluacion.monedas.archivo} (un archivo local, sin depender de un
+ * servicio externo) al iniciar y con {@link #recargar()}. Cada carga construye una
+ * {@link TablaTiposCambio} nueva e inmutable y la publica reemplazando la referencia: las lecturas
+ * no se bloquean y nunca ven una tabla a medio cargar. Si el archivo no se puede leer o no es
+ * válido se conserva la tabla anterior.
+ * <p>
+ * Métricas en {@code /actuator/prometheus}: {@code evaluacion.monedas.antiguedad} (segundos desde la
+ * última carga exitosa) y {@code evaluacion.monedas.recarga.errores}.
+ *
+ * @author [Mauricio Gomez Farias]
+ * @version 1.0
+ * @since 2025-12-04
+ */
+@Component
+public class TiposCambio {
+
+    private static final Logger logger = LoggerFactory.getLogger(TiposCambio.class);
+
+    private final AtomicReference<Carga> vigente = new AtomicReference<>(new Carga(TablaTiposCambio.VACIA, Instant.now()));
+    private final Resource archivo;
+    private final Counter erroresRecarga;
+
+    public TiposCambio(@Value("${evaluacion.monedas.archivo:classpath:tipos-cambio.properties}") Resource archivo,
+                       MeterRegistry registry) {
+        this.archivo = archivo;
+        this.erroresRecarga = Counter.builder("evaluacion.monedas.recarga.errores")
+                .description("Cargas de la tabla de tipos de cambio fallidas (se conserva la tabla anterior)")
+                .register(registry);
+        Gauge.builder("evaluacion.monedas.antiguedad", this,
+                        tipos -> (System.currentTimeMillis() - tipos.getFechaCarga().toEpochMilli()) / 1e3)
+                .description("Segundos desde la última carga exitosa de la tabla de tipos de cambio")
+                .baseUnit("seconds")
+                .register(registry);
+        try {
+            recargar();
+        } catch (IllegalStateException e) {
+            // La aplicación inicia igual; las peticiones con currency= responden 400 hasta una recarga exitosa
+            logger.error("No fue posible cargar los tipos de cambio, no se convertirán precios", e);
+        }
+    }
+
+    /**
+     * Vuelve a leer el archivo de tipos de cambio y publica la tabla nueva.
+     *
+     * @return La tabla cargada.
+     * @throws IllegalStateException si el archivo no se puede leer o no es válido (se conserva la tabla anterior).
+     */
+    public TablaTiposCambio recargar() {
+        TablaTiposCambio tabla;
+        try (InputStream entrada = archivo.getInputStream();
+             Reader lector = new InputStreamReader(entrada, StandardCharsets.UTF_8)) {
+            Properties propiedades = new Properties();
+            propiedades.load(lector);
+            tabla = TablaTiposCambio.desde(propiedades);
+        } catch (IOException | IllegalArgumentException e) {
+            erroresRecarga.increment();
+            throw new IllegalStateException("Tabla de tipos de cambio inválida en " + archivo + ": " + e.getMessage(), e);
+        }
+        vigente.set(new Carga(tabla, Instant.now()));
+        logger.info("Tipos de cambio cargados desde {}: {} monedas (version {})", archivo, tabla.getTasas().size(),
+                Long.toHexString(tabla.getVersion()));
+        return tabla;
+    }
+
+    /**
+     * Resuelve el parámetro {@code currency} de una lectura.
+     *
+     * @param moneda Código ISO 4217 de la moneda solicitada (sin distinguir mayúsculas), o {@code null}.
+     * @return La conversión hacia esa moneda con la tabla vigente, o {@code null} si no se pidió moneda.
+     * @throws InvalidDataException si la moneda no está en la tabla de tipos de cambio.
+     */
+    public TablaTiposCambio.Conversion conversion(String moneda) {
+        if (moneda == null) {
+            return null;
+        }
+        TablaTiposCambio.Conversion conversion = getTabla().hacia(moneda.trim().toUpperCase(Locale.ROOT));
+        if (conversion == null) {
+            throw new InvalidDataException("La moneda '" + moneda + "' no está disponible para convertir precios.");
+        }
+        return conversion;
+    }
+
+    /**
+     * @return La tabla vigente.
+     */
+    public TablaTiposCambio getTabla() {
+        return vigente.get().tabla();
+    }
+
+    /**
+     * @return Fecha de la última carga exitosa.
+     */
+    public Instant getFechaCarga() {
+        return vigente.get().fecha();
+    }
+
+    private record Carga(TablaTiposCambio tabla, Instant fecha) {
+    }
+}
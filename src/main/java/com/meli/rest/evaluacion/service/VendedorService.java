@@ -0,0 +1,43 @@
+package com.meli.rest.evaluacion.service;
+
+import com.meli.rest.evaluacion.dto.PaginaProductos;
+import com.meli.rest.evaluacion.dto.SolicitudVendedor;
+import com.meli.rest.evaluacion.model.Vendedor;
+
+import java.util.Optional;
+
+/**
+ * Interface del servicio de vendedores.
+ * <p>
+ * Definicion de los metodos que seran implementados en VendedorServiceImpl
+ *
+ * @author [Mauricio Gomez Farias]
+ * @version 1.0
+ * @since 2025-12-04
+ */
+public interface VendedorService {
+
+    /**
+     * @param id Identificador del vendedor.
+     * @return El vendedor, o vacío si no existe.
+     */
+    Optional<Vendedor> obtenerVendedor(Long id);
+
+    /**
+     * Registra el vendedor o actualiza su nombre y reputación. Solo se escribe la fila del
+     * vendedor; sus productos muestran los datos nuevos desde la siguiente lectura.
+     * @param id Identificador del vendedor.
+     * @param solicitud Nombre y reputación.
+     * @return El vendedor guardado.
+     */
+    Vendedor guardarVendedor(Long id, SolicitudVendedor solicitud);
+
+    /**
+     * Obtiene una página de los productos de un vendedor, del más reciente al más antiguo.
+     * @param idVendedor Identificador del vendedor.
+     * @param cursor Cursor opaco de la página anterior, o {@code null} para la primera página.
+     * @param tamanio Tamaño solicitado; si es nulo se usa el valor por defecto.
+     * @return Los productos de la página y el cursor siguiente.
+     */
+    PaginaProductos obtenerProductos(Long idVendedor, String cursor, Integer tamanio);
+}
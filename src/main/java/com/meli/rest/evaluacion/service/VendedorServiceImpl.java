@@ -0,0 +1,101 @@
+package com.meli.rest.evaluacion.service;
+
+import com.meli.rest.evaluacion.dto.FiltroProductos;
+import com.meli.rest.evaluacion.dto.PaginaProductos;
+import com.meli.rest.evaluacion.dto.SolicitudVendedor;
+import com.meli.rest.evaluacion.exceptions.InvalidDataException;
+import com.meli.rest.evaluacion.exceptions.RecursoNoEncontradoException;
+import com.meli.rest.evaluacion.model.Vendedor;
+import com.meli.rest.evaluacion.repository.VendedorRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+
+/**
+ * Implementación del servicio de vendedores.
+ * <p>
+ * Actualizar un vendedor escribe una sola fila e invalida su entrada en {@link CacheVendedores}
+ * después del commit, sin importar cuántos productos tenga. El catálogo de un vendedor se pagina
+ * por clave sobre el índice ({@code idVendedor}, {@code fechaPublicacion}, {@code id}) de productos.
+ *
+ * @author [Mauricio Gomez Farias]
+ * @version 1.0
+ * @since 2025-12-04
+ */
+@Service
+public class VendedorServiceImpl implements VendedorService {
+
+    private static final Logger logger = LoggerFactory.getLogger(VendedorServiceImpl.class);
+
+    private static final int LARGO_MAXIMO_NOMBRE = 255;
+
+    private final VendedorRepository vendedorRepository;
+    private final CacheVendedores cacheVendedores;
+    private final ProductoService productoService;
+    private final TransactionTemplate transactionTemplate;
+
+    public VendedorServiceImpl(VendedorRepository vendedorRepository, CacheVendedores cacheVendedores,
+                               ProductoService productoService, TransactionTemplate transactionTemplate) {
+        this.vendedorRepository = vendedorRepository;
+        this.cacheVendedores = cacheVendedores;
+        this.productoService = productoService;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @Override
+    public Optional<Vendedor> obtenerVendedor(Long id) {
+        return vendedorRepository.findById(id);
+    }
+
+    /**
+     * @throws InvalidDataException si el nombre está vacío o es muy largo, o la reputación no está entre 0 y 5.
+     */
+    @Override
+    public Vendedor guardarVendedor(Long id, SolicitudVendedor solicitud) {
+        validar(solicitud);
+        Vendedor guardado = transactionTemplate.execute(estado -> {
+            Vendedor vendedor = vendedorRepository.findById(id).orElseGet(() -> {
+                Vendedor nuevo = new Vendedor();
+                nuevo.setId(id);
+                return nuevo;
+            });
+            vendedor.setNombre(solicitud.getNombre().trim());
+            vendedor.setReputacion(solicitud.getReputacion());
+            return vendedorRepository.save(vendedor);
+        });
+        // Después del commit: la próxima lectura de sus productos trae los datos nuevos
+        cacheVendedores.invalidar(id);
+        logger.info("Vendedor {} guardado. Reputacion: {}", id, guardado.getReputacion());
+        return guardado;
+    }
+
+    /**
+     * @throws RecursoNoEncontradoException si el vendedor no existe.
+     * @throws InvalidDataException si el cursor o el tamaño no son válidos.
+     */
+    @Override
+    public PaginaProductos obtenerProductos(Long idVendedor, String cursor, Integer tamanio) {
+        if (cacheVendedores.obtener(idVendedor).isEmpty()) {
+            throw new RecursoNoEncontradoException("No existe el vendedor con ID: " + idVendedor);
+        }
+        FiltroProductos filtro = new FiltroProductos();
+        filtro.setIdVendedor(idVendedor);
+        return productoService.obtenerPaginaProductos(filtro, cursor, tamanio);
+    }
+
+    private static void validar(SolicitudVendedor solicitud) {
+        if (solicitud == null || solicitud.getNombre() == null || solicitud.getNombre().isBlank()) {
+            throw new InvalidDataException("El nombre del vendedor es obligatorio.");
+        }
+        if (solicitud.getNombre().trim().length() > LARGO_MAXIMO_NOMBRE) {
+            throw new InvalidDataException("El nombre del vendedor no puede superar " + LARGO_MAXIMO_NOMBRE + " caracteres.");
+        }
+        Float reputacion = solicitud.getReputacion();
+        if (reputacion != null && (reputacion < 0 || reputacion > Vendedor.REPUTACION_MAXIMA)) {
+            throw new InvalidDataException("La reputación del vendedor debe estar entre 0 y " + Vendedor.REPUTACION_MAXIMA + ".");
+        }
+    }
+}
@@ -0,0 +1,421 @@
+package com.meli.rest.evaluacion.util;
+
+import com.meli.rest.evaluacion.model.Producto;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Formato binario del snapshot del catálogo (ver {@code SnapshotCatalogoServiceImpl}).
+ * <p>
+ * Estructura del archivo (enteros big-endian):
+ * <pre>
+ * cabecera:  int MAGICO | short VERSION | short 0 (reservado)
+ * registros: int largo  | largo bytes con un producto (campos escalares y sus dos colecciones)
+ * fin:       int -1     | long cantidad de registros | long CRC32 de todo lo anterior
+ * </pre>
+ * Los textos se escriben como {@code int} largo en bytes (-1 = nulo) seguido de UTF-8, y cada
+ * campo que admite nulos va precedido de un byte de presencia. La versión 2 agrega al final de
+ * cada registro la suma de puntajes y el histograma de opiniones; los archivos de la versión 1 se
+ * siguen leyendo (esos campos quedan con sus valores por defecto).
+ * <p>
+ * La lectura mapea el archivo en memoria ({@link FileChannel#map}) por ventanas: gracias al largo
+ * de cada registro se sabe antes de decodificarlo si cabe en la ventana actual, y si no se mapea
+ * una ventana nueva desde su inicio. Antes de entregar el primer producto se recorre el archivo
+ * completo validando la estructura y el CRC, de modo que un archivo truncado o corrupto se rechaza
+ * sin haber entregado nada.
+ *
+ * @author [Mauricio Gomez Farias]
+ * @version 1.0
+ * @since 2025-12-04
+ */
+public final class ArchivoSnapshot {
+
+    /** "MELS" en ASCII. */
+    public static final int MAGICO = 0x4D454C53;
+
+    /** Versión del formato que se escribe; se leen desde {@link #VERSION_MINIMA} hasta esta. */
+    public static final short VERSION = 2;
+    public static final short VERSION_MINIMA = 1;
+
+    private static final int LARGO_CABECERA = 8;
+    private static final int LARGO_FIN = 4 + 8 + 8;
+    private static final int MARCA_FIN = -1;
+    private static final int VENTANA_DEFECTO = 256 * 1024 * 1024;
+
+    private ArchivoSnapshot() {
+    }
+
+    /**
+     * Lee el snapshot y entrega cada producto al consumidor, en el orden en que se escribieron.
+     *
+     * @param archivo    Archivo a leer.
+     * @param consumidor Recibe cada producto (no administrado por JPA).
+     * @return Cantidad de productos leídos.
+     * @throws IOException Si el archivo no se puede leer, es de otra versión o está corrupto; en
+     *                     ese caso el consumidor no recibe ningún producto.
+     */
+    public static long leer(Path archivo, Consumer<Producto> consumidor) throws IOException {
+        return leer(archivo, VENTANA_DEFECTO, consumidor);
+    }
+
+    static long leer(Path archivo, int ventana, Consumer<Producto> consumidor) throws IOException {
+        try (FileChannel canal = FileChannel.open(archivo, StandardOpenOption.READ)) {
+            Contenido contenido = verificar(canal, ventana);
+            Lector lector = new Lector(canal, ventana);
+            for (long i = 0; i < contenido.cantidad(); i++) {
+                consumidor.accept(leerProducto(lector.siguienteRegistro(), contenido.version()));
+            }
+            return contenido.cantidad();
+        }
+    }
+
+    /**
+     * Primera pasada: valida cabecera, largos de registro, marca de fin, cantidad y CRC.
+     */
+    private static Contenido verificar(FileChannel canal, int ventana) throws IOException {
+        long tamanio = canal.size();
+        if (tamanio < LARGO_CABECERA + LARGO_FIN) {
+            throw new IOException("Snapshot corrupto: el archivo tiene " + tamanio + " bytes");
+        }
+        ByteBuffer cabecera = canal.map(FileChannel.MapMode.READ_ONLY, 0, LARGO_CABECERA);
+        if (cabecera.getInt() != MAGICO) {
+            throw new IOException("El archivo no es un snapshot del catálogo");
+        }
+        short version = cabecera.getShort();
+        if (version < VERSION_MINIMA || version > VERSION) {
+            throw new IOException("Versión de snapshot no soportada: " + version
+                    + " (se esperaba de " + VERSION_MINIMA + " a " + VERSION + ")");
+        }
+
+        Lector lector = new Lector(canal, ventana);
+        long registros = 0;
+        while (lector.siguienteRegistro() != null) {
+            registros++;
+        }
+        if (tamanio - lector.posicion != LARGO_FIN) {
+            throw new IOException("Snapshot corrupto: " + (tamanio - lector.posicion - LARGO_FIN) + " bytes inesperados al final");
+        }
+        ByteBuffer fin = canal.map(FileChannel.MapMode.READ_ONLY, lector.posicion + 4, LARGO_FIN - 4);
+        long cantidad = fin.getLong();
+        long esperado = fin.getLong();
+        if (cantidad != registros) {
+            throw new IOException("Snapshot corrupto: declara " + cantidad + " productos y contiene " + registros);
+        }
+
+        // El CRC cubre todo el archivo salvo el propio CRC (últimos 8 bytes)
+        CRC32 crc = new CRC32();
+        for (long desde = 0; desde < tamanio - 8; desde += ventana) {
+            crc.update(canal.map(FileChannel.MapMode.READ_ONLY, desde, Math.min(ventana, tamanio - 8 - desde)));
+        }
+        if (esperado != crc.getValue()) {
+            throw new IOException("Snapshot corrupto: el CRC32 no coincide");
+        }
+        return new Contenido(version, cantidad);
+    }
+
+    private record Contenido(short version, long cantidad) {
+    }
+
+    private static Producto leerProducto(ByteBuffer registro, short version) throws IOException {
+        try {
+            Producto producto = new Producto();
+            producto.setId(registro.getLong());
+            producto.setTitulo(leerTexto(registro));
+            producto.setPrecio(leerDecimal(registro));
+            producto.setMoneda(leerTexto(registro));
+            producto.setStockDisponible(registro.getInt());
+            producto.setDescripcion(leerTexto(registro));
+            producto.setIdVendedor(presente(registro) ? registro.getLong() : null);
+            producto.setNombreVendedor(leerTexto(registro));
+            producto.setReputacionVendedor(presente(registro) ? registro.getFloat() : null);
+            producto.setCantidadVendida(registro.getInt());
+            producto.setFechaPublicacion(leerFecha(registro));
+            producto.setEnvioGratis(presente(registro) ? registro.get() != 0 : null);
+            producto.setMetodoEnvioPrincipal(leerTexto(registro));
+            producto.setRatingPromedio(presente(registro) ? registro.getFloat() : null);
+            producto.setTotalOpiniones(presente(registro) ? registro.getInt() : null);
+            producto.setFechaActualizacion(presente(registro) ? leerFecha(registro) : null);
+            producto.setEspecificaciones(leerTextos(registro));
+            producto.setUrlsImagenes(leerTextos(registro));
+            if (version >= 2) {
+                producto.setSumaPuntajes(presente(registro) ? registro.getLong() : null);
+                producto.setOpiniones1(leerEnteroOpcional(registro));
+                producto.setOpiniones2(leerEnteroOpcional(registro));
+                producto.setOpiniones3(leerEnteroOpcional(registro));
+                producto.setOpiniones4(leerEnteroOpcional(registro));
+                producto.setOpiniones5(leerEnteroOpcional(registro));
+            }
+            if (registro.hasRemaining()) {
+                throw new IOException("Snapshot corrupto: el registro del producto " + producto.getId()
+                        + " tiene " + registro.remaining() + " bytes sin leer");
+            }
+            return producto;
+        } catch (BufferUnderflowException | IllegalArgumentException | DateTimeException e) {
+            throw new IOException("Snapshot corrupto: registro incompleto", e);
+        }
+    }
+
+    private static boolean presente(ByteBuffer registro) {
+        return registro.get() != 0;
+    }
+
+    private static Integer leerEnteroOpcional(ByteBuffer registro) {
+        return presente(registro) ? registro.getInt() : null;
+    }
+
+    private static String leerTexto(ByteBuffer registro) {
+        int largo = registro.getInt();
+        if (largo < 0) {
+            return null;
+        }
+        if (largo > registro.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        byte[] bytes = new byte[largo];
+        registro.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static List<String> leerTextos(ByteBuffer registro) {
+        int cantidad = registro.getInt();
+        List<String> textos = new ArrayList<>(Math.min(cantidad, registro.remaining() / 4));
+        for (int i = 0; i < cantidad; i++) {
+            textos.add(leerTexto(registro));
+        }
+        return textos;
+    }
+
+    private static BigDecimal leerDecimal(ByteBuffer registro) {
+        int escala = registro.getInt();
+        byte[] sinEscala = new byte[registro.get() & 0xFF];
+        registro.get(sinEscala);
+        return new BigDecimal(new BigInteger(sinEscala), escala);
+    }
+
+    private static LocalDateTime leerFecha(ByteBuffer registro) {
+        return LocalDateTime.ofEpochSecond(registro.getLong(), registro.getInt(), ZoneOffset.UTC);
+    }
+
+    /**
+     * Recorre los registros del archivo mapeando ventanas de solo lectura.
+     */
+    private static final class Lector {
+
+        private final FileChannel canal;
+        private final long tamanio;
+        private final int ventana;
+        private MappedByteBuffer mapeo;
+        private long inicioMapeo;
+        private long posicion = LARGO_CABECERA;
+
+        Lector(FileChannel canal, int ventana) throws IOException {
+            this.canal = canal;
+            this.tamanio = canal.size();
+            this.ventana = ventana;
+        }
+
+        /**
+         * @return El siguiente registro (sin su largo), o {@code null} al llegar a la marca de fin.
+         */
+        ByteBuffer siguienteRegistro() throws IOException {
+            ByteBuffer largoRegistro = mapear(4);
+            int largo = largoRegistro.getInt();
+            if (largo == MARCA_FIN) {
+                return null;
+            }
+            if (largo < 0 || posicion + 4 + largo > tamanio - LARGO_FIN) {
+                throw new IOException("Snapshot corrupto: largo de registro inválido en la posición " + posicion);
+            }
+            posicion += 4;
+            ByteBuffer registro = mapear(largo);
+            posicion += largo;
+            return registro;
+        }
+
+        /**
+         * Retorna una vista de {@code largo} bytes desde la posición actual, mapeando una ventana
+         * nueva si no caben en la actual.
+         */
+        private ByteBuffer mapear(int largo) throws IOException {
+            if (posicion + largo > tamanio) {
+                throw new IOException("Snapshot corrupto: el archivo termina antes de lo esperado");
+            }
+            if (mapeo == null || posicion + largo > inicioMapeo + mapeo.capacity()) {
+                inicioMapeo = posicion;
+                mapeo = canal.map(FileChannel.MapMode.READ_ONLY, posicion,
+                        Math.min(tamanio - posicion, Math.max(ventana, largo)));
+            }
+            return mapeo.slice((int) (posicion - inicioMapeo), largo);
+        }
+    }
+
+    /**
+     * Escribe un snapshot en streaming. {@link #terminar()} escribe la marca de fin, la cantidad y
+     * el CRC; un archivo cerrado sin terminar queda incompleto y la lectura lo rechaza.
+     */
+    public static final class Escritor implements Closeable {
+
+        private final CRC32 crc = new CRC32();
+        private final DataOutputStream salida;
+        private final OutputStream destino;
+        // El registro se arma aparte para conocer su largo antes de escribirlo
+        private final RegistroEnConstruccion registro = new RegistroEnConstruccion();
+        private final DataOutputStream campos = new DataOutputStream(registro);
+        private long cantidad;
+
+        public Escritor(OutputStream destino) throws IOException {
+            this.destino = destino;
+            this.salida = new DataOutputStream(new CheckedOutputStream(new BufferedOutputStream(destino, 1 << 20), crc));
+            salida.writeInt(MAGICO);
+            salida.writeShort(VERSION);
+            salida.writeShort(0);
+        }
+
+        public void escribir(Producto producto) throws IOException {
+            registro.reset();
+            campos.writeLong(producto.getId());
+            escribirTexto(producto.getTitulo());
+            escribirDecimal(producto.getPrecio());
+            escribirTexto(producto.getMoneda());
+            campos.writeInt(producto.getStockDisponible());
+            escribirTexto(producto.getDescripcion());
+            if (presencia(producto.getIdVendedor())) {
+                campos.writeLong(producto.getIdVendedor());
+            }
+            escribirTexto(producto.getNombreVendedor());
+            if (presencia(producto.getReputacionVendedor())) {
+                campos.writeFloat(producto.getReputacionVendedor());
+            }
+            campos.writeInt(producto.getCantidadVendida());
+            escribirFecha(producto.getFechaPublicacion());
+            if (presencia(producto.getEnvioGratis())) {
+                campos.writeBoolean(producto.getEnvioGratis());
+            }
+            escribirTexto(producto.getMetodoEnvioPrincipal());
+            if (presencia(producto.getRatingPromedio())) {
+                campos.writeFloat(producto.getRatingPromedio());
+            }
+            if (presencia(producto.getTotalOpiniones())) {
+                campos.writeInt(producto.getTotalOpiniones());
+            }
+            if (presencia(producto.getFechaActualizacion())) {
+                escribirFecha(producto.getFechaActualizacion());
+            }
+            escribirTextos(producto.getEspecificaciones());
+            escribirTextos(producto.getUrlsImagenes());
+            if (presencia(producto.getSumaPuntajes())) {
+                campos.writeLong(producto.getSumaPuntajes());
+            }
+            escribirEnteroOpcional(producto.getOpiniones1());
+            escribirEnteroOpcional(producto.getOpiniones2());
+            escribirEnteroOpcional(producto.getOpiniones3());
+            escribirEnteroOpcional(producto.getOpiniones4());
+            escribirEnteroOpcional(producto.getOpiniones5());
+
+            salida.writeInt(registro.size());
+            registro.escribirEn(salida);
+            cantidad++;
+        }
+
+        public long getCantidad() {
+            return cantidad;
+        }
+
+        public void terminar() throws IOException {
+            salida.writeInt(MARCA_FIN);
+            salida.writeLong(cantidad);
+            salida.flush();
+            // El CRC va fuera del flujo verificado
+            new DataOutputStream(destino).writeLong(crc.getValue());
+            destino.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            salida.close();
+        }
+
+        private boolean presencia(Object valor) throws IOException {
+            campos.writeBoolean(valor != null);
+            return valor != null;
+        }
+
+        private void escribirEnteroOpcional(Integer valor) throws IOException {
+            if (presencia(valor)) {
+                campos.writeInt(valor);
+            }
+        }
+
+        private void escribirTexto(String texto) throws IOException {
+            if (texto == null) {
+                campos.writeInt(-1);
+                return;
+            }
+            byte[] bytes = texto.getBytes(StandardCharsets.UTF_8);
+            campos.writeInt(bytes.length);
+            campos.write(bytes);
+        }
+
+        private void escribirTextos(List<String> textos) throws IOException {
+            if (textos == null) {
+                campos.writeInt(0);
+                return;
+            }
+            campos.writeInt(textos.size());
+            for (String texto : textos) {
+                escribirTexto(texto);
+            }
+        }
+
+        private void escribirDecimal(BigDecimal valor) throws IOException {
+            byte[] sinEscala = valor.unscaledValue().toByteArray();
+            if (sinEscala.length > 255) {
+                throw new IOException("Precio fuera de rango para el snapshot: " + valor);
+            }
+            campos.writeInt(valor.scale());
+            campos.writeByte(sinEscala.length);
+            campos.write(sinEscala);
+        }
+
+        private void escribirFecha(LocalDateTime fecha) throws IOException {
+            campos.writeLong(fecha.toEpochSecond(ZoneOffset.UTC));
+            campos.writeInt(fecha.getNano());
+        }
+    }
+
+    /**
+     * Buffer reutilizable del registro en construcción (expone su arreglo sin copiarlo).
+     */
+    private static final class RegistroEnConstruccion extends ByteArrayOutputStream {
+
+        RegistroEnConstruccion() {
+            super(4096);
+        }
+
+        void escribirEn(OutputStream salida) throws IOException {
+            salida.write(buf, 0, count);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.meli.rest.evaluacion.util;
+
+import com.meli.rest.evaluacion.exceptions.InvalidDataException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Cursor opaco para la paginación por clave (keyset) de las opiniones de un producto.
+ * <p>
+ * Representa el id de la última opinión entregada; las opiniones se listan por id descendente,
+ * que es también su orden de creación. Se serializa en Base64 URL-safe, igual que
+ * {@link CursorProducto}.
+ *
+ * @param id Identificador de la última opinión de la página.
+ *
+ * @author [Mauricio Gomez Farias]
+ * @version 1.0
+ * @since 2025-12-04
+ */
+public record CursorOpinion(Long id) {
+
+    private static final String PREFIJO = "o|";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    /**
+     * Codifica la posición en un String opaco.
+     * @return cursor en Base64 URL-safe.
+     */
+    public String codificar() {
+        return ENCODER.encodeToString((PREFIJO + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodifica un cursor recibido desde el cliente.
+     * @param cursor valor opaco entregado previamente por la API.
+     * @return la posición representada por el cursor.
+     * @throws InvalidDataException si el cursor no tiene un formato válido.
+     */
+    public static CursorOpinion decodificar(String cursor) {
+        try {
+            String plano = new String(DECODER.decode(cursor), StandardCharsets.UTF_8);
+            if (!plano.startsWith(PREFIJO)) {
+                throw new InvalidDataException("El cursor de paginación no es válido.");
+            }
+            return new CursorOpinion(Long.valueOf(plano.substring(PREFIJO.length())));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidDataException("El cursor de paginación no es válido.");
+        }
+    }
+}
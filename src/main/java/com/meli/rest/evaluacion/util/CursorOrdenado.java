@@ -0,0 +1,63 @@
+package com.meli.rest.evaluacion.util;
+
+import com.meli.rest.evaluacion.dto.OrdenProductos;
+import com.meli.rest.evaluacion.exceptions.InvalidDataException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Cursor opaco para la paginación por clave del listado filtrado, generalizado a cualquier
+ * {@link OrdenProductos}: guarda el criterio, la dirección, el valor del atributo de orden y el
+ * {@code id} del último producto entregado.
+ * <p>
+ * El cursor solo es válido para el mismo orden con que se generó.
+ *
+ * @param orden Criterio de orden del listado.
+ * @param descendente Dirección del orden.
+ * @param valor Valor del atributo de orden del último producto de la página.
+ * @param id Identificador del último producto de la página (desempate).
+ *
+ * @author [Mauricio Gomez Farias]
+ * @version 1.0
+ * @since 2025-12-04
+ */
+public record CursorOrdenado(OrdenProductos orden, boolean descendente, Comparable<?> valor, Long id) {
+
+    private static final String SEPARADOR = "|";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    /**
+     * Codifica la posición en un String opaco.
+     * @return cursor en Base64 URL-safe.
+     */
+    public String codificar() {
+        String plano = orden.getAtributo() + SEPARADOR + (descendente ? "desc" : "asc") + SEPARADOR + valor + SEPARADOR + id;
+        return ENCODER.encodeToString(plano.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodifica un cursor recibido desde el cliente y verifica que corresponda al orden solicitado.
+     * @param cursor valor opaco entregado previamente por la API.
+     * @param orden Criterio de orden de la petición actual.
+     * @param descendente Dirección de la petición actual.
+     * @return la posición representada por el cursor.
+     * @throws InvalidDataException si el cursor no tiene un formato válido o es de otro orden.
+     */
+    public static CursorOrdenado decodificar(String cursor, OrdenProductos orden, boolean descendente) {
+        try {
+            String[] partes = new String(DECODER.decode(cursor), StandardCharsets.UTF_8).split("\\|", -1);
+            if (partes.length != 4 || !partes[0].equals(orden.getAtributo())
+                    || !partes[1].equals(descendente ? "desc" : "asc")) {
+                throw new InvalidDataException("El cursor de paginación no es válido.");
+            }
+            return new CursorOrdenado(orden, descendente, orden.leerValor(partes[2]), Long.valueOf(partes[3]));
+        } catch (RuntimeException e) {
+            if (e instanceof InvalidDataException invalido) {
+                throw invalido;
+            }
+            throw new InvalidDataException("El cursor de paginación no es válido.");
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.meli.rest.evaluacion.util;
+
+import com.meli.rest.evaluacion.exceptions.InvalidDataException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Cursor opaco para la paginación por clave (keyset) del catálogo de productos.
+ * <p>
+ * Representa la posición del último producto entregado en una página, usando el par
+ * ({@code fechaPublicacion}, {@code id}) que define el orden estable del listado.
+ * Se serializa en Base64 URL-safe para que el cliente lo trate como un valor opaco
+ * y lo devuelva tal cual en la siguiente petición.
+ *
+ * @param fechaPublicacion Fecha de publicación del último producto de la página.
+ * @param id Identificador del último producto de la página (desempate).
+ *
+ * @author [Mauricio Gomez Farias]
+ * @version 1.0
+ * @since 2025-12-04
+ */
+public record CursorProducto(LocalDateTime fechaPublicacion, Long id) {
+
+    private static final char SEPARADOR = '|';
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    /**
+     * Codifica la posición en un String opaco.
+     * @return cursor en Base64 URL-safe.
+     */
+    public String codificar() {
+        String plano = fechaPublicacion.toString() + SEPARADOR + id;
+        return ENCODER.encodeToString(plano.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodifica un cursor recibido desde el cliente.
+     * @param cursor valor opaco entregado previamente por la API.
+     * @return la posición representada por el cursor.
+     * @throws InvalidDataException si el cursor no tiene un formato válido.
+     */
+    public static CursorProducto decodificar(String cursor) {
+        try {
+            String plano = new String(DECODER.decode(cursor), StandardCharsets.UTF_8);
+            int separador = plano.lastIndexOf(SEPARADOR);
+            if (separador <= 0) {
+                throw new InvalidDataException("El cursor de paginación no es válido.");
+            }
+            LocalDateTime fecha = LocalDateTime.parse(plano.substring(0, separador));
+            Long id = Long.valueOf(plano.substring(separador + 1));
+            return new CursorProducto(fecha, id);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidDataException("El cursor de paginación no es válido.");
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.meli.rest.evaluacion.util;
+
+import com.meli.rest.evaluacion.dto.CamposProducto;
+import com.meli.rest.evaluacion.dto.ProductoParcial;
+import com.meli.rest.evaluacion.dto.VersionProducto;
+import com.meli.rest.evaluacion.model.Producto;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * Cálculo de los validadores HTTP ({@code ETag} y {@code Last-Modified}) de los productos.
+ * <p>
+ * El ETag de un producto se deriva de su id y de {@code fechaActualizacion}, que se actualiza en
+ * cada escritura; si su vendedor se actualizó después, de la fecha del vendedor
+ * ({@link Producto#fechaVersion()}). El de una página combina los ETag de sus productos y el cursor siguiente.
+ * Las respuestas con campos parciales ({@code fields}) incluyen además los campos solicitados,
+ * para que no se confundan con la representación completa ni con otra selección de campos, y las
+ * respuestas con precios convertidos ({@code currency}) la moneda y la versión de la tabla de tipos de cambio.
+ *
+ * @author [Mauricio Gomez Farias]
+ * @version 1.0
+ * @since 2025-12-04
+ */
+public final class EtagProducto {
+
+    private EtagProducto() {
+    }
+
+    /**
+     * @return ETag fuerte del producto, o {@code null} si no tiene fecha de actualización.
+     */
+    public static String deProducto(Long id, LocalDateTime fechaActualizacion) {
+        if (id == null || fechaActualizacion == null) {
+            return null;
+        }
+        return "\"" + id + "-" + Long.toHexString(microsegundos(fechaActualizacion)) + "\"";
+    }
+
+    /**
+     * @return ETag fuerte del producto con solo los campos solicitados, o {@code null} si no tiene fecha de actualización.
+     */
+    public static String deProducto(Long id, LocalDateTime fechaActualizacion, CamposProducto campos) {
+        String etag = deProducto(id, fechaActualizacion);
+        if (etag == null) {
+            return null;
+        }
+        return etag.substring(0, etag.length() - 1) + "-" + Integer.toHexString(campos.toString().hashCode()) + "\"";
+    }
+
+    /**
+     * @return La fecha de actualización en milisegundos epoch (para {@code Last-Modified}), o -1 si es nula.
+     */
+    public static long ultimaModificacion(LocalDateTime fechaActualizacion) {
+        if (fechaActualizacion == null) {
+            return -1;
+        }
+        return fechaActualizacion.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    /**
+     * Calcula un ETag débil para una página del listado. Cambia si cambia cualquier producto de la
+     * página, su orden, o el cursor siguiente.
+     *
+     * @return ETag débil de la página.
+     */
+    public static String dePagina(List<Producto> productos, String siguienteCursor) {
+        long hash = 1125899906842597L;
+        for (Producto producto : productos) {
+            hash = combinar(hash, producto.getId(), producto.fechaVersion());
+        }
+        hash = 31 * hash + (siguienteCursor == null ? 0 : siguienteCursor.hashCode());
+        return "W/\"" + productos.size() + "-" + Long.toHexString(hash) + "\"";
+    }
+
+    /**
+     * Calcula el mismo ETag que {@link #dePagina(List, String)} a partir de las versiones de los
+     * productos de la página, sin necesidad de cargarlos.
+     *
+     * @return ETag débil de la página.
+     */
+    public static String deVersiones(List<VersionProducto> versiones, String siguienteCursor) {
+        long hash = 1125899906842597L;
+        for (VersionProducto version : versiones) {
+            hash = combinar(hash, version.id(), version.fechaActualizacion());
+        }
+        hash = 31 * hash + (siguienteCursor == null ? 0 : siguienteCursor.hashCode());
+        return "W/\"" + versiones.size() + "-" + Long.toHexString(hash) + "\"";
+    }
+
+    /**
+     * Calcula el ETag débil de una página de productos parciales. Además de lo que considera
+     * {@link #dePagina(List, String)}, cambia si cambian los campos solicitados.
+     *
+     * @return ETag débil de la página.
+     */
+    public static String dePaginaParcial(List<ProductoParcial> productos, CamposProducto campos, String siguienteCursor) {
+        long hash = 1125899906842597L;
+        for (ProductoParcial producto : productos) {
+            hash = combinar(hash, producto.getId(), producto.getFechaActualizacion());
+        }
+        hash = 31 * hash + (siguienteCursor == null ? 0 : siguienteCursor.hashCode());
+        hash = 31 * hash + campos.toString().hashCode();
+        return "W/\"" + productos.size() + "-" + Long.toHexString(hash) + "\"";
+    }
+
+    /**
+     * Agrega al ETag la moneda de los precios y la versión de la tabla de tipos de cambio: la
+     * respuesta cambia al recargar la tabla aunque los productos no cambien.
+     *
+     * @return El ETag de la respuesta con precios convertidos; el mismo ETag si no hay conversión o es {@code null}.
+     */
+    public static String enMoneda(String etag, TablaTiposCambio.Conversion conversion) {
+        if (etag == null || conversion == null) {
+            return etag;
+        }
+        return etag.substring(0, etag.length() - 1) + "-" + conversion.getMoneda() + "-"
+                + Long.toHexString(conversion.getVersion()) + "\"";
+    }
+
+    private static long combinar(long hash, Long id, LocalDateTime fecha) {
+        hash = 31 * hash + (id == null ? 0 : id);
+        return 31 * hash + (fecha == null ? 0 : microsegundos(fecha));
+    }
+
+    private static long microsegundos(LocalDateTime fecha) {
+        return fecha.toLocalDate().toEpochDay() * 86_400_000_000L + fecha.toLocalTime().toNanoOfDay() / 1_000;
+    }
+}
@@ -0,0 +1,235 @@
+package com.meli.rest.evaluacion.util;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.Collections;
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+/**
+ * Tabla inmutable de tipos de cambio con las reglas de redondeo de cada moneda.
+ * <p>
+ * Se construye a partir de un archivo {@code .properties}:
+ * <pre>
+ * # Unidades de cada moneda por una unidad de la moneda de referencia
+ * tasa.USD=1
+ * tasa.CLP=950.25
+ * # Opcional: decimales y modo de redondeo (java.math.RoundingMode) del precio convertido
+ * redondeo.CLP=0,HALF_UP
+ * </pre>
+ * Sin regla explícita el precio se redondea a los decimales de la moneda según ISO 4217
+ * ({@link Currency#getDefaultFractionDigits()}) con {@link RoundingMode#HALF_EVEN}.
+ * <p>
+ * Los factores entre cada par de monedas y el redondeo de cada una se calculan al construir la
+ * tabla: convertir un precio es una búsqueda en un mapa, una multiplicación y un redondeo.
+ *
+ * @author [Mauricio Gomez Farias]
+ * @version 1.0
+ * @since 2025-12-04
+ */
+public final class TablaTiposCambio {
+
+    /** Tabla sin monedas: ninguna conversión es posible. */
+    public static final TablaTiposCambio VACIA = new TablaTiposCambio(new TreeMap<>(), new TreeMap<>());
+
+    private static final String PREFIJO_TASA = "tasa.";
+    private static final String PREFIJO_REDONDEO = "redondeo.";
+    private static final Pattern CODIGO = Pattern.compile("[A-Z]{3}");
+    private static final RoundingMode REDONDEO_POR_DEFECTO = RoundingMode.HALF_EVEN;
+    private static final int DECIMALES_POR_DEFECTO = 2;
+
+    private final Map<String, Conversion> conversiones;
+    private final Map<String, BigDecimal> tasas;
+    private final long version;
+
+    private TablaTiposCambio(TreeMap<String, BigDecimal> tasas, TreeMap<String, Redondeo> redondeos) {
+        long hash = 1125899906842597L;
+        Map<String, Redondeo> reglas = new HashMap<>();
+        for (Map.Entry<String, BigDecimal> moneda : tasas.entrySet()) {
+            Redondeo redondeo = redondeos.getOrDefault(moneda.getKey(), redondeoPorDefecto(moneda.getKey()));
+            reglas.put(moneda.getKey(), redondeo);
+            hash = 31 * (31 * hash + moneda.getKey().hashCode()) + moneda.getValue().stripTrailingZeros().hashCode();
+            // Por campo: el hashCode del record incluye el de RoundingMode, que es de identidad y
+            // cambia entre ejecuciones; la versión debe ser la misma en todas las instancias
+            hash = 31 * (31 * hash + redondeo.decimales()) + redondeo.modo().name().hashCode();
+        }
+        Map<String, Conversion> conversiones = new HashMap<>();
+        for (Map.Entry<String, BigDecimal> destino : tasas.entrySet()) {
+            Map<String, BigDecimal> factores = new HashMap<>();
+            for (Map.Entry<String, BigDecimal> origen : tasas.entrySet()) {
+                factores.put(origen.getKey(), destino.getValue().divide(origen.getValue(), MathContext.DECIMAL64));
+            }
+            conversiones.put(destino.getKey(), new Conversion(destino.getKey(), factores, reglas.get(destino.getKey()), hash));
+        }
+        this.conversiones = Map.copyOf(conversiones);
+        this.tasas = Collections.unmodifiableSortedMap(tasas);
+        this.version = hash;
+    }
+
+    /**
+     * Construye la tabla a partir de las propiedades del archivo de tipos de cambio.
+     *
+     * @throws IllegalArgumentException si algún código, tasa o regla de redondeo no es válido,
+     *                                  o si no hay ninguna tasa.
+     */
+    public static TablaTiposCambio desde(Properties propiedades) {
+        TreeMap<String, BigDecimal> tasas = new TreeMap<>();
+        TreeMap<String, Redondeo> redondeos = new TreeMap<>();
+        for (String clave : propiedades.stringPropertyNames()) {
+            String valor = propiedades.getProperty(clave).trim();
+            if (clave.startsWith(PREFIJO_TASA)) {
+                String codigo = codigo(clave.substring(PREFIJO_TASA.length()));
+                tasas.put(codigo, tasa(codigo, valor));
+            } else if (clave.startsWith(PREFIJO_REDONDEO)) {
+                String codigo = codigo(clave.substring(PREFIJO_REDONDEO.length()));
+                redondeos.put(codigo, redondeo(codigo, valor));
+            } else {
+                throw new IllegalArgumentException("Clave desconocida en la tabla de tipos de cambio: " + clave);
+            }
+        }
+        if (tasas.isEmpty()) {
+            throw new IllegalArgumentException("La tabla de tipos de cambio no tiene ninguna tasa.");
+        }
+        for (String codigo : redondeos.keySet()) {
+            if (!tasas.containsKey(codigo)) {
+                throw new IllegalArgumentException("Regla de redondeo para una moneda sin tasa: " + codigo);
+            }
+        }
+        return new TablaTiposCambio(tasas, redondeos);
+    }
+
+    /**
+     * @param moneda Código ISO 4217 de la moneda destino, en mayúsculas.
+     * @return La conversión hacia esa moneda, o {@code null} si la tabla no la incluye.
+     */
+    public Conversion hacia(String moneda) {
+        return moneda == null ? null : conversiones.get(moneda);
+    }
+
+    /**
+     * @return Tasa de cada moneda respecto de la moneda de referencia, por código.
+     */
+    public Map<String, BigDecimal> getTasas() {
+        return tasas;
+    }
+
+    /**
+     * @return Huella del contenido de la tabla: dos tablas con las mismas tasas y reglas tienen la
+     * misma versión, también en otra instancia de la aplicación.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    private static String codigo(String codigo) {
+        if (!CODIGO.matcher(codigo).matches()) {
+            throw new IllegalArgumentException("Código de moneda inválido en la tabla de tipos de cambio: " + codigo);
+        }
+        return codigo;
+    }
+
+    private static BigDecimal tasa(String codigo, String valor) {
+        try {
+            BigDecimal tasa = new BigDecimal(valor);
+            if (tasa.signum() > 0) {
+                return tasa;
+            }
+        } catch (NumberFormatException e) {
+            // se informa abajo
+        }
+        throw new IllegalArgumentException("Tasa inválida para " + codigo + ": " + valor);
+    }
+
+    private static Redondeo redondeo(String codigo, String valor) {
+        String[] partes = valor.split(",");
+        try {
+            int decimales = Integer.parseInt(partes[0].trim());
+            RoundingMode modo = partes.length > 1 ? RoundingMode.valueOf(partes[1].trim()) : REDONDEO_POR_DEFECTO;
+            if (decimales >= 0 && partes.length <= 2 && modo != RoundingMode.UNNECESSARY) {
+                return new Redondeo(decimales, modo);
+            }
+        } catch (IllegalArgumentException e) {
+            // se informa abajo
+        }
+        throw new IllegalArgumentException("Regla de redondeo inválida para " + codigo + ": " + valor);
+    }
+
+    private static Redondeo redondeoPorDefecto(String codigo) {
+        int decimales;
+        try {
+            decimales = Currency.getInstance(codigo).getDefaultFractionDigits();
+        } catch (IllegalArgumentException e) {
+            decimales = -1;
+        }
+        return new Redondeo(decimales < 0 ? DECIMALES_POR_DEFECTO : decimales, REDONDEO_POR_DEFECTO);
+    }
+
+    /**
+     * Decimales y modo de redondeo de los precios convertidos a una moneda.
+     */
+    public record Redondeo(int decimales, RoundingMode modo) {
+    }
+
+    /**
+     * Conversión de precios hacia una moneda, con los factores desde cada moneda de la tabla.
+     * Se obtiene una vez por petición: todos los precios de una respuesta usan la misma tabla
+     * aunque se recargue mientras tanto.
+     */
+    public static final class Conversion {
+
+        private final String moneda;
+        private final Map<String, BigDecimal> factores;
+        private final Redondeo redondeo;
+        private final long version;
+
+        private Conversion(String moneda, Map<String, BigDecimal> factores, Redondeo redondeo, long version) {
+            this.moneda = moneda;
+            this.factores = Map.copyOf(factores);
+            this.redondeo = redondeo;
+            this.version = version;
+        }
+
+        /**
+         * @param precio       Precio en la moneda de origen.
+         * @param monedaOrigen Código de la moneda del precio.
+         * @return El precio en la moneda destino, redondeado según su regla; el mismo precio si ya
+         * está en la moneda destino, o {@code null} si la moneda de origen no está en la tabla.
+         */
+        public BigDecimal convertir(BigDecimal precio, String monedaOrigen) {
+            if (precio == null || monedaOrigen == null) {
+                return null;
+            }
+            if (moneda.equals(monedaOrigen)) {
+                return precio;
+            }
+            BigDecimal factor = factores.get(monedaOrigen);
+            if (factor == null) {
+                return null;
+            }
+            return precio.multiply(factor).setScale(redondeo.decimales(), redondeo.modo());
+        }
+
+        /**
+         * @return Código de la moneda destino.
+         */
+        public String getMoneda() {
+            return moneda;
+        }
+
+        public Redondeo getRedondeo() {
+            return redondeo;
+        }
+
+        /**
+         * @return Versión de la tabla de la que proviene (ver {@link TablaTiposCambio#getVersion()}).
+         */
+        public long getVersion() {
+            return version;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.meli.rest.evaluacion.util;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Tokenizador para textos en español usado por el índice de búsqueda.
+ * <p>
+ * Pasa el texto a minúsculas, elimina tildes y diéresis ("Cámara" y "camara" son el mismo
+ * término), separa por cualquier carácter que no sea letra o dígito, descarta palabras vacías
+ * ("de", "la", "con", ...) y reduce plurales simples al singular ("celulares" → "celular",
+ * "luces" → "luz", "fundas" → "funda"). El mismo proceso se aplica a los documentos y a las
+ * consultas, por lo que ambos producen los mismos términos.
+ *
+ * @author [Mauricio Gomez Farias]
+ * @version 1.0
+ * @since 2025-12-04
+ */
+public final class TokenizadorEspanol {
+
+    private static final Set<String> PALABRAS_VACIAS = Set.of(
+            "a", "al", "algo", "ante", "con", "como", "cual", "de", "del", "desde", "donde", "e", "el", "ella",
+            "en", "entre", "era", "es", "esta", "este", "esto", "fue", "ha", "hasta", "la", "las", "le", "les",
+            "lo", "los", "mas", "me", "mi", "muy", "ni", "no", "o", "para", "pero", "por", "que", "se", "ser",
+            "si", "sin", "sobre", "son", "su", "sus", "tambien", "te", "tu", "u", "un", "una", "uno", "unos",
+            "unas", "y", "ya");
+
+    private TokenizadorEspanol() {
+    }
+
+    /**
+     * Obtiene los términos de un texto, en orden de aparición y con repeticiones.
+     *
+     * @param texto Texto a tokenizar (puede ser {@code null}).
+     * @return Los términos normalizados; vacío si el texto no tiene términos indexables.
+     */
+    public static List<String> tokenizar(String texto) {
+        List<String> terminos = new ArrayList<>();
+        if (texto == null || texto.isEmpty()) {
+            return terminos;
+        }
+        String normalizado = quitarTildes(texto);
+
+        StringBuilder actual = new StringBuilder();
+        for (int i = 0; i <= normalizado.length(); i++) {
+            char caracter = i < normalizado.length() ? normalizado.charAt(i) : ' ';
+            if (Character.isLetterOrDigit(caracter)) {
+                actual.append(Character.toLowerCase(caracter));
+            } else if (!actual.isEmpty()) {
+                agregarTermino(terminos, actual.toString());
+                actual.setLength(0);
+            }
+        }
+        return terminos;
+    }
+
+    private static void agregarTermino(List<String> terminos, String palabra) {
+        if (PALABRAS_VACIAS.contains(palabra)) {
+            return;
+        }
+        terminos.add(singular(palabra));
+    }
+
+    /**
+     * Reducción liviana de plurales: no es un stemmer completo, solo unifica singular y plural
+     * de los casos regulares más comunes en títulos y especificaciones.
+     */
+    static String singular(String palabra) {
+        int largo = palabra.length();
+        if (largo <= 3 || !Character.isLetter(palabra.charAt(largo - 1))) {
+            return palabra;
+        }
+        if (palabra.endsWith("ces") && largo > 4) {
+            // luces -> luz, lapices -> lapiz
+            return palabra.substring(0, largo - 3) + "z";
+        }
+        if (palabra.endsWith("es") && largo > 4 && esConsonante(palabra.charAt(largo - 3))) {
+            // celulares -> celular, parlantes -> parlante (la "e" es parte del singular)
+            char anterior = palabra.charAt(largo - 3);
+            return "rlndjy".indexOf(anterior) >= 0 ? palabra.substring(0, largo - 2) : palabra.substring(0, largo - 1);
+        }
+        if (palabra.endsWith("s") && esVocal(palabra.charAt(largo - 2))) {
+            // fundas -> funda, audifonos -> audifono
+            return palabra.substring(0, largo - 1);
+        }
+        return palabra;
+    }
+
+    private static String quitarTildes(String texto) {
+        String descompuesto = Normalizer.normalize(texto, Normalizer.Form.NFD);
+        StringBuilder resultado = new StringBuilder(descompuesto.length());
+        for (int i = 0; i < descompuesto.length(); i++) {
+            char caracter = descompuesto.charAt(i);
+            if (Character.getType(caracter) != Character.NON_SPACING_MARK) {
+                resultado.append(caracter);
+            }
+        }
+        return resultado.toString();
+    }
+
+    private static boolean esVocal(char caracter) {
+        return "aeiou".indexOf(caracter) >= 0;
+    }
+
+    private static boolean esConsonante(char caracter) {
+        return Character.isLetter(caracter) && !esVocal(caracter);
+    }
+}
@@ -1,20 +1,24 @@
 package com.meli.rest.evaluacion.util;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 
 /**
- * Clase utilitaria, no fue necesario para este ejercicio
+ * Clase utilitaria con funciones comunes a varias capas.
  */
 public class Utils {
 
+    private Utils() {
+    }
+
     /**
-     * Disponible, no fue requerido para este ejercicio
-     * @param
-     * @return
+     * Fecha y hora actual truncada a microsegundos, la precisión del TIMESTAMP de la base de datos.
+     * Se usa para {@code fechaActualizacion}, de modo que el valor en memoria coincida con el
+     * leído posteriormente (y con el ETag calculado a partir de él).
+     *
+     * @return la fecha actual con precisión de microsegundos.
      */
-
+    public static LocalDateTime fechaActual() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+    }
 }
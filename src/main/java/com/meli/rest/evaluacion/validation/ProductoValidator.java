@@ -1,12 +1,19 @@
 package com.meli.rest.evaluacion.validation;
 
-import com.meli.rest.evaluacion.exceptions.InvalidDataException;
 import com.meli.rest.evaluacion.model.Producto;
 import org.springframework.stereotype.Component;
 
-import java.math.BigDecimal;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
 /**
  * Clase creada para validar datos de entrada de productos MELI.
+ * <p>
+ * Las reglas se arman una sola vez, al crear el componente, en un arreglo que se recorre completo
+ * por cada producto: se informan todas las reglas incumplidas, no solo la primera, y ninguna regla
+ * lanza excepciones. Quien necesite responder al cliente convierte el resultado con
+ * {@link ResultadoValidacion#comoExcepcion()}.
  *
  * @author [Mauricio Gomez Farias]
  * @version 1.0
@@ -15,22 +22,105 @@ import java.math.BigDecimal;
 @Component // Bean de Spring
 public class ProductoValidator {
 
+    /** Largos máximos de las columnas de texto validadas (ver {@link Producto}). */
+    static final int LARGO_MAXIMO_TITULO = 255;
+    static final int LARGO_MAXIMO_MONEDA = 3;
+
+    /**
+     * Productos por tarea al validar un lote en paralelo. Validar un producto toma decenas de
+     * nanosegundos: tramos más chicos pagarían más en coordinación que en validación.
+     */
+    static final int TAMANIO_TRAMO_PARALELO = 1024;
+
+    private static final String MENSAJE_NULO = "El producto no puede ser nulo.";
+
+    /**
+     * Regla de negocio: el producto la cumple si el predicado es verdadero. Los predicados aceptan
+     * campos nulos cuando otra regla ya informa que el campo es obligatorio.
+     */
+    private record Regla(Predicate<Producto> cumple, String mensaje) {
+    }
+
+    private final Regla[] reglas;
+
+    public ProductoValidator() {
+        this.reglas = List.of(
+                new Regla(p -> p.getTitulo() != null,
+                        "El título del producto es obligatorio."),
+                new Regla(p -> p.getTitulo() == null || p.getTitulo().length() <= LARGO_MAXIMO_TITULO,
+                        "El título del producto no puede superar " + LARGO_MAXIMO_TITULO + " caracteres."),
+                // 1. Validar que el campo precio no sea nulo
+                new Regla(p -> p.getPrecio() != null,
+                        "El precio del producto es obligatorio y no puede ser nulo."),
+                // 2. Validar que el precio sea un numero > 0
+                new Regla(p -> p.getPrecio() == null || p.getPrecio().signum() > 0,
+                        "El precio del producto debe ser mayor que cero."),
+                new Regla(p -> p.getMoneda() != null && p.getMoneda().length() <= LARGO_MAXIMO_MONEDA,
+                        "La moneda del producto es obligatoria y no puede superar " + LARGO_MAXIMO_MONEDA + " caracteres."),
+                new Regla(p -> p.getStockDisponible() != null,
+                        "El stock disponible del producto es obligatorio."),
+                new Regla(p -> p.getDescripcion() != null,
+                        "La descripción del producto es obligatoria.")
+        ).toArray(Regla[]::new);
+    }
+
     /**
      * Realiza las validaciones de negocio básicas para un objeto Producto.
+     *
      * @param producto El objeto Producto a validar.
-     * @throws InvalidDataException si el producto tiene datos inválidos.
+     * @return Un resultado nuevo con todas las reglas incumplidas (válido si no hay ninguna).
      */
-    public void validarDatosCreacion(Producto producto) {
-        // 1. Validar que el campo precio no sea nulo
-        if (producto.getPrecio() == null) {
-            throw new InvalidDataException("El precio del producto es obligatorio y no puede ser nulo.");
-        }
+    public ResultadoValidacion validar(Producto producto) {
+        ResultadoValidacion resultado = new ResultadoValidacion();
+        validar(producto, resultado);
+        return resultado;
+    }
 
-        // 2. Validar que el precio sea un numero > 0
-        if (producto.getPrecio().compareTo(BigDecimal.ZERO) <= 0) {
-            throw new InvalidDataException("El precio del producto debe ser mayor que cero.");
+    /**
+     * Valida un producto reutilizando un resultado existente, que se limpia antes de evaluar.
+     *
+     * @param producto  El objeto Producto a validar (puede ser nulo).
+     * @param resultado Resultado donde se registran las reglas incumplidas.
+     * @return {@code true} si el producto cumple todas las reglas.
+     */
+    public boolean validar(Producto producto, ResultadoValidacion resultado) {
+        resultado.limpiar();
+        if (producto == null) {
+            resultado.agregar(MENSAJE_NULO);
+            return false;
         }
+        for (Regla regla : reglas) {
+            if (!regla.cumple().test(producto)) {
+                resultado.agregar(regla.mensaje());
+            }
+        }
+        return resultado.esValido();
+    }
 
-        // Aca se podrian agregar mas validaciones.
+    /**
+     * Valida una carga de productos. Las cargas de más de un tramo se reparten en paralelo, un
+     * tramo por tarea y un {@link ResultadoValidacion} reutilizado por tramo; solo los productos
+     * inválidos generan su mensaje.
+     *
+     * @param productos Productos a validar (pueden contener nulos).
+     * @return Por posición, los errores del producto unidos por un espacio, o {@code null} si es válido.
+     */
+    public String[] validarLote(List<Producto> productos) {
+        String[] mensajes = new String[productos.size()];
+        int tramos = (productos.size() + TAMANIO_TRAMO_PARALELO - 1) / TAMANIO_TRAMO_PARALELO;
+        IntStream indicesTramos = IntStream.range(0, tramos);
+        if (tramos > 1) {
+            indicesTramos = indicesTramos.parallel();
+        }
+        indicesTramos.forEach(tramo -> {
+            ResultadoValidacion resultado = new ResultadoValidacion();
+            int hasta = Math.min((tramo + 1) * TAMANIO_TRAMO_PARALELO, productos.size());
+            for (int indice = tramo * TAMANIO_TRAMO_PARALELO; indice < hasta; indice++) {
+                if (!validar(productos.get(indice), resultado)) {
+                    mensajes[indice] = resultado.mensaje();
+                }
+            }
+        });
+        return mensajes;
     }
-}
\ No newline at end of file
+}
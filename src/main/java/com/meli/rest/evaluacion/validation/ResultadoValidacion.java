@@ -0,0 +1,77 @@
+package com.meli.rest.evaluacion.validation;
+
+import com.meli.rest.evaluacion.exceptions.InvalidDataException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Resultado de validar un producto: acumula los mensajes de todas las reglas incumplidas, sin
+ * lanzar excepciones.
+ * <p>
+ * Es reutilizable: {@link ProductoValidator#validar(com.meli.rest.evaluacion.model.Producto, ResultadoValidacion)}
+ * lo limpia antes de evaluar, por lo que un mismo resultado sirve para validar muchos productos
+ * seguidos. La lista de errores se crea con el primer error; validar un producto válido no asigna
+ * memoria. No es seguro para uso concurrente: cada hilo usa el suyo.
+ *
+ * @author [Mauricio Gomez Farias]
+ * @version 1.0
+ * @since 2025-12-04
+ */
+public class ResultadoValidacion {
+
+    private List<String> errores;
+
+    /**
+     * Registra una regla incumplida.
+     *
+     * @param mensaje El mensaje de la regla.
+     */
+    public void agregar(String mensaje) {
+        if (errores == null) {
+            errores = new ArrayList<>(4);
+        }
+        errores.add(mensaje);
+    }
+
+    /**
+     * @return {@code true} si no se registró ningún error.
+     */
+    public boolean esValido() {
+        return errores == null || errores.isEmpty();
+    }
+
+    /**
+     * @return Los mensajes registrados, en el orden de evaluación de las reglas (vista de solo lectura).
+     */
+    public List<String> getErrores() {
+        return errores == null ? List.of() : Collections.unmodifiableList(errores);
+    }
+
+    /**
+     * @return Los mensajes registrados unidos por un espacio, o {@code null} si el resultado es válido.
+     */
+    public String mensaje() {
+        return esValido() ? null : String.join(" ", errores);
+    }
+
+    /**
+     * Descarta los errores registrados para reutilizar el resultado.
+     */
+    public void limpiar() {
+        if (errores != null) {
+            errores.clear();
+        }
+    }
+
+    /**
+     * Crea la excepción que lleva los errores al {@code GlobalExceptionHandler} (respuesta 400).
+     * Solo debe llamarse en la frontera con el cliente y con un resultado inválido.
+     *
+     * @return Una {@link InvalidDataException} sin traza de la pila con una copia de los errores.
+     */
+    public InvalidDataException comoExcepcion() {
+        return new InvalidDataException(getErrores());
+    }
+}
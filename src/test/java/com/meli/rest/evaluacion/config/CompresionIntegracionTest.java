@@ -0,0 +1,97 @@
+package com.meli.rest.evaluacion.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.meli.rest.evaluacion.model.Producto;
+import com.meli.rest.evaluacion.service.ProductoService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Pruebas de integración de la compresión de respuestas ({@code server.compression.*}), que solo
+ * aplica con el servidor Tomcat embebido.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:compresiondb",
+        "spring.jpa.show-sql=false"
+})
+public class CompresionIntegracionTest {
+
+    @LocalServerPort
+    private int puerto;
+
+    @Autowired
+    private ProductoService productoService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final HttpClient cliente = HttpClient.newHttpClient();
+
+    @Test
+    void listado_ClienteAceptaGzip_RespuestaComprimida() throws Exception {
+        // ARRANGE: una página bastante mayor que server.compression.min-response-size
+        productoService.guardarProductos(crearProductos(20));
+
+        // ACT:
+        HttpResponse<InputStream> respuesta = cliente.send(HttpRequest.newBuilder(uri("/api/evaluacion?tamanio=20"))
+                .header("Accept-Encoding", "gzip").build(), HttpResponse.BodyHandlers.ofInputStream());
+
+        // ASSERT:
+        assertEquals(200, respuesta.statusCode());
+        assertEquals("gzip", respuesta.headers().firstValue("Content-Encoding").orElse(null));
+        try (InputStream cuerpo = new GZIPInputStream(respuesta.body())) {
+            JsonNode pagina = objectMapper.readTree(cuerpo);
+            assertEquals(20, pagina.get("productos").size());
+        }
+    }
+
+    @Test
+    void respuestaChica_NoSeComprime() throws Exception {
+        // ARRANGE:
+        Long id = productoService.guardarProductos(crearProductos(1)).getResultados().get(0).getId();
+
+        // ACT:
+        HttpResponse<String> respuesta = cliente.send(HttpRequest.newBuilder(uri("/api/evaluacion/" + id + "?fields=titulo"))
+                .header("Accept-Encoding", "gzip").build(), HttpResponse.BodyHandlers.ofString());
+
+        // ASSERT:
+        assertEquals(200, respuesta.statusCode());
+        assertTrue(respuesta.headers().firstValue("Content-Encoding").isEmpty());
+        assertTrue(respuesta.body().contains("\"titulo\""));
+    }
+
+    private URI uri(String ruta) {
+        return URI.create("http://localhost:" + puerto + ruta);
+    }
+
+    private List<Producto> crearProductos(int cantidad) {
+        List<Producto> productos = new ArrayList<>();
+        for (int i = 1; i <= cantidad; i++) {
+            Producto producto = new Producto();
+            producto.setTitulo("Producto comprimible " + i);
+            producto.setPrecio(new BigDecimal("1000"));
+            producto.setStockDisponible(10);
+            producto.setDescripcion("Descripción larga del producto que se repite en toda la página. ".repeat(4));
+            producto.setEspecificaciones(new ArrayList<>(List.of("Color: Negro", "Peso: 1 kg")));
+            producto.setUrlsImagenes(new ArrayList<>(List.of("https://img.meli/" + i + ".webp")));
+            productos.add(producto);
+        }
+        return productos;
+    }
+}
@@ -0,0 +1,81 @@
+package com.meli.rest.evaluacion.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Pruebas unitarias del enrutamiento entre la primaria y las réplicas de lectura.
+ */
+public class DataSourceEnrutadoTest {
+
+    private DataSourceEnrutado dataSource;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DataSourceEnrutado(mock(DataSource.class), List.of(mock(DataSource.class), mock(DataSource.class)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    void determinarDestino_TransaccionDeEscritura_UsaLaPrimaria() {
+        // ARRANGE:
+        marcarDisponibles(true, true);
+
+        // ACT / ASSERT:
+        assertEquals(DataSourceEnrutado.PRIMARIA, dataSource.determineCurrentLookupKey());
+        assertEquals(0, dataSource.getLecturasEnPrimaria());
+    }
+
+    @Test
+    void determinarDestino_SoloLectura_ReparteEntreLasReplicasDisponibles() {
+        // ARRANGE:
+        marcarDisponibles(true, true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // ACT / ASSERT:
+        assertEquals("replica-1", dataSource.determineCurrentLookupKey());
+        assertEquals("replica-2", dataSource.determineCurrentLookupKey());
+        assertEquals("replica-1", dataSource.determineCurrentLookupKey());
+    }
+
+    @Test
+    void determinarDestino_ReplicaNoDisponible_UsaLasRestantes() {
+        // ARRANGE:
+        marcarDisponibles(false, true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // ACT / ASSERT:
+        for (int i = 0; i < 4; i++) {
+            assertEquals("replica-2", dataSource.determineCurrentLookupKey());
+        }
+    }
+
+    @Test
+    void determinarDestino_SinReplicasDisponibles_VuelveALaPrimaria() {
+        // ARRANGE: las réplicas arrancan no disponibles hasta la primera verificación
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // ACT / ASSERT:
+        assertEquals(DataSourceEnrutado.PRIMARIA, dataSource.determineCurrentLookupKey());
+        assertEquals(DataSourceEnrutado.PRIMARIA, dataSource.determineCurrentLookupKey());
+        assertEquals(2, dataSource.getLecturasEnPrimaria());
+    }
+
+    private void marcarDisponibles(boolean... disponibles) {
+        for (int i = 0; i < disponibles.length; i++) {
+            dataSource.getReplicas().get(i).actualizar(disponibles[i], 0);
+        }
+    }
+}
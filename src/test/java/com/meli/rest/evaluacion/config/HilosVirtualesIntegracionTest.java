@@ -0,0 +1,54 @@
+package com.meli.rest.evaluacion.config;
+
+import org.apache.catalina.connector.Connector;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.embedded.tomcat.TomcatWebServer;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.core.task.AsyncTaskExecutor;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Pruebas de integración del modo de hilos virtuales ({@code evaluacion.hilos-virtuales.habilitado}).
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:hilosvirtualesdb",
+        "spring.jpa.show-sql=false",
+        "evaluacion.hilos-virtuales.habilitado=true"
+})
+public class HilosVirtualesIntegracionTest {
+
+    @Autowired
+    private ServletWebServerApplicationContext contexto;
+
+    @Autowired
+    private AsyncTaskExecutor applicationTaskExecutor;
+
+    @Test
+    void tomcat_ModoHabilitado_AtiendeLasPeticionesEnHilosVirtuales() throws Exception {
+        // ARRANGE:
+        Connector conector = ((TomcatWebServer) contexto.getWebServer()).getTomcat().getConnector();
+        Executor ejecutor = conector.getProtocolHandler().getExecutor();
+
+        // ACT:
+        boolean virtual = CompletableFuture.supplyAsync(() -> Thread.currentThread().isVirtual(), ejecutor)
+                .get(10, TimeUnit.SECONDS);
+
+        // ASSERT:
+        assertTrue(virtual, "Las peticiones deben ejecutarse en hilos virtuales");
+    }
+
+    @Test
+    void tareasAsincronas_ModoHabilitado_UsanHilosVirtuales() throws Exception {
+        boolean virtual = applicationTaskExecutor.submit(() -> Thread.currentThread().isVirtual())
+                .get(10, TimeUnit.SECONDS);
+
+        assertTrue(virtual, "Las tareas asíncronas de Spring MVC deben ejecutarse en hilos virtuales");
+    }
+}
@@ -0,0 +1,72 @@
+package com.meli.rest.evaluacion.config;
+
+import com.meli.rest.evaluacion.model.Producto;
+import com.meli.rest.evaluacion.service.ProductoService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Pruebas de integración del endpoint {@code /actuator/prometheus}.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:metricasdb",
+        "spring.jpa.show-sql=false"
+})
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+public class MetricasIntegracionTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProductoService productoService;
+
+    @Test
+    void prometheus_DespuesDeUsarLaApi_PublicaLatenciasHibernateYPool() throws Exception {
+        // ARRANGE:
+        Long id = productoService.guardarProducto(crearProducto()).getId();
+        mockMvc.perform(get("/api/evaluacion/{id}", id)).andExpect(status().isOk());
+        mockMvc.perform(get("/api/evaluacion")).andExpect(status().isOk());
+
+        // ACT:
+        String metricas = mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        // ASSERT: histogramas por endpoint y por método del servicio
+        assertTrue(metricas.contains("http_server_requests_seconds_bucket{application=\"evaluacion\""),
+                "Falta el histograma de http.server.requests");
+        assertTrue(metricas.contains("uri=\"/api/evaluacion/{id}\""), "Falta la latencia del detalle por id");
+        assertTrue(metricas.matches("(?s).*evaluacion_servicio_productos_seconds_bucket\\{[^}]*method=\"obtenerProductoPorId\".*"),
+                "Falta el histograma de ProductoService.obtenerProductoPorId");
+        // Estadísticas de Hibernate (consultas, cargas, colecciones y cache de segundo nivel)
+        assertTrue(metricas.contains("hibernate_query_executions_total"), "Faltan las consultas de Hibernate");
+        assertTrue(metricas.contains("hibernate_entities_loads_total"), "Faltan las cargas de entidades");
+        assertTrue(metricas.contains("hibernate_collections_fetches_total"), "Faltan las lecturas de colecciones");
+        assertTrue(metricas.contains("hibernate_second_level_cache_requests_total"), "Faltan los aciertos de cache");
+        // Pool de conexiones
+        assertTrue(metricas.contains("hikaricp_connections_pending{"), "Faltan las conexiones en espera");
+        assertTrue(metricas.contains("hikaricp_connections_saturacion{"), "Falta la saturación del pool");
+    }
+
+    private Producto crearProducto() {
+        Producto producto = new Producto();
+        producto.setTitulo("Producto con métricas");
+        producto.setPrecio(new BigDecimal("1000"));
+        producto.setStockDisponible(10);
+        producto.setCantidadVendida(0);
+        producto.setDescripcion("Descripción");
+        return producto;
+    }
+}
@@ -0,0 +1,211 @@
+package com.meli.rest.evaluacion.config;
+
+import com.meli.rest.evaluacion.dto.PaginaProductos;
+import com.meli.rest.evaluacion.model.Producto;
+import com.meli.rest.evaluacion.repository.ProductoRepository;
+import com.meli.rest.evaluacion.service.ProductoService;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Pruebas de integración del enrutamiento a réplicas de lectura, con una segunda base H2 en memoria
+ * como réplica. La "replicación" es una copia completa de la primaria ({@code SCRIPT} / {@code RUNSCRIPT})
+ * y la verificación periódica queda fuera del alcance de la prueba (intervalo de 1 hora); se invoca directamente.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:primariadb",
+        "spring.jpa.show-sql=false",
+        "evaluacion.replicas.habilitado=true",
+        "evaluacion.replicas.urls=" + ReplicasLecturaIntegracionTest.URL_REPLICA,
+        "evaluacion.replicas.retraso-maximo=5s",
+        "evaluacion.replicas.intervalo-verificacion=1h"
+})
+@AutoConfigureMockMvc
+public class ReplicasLecturaIntegracionTest {
+
+    static final String URL_REPLICA = "jdbc:h2:mem:replicadb;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProductoService productoService;
+
+    @Autowired
+    private MonitorReplicas monitorReplicas;
+
+    @Autowired
+    private DataSourceEnrutado dataSourceEnrutado;
+
+    @Autowired
+    private HikariDataSource dataSourcePrimaria;
+
+    @Autowired
+    private ProductoRepository productoRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private JdbcTemplate primaria;
+    private JdbcTemplate replica;
+
+    @BeforeEach
+    void setUp() {
+        primaria = new JdbcTemplate(dataSourcePrimaria);
+        replica = new JdbcTemplate(new DriverManagerDataSource(URL_REPLICA, "sa", "password"));
+        productoRepository.deleteAll();
+    }
+
+    @Test
+    void lecturasDeSoloLectura_VanALaReplica_EscriturasALaPrimaria() throws Exception {
+        // ARRANGE: la réplica se pone al día y luego diverge, para distinguir de dónde se lee
+        Long id = productoService.guardarProducto(crearProducto("Zapatillas running")).getId();
+        replicar();
+        monitorReplicas.verificar();
+        replica.update("update productos set titulo = ? where id = ?", "Leído de la réplica", id);
+        entityManagerFactory.getCache().evictAll();
+
+        // ACT:
+        PaginaProductos pagina = productoService.obtenerPaginaProductos(null, 20);
+        productoService.guardarProducto(crearProducto("Polera deportiva"));
+
+        // ASSERT:
+        assertTrue(dataSourceEnrutado.getReplicas().get(0).isDisponible());
+        assertEquals(List.of("Leído de la réplica"), pagina.getProductos().stream().map(Producto::getTitulo).toList());
+        assertEquals(2, primaria.queryForObject("select count(*) from productos", Integer.class));
+        assertEquals(1, replica.queryForObject("select count(*) from productos", Integer.class));
+        assertEquals(1, meterRegistry.get("evaluacion.replicas.disponible").tag("replica", "replica-1").gauge().value());
+        assertNotNull(meterRegistry.find("hikaricp.connections.saturacion").tag("pool", "evaluacion-replica-1").gauge(),
+                "Falta la saturación del pool de la réplica");
+    }
+
+    @Test
+    void lecturasDesdeLaReplica_NoSeGuardanEnLaCacheDeSegundoNivel() throws Exception {
+        // ARRANGE: la réplica tiene una versión distinta del producto
+        Long id = productoService.guardarProducto(crearProducto("Zapatillas running")).getId();
+        replicar();
+        monitorReplicas.verificar();
+        replica.update("update productos set titulo = ? where id = ?", "Leído de la réplica", id);
+        entityManagerFactory.getCache().evictAll();
+
+        // ACT:
+        PaginaProductos pagina = productoService.obtenerPaginaProductos(null, 20);
+        boolean cacheadoDesdeLaReplica = entityManagerFactory.getCache().contains(Producto.class, id);
+        Producto detalle = productoService.obtenerProductoPorId(id).orElseThrow();
+
+        // ASSERT: el listado lee la réplica sin cachear; el detalle lee la primaria y la cachea
+        assertEquals("Leído de la réplica", pagina.getProductos().get(0).getTitulo());
+        assertFalse(cacheadoDesdeLaReplica);
+        assertEquals("Zapatillas running", detalle.getTitulo());
+        assertTrue(entityManagerFactory.getCache().contains(Producto.class, id));
+    }
+
+    @Test
+    void productoRecienCreado_AunNoEnLaReplica_DetalleCondicionalLoEncuentra() throws Exception {
+        // ARRANGE: la réplica está al día, pero aún no recibe el producto recién creado
+        productoService.guardarProducto(crearProducto("Zapatillas running"));
+        replicar();
+        monitorReplicas.verificar();
+        Long id = productoService.guardarProducto(crearProducto("Polera deportiva")).getId();
+
+        // ACT & ASSERT: la versión se lee de la primaria, no se responde 404
+        assertEquals(0, replica.queryForObject("select count(*) from productos where id = ?", Integer.class, id));
+        assertTrue(productoService.obtenerVersionProducto(id).isPresent());
+        mockMvc.perform(get("/api/evaluacion/{id}", id).header(HttpHeaders.IF_NONE_MATCH, "\"otra-version\""))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andExpect(jsonPath("$.titulo").value("Polera deportiva"));
+        assertTrue(dataSourceEnrutado.getReplicas().get(0).isDisponible());
+    }
+
+    @Test
+    void replicaAtrasada_LecturasVuelvenALaPrimaria() throws Exception {
+        // ARRANGE: el último latido que llegó a la réplica es de hace un minuto
+        Long id = productoService.guardarProducto(crearProducto("Zapatillas running")).getId();
+        replicar();
+        replica.update("update productos set titulo = ? where id = ?", "Leído de la réplica", id);
+        replica.update("update latido_replicacion set instante = ?",
+                new Timestamp(System.currentTimeMillis() - 60_000));
+        entityManagerFactory.getCache().evictAll();
+        long lecturasEnPrimaria = dataSourceEnrutado.getLecturasEnPrimaria();
+
+        // ACT:
+        monitorReplicas.verificar();
+        PaginaProductos pagina = productoService.obtenerPaginaProductos(null, 20);
+
+        // ASSERT:
+        DataSourceEnrutado.Replica estado = dataSourceEnrutado.getReplicas().get(0);
+        assertFalse(estado.isDisponible());
+        assertTrue(estado.getRetrasoSegundos() >= 60, "Retraso medido: " + estado.getRetrasoSegundos());
+        assertEquals(List.of("Zapatillas running"), pagina.getProductos().stream().map(Producto::getTitulo).toList());
+        assertTrue(dataSourceEnrutado.getLecturasEnPrimaria() > lecturasEnPrimaria);
+        assertEquals(0, meterRegistry.get("evaluacion.replicas.disponible").tag("replica", "replica-1").gauge().value());
+    }
+
+    @Test
+    void replicaSinDatos_NoRecibeLecturas() {
+        // ARRANGE: réplica recién creada, sin la tabla del latido
+        productoService.guardarProducto(crearProducto("Zapatillas running"));
+        replica.execute("drop all objects");
+
+        // ACT:
+        monitorReplicas.verificar();
+        PaginaProductos pagina = productoService.obtenerPaginaProductos(null, 20);
+
+        // ASSERT:
+        assertFalse(dataSourceEnrutado.getReplicas().get(0).isDisponible());
+        assertTrue(Double.isNaN(dataSourceEnrutado.getReplicas().get(0).getRetrasoSegundos()));
+        assertEquals(1, pagina.getProductos().size());
+    }
+
+    /**
+     * Copia completa de la primaria en la réplica.
+     */
+    private void replicar() throws Exception {
+        Path script = Files.createTempFile("replica", ".sql");
+        try {
+            primaria.execute("script to '" + script.toAbsolutePath() + "'");
+            replica.execute("drop all objects");
+            replica.execute("runscript from '" + script.toAbsolutePath() + "'");
+        } finally {
+            Files.deleteIfExists(script);
+        }
+    }
+
+    private static Producto crearProducto(String titulo) {
+        Producto producto = new Producto();
+        producto.setTitulo(titulo);
+        producto.setPrecio(new BigDecimal("59990"));
+        producto.setMoneda("CLP");
+        producto.setStockDisponible(100);
+        producto.setDescripcion("Producto de prueba");
+        producto.setEspecificaciones(List.of());
+        producto.setUrlsImagenes(List.of());
+        return producto;
+    }
+}
@@ -0,0 +1,62 @@
+package com.meli.rest.evaluacion.controller;
+
+import com.meli.rest.evaluacion.dto.ProductoEncontrado;
+import com.meli.rest.evaluacion.dto.ResultadoBusqueda;
+import com.meli.rest.evaluacion.exceptions.InvalidDataException;
+import com.meli.rest.evaluacion.service.BusquedaService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(
+        controllers = BusquedaController.class,
+        excludeAutoConfiguration = {SecurityAutoConfiguration.class}
+)
+public class BusquedaControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private BusquedaService busquedaService;
+
+    private final String BASE_URL = "/api/evaluacion";
+
+    @Test
+    void buscar_ConsultaValida_Retorna200ConResultados() throws Exception {
+        // ARRANGE:
+        ResultadoBusqueda resultado = new ResultadoBusqueda("celular samsung", 1,
+                List.of(new ProductoEncontrado(1L, "Celular Samsung", new BigDecimal("999.99"), "USD", 2.5f)));
+        when(busquedaService.buscar("celular samsung", 5)).thenReturn(resultado);
+
+        // ACT & ASSERT:
+        mockMvc.perform(get(BASE_URL + "/buscar").param("q", "celular samsung").param("tamanio", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(1))
+                .andExpect(jsonPath("$.productos[0].id").value(1))
+                .andExpect(jsonPath("$.productos[0].titulo").value("Celular Samsung"));
+    }
+
+    @Test
+    void buscar_SinConsulta_Retorna400() throws Exception {
+        // ARRANGE:
+        when(busquedaService.buscar(isNull(), isNull()))
+                .thenThrow(new InvalidDataException("El texto de búsqueda es obligatorio."));
+
+        // ACT & ASSERT:
+        mockMvc.perform(get(BASE_URL + "/buscar"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,98 @@
+package com.meli.rest.evaluacion.controller;
+
+import com.meli.rest.evaluacion.dto.PaginaOpiniones;
+import com.meli.rest.evaluacion.dto.SolicitudOpinion;
+import com.meli.rest.evaluacion.exceptions.InvalidDataException;
+import com.meli.rest.evaluacion.exceptions.RecursoNoEncontradoException;
+import com.meli.rest.evaluacion.model.Opinion;
+import com.meli.rest.evaluacion.service.OpinionService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(
+        controllers = OpinionesController.class,
+        excludeAutoConfiguration = {SecurityAutoConfiguration.class}
+)
+public class OpinionesControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private OpinionService opinionService;
+
+    private final String BASE_URL = "/api/evaluacion";
+
+    @Test
+    void publicarOpinion_DatosValidos_Retorna201() throws Exception {
+        // ARRANGE:
+        Opinion opinion = new Opinion();
+        opinion.setId(7L);
+        opinion.setProductoId(1L);
+        opinion.setPuntaje(4);
+        when(opinionService.publicarOpinion(eq(1L), any(SolicitudOpinion.class))).thenReturn(opinion);
+
+        // ACT & ASSERT:
+        mockMvc.perform(post(BASE_URL + "/1/opiniones")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"puntaje\": 4, \"autor\": \"Ana\", \"comentario\": \"Muy bueno\"}"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id").value(7))
+                .andExpect(jsonPath("$.puntaje").value(4));
+    }
+
+    @Test
+    void publicarOpinion_PuntajeInvalido_Retorna400() throws Exception {
+        // ARRANGE:
+        when(opinionService.publicarOpinion(eq(1L), any(SolicitudOpinion.class)))
+                .thenThrow(new InvalidDataException("El puntaje de la opinión debe estar entre 1 y 5."));
+
+        // ACT & ASSERT:
+        mockMvc.perform(post(BASE_URL + "/1/opiniones")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"puntaje\": 6}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void obtenerOpiniones_ProductoExistente_Retorna200ConCursor() throws Exception {
+        // ARRANGE:
+        Opinion opinion = new Opinion();
+        opinion.setId(3L);
+        opinion.setPuntaje(5);
+        when(opinionService.obtenerOpiniones(1L, null, 1)).thenReturn(new PaginaOpiniones(List.of(opinion), "abc"));
+
+        // ACT & ASSERT:
+        mockMvc.perform(get(BASE_URL + "/1/opiniones").param("tamanio", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.opiniones[0].id").value(3))
+                .andExpect(jsonPath("$.siguienteCursor").value("abc"));
+    }
+
+    @Test
+    void obtenerOpiniones_ProductoInexistente_Retorna404() throws Exception {
+        // ARRANGE:
+        when(opinionService.obtenerOpiniones(eq(99L), isNull(), isNull()))
+                .thenThrow(new RecursoNoEncontradoException("No existe el producto con ID: 99"));
+
+        // ACT & ASSERT:
+        mockMvc.perform(get(BASE_URL + "/99/opiniones"))
+                .andExpect(status().isNotFound());
+    }
+}
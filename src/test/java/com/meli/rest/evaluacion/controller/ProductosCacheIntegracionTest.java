@@ -0,0 +1,72 @@
+package com.meli.rest.evaluacion.controller;
+
+import com.meli.rest.evaluacion.model.Producto;
+import com.meli.rest.evaluacion.service.ProductoService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Pruebas de integración del detalle por id contra H2: las lecturas repetidas se sirven desde la
+ * cache de segundo nivel, sin sentencias SQL.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:detallecachedb",
+        "spring.jpa.show-sql=false"
+})
+@AutoConfigureMockMvc
+public class ProductosCacheIntegracionTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProductoService productoService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void obtenerProductoPorId_LecturaRepetida_SinSentenciasSql() throws Exception {
+        // ARRANGE: la primera lectura deja el producto y sus colecciones en la cache
+        Long id = productoService.guardarProducto(crearProducto()).getId();
+        entityManagerFactory.getCache().evictAll();
+        mockMvc.perform(get("/api/evaluacion/{id}", id)).andExpect(status().isOk());
+        Statistics estadisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        estadisticas.clear();
+
+        // ACT & ASSERT:
+        mockMvc.perform(get("/api/evaluacion/{id}", id))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andExpect(header().exists("Last-Modified"))
+                .andExpect(jsonPath("$.titulo").value("Teclado mecánico"));
+        assertEquals(0, estadisticas.getPrepareStatementCount());
+    }
+
+    private static Producto crearProducto() {
+        Producto producto = new Producto();
+        producto.setTitulo("Teclado mecánico");
+        producto.setPrecio(new BigDecimal("49990"));
+        producto.setMoneda("CLP");
+        producto.setStockDisponible(10);
+        producto.setDescripcion("Teclado con switches rojos");
+        producto.setEspecificaciones(List.of("Switch: Rojo"));
+        producto.setUrlsImagenes(List.of("https://img/teclado.jpg"));
+        return producto;
+    }
+}
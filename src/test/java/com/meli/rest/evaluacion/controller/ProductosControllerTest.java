@@ -1,28 +1,68 @@
 package com.meli.rest.evaluacion.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.meli.rest.evaluacion.dto.CamposProducto;
+import com.meli.rest.evaluacion.dto.FiltroProductos;
+import com.meli.rest.evaluacion.dto.PaginaProductos;
+import com.meli.rest.evaluacion.dto.PaginaProductosParciales;
+import com.meli.rest.evaluacion.dto.PaginaVersiones;
+import com.meli.rest.evaluacion.dto.ProductoParcial;
+import com.meli.rest.evaluacion.dto.RespuestaIngestaLote;
+import com.meli.rest.evaluacion.dto.ResultadoIngesta;
+import com.meli.rest.evaluacion.dto.VersionProducto;
 import com.meli.rest.evaluacion.exceptions.InvalidDataException;
+import com.meli.rest.evaluacion.exceptions.RecursoNoEncontradoException;
 import com.meli.rest.evaluacion.model.Producto;
 import com.meli.rest.evaluacion.service.ProductoService;
+import com.meli.rest.evaluacion.service.TiposCambio;
+import com.meli.rest.evaluacion.util.EtagProducto;
+import com.meli.rest.evaluacion.util.TablaTiposCambio;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringReader;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Properties;
+import java.util.zip.GZIPOutputStream;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 // @WebMvcTest carga solo el contexto del Controller (la capa web)
@@ -41,6 +81,9 @@ public class ProductosControllerTest {
     @MockBean
     private ProductoService productoService;
 
+    @MockBean
+    private TiposCambio tiposCambio;
+
     @Autowired
     private ObjectMapper objectMapper; // Para convertir objetos Java a JSON
 
@@ -55,8 +98,11 @@ public class ProductosControllerTest {
         productoValido.setTitulo("Laptop Gaming");
         productoValido.setPrecio(new BigDecimal("1500.00"));
         productoValido.setDescripcion("Producto válido para test.");
+        productoValido.setFechaActualizacion(FECHA_ACTUALIZACION);
     }
 
+    private static final LocalDateTime FECHA_ACTUALIZACION = LocalDateTime.of(2025, 12, 4, 10, 30, 15, 123456000);
+
    /**
      * Prueba que el endpoint POST /api/evaluacion devuelve el código 201 created
      * evalua la incersion de un registro (Guardar Producto)
@@ -99,6 +145,99 @@ public class ProductosControllerTest {
                 .andExpect(jsonPath("$.mensaje").value("El precio debe ser positivo."));
     }
 
+    /**
+     * Prueba que el 400 informa todas las reglas incumplidas, no solo la primera
+     */
+    @Test
+    void guardarProducto_VariasReglasIncumplidas_Retorna400ConTodosLosErrores() throws Exception {
+        // ARRANGE:
+        when(productoService.guardarProducto(any(Producto.class)))
+                .thenThrow(new InvalidDataException(List.of("El título del producto es obligatorio.",
+                        "El precio del producto debe ser mayor que cero.")));
+
+        // ACT & ASSERT:
+        mockMvc.perform(post(BASE_URL)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"precio\": 0}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.mensaje").value("El título del producto es obligatorio. El precio del producto debe ser mayor que cero."))
+                .andExpect(jsonPath("$.errores.length()").value(2))
+                .andExpect(jsonPath("$.errores[1]").value("El precio del producto debe ser mayor que cero."));
+    }
+
+// -------------------------------------------------------------------------
+// TEST: POST /api/evaluacion/batch (Carga masiva)
+// -------------------------------------------------------------------------
+
+    /**
+     * Prueba que el endpoint POST /api/evaluacion/batch devuelve 201 cuando todos los productos se guardan
+     */
+    @Test
+    void guardarProductos_TodosGuardados_Retorna201Created() throws Exception {
+        // ARRANGE:
+        when(productoService.guardarProductos(any()))
+                .thenReturn(RespuestaIngestaLote.de(List.of(ResultadoIngesta.guardado(0, 10L))));
+
+        // ACT & ASSERT:
+        mockMvc.perform(post(BASE_URL + "/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(List.of(productoValido))))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.guardados").value(1))
+                .andExpect(jsonPath("$.resultados[0].id").value(10L))
+                .andExpect(jsonPath("$.resultados[0].estado").value("GUARDADO"));
+    }
+
+    /**
+     * Prueba que el endpoint POST /api/evaluacion/batch devuelve 207 cuando algún producto es rechazado
+     */
+    @Test
+    void guardarProductos_ConRechazados_Retorna207MultiStatus() throws Exception {
+        // ARRANGE:
+        when(productoService.guardarProductos(any())).thenReturn(RespuestaIngestaLote.de(List.of(
+                ResultadoIngesta.guardado(0, 10L),
+                ResultadoIngesta.rechazado(1, "El precio del producto debe ser mayor que cero."))));
+
+        // ACT & ASSERT:
+        mockMvc.perform(post(BASE_URL + "/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(List.of(productoValido, new Producto()))))
+                .andExpect(status().isMultiStatus())
+                .andExpect(jsonPath("$.rechazados").value(1))
+                .andExpect(jsonPath("$.resultados[1].estado").value("RECHAZADO"))
+                .andExpect(jsonPath("$.resultados[1].mensaje").value("El precio del producto debe ser mayor que cero."));
+    }
+
+// -------------------------------------------------------------------------
+// TEST: POST /api/evaluacion/{id}/ventas
+// -------------------------------------------------------------------------
+    /**
+     * Prueba que el endpoint POST /api/evaluacion/{id}/ventas acepta la venta (202) sin retornar el producto
+     */
+    @Test
+    void registrarVenta_ProductoExiste_Retorna202Accepted() throws Exception {
+        // ACT & ASSERT:
+        mockMvc.perform(post(BASE_URL + "/1/ventas")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"cantidad\": 2}"))
+                .andExpect(status().isAccepted())
+                .andExpect(content().string(""));
+        verify(productoService).registrarVenta(1L, 2);
+    }
+
+    @Test
+    void registrarVenta_ProductoNoExiste_Retorna404() throws Exception {
+        // ARRANGE:
+        doThrow(new RecursoNoEncontradoException("No existe el producto con ID: 99"))
+                .when(productoService).registrarVenta(99L, 1);
+
+        // ACT & ASSERT:
+        mockMvc.perform(post(BASE_URL + "/99/ventas")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"cantidad\": 1}"))
+                .andExpect(status().isNotFound());
+    }
+
 // -------------------------------------------------------------------------
 // TEST: GET /api/evaluacion/{id} (Obtener por ID)
 // -------------------------------------------------------------------------
@@ -115,8 +254,52 @@ public class ProductosControllerTest {
         mockMvc.perform(get(BASE_URL + "/{id}", 1L)
                 .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk()) // Espera HTTP 200
+                .andExpect(header().exists("ETag"))
+                .andExpect(header().exists("Last-Modified"))
                 .andExpect(jsonPath("$.id").value(1L))
                 .andExpect(jsonPath("$.titulo").value("Laptop Gaming"));
+        // Sin encabezados condicionales no se consulta la versión
+        verify(productoService, never()).obtenerVersionProducto(anyLong());
+    }
+
+    /**
+     * Prueba que el endpoint GET /api/evaluacion/{id} devuelve 304 Not Modified cuando el ETag
+     * del cliente coincide, sin cargar el producto completo
+     */
+    @Test
+    void obtenerProductoPorId_EtagVigente_Retorna304SinCargarProducto() throws Exception {
+        // ARRANGE: primera lectura para obtener el ETag
+        when(productoService.obtenerVersionProducto(1L))
+                .thenReturn(Optional.of(new VersionProducto(1L, FECHA_ACTUALIZACION)));
+        String etag = EtagProducto.deProducto(1L, FECHA_ACTUALIZACION);
+
+        // ACT & ASSERT:
+        mockMvc.perform(get(BASE_URL + "/{id}", 1L)
+                .header("If-None-Match", etag))
+                .andExpect(status().isNotModified()) // Espera HTTP 304
+                .andExpect(header().string("ETag", etag))
+                .andExpect(content().string(""));
+        verify(productoService, never()).obtenerProductoPorId(anyLong());
+    }
+
+    /**
+     * Prueba que el endpoint GET /api/evaluacion/{id} devuelve 200 cuando el producto cambió
+     * respecto del ETag del cliente
+     */
+    @Test
+    void obtenerProductoPorId_EtagObsoleto_Retorna200Ok() throws Exception {
+        // ARRANGE: el producto se actualizó después de la versión que tiene el cliente
+        LocalDateTime nuevaFecha = FECHA_ACTUALIZACION.plusSeconds(5);
+        productoValido.setFechaActualizacion(nuevaFecha);
+        when(productoService.obtenerVersionProducto(1L)).thenReturn(Optional.of(new VersionProducto(1L, nuevaFecha)));
+        when(productoService.obtenerProductoPorId(1L)).thenReturn(Optional.of(productoValido));
+
+        // ACT & ASSERT:
+        mockMvc.perform(get(BASE_URL + "/{id}", 1L)
+                .header("If-None-Match", EtagProducto.deProducto(1L, FECHA_ACTUALIZACION)))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", EtagProducto.deProducto(1L, nuevaFecha)))
+                .andExpect(jsonPath("$.titulo").value("Laptop Gaming"));
     }
 
     /**
@@ -126,6 +309,7 @@ public class ProductosControllerTest {
     @Test
     void obtenerProductoPorId_NoExiste_Retorna404NotFound() throws Exception {
         // ARRANGE: Simula que el producto no se encuentra (Optional vacío)
+        when(productoService.obtenerVersionProducto(99L)).thenReturn(Optional.empty());
         when(productoService.obtenerProductoPorId(99L)).thenReturn(Optional.empty());
 
         // ACT & ASSERT:
@@ -135,46 +319,487 @@ public class ProductosControllerTest {
     }
 
 // -------------------------------------------------------------------------
-// TEST: GET /api/evaluacion (Obtener Todos)
+// TEST: ?fields= (Campos parciales)
+// -------------------------------------------------------------------------
+
+    @Test
+    void obtenerCamposProducto_Existe_Retorna200OkSoloConLosCampos() throws Exception {
+        // ARRANGE:
+        LocalDateTime fecha = LocalDateTime.of(2025, 12, 4, 10, 0);
+        Map<String, Object> campos = new LinkedHashMap<>();
+        campos.put("id", 1L);
+        campos.put("titulo", "Teclado Mecánico RGB");
+        campos.put("primeraImagen", "https://img.meli/1.webp");
+        when(productoService.obtenerCamposProducto(eq(1L), any(CamposProducto.class)))
+                .thenReturn(Optional.of(new ProductoParcial(1L, fecha, campos)));
+
+        // ACT & ASSERT: el ETag distingue la selección de campos de la representación completa
+        mockMvc.perform(get(BASE_URL + "/{id}", 1L).param("fields", "titulo,primeraImagen"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", EtagProducto.deProducto(1L, fecha, CamposProducto.desde("titulo,primeraImagen"))))
+                .andExpect(jsonPath("$.titulo").value("Teclado Mecánico RGB"))
+                .andExpect(jsonPath("$.primeraImagen").value("https://img.meli/1.webp"))
+                .andExpect(jsonPath("$.descripcion").doesNotExist())
+                .andExpect(jsonPath("$.fechaActualizacion").doesNotExist());
+        verify(productoService, never()).obtenerProductoPorId(anyLong());
+    }
+
+    @Test
+    void obtenerCamposProducto_CampoInexistente_Retorna400BadRequest() throws Exception {
+        // ACT & ASSERT:
+        mockMvc.perform(get(BASE_URL + "/{id}", 1L).param("fields", "titulo,clave"))
+                .andExpect(status().isBadRequest());
+        verify(productoService, never()).obtenerCamposProducto(anyLong(), any());
+    }
+
+    @Test
+    void obtenerCamposProducto_NoExiste_Retorna404NotFound() throws Exception {
+        // ARRANGE:
+        when(productoService.obtenerCamposProducto(eq(99L), any(CamposProducto.class))).thenReturn(Optional.empty());
+
+        // ACT & ASSERT:
+        mockMvc.perform(get(BASE_URL + "/{id}", 99L).param("fields", "titulo"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void obtenerPaginaCamposProductos_Retorna200OkConPaginaParcial() throws Exception {
+        // ARRANGE:
+        ProductoParcial parcial = new ProductoParcial(1L, LocalDateTime.of(2025, 12, 4, 10, 0),
+                new LinkedHashMap<>(Map.of("id", 1L, "precio", new BigDecimal("1000"))));
+        when(productoService.obtenerPaginaProductos(any(FiltroProductos.class), isNull(), any(), any(CamposProducto.class)))
+                .thenReturn(new PaginaProductosParciales(List.of(parcial), "abc123"));
+
+        // ACT & ASSERT:
+        mockMvc.perform(get(BASE_URL).param("fields", "precio"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andExpect(jsonPath("$.productos[0].id").value(1))
+                .andExpect(jsonPath("$.productos[0].precio").value(1000))
+                .andExpect(jsonPath("$.productos[0].titulo").doesNotExist())
+                .andExpect(jsonPath("$.siguienteCursor").value("abc123"));
+        verify(productoService, never()).obtenerPaginaProductos(any(FiltroProductos.class), any(), any());
+    }
+
+    @Test
+    void obtenerCamposProductosPorIds_UsaLaProyeccion() throws Exception {
+        // ARRANGE:
+        ProductoParcial parcial = new ProductoParcial(3L, null, new LinkedHashMap<>(Map.of("id", 3L, "titulo", "Otro")));
+        when(productoService.obtenerCamposProductosPorIds(eq(List.of(3L, 1L)), any(CamposProducto.class)))
+                .thenReturn(List.of(parcial));
+
+        // ACT & ASSERT:
+        mockMvc.perform(get(BASE_URL).param("ids", "3,1").param("fields", "titulo"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].titulo").value("Otro"));
+        verify(productoService, never()).obtenerProductosPorIds(any());
+    }
+
+// -------------------------------------------------------------------------
+// TEST: GET /api/evaluacion?ids= (Obtener varios por ID)
+// -------------------------------------------------------------------------
+
+    @Test
+    void obtenerProductosPorIds_Existen_Retorna200OkConLista() throws Exception {
+        // ARRANGE:
+        Producto otroProducto = new Producto();
+        otroProducto.setId(3L);
+        otroProducto.setTitulo("Otro");
+        when(productoService.obtenerProductosPorIds(List.of(3L, 1L))).thenReturn(List.of(otroProducto, productoValido));
+
+        // ACT & ASSERT: se respeta el orden solicitado y no se usa el listado paginado
+        mockMvc.perform(get(BASE_URL).param("ids", "3,1"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].id").value(3))
+                .andExpect(jsonPath("$[1].id").value(1));
+        verify(productoService, never()).obtenerPaginaProductos(any(FiltroProductos.class), any(), any());
+    }
+
+    @Test
+    void obtenerProductosPorIds_DemasiadosIds_Retorna400BadRequest() throws Exception {
+        // ARRANGE:
+        when(productoService.obtenerProductosPorIds(any()))
+                .thenThrow(new InvalidDataException("No se pueden solicitar más de 100 productos por consulta."));
+
+        // ACT & ASSERT:
+        mockMvc.perform(get(BASE_URL).param("ids", "1,2,3"))
+                .andExpect(status().isBadRequest());
+    }
+
+// -------------------------------------------------------------------------
+// TEST: GET /api/evaluacion (Obtener pagina)
 // -------------------------------------------------------------------------
 
     /**
      * Prueba que el endpoint GET /api/evaluacion devuelve el código 200 success
-     * retorna lista de registros
+     * retorna una página de registros con el cursor siguiente
      */
     @Test
-    void obtenerTodosLosProductos_ConDatos_Retorna200OkConLista() throws Exception {
+    void obtenerPaginaProductos_ConDatos_Retorna200OkConPagina() throws Exception {
         Producto otroProducto = new Producto();
         otroProducto.setId(2L);
         otroProducto.setTitulo("Mousepad XL");
 
         List<Producto> productosList = Arrays.asList(productoValido, otroProducto);
 
-        // ARRANGE: Simula que se devuelve una lista de 2 productos
-        when(productoService.obtenerTodosLosProductos()).thenReturn(productosList);
+        // ARRANGE: Simula que se devuelve una página de 2 productos con página siguiente
+        when(productoService.obtenerPaginaProductos(any(FiltroProductos.class), isNull(), any()))
+                .thenReturn(new PaginaProductos(productosList, "abc123"));
 
         // ACT & ASSERT:
         mockMvc.perform(get(BASE_URL)
+                .param("tamanio", "2")
                 .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk()) // Espera HTTP 200
-                .andExpect(jsonPath("$").isArray()) // Verifica que la respuesta es un array
-                .andExpect(jsonPath("$.length()").value(2)) // Verifica el tamaño
-                .andExpect(jsonPath("$[0].titulo").value("Laptop Gaming"));
+                .andExpect(jsonPath("$.productos").isArray()) // Verifica que la página contiene un array
+                .andExpect(jsonPath("$.productos.length()").value(2)) // Verifica el tamaño
+                .andExpect(jsonPath("$.productos[0].titulo").value("Laptop Gaming"))
+                .andExpect(jsonPath("$.siguienteCursor").value("abc123"));
     }
 
     /**
      * Prueba que el endpoint GET /api/evaluacion devuelve el código 200 success
-     * retorna lista vacia
+     * retorna página vacía sin cursor siguiente
      */
     @Test
-    void obtenerTodosLosProductos_ListaVacia_Retorna200OkConListaVacia() throws Exception {
+    void obtenerPaginaProductos_ListaVacia_Retorna200OkConPaginaVacia() throws Exception {
         // ARRANGE: Simula que no hay productos (lista vacía)
-        when(productoService.obtenerTodosLosProductos()).thenReturn(List.of());
+        when(productoService.obtenerPaginaProductos(any(FiltroProductos.class), any(), any())).thenReturn(new PaginaProductos(List.of(), null));
 
         // ACT & ASSERT:
         mockMvc.perform(get(BASE_URL)
                 .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk()) // Espera HTTP 200
-                .andExpect(jsonPath("$.length()").value(0)); // Verifica que el array está vacío
+                .andExpect(jsonPath("$.productos.length()").value(0)) // Verifica que el array está vacío
+                .andExpect(jsonPath("$.siguienteCursor").doesNotExist());
+    }
+
+    /**
+     * Prueba que el endpoint GET /api/evaluacion devuelve 304 Not Modified cuando la página no cambió,
+     * validando solo las versiones de la página, sin cargar los productos
+     */
+    @Test
+    void obtenerPaginaProductos_EtagVigente_Retorna304SinCargarLaPagina() throws Exception {
+        // ARRANGE:
+        List<Producto> productosList = List.of(productoValido);
+        List<VersionProducto> versiones = List.of(new VersionProducto(productoValido.getId(), productoValido.fechaVersion()));
+        when(productoService.obtenerVersionesPagina(any(FiltroProductos.class), any(), any()))
+                .thenReturn(new PaginaVersiones(versiones, null));
+
+        // ACT & ASSERT: el ETag de las versiones es el mismo que el de la página completa
+        mockMvc.perform(get(BASE_URL)
+                .header("If-None-Match", EtagProducto.dePagina(productosList, null)))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        verify(productoService, never()).obtenerPaginaProductos(any(FiltroProductos.class), any(), any());
+    }
+
+    /**
+     * Prueba que el endpoint GET /api/evaluacion carga la página y devuelve 200 cuando el ETag del cliente no está vigente
+     */
+    @Test
+    void obtenerPaginaProductos_EtagAnterior_Retorna200ConLaPagina() throws Exception {
+        // ARRANGE: la página cambió respecto de la versión del cliente
+        List<Producto> productosList = List.of(productoValido);
+        when(productoService.obtenerVersionesPagina(any(FiltroProductos.class), any(), any()))
+                .thenReturn(new PaginaVersiones(List.of(new VersionProducto(productoValido.getId(), productoValido.fechaVersion())), null));
+        when(productoService.obtenerPaginaProductos(any(FiltroProductos.class), any(), any()))
+                .thenReturn(new PaginaProductos(productosList, null));
+
+        // ACT & ASSERT:
+        mockMvc.perform(get(BASE_URL)
+                .header("If-None-Match", "W/\"1-anterior\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", EtagProducto.dePagina(productosList, null)))
+                .andExpect(jsonPath("$.productos.length()").value(1));
+    }
+
+    /**
+     * Prueba que el endpoint GET /api/evaluacion devuelve 400 Bad Request cuando el cursor es inválido
+     */
+    @Test
+    void obtenerPaginaProductos_CursorInvalido_Retorna400BadRequest() throws Exception {
+        // ARRANGE:
+        when(productoService.obtenerPaginaProductos(any(FiltroProductos.class), any(), any()))
+                .thenThrow(new InvalidDataException("El cursor de paginación no es válido."));
+
+        // ACT & ASSERT:
+        mockMvc.perform(get(BASE_URL)
+                .param("cursor", "xyz")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.mensaje").value("El cursor de paginación no es válido."));
+    }
+
+    /**
+     * Prueba que los filtros y el orden del listado llegan al servicio desde los parámetros de consulta
+     */
+    @Test
+    void obtenerPaginaProductos_ConFiltros_EnviaFiltrosAlServicio() throws Exception {
+        // ARRANGE:
+        when(productoService.obtenerPaginaProductos(any(FiltroProductos.class), any(), any()))
+                .thenReturn(new PaginaProductos(List.of(productoValido), null));
+        ArgumentCaptor<FiltroProductos> filtro = ArgumentCaptor.forClass(FiltroProductos.class);
+
+        // ACT:
+        mockMvc.perform(get(BASE_URL)
+                .param("precioMin", "1000")
+                .param("precioMax", "5000")
+                .param("moneda", "CLP")
+                .param("envioGratis", "true")
+                .param("idVendedor", "1005")
+                .param("ratingMin", "4.5")
+                .param("orden", "precio")
+                .param("direccion", "desc"))
+                .andExpect(status().isOk());
+
+        // ASSERT:
+        verify(productoService).obtenerPaginaProductos(filtro.capture(), isNull(), isNull());
+        assertEquals(new BigDecimal("1000"), filtro.getValue().getPrecioMin());
+        assertEquals(new BigDecimal("5000"), filtro.getValue().getPrecioMax());
+        assertEquals("CLP", filtro.getValue().getMoneda());
+        assertEquals(Boolean.TRUE, filtro.getValue().getEnvioGratis());
+        assertEquals(1005L, filtro.getValue().getIdVendedor());
+        assertEquals(4.5f, filtro.getValue().getRatingMin());
+        assertEquals("precio", filtro.getValue().getOrden());
+        assertTrue(filtro.getValue().esDescendente());
+    }
+
+// -------------------------------------------------------------------------
+// TEST: GET /api/evaluacion/export (Exportar catalogo NDJSON)
+// -------------------------------------------------------------------------
+
+    /**
+     * Prueba que el endpoint GET /api/evaluacion/export responde en streaming
+     * con content type application/x-ndjson y el contenido escrito por el servicio
+     */
+    @Test
+    void exportarCatalogo_Retorna200OkNdjson() throws Exception {
+        // ARRANGE: Simula que el servicio escribe dos productos, uno por línea
+        doAnswer(invocation -> {
+            OutputStream salida = invocation.getArgument(0);
+            salida.write("{\"id\":1}\n{\"id\":2}\n".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(productoService).exportarCatalogo(any(OutputStream.class));
+
+        // ACT: la respuesta es asíncrona, se inicia y luego se despacha
+        MvcResult resultado = mockMvc.perform(get(BASE_URL + "/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // ASSERT:
+        mockMvc.perform(asyncDispatch(resultado))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string("{\"id\":1}\n{\"id\":2}\n"));
+    }
+
+// -------------------------------------------------------------------------
+// TEST: Formatos binarios (Smile, CBOR) y cuerpos comprimidos
+// -------------------------------------------------------------------------
+
+    // PaginaProductos no tiene constructor por defecto; se lee en un record equivalente
+    private record PaginaLeida(List<Producto> productos, String siguienteCursor) {
+    }
+
+    @Test
+    void obtenerPaginaProductos_AcceptSmile_RetornaLosMismosDatosQueJson() throws Exception {
+        // ARRANGE:
+        when(productoService.obtenerPaginaProductos(any(FiltroProductos.class), isNull(), any()))
+                .thenReturn(new PaginaProductos(List.of(productoValido), "abc123"));
+
+        // ACT:
+        byte[] smile = mockMvc.perform(get(BASE_URL).accept("application/x-jackson-smile"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-jackson-smile"))
+                .andReturn().getResponse().getContentAsByteArray();
+        String json = mockMvc.perform(get(BASE_URL))
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        // ASSERT: mismo contenido, incluidas fechas y decimales
+        ObjectMapper lectorSmile = objectMapper.copyWith(new SmileFactory());
+        assertEquals(objectMapper.readValue(json, PaginaLeida.class), lectorSmile.readValue(smile, PaginaLeida.class));
+    }
+
+    @Test
+    void guardarProducto_CuerpoCbor_Retorna201CreatedEnCbor() throws Exception {
+        // ARRANGE:
+        ObjectMapper cbor = objectMapper.copyWith(new CBORFactory());
+        when(productoService.guardarProducto(any(Producto.class))).thenReturn(productoValido);
+
+        // ACT:
+        byte[] respuesta = mockMvc.perform(post(BASE_URL)
+                        .contentType(MediaType.APPLICATION_CBOR)
+                        .accept(MediaType.APPLICATION_CBOR)
+                        .content(cbor.writeValueAsBytes(productoValido)))
+                .andExpect(status().isCreated())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // ASSERT:
+        ArgumentCaptor<Producto> recibido = ArgumentCaptor.forClass(Producto.class);
+        verify(productoService).guardarProducto(recibido.capture());
+        assertEquals(productoValido.getPrecio(), recibido.getValue().getPrecio());
+        assertEquals(FECHA_ACTUALIZACION, recibido.getValue().getFechaActualizacion());
+        assertEquals("Laptop Gaming", cbor.readValue(respuesta, Producto.class).getTitulo());
+    }
+
+    @Test
+    void guardarProducto_CuerpoGzip_SeDescomprimeAntesDeDeserializar() throws Exception {
+        // ARRANGE:
+        when(productoService.guardarProducto(any(Producto.class))).thenReturn(productoValido);
+        ByteArrayOutputStream comprimido = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(comprimido)) {
+            gzip.write(objectMapper.writeValueAsBytes(productoValido));
+        }
+
+        // ACT & ASSERT:
+        mockMvc.perform(post(BASE_URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header("Content-Encoding", "gzip")
+                        .content(comprimido.toByteArray()))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.titulo").value("Laptop Gaming"));
+    }
+
+    @Test
+    void guardarProducto_ContentEncodingNoSoportado_Retorna415() throws Exception {
+        mockMvc.perform(post(BASE_URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header("Content-Encoding", "br")
+                        .content(new byte[]{1, 2, 3}))
+                .andExpect(status().isUnsupportedMediaType());
+        verify(productoService, never()).guardarProducto(any());
+    }
+
+// -------------------------------------------------------------------------
+// TEST: GET con currency (precios convertidos)
+// -------------------------------------------------------------------------
+
+    @Test
+    void obtenerProductoPorId_ConCurrency_ConvierteElPrecioSinModificarElProducto() throws Exception {
+        // ARRANGE: 1500 CLP a 950 CLP por dólar
+        TablaTiposCambio.Conversion usd = tablaTiposCambio().hacia("USD");
+        when(tiposCambio.conversion("usd")).thenReturn(usd);
+        when(productoService.obtenerVersionProducto(1L))
+                .thenReturn(Optional.of(new VersionProducto(1L, FECHA_ACTUALIZACION)));
+        when(productoService.obtenerProductoPorId(1L)).thenReturn(Optional.of(productoValido));
+
+        // ACT & ASSERT:
+        String cuerpo = mockMvc.perform(get(BASE_URL + "/{id}", 1L).param("currency", "usd"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", EtagProducto.enMoneda(EtagProducto.deProducto(1L, FECHA_ACTUALIZACION), usd)))
+                .andExpect(header().doesNotExist("Last-Modified"))
+                .andExpect(jsonPath("$.id").value(1L))
+                .andExpect(jsonPath("$.titulo").value("Laptop Gaming"))
+                .andExpect(jsonPath("$.precio").value(1.58))
+                .andExpect(jsonPath("$.moneda").value("USD"))
+                .andExpect(jsonPath("$.precioOriginal").value(1500.0))
+                .andExpect(jsonPath("$.monedaOriginal").value("CLP"))
+                .andReturn().getResponse().getContentAsString();
+        assertEquals(1, cuerpo.split("\"precio\":", -1).length - 1, "El precio original no debe serializarse como precio");
+        assertEquals(new BigDecimal("1500.00"), productoValido.getPrecio());
+        assertEquals("CLP", productoValido.getMoneda());
+    }
+
+    @Test
+    void obtenerProductoPorId_ConCurrencyYEtagVigente_Retorna304() throws Exception {
+        // ARRANGE:
+        TablaTiposCambio.Conversion usd = tablaTiposCambio().hacia("USD");
+        when(tiposCambio.conversion("USD")).thenReturn(usd);
+        when(productoService.obtenerVersionProducto(1L))
+                .thenReturn(Optional.of(new VersionProducto(1L, FECHA_ACTUALIZACION)));
+        String etagSinConversion = EtagProducto.deProducto(1L, FECHA_ACTUALIZACION);
+
+        // ACT & ASSERT: el ETag de la respuesta en CLP no sirve para la respuesta en USD
+        mockMvc.perform(get(BASE_URL + "/{id}", 1L).param("currency", "USD")
+                        .header("If-None-Match", EtagProducto.enMoneda(etagSinConversion, usd)))
+                .andExpect(status().isNotModified());
+        when(productoService.obtenerProductoPorId(1L)).thenReturn(Optional.of(productoValido));
+        mockMvc.perform(get(BASE_URL + "/{id}", 1L).param("currency", "USD")
+                        .header("If-None-Match", etagSinConversion))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void obtenerPaginaProductos_ConCurrency_ConvierteCadaProducto() throws Exception {
+        // ARRANGE: uno en CLP, uno ya en USD y uno en una moneda fuera de la tabla
+        Producto enDolares = new Producto();
+        enDolares.setId(2L);
+        enDolares.setPrecio(new BigDecimal("10.5"));
+        enDolares.setMoneda("USD");
+        Producto enOtraMoneda = new Producto();
+        enOtraMoneda.setId(3L);
+        enOtraMoneda.setPrecio(new BigDecimal("7"));
+        enOtraMoneda.setMoneda("EUR");
+        when(tiposCambio.conversion("USD")).thenReturn(tablaTiposCambio().hacia("USD"));
+        when(productoService.obtenerPaginaProductos(any(FiltroProductos.class), isNull(), any()))
+                .thenReturn(new PaginaProductos(List.of(productoValido, enDolares, enOtraMoneda), "abc123"));
+
+        // ACT & ASSERT:
+        mockMvc.perform(get(BASE_URL).param("currency", "USD"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andExpect(jsonPath("$.productos[0].precio").value(1.58))
+                .andExpect(jsonPath("$.productos[0].moneda").value("USD"))
+                .andExpect(jsonPath("$.productos[1].precio").value(10.5))
+                .andExpect(jsonPath("$.productos[1].precioOriginal").value(10.5))
+                .andExpect(jsonPath("$.productos[2].precio").value(7))
+                .andExpect(jsonPath("$.productos[2].moneda").value("EUR"))
+                .andExpect(jsonPath("$.productos[2].precioOriginal").doesNotExist())
+                .andExpect(jsonPath("$.siguienteCursor").value("abc123"));
+    }
+
+    @Test
+    void obtenerPaginaProductos_CurrencyNoDisponible_Retorna400BadRequest() throws Exception {
+        // ARRANGE:
+        when(tiposCambio.conversion("ZZZ"))
+                .thenThrow(new InvalidDataException("La moneda 'ZZZ' no está disponible para convertir precios."));
+
+        // ACT & ASSERT:
+        mockMvc.perform(get(BASE_URL).param("currency", "ZZZ"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.mensaje").value("La moneda 'ZZZ' no está disponible para convertir precios."));
+        verify(productoService, never()).obtenerPaginaProductos(any(FiltroProductos.class), any(), any());
+    }
+
+    @Test
+    void obtenerPaginaCamposProductos_ConCurrency_ConvierteElPrecioSolicitado() throws Exception {
+        // ARRANGE:
+        when(tiposCambio.conversion("USD")).thenReturn(tablaTiposCambio().hacia("USD"));
+        Map<String, Object> campos = new LinkedHashMap<>();
+        campos.put("id", 1L);
+        campos.put("precio", new BigDecimal("95000"));
+        campos.put("moneda", "CLP");
+        when(productoService.obtenerPaginaProductos(any(FiltroProductos.class), isNull(), any(), any(CamposProducto.class)))
+                .thenReturn(new PaginaProductosParciales(List.of(new ProductoParcial(1L, FECHA_ACTUALIZACION, campos)), null));
+
+        // ACT & ASSERT:
+        mockMvc.perform(get(BASE_URL).param("fields", "precio,moneda").param("currency", "USD"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.productos[0].precio").value(100.0))
+                .andExpect(jsonPath("$.productos[0].moneda").value("USD"))
+                .andExpect(jsonPath("$.productos[0].precioOriginal").doesNotExist());
+    }
+
+    @Test
+    void obtenerPaginaCamposProductos_ConCurrencySinMoneda_Retorna400BadRequest() throws Exception {
+        // ARRANGE:
+        when(tiposCambio.conversion("USD")).thenReturn(tablaTiposCambio().hacia("USD"));
+
+        // ACT & ASSERT: sin la moneda del producto no se puede convertir su precio
+        mockMvc.perform(get(BASE_URL).param("fields", "titulo,precio").param("currency", "USD"))
+                .andExpect(status().isBadRequest());
+        verify(productoService, never()).obtenerPaginaProductos(any(FiltroProductos.class), any(), any(), any(CamposProducto.class));
+    }
+
+    private static TablaTiposCambio tablaTiposCambio() throws IOException {
+        Properties propiedades = new Properties();
+        propiedades.load(new StringReader("tasa.USD=1\ntasa.CLP=950\nredondeo.CLP=0,HALF_UP"));
+        return TablaTiposCambio.desde(propiedades);
     }
-}
\ No newline at end of file
+}
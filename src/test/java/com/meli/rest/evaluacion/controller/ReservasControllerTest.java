@@ -0,0 +1,103 @@
+package com.meli.rest.evaluacion.controller;
+
+import com.meli.rest.evaluacion.exceptions.InvalidDataException;
+import com.meli.rest.evaluacion.exceptions.RecursoNoEncontradoException;
+import com.meli.rest.evaluacion.exceptions.StockInsuficienteException;
+import com.meli.rest.evaluacion.model.ReservaStock;
+import com.meli.rest.evaluacion.service.ReservaStockService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(
+        controllers = ReservasController.class,
+        excludeAutoConfiguration = {SecurityAutoConfiguration.class}
+)
+public class ReservasControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ReservaStockService reservaStockService;
+
+    private final String BASE_URL = "/api/evaluacion";
+
+    @Test
+    void reservar_StockSuficiente_Retorna201() throws Exception {
+        // ARRANGE:
+        ReservaStock reserva = new ReservaStock(1L, 2);
+        reserva.setId(10L);
+        when(reservaStockService.reservar(1L, 2)).thenReturn(reserva);
+
+        // ACT & ASSERT:
+        mockMvc.perform(post(BASE_URL + "/1/reservas")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"cantidad\": 2}"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id").value(10))
+                .andExpect(jsonPath("$.estado").value("PENDIENTE"));
+    }
+
+    @Test
+    void reservar_StockInsuficiente_Retorna409() throws Exception {
+        // ARRANGE:
+        when(reservaStockService.reservar(anyLong(), anyInt()))
+                .thenThrow(new StockInsuficienteException("Stock insuficiente"));
+
+        // ACT & ASSERT:
+        mockMvc.perform(post(BASE_URL + "/1/reservas")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"cantidad\": 5}"))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    void reservar_CantidadInvalida_Retorna400() throws Exception {
+        // ARRANGE:
+        when(reservaStockService.reservar(eq(1L), eq(0)))
+                .thenThrow(new InvalidDataException("La cantidad a reservar debe ser mayor que cero."));
+
+        // ACT & ASSERT:
+        mockMvc.perform(post(BASE_URL + "/1/reservas")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"cantidad\": 0}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void confirmar_ReservaPendiente_Retorna200() throws Exception {
+        // ARRANGE:
+        ReservaStock reserva = new ReservaStock(1L, 2);
+        reserva.setId(10L);
+        reserva.setEstado(ReservaStock.Estado.CONFIRMADA);
+        when(reservaStockService.confirmar(10L)).thenReturn(reserva);
+
+        // ACT & ASSERT:
+        mockMvc.perform(post(BASE_URL + "/reservas/10/confirmar"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.estado").value("CONFIRMADA"));
+    }
+
+    @Test
+    void liberar_ReservaInexistente_Retorna404() throws Exception {
+        // ARRANGE:
+        when(reservaStockService.liberar(99L)).thenThrow(new RecursoNoEncontradoException("No existe la reserva con ID: 99"));
+
+        // ACT & ASSERT:
+        mockMvc.perform(post(BASE_URL + "/reservas/99/liberar"))
+                .andExpect(status().isNotFound());
+    }
+}
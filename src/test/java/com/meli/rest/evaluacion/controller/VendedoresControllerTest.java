@@ -0,0 +1,115 @@
+package com.meli.rest.evaluacion.controller;
+
+import com.meli.rest.evaluacion.dto.PaginaProductos;
+import com.meli.rest.evaluacion.dto.SolicitudVendedor;
+import com.meli.rest.evaluacion.exceptions.InvalidDataException;
+import com.meli.rest.evaluacion.exceptions.RecursoNoEncontradoException;
+import com.meli.rest.evaluacion.model.Producto;
+import com.meli.rest.evaluacion.model.Vendedor;
+import com.meli.rest.evaluacion.service.VendedorService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(
+        controllers = VendedoresController.class,
+        excludeAutoConfiguration = {SecurityAutoConfiguration.class}
+)
+public class VendedoresControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private VendedorService vendedorService;
+
+    private final String BASE_URL = "/api/evaluacion/vendedores";
+
+    @Test
+    void obtenerVendedor_Existente_Retorna200() throws Exception {
+        // ARRANGE:
+        when(vendedorService.obtenerVendedor(7L)).thenReturn(Optional.of(crearVendedor()));
+
+        // ACT & ASSERT:
+        mockMvc.perform(get(BASE_URL + "/7"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.nombre").value("Tienda Oficial"))
+                .andExpect(jsonPath("$.reputacion").value(4.5));
+    }
+
+    @Test
+    void obtenerVendedor_Inexistente_Retorna404() throws Exception {
+        // ARRANGE:
+        when(vendedorService.obtenerVendedor(99L)).thenReturn(Optional.empty());
+
+        // ACT & ASSERT:
+        mockMvc.perform(get(BASE_URL + "/99"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void guardarVendedor_ReputacionInvalida_Retorna400() throws Exception {
+        // ARRANGE:
+        when(vendedorService.guardarVendedor(eq(7L), any(SolicitudVendedor.class)))
+                .thenThrow(new InvalidDataException("La reputación del vendedor debe estar entre 0 y 5.0."));
+
+        // ACT & ASSERT:
+        mockMvc.perform(put(BASE_URL + "/7")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"nombre\": \"Tienda Oficial\", \"reputacion\": 7}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void obtenerProductos_VendedorExistente_Retorna200ConEtag() throws Exception {
+        // ARRANGE:
+        Producto producto = new Producto();
+        producto.setId(1L);
+        producto.setTitulo("Audífonos");
+        producto.setIdVendedor(7L);
+        producto.setNombreVendedor("Tienda Oficial");
+        when(vendedorService.obtenerProductos(7L, null, 10)).thenReturn(new PaginaProductos(List.of(producto), null));
+
+        // ACT & ASSERT:
+        mockMvc.perform(get(BASE_URL + "/7/productos").param("tamanio", "10"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andExpect(jsonPath("$.productos[0].nombreVendedor").value("Tienda Oficial"));
+    }
+
+    @Test
+    void obtenerProductos_VendedorInexistente_Retorna404() throws Exception {
+        // ARRANGE:
+        when(vendedorService.obtenerProductos(eq(99L), isNull(), isNull()))
+                .thenThrow(new RecursoNoEncontradoException("No existe el vendedor con ID: 99"));
+
+        // ACT & ASSERT:
+        mockMvc.perform(get(BASE_URL + "/99/productos"))
+                .andExpect(status().isNotFound());
+    }
+
+    private static Vendedor crearVendedor() {
+        Vendedor vendedor = new Vendedor();
+        vendedor.setId(7L);
+        vendedor.setNombre("Tienda Oficial");
+        vendedor.setReputacion(4.5f);
+        return vendedor;
+    }
+}
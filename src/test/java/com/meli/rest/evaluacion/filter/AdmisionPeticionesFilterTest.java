@@ -0,0 +1,268 @@
+package com.meli.rest.evaluacion.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Pruebas unitarias del control de admisión ({@link AdmisionPeticionesFilter} y {@link LimitadorTasa}).
+ */
+public class AdmisionPeticionesFilterTest {
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+
+    // -------------------------------------------------------------------------
+    // LimitadorTasa
+    // -------------------------------------------------------------------------
+
+    @Test
+    void limitador_RafagaAgotada_InformaLaEsperaHastaElProximoToken() {
+        // ARRANGE: 10 tokens/s (uno cada 100 ms) y ráfaga de 3, con un reloj controlado
+        AtomicLong reloj = new AtomicLong(1_000_000_000L);
+        LimitadorTasa limitador = new LimitadorTasa(10, 3, 100, reloj::get);
+
+        // ACT & ASSERT:
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, limitador.adquirir("a"));
+        }
+        assertEquals(100_000_000L, limitador.adquirir("a"));
+        assertEquals(0, limitador.adquirir("b"), "Cada cliente tiene su cubeta");
+
+        reloj.addAndGet(100_000_000L);
+        assertEquals(0, limitador.adquirir("a"));
+        assertTrue(limitador.adquirir("a") > 0);
+    }
+
+    @Test
+    void limitador_HilosConcurrentes_NoAdmiteMasQueLaRafaga() throws Exception {
+        // ARRANGE: reloj detenido, solo se pueden consumir los tokens de la ráfaga
+        LimitadorTasa limitador = new LimitadorTasa(1, 500, 100, () -> 0L);
+        AtomicInteger admitidas = new AtomicInteger();
+        ExecutorService ejecutor = Executors.newFixedThreadPool(8);
+        CountDownLatch inicio = new CountDownLatch(1);
+
+        // ACT:
+        for (int h = 0; h < 8; h++) {
+            ejecutor.submit(() -> {
+                inicio.await();
+                for (int i = 0; i < 1_000; i++) {
+                    if (limitador.adquirir("cliente") == 0) {
+                        admitidas.incrementAndGet();
+                    }
+                }
+                return null;
+            });
+        }
+        inicio.countDown();
+        ejecutor.shutdown();
+        assertTrue(ejecutor.awaitTermination(30, TimeUnit.SECONDS));
+
+        // ASSERT:
+        assertEquals(500, admitidas.get());
+    }
+
+    @Test
+    void limitador_Barrido_DescartaLasCubetasLlenas() {
+        // ARRANGE:
+        AtomicLong reloj = new AtomicLong();
+        LimitadorTasa limitador = new LimitadorTasa(10, 1, 100, reloj::get);
+        for (int i = 0; i < 100; i++) {
+            limitador.adquirir("cliente-" + i);
+        }
+        reloj.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        limitador.adquirir("cliente-0");
+
+        // ACT:
+        int descartadas = limitador.barrer();
+
+        // ASSERT: solo queda la cubeta que todavía no se repone
+        assertEquals(99, descartadas);
+        assertEquals(1, limitador.clientes());
+    }
+
+    @Test
+    void limitador_MaximoDeClientes_LosNuevosCompartenUnaCubeta() {
+        // ARRANGE: mapa lleno con clientes cuya cubeta ya se repuso, sin barrido
+        AtomicLong reloj = new AtomicLong();
+        LimitadorTasa limitador = new LimitadorTasa(10, 1, 100, reloj::get);
+        for (int i = 0; i < 100; i++) {
+            limitador.adquirir("cliente-" + i);
+        }
+        reloj.addAndGet(TimeUnit.SECONDS.toNanos(1));
+
+        // ACT & ASSERT: no se crean cubetas nuevas; los clientes nuevos consumen la compartida
+        assertEquals(0, limitador.adquirir("nuevo-1"));
+        assertTrue(limitador.adquirir("nuevo-2") > 0, "La cubeta compartida tiene la ráfaga de un cliente");
+        assertEquals(0, limitador.adquirir("cliente-5"), "Los clientes registrados conservan su cubeta");
+        assertEquals(100, limitador.clientes());
+    }
+
+    // -------------------------------------------------------------------------
+    // AdmisionPeticionesFilter
+    // -------------------------------------------------------------------------
+
+    @Test
+    void filtro_ClienteSuperaLaTasa_Responde429ConRetryAfter() throws Exception {
+        // ARRANGE: ráfaga de 2 y un token por minuto
+        AdmisionPeticionesFilter filtro = crearFiltro(1.0 / 60, 2, 8, 8, 8);
+
+        // ACT:
+        MockHttpServletResponse primera = ejecutar(filtro, peticion("GET", "/api/evaluacion/1", "clave-a"));
+        MockHttpServletResponse segunda = ejecutar(filtro, peticion("GET", "/api/evaluacion/1", "clave-a"));
+        MockHttpServletResponse tercera = ejecutar(filtro, peticion("GET", "/api/evaluacion/1", "clave-a"));
+        MockHttpServletResponse otroCliente = ejecutar(filtro, peticion("GET", "/api/evaluacion/1", "clave-b"));
+
+        // ASSERT:
+        assertEquals(200, primera.getStatus());
+        assertEquals(200, segunda.getStatus());
+        assertEquals(429, tercera.getStatus());
+        assertEquals("60", tercera.getHeader("Retry-After"));
+        assertTrue(tercera.getContentAsString().contains("mensaje"));
+        assertEquals(200, otroCliente.getStatus());
+        assertEquals(1, registry.get("evaluacion.admision.rechazos").tags("motivo", "tasa", "clase", "detalle")
+                .counter().count());
+    }
+
+    @Test
+    void filtro_ClavesDesconocidasRotadas_CuentanComoLaDireccion() throws Exception {
+        // ARRANGE: ráfaga de 2 y un token por minuto
+        AdmisionPeticionesFilter filtro = crearFiltro(1.0 / 60, 2, 8, 8, 8);
+
+        // ACT: el mismo cliente cambia de clave inventada en cada petición
+        MockHttpServletResponse primera = ejecutar(filtro, peticion("GET", "/api/evaluacion/1", "rotada-1"));
+        MockHttpServletResponse segunda = ejecutar(filtro, peticion("GET", "/api/evaluacion/1", "rotada-2"));
+        MockHttpServletResponse tercera = ejecutar(filtro, peticion("GET", "/api/evaluacion/1", "rotada-3"));
+        MockHttpServletResponse sinClave = ejecutar(filtro, peticion("GET", "/api/evaluacion/1", null));
+        MockHttpServletResponse claveConocida = ejecutar(filtro, peticion("GET", "/api/evaluacion/1", "clave-a"));
+
+        // ASSERT: las claves desconocidas comparten la cubeta de la dirección; una conocida tiene la suya
+        assertEquals(200, primera.getStatus());
+        assertEquals(200, segunda.getStatus());
+        assertEquals(429, tercera.getStatus());
+        assertEquals(429, sinClave.getStatus());
+        assertEquals(200, claveConocida.getStatus());
+    }
+
+    @Test
+    void filtro_ListadosSaturados_Responde503SinBloquearLosDetalles() throws Exception {
+        // ARRANGE: un solo permiso de listado, ocupado por un listado lento
+        AdmisionPeticionesFilter filtro = crearFiltro(1_000, 1_000, 1, 4, 4);
+        CountDownLatch listadoEnCurso = new CountDownLatch(1);
+        CountDownLatch terminarListado = new CountDownLatch(1);
+        ExecutorService ejecutor = Executors.newSingleThreadExecutor();
+        Future<MockHttpServletResponse> lento = ejecutor.submit(() -> {
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            filtro.doFilter(peticion("GET", "/api/evaluacion", null), response, (req, res) -> {
+                listadoEnCurso.countDown();
+                try {
+                    terminarListado.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            return response;
+        });
+        assertTrue(listadoEnCurso.await(10, TimeUnit.SECONDS));
+
+        // ACT:
+        MockHttpServletResponse otroListado = ejecutar(filtro, peticion("GET", "/api/evaluacion/export", null));
+        MockHttpServletResponse detalle = ejecutar(filtro, peticion("GET", "/api/evaluacion/1", null));
+        MockHttpServletResponse escritura = ejecutar(filtro, peticion("POST", "/api/evaluacion", null));
+        terminarListado.countDown();
+
+        // ASSERT:
+        assertEquals(503, otroListado.getStatus());
+        assertEquals("1", otroListado.getHeader("Retry-After"));
+        assertEquals(200, detalle.getStatus());
+        assertEquals(200, escritura.getStatus());
+        assertEquals(200, lento.get(10, TimeUnit.SECONDS).getStatus());
+        assertEquals(0, filtro.enCurso(AdmisionPeticionesFilter.Clase.LISTADO), "El permiso se libera al terminar");
+        ejecutor.shutdown();
+    }
+
+    @Test
+    void filtro_RespuestaAsincrona_LiberaElPermisoAlCompletarse() throws Exception {
+        // ARRANGE:
+        AdmisionPeticionesFilter filtro = crearFiltro(1_000, 1_000, 1, 4, 4);
+        MockHttpServletRequest request = peticion("GET", "/api/evaluacion/export", null);
+        request.setAsyncSupported(true);
+
+        // ACT: la exportación inicia una respuesta asíncrona y el filtro retorna antes de que termine
+        filtro.doFilter(request, new MockHttpServletResponse(), (req, res) -> req.startAsync());
+
+        // ASSERT:
+        assertEquals(1, filtro.enCurso(AdmisionPeticionesFilter.Clase.LISTADO));
+        ((MockAsyncContext) request.getAsyncContext()).complete();
+        assertEquals(0, filtro.enCurso(AdmisionPeticionesFilter.Clase.LISTADO));
+    }
+
+    @Test
+    void clasificar_PorMetodoYRuta() {
+        assertEquals(AdmisionPeticionesFilter.Clase.LISTADO, clasificar("GET", "/api/evaluacion"));
+        assertEquals(AdmisionPeticionesFilter.Clase.LISTADO, clasificar("GET", "/api/evaluacion/buscar"));
+        assertEquals(AdmisionPeticionesFilter.Clase.LISTADO, clasificar("GET", "/api/evaluacion/5/opiniones"));
+        assertEquals(AdmisionPeticionesFilter.Clase.LISTADO, clasificar("GET", "/api/evaluacion/vendedores/7/productos"));
+        assertEquals(AdmisionPeticionesFilter.Clase.DETALLE, clasificar("GET", "/api/evaluacion/5"));
+        assertEquals(AdmisionPeticionesFilter.Clase.DETALLE, clasificar("GET", "/api/evaluacion/vendedores/7"));
+        assertEquals(AdmisionPeticionesFilter.Clase.ESCRITURA, clasificar("POST", "/api/evaluacion/5/opiniones"));
+        assertEquals(AdmisionPeticionesFilter.Clase.ESCRITURA, clasificar("PUT", "/api/evaluacion/vendedores/7"));
+    }
+
+    @Test
+    void filtro_FueraDeLaApi_NoSeLimita() throws Exception {
+        // ARRANGE:
+        AdmisionPeticionesFilter filtro = crearFiltro(1.0 / 60, 1, 1, 1, 1);
+
+        // ACT & ASSERT:
+        for (int i = 0; i < 5; i++) {
+            assertEquals(200, ejecutar(filtro, peticion("GET", "/actuator/health", null)).getStatus());
+        }
+    }
+
+    private AdmisionPeticionesFilter crearFiltro(double tasa, int rafaga, int listado, int detalle, int escritura) {
+        @SuppressWarnings("unchecked")
+        ObjectProvider<MeterRegistry> proveedor = mock(ObjectProvider.class);
+        when(proveedor.getIfAvailable()).thenReturn(registry);
+        return new AdmisionPeticionesFilter(true, tasa, rafaga, 1_000, Duration.ofSeconds(10), Set.of("clave-a", "clave-b"),
+                listado, detalle, escritura, Duration.ofSeconds(1), new ObjectMapper(), proveedor);
+    }
+
+    private static MockHttpServletRequest peticion(String metodo, String ruta, String apiKey) {
+        MockHttpServletRequest request = new MockHttpServletRequest(metodo, ruta);
+        if (apiKey != null) {
+            request.addHeader(AdmisionPeticionesFilter.ENCABEZADO_API_KEY, apiKey);
+        }
+        return request;
+    }
+
+    private static MockHttpServletResponse ejecutar(AdmisionPeticionesFilter filtro, MockHttpServletRequest request)
+            throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filtro.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    private static AdmisionPeticionesFilter.Clase clasificar(String metodo, String ruta) {
+        return AdmisionPeticionesFilter.clasificar(new MockHttpServletRequest(metodo, ruta));
+    }
+}
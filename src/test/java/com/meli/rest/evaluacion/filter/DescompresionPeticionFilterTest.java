@@ -0,0 +1,170 @@
+package com.meli.rest.evaluacion.filter;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias de {@link DescompresionPeticionFilter}.
+ */
+public class DescompresionPeticionFilterTest {
+
+    private static final String CUERPO = "{\"titulo\":\"Producto comprimido\"}";
+
+    @Test
+    void lecturaBloqueante_CuerpoGzip_SeLeeDescomprimido() throws Exception {
+        // ARRANGE:
+        MockHttpServletRequest request = peticionGzip();
+        request.setContent(comprimir(CUERPO));
+        MockFilterChain chain = new MockFilterChain();
+
+        // ACT:
+        filtro().doFilter(request, new MockHttpServletResponse(), chain);
+
+        // ASSERT:
+        ServletRequest descomprimida = chain.getRequest();
+        assertEquals(CUERPO, new String(descomprimida.getInputStream().readAllBytes(), StandardCharsets.UTF_8));
+        assertNull(((HttpServletRequestWrapper) descomprimida).getHeader(HttpHeaders.CONTENT_ENCODING));
+    }
+
+    @Test
+    void lecturaNoBloqueante_CuerpoEnDosPartes_EntregaElCuerpoDescomprimidoAlListener() throws Exception {
+        // ARRANGE: el contenedor entrega el cuerpo comprimido en dos partes
+        byte[] comprimido = comprimir(CUERPO);
+        EntradaNoBloqueante entrada = new EntradaNoBloqueante(comprimido);
+        MockFilterChain chain = new MockFilterChain();
+        filtro().doFilter(new HttpServletRequestWrapper(peticionGzip()) {
+            @Override
+            public ServletInputStream getInputStream() {
+                return entrada;
+            }
+        }, new MockHttpServletResponse(), chain);
+        ServletInputStream cuerpo = chain.getRequest().getInputStream();
+        ByteArrayOutputStream leido = new ByteArrayOutputStream();
+        boolean[] terminado = new boolean[1];
+
+        // ACT:
+        cuerpo.setReadListener(new ReadListener() {
+            @Override
+            public void onDataAvailable() throws IOException {
+                byte[] bloque = new byte[16];
+                int cantidad;
+                while (cuerpo.isReady() && (cantidad = cuerpo.read(bloque)) >= 0) {
+                    leido.write(bloque, 0, cantidad);
+                }
+            }
+
+            @Override
+            public void onAllDataRead() {
+                terminado[0] = true;
+            }
+
+            @Override
+            public void onError(Throwable error) {
+                fail(error);
+            }
+        });
+        assertFalse(cuerpo.isReady(), "Sin el cuerpo completo no hay datos que leer");
+        entrada.entregar(comprimido.length / 2);
+        assertFalse(cuerpo.isReady());
+        entrada.entregar(comprimido.length);
+
+        // ASSERT:
+        assertTrue(terminado[0]);
+        assertTrue(cuerpo.isFinished());
+        assertEquals(CUERPO, leido.toString(StandardCharsets.UTF_8));
+    }
+
+    private static DescompresionPeticionFilter filtro() {
+        DescompresionPeticionFilter filtro = new DescompresionPeticionFilter();
+        ReflectionTestUtils.setField(filtro, "maximoDescomprimido", DataSize.ofKilobytes(64));
+        return filtro;
+    }
+
+    private static MockHttpServletRequest peticionGzip() {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/evaluacion");
+        request.addHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        return request;
+    }
+
+    private static byte[] comprimir(String texto) throws IOException {
+        ByteArrayOutputStream salida = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(salida)) {
+            gzip.write(texto.getBytes(StandardCharsets.UTF_8));
+        }
+        return salida.toByteArray();
+    }
+
+    /**
+     * Entrada del contenedor que solo tiene disponibles los bytes entregados hasta el momento y
+     * avisa al listener como lo haría el contenedor.
+     */
+    private static final class EntradaNoBloqueante extends ServletInputStream {
+
+        private final byte[] contenido;
+        private final ByteArrayInputStream lectura;
+        private int disponibles;
+        private ReadListener listener;
+
+        EntradaNoBloqueante(byte[] contenido) {
+            this.contenido = contenido;
+            this.lectura = new ByteArrayInputStream(contenido);
+        }
+
+        void entregar(int hasta) throws IOException {
+            disponibles = hasta;
+            listener.onDataAvailable();
+            if (isFinished()) {
+                listener.onAllDataRead();
+            }
+        }
+
+        @Override
+        public int read() {
+            if (!isReady()) {
+                throw new IllegalStateException("Sin datos disponibles");
+            }
+            return lectura.read();
+        }
+
+        @Override
+        public int read(byte[] destino, int desde, int largo) {
+            if (!isReady()) {
+                throw new IllegalStateException("Sin datos disponibles");
+            }
+            int leidos = contenido.length - lectura.available();
+            return lectura.read(destino, desde, Math.min(largo, disponibles - leidos));
+        }
+
+        @Override
+        public boolean isFinished() {
+            return lectura.available() == 0;
+        }
+
+        @Override
+        public boolean isReady() {
+            return contenido.length - lectura.available() < disponibles;
+        }
+
+        @Override
+        public void setReadListener(ReadListener listener) {
+            this.listener = listener;
+        }
+    }
+}
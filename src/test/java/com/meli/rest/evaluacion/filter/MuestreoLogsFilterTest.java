@@ -0,0 +1,81 @@
+package com.meli.rest.evaluacion.filter;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias del muestreo de logs por petición ({@link MuestreoLogsFilter} y {@link MuestreoLogsTurboFilter}).
+ */
+public class MuestreoLogsFilterTest {
+
+    private final LoggerContext contexto = (LoggerContext) LoggerFactory.getILoggerFactory();
+    private final Logger logger = contexto.getLogger("com.meli.rest.evaluacion.prueba");
+    private final Logger loggerFramework = contexto.getLogger("org.springframework.prueba");
+    private final MuestreoLogsFilter filtro = new MuestreoLogsFilter();
+    private MuestreoLogsTurboFilter turboFilter;
+
+    @BeforeEach
+    void setUp() {
+        turboFilter = new MuestreoLogsTurboFilter();
+        turboFilter.start();
+        contexto.addTurboFilter(turboFilter);
+        logger.setLevel(Level.DEBUG);
+        loggerFramework.setLevel(Level.DEBUG);
+    }
+
+    @AfterEach
+    void tearDown() {
+        contexto.getTurboFilterList().remove(turboFilter);
+        logger.setLevel(null);
+        loggerFramework.setLevel(null);
+    }
+
+    @Test
+    void peticionNoMuestreada_DescartaInfoYDebugPeroNoWarn() throws Exception {
+        // ARRANGE:
+        ReflectionTestUtils.setField(filtro, "muestreo", 0.0);
+        AtomicReference<boolean[]> niveles = new AtomicReference<>();
+
+        // ACT:
+        filtro.doFilter(new MockHttpServletRequest(), new MockHttpServletResponse(), (request, response) ->
+                niveles.set(new boolean[]{logger.isDebugEnabled(), logger.isInfoEnabled(), logger.isWarnEnabled(),
+                        loggerFramework.isDebugEnabled()}));
+
+        // ASSERT: solo se descartan los logs de detalle de la aplicación
+        assertArrayEquals(new boolean[]{false, false, true, true}, niveles.get());
+        assertNull(MDC.get(MuestreoLogsFilter.CLAVE_DESCARTADA), "El MDC debe limpiarse al terminar la petición");
+        assertTrue(logger.isDebugEnabled(), "Fuera de una petición no se descarta nada");
+    }
+
+    @Test
+    void peticionMuestreada_EscribeTodoYPropagaElIdDePeticion() throws Exception {
+        // ARRANGE:
+        ReflectionTestUtils.setField(filtro, "muestreo", 1.0);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("X-Request-Id", "abc-123");
+        AtomicReference<String> peticion = new AtomicReference<>();
+
+        // ACT:
+        filtro.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            assertTrue(logger.isDebugEnabled());
+            peticion.set(MDC.get(MuestreoLogsFilter.CLAVE_PETICION));
+        });
+
+        // ASSERT:
+        assertEquals("abc-123", peticion.get());
+        assertNull(MDC.get(MuestreoLogsFilter.CLAVE_PETICION));
+    }
+}
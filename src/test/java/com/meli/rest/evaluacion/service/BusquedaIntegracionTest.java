@@ -0,0 +1,99 @@
+package com.meli.rest.evaluacion.service;
+
+import com.meli.rest.evaluacion.dto.ResultadoBusqueda;
+import com.meli.rest.evaluacion.model.Producto;
+import com.meli.rest.evaluacion.repository.ProductoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas de integración de la búsqueda: el índice se mantiene al día con los productos guardados.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:busquedadb",
+        "spring.jpa.show-sql=false"
+})
+public class BusquedaIntegracionTest {
+
+    @Autowired
+    private BusquedaService busquedaService;
+
+    @Autowired
+    private ProductoService productoService;
+
+    @Autowired
+    private ProductoRepository productoRepository;
+
+    @BeforeEach
+    void setUp() {
+        productoRepository.deleteAll();
+        busquedaService.reconstruirIndice();
+    }
+
+    @Test
+    void guardarProducto_SeIndexaDespuesDelCommit() {
+        // ARRANGE:
+        Producto guardado = productoService.guardarProducto(crearProducto("Smart TV Samsung 55 pulgadas",
+                List.of("Resolución: 4K", "Conectividad: WiFi")));
+
+        // ACT:
+        ResultadoBusqueda resultado = busquedaService.buscar("televisor smart 4k", 10);
+
+        // ASSERT:
+        assertEquals(1, resultado.getTotal());
+        assertEquals(guardado.getId(), resultado.getProductos().get(0).id());
+        assertEquals("Smart TV Samsung 55 pulgadas", resultado.getProductos().get(0).titulo());
+    }
+
+    @Test
+    void guardarProducto_Actualizacion_ReemplazaTerminos() {
+        // ARRANGE:
+        Producto guardado = productoService.guardarProducto(crearProducto("Bicicleta urbana", List.of()));
+
+        // ACT:
+        guardado.setTitulo("Bicicleta de montaña");
+        productoService.guardarProducto(guardado);
+
+        // ASSERT:
+        assertEquals(0, busquedaService.buscar("urbana", 10).getTotal());
+        assertEquals(1, busquedaService.buscar("montaña", 10).getTotal());
+    }
+
+    @Test
+    void guardarProductos_CargaMasivaYReconstruccion_ResultadosEquivalentes() {
+        // ARRANGE:
+        List<Producto> productos = new ArrayList<>();
+        for (int i = 1; i <= 300; i++) {
+            productos.add(crearProducto(i % 3 == 0 ? "Zapatillas running " + i : "Polera algodón " + i, List.of("Talla: M")));
+        }
+        productoService.guardarProductos(productos);
+        int totalIncremental = busquedaService.buscar("zapatilla", 100).getTotal();
+
+        // ACT:
+        int indexados = busquedaService.reconstruirIndice();
+
+        // ASSERT:
+        assertEquals(100, totalIncremental);
+        assertEquals(300, indexados);
+        assertEquals(100, busquedaService.buscar("zapatilla", 100).getTotal());
+        assertEquals(100, busquedaService.buscar("zapatilla", 100).getProductos().size());
+    }
+
+    private Producto crearProducto(String titulo, List<String> especificaciones) {
+        Producto producto = new Producto();
+        producto.setTitulo(titulo);
+        producto.setPrecio(new BigDecimal("15000"));
+        producto.setStockDisponible(10);
+        producto.setDescripcion("Producto de prueba");
+        producto.setEspecificaciones(new ArrayList<>(especificaciones));
+        return producto;
+    }
+}
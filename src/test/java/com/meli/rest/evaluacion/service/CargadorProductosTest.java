@@ -0,0 +1,186 @@
+package com.meli.rest.evaluacion.service;
+
+import com.meli.rest.evaluacion.model.Producto;
+import com.meli.rest.evaluacion.repository.ProductoRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas de integración de {@link CargadorProductos}: una sola carga por id en curso y
+ * agrupación de ids distintos en una consulta.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:cargadordb",
+        "spring.jpa.show-sql=false"
+})
+public class CargadorProductosTest {
+
+    private static final int HILOS = 32;
+
+    @Autowired
+    private CargadorProductos cargadorProductos;
+
+    @Autowired
+    private ProductoService productoService;
+
+    @Autowired
+    private ProductoRepository productoRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics estadisticas;
+
+    @BeforeEach
+    void setUp() {
+        productoRepository.deleteAll();
+        estadisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void cargarTodos_VariosIds_UnaConsultaMasUnaPorColeccion() {
+        // ARRANGE:
+        List<Long> ids = crearProductos(40);
+        entityManagerFactory.getCache().evictAll();
+        estadisticas.clear();
+
+        // ACT:
+        List<Producto> productos = cargadorProductos.cargarTodos(ids);
+
+        // ASSERT: productos + especificaciones + imágenes, sin N+1
+        assertEquals(ids, productos.stream().map(Producto::getId).toList());
+        assertEquals(3, estadisticas.getPrepareStatementCount());
+        assertEquals(2, productos.get(39).getUrlsImagenes().size());
+    }
+
+    @Test
+    void cargarTodos_IdsInexistentesYRepetidos_RespetaElOrdenYLosOmite() {
+        // ARRANGE:
+        List<Long> ids = crearProductos(2);
+
+        // ACT:
+        List<Producto> productos = cargadorProductos.cargarTodos(List.of(ids.get(1), 999_999L, ids.get(0), ids.get(1)));
+
+        // ASSERT:
+        assertEquals(List.of(ids.get(1), ids.get(0)), productos.stream().map(Producto::getId).toList());
+    }
+
+    @Test
+    void cargar_MismoIdEnParalelo_UnaSolaCarga() throws Exception {
+        // ARRANGE:
+        Long id = crearProductos(1).get(0);
+        entityManagerFactory.getCache().evictAll();
+        estadisticas.clear();
+
+        // ACT:
+        List<Producto> resultados = ejecutarEnParalelo(HILOS, hilo -> productoService.obtenerProductoPorId(id).orElseThrow());
+
+        // ASSERT: una carga (producto + 2 colecciones); las demás esperan la misma o leen la cache
+        assertTrue(resultados.stream().allMatch(producto -> id.equals(producto.getId())));
+        assertTrue(estadisticas.getPrepareStatementCount() <= 3,
+                "Se ejecutaron " + estadisticas.getPrepareStatementCount() + " consultas");
+    }
+
+    @Test
+    void cargar_IdsDistintosEnParalelo_SeAgrupanEnLotes() throws Exception {
+        // ARRANGE:
+        List<Long> ids = crearProductos(HILOS);
+        entityManagerFactory.getCache().evictAll();
+        estadisticas.clear();
+
+        // ACT:
+        List<Producto> resultados = ejecutarEnParalelo(HILOS, hilo -> productoService.obtenerProductoPorId(ids.get(hilo)).orElseThrow());
+
+        // ASSERT: sin agrupar serían 3 consultas por producto
+        for (int i = 0; i < HILOS; i++) {
+            assertEquals(ids.get(i), resultados.get(i).getId());
+        }
+        long consultas = estadisticas.getPrepareStatementCount();
+        assertTrue(consultas < HILOS * 3, "Se ejecutaron " + consultas + " consultas");
+    }
+
+    @Test
+    void cargarTodos_TodosEnCache_SinConsultasNiTransaccion() {
+        // ARRANGE: una primera carga deja productos y colecciones en la cache de segundo nivel
+        List<Long> ids = crearProductos(5);
+        entityManagerFactory.getCache().evictAll();
+        cargadorProductos.cargarTodos(ids);
+        estadisticas.clear();
+
+        // ACT:
+        List<Producto> productos = cargadorProductos.cargarTodos(ids);
+
+        // ASSERT:
+        assertEquals(ids, productos.stream().map(Producto::getId).toList());
+        assertEquals(2, productos.get(4).getUrlsImagenes().size());
+        assertEquals(0, estadisticas.getPrepareStatementCount());
+        assertEquals(0, estadisticas.getTransactionCount());
+    }
+
+    @Test
+    void cargar_ProductoInexistente_RetornaVacio() {
+        assertTrue(cargadorProductos.cargar(999_999L).isEmpty());
+    }
+
+    private List<Producto> ejecutarEnParalelo(int hilos, TareaPorHilo tarea) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(hilos);
+        CountDownLatch largada = new CountDownLatch(1);
+        try {
+            List<Future<Producto>> futuros = new ArrayList<>();
+            for (int i = 0; i < hilos; i++) {
+                int hilo = i;
+                Callable<Producto> llamada = () -> {
+                    largada.await();
+                    return tarea.ejecutar(hilo);
+                };
+                futuros.add(executor.submit(llamada));
+            }
+            largada.countDown();
+            List<Producto> resultados = new ArrayList<>();
+            for (Future<Producto> futuro : futuros) {
+                resultados.add(futuro.get(60, TimeUnit.SECONDS));
+            }
+            return resultados;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private List<Long> crearProductos(int cantidad) {
+        List<Producto> productos = new ArrayList<>();
+        for (int i = 0; i < cantidad; i++) {
+            Producto producto = new Producto();
+            producto.setTitulo("Producto " + i);
+            producto.setPrecio(new BigDecimal("1000"));
+            producto.setStockDisponible(10);
+            producto.setCantidadVendida(0);
+            producto.setDescripcion("Descripción");
+            producto.setEspecificaciones(new ArrayList<>(List.of("Color: Negro")));
+            producto.setUrlsImagenes(new ArrayList<>(List.of("https://img/" + i + "-1.jpg", "https://img/" + i + "-2.jpg")));
+            productos.add(producto);
+        }
+        return productoRepository.saveAll(productos).stream().map(Producto::getId).toList();
+    }
+
+    @FunctionalInterface
+    private interface TareaPorHilo {
+        Producto ejecutar(int hilo) throws Exception;
+    }
+}
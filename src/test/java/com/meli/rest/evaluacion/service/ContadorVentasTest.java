@@ -0,0 +1,160 @@
+package com.meli.rest.evaluacion.service;
+
+import com.meli.rest.evaluacion.model.Producto;
+import com.meli.rest.evaluacion.repository.ProductoRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.EntityStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas de integración de la escritura diferida de {@code cantidadVendida} contra H2.
+ * El flush periódico queda fuera del alcance de la prueba (intervalo de 1 hora); se invoca directamente.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:ventasdb",
+        "spring.jpa.show-sql=false",
+        "evaluacion.ventas.intervalo-flush=1h"
+})
+public class ContadorVentasTest {
+
+    private static final int HILOS = 16;
+
+    @Autowired
+    private ContadorVentas contadorVentas;
+
+    @Autowired
+    private ProductoService productoService;
+
+    @Autowired
+    private ProductoRepository productoRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Statistics estadisticas;
+
+    @BeforeEach
+    void setUp() {
+        contadorVentas.vaciar();
+        productoRepository.deleteAll();
+        estadisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void registrarVenta_MuchasVentasConcurrentes_UnSoloBatchConLaSuma() throws Exception {
+        // ARRANGE: 16 hilos x 500 ventas de 1 unidad repartidas entre dos productos
+        Long primero = crearProducto(5);
+        Long segundo = crearProducto(0);
+        ExecutorService ejecutor = Executors.newFixedThreadPool(HILOS);
+        List<Future<?>> tareas = new ArrayList<>();
+        for (int h = 0; h < HILOS; h++) {
+            tareas.add(ejecutor.submit(() -> {
+                for (int i = 0; i < 500; i++) {
+                    productoService.registrarVenta(i % 2 == 0 ? primero : segundo, 1);
+                }
+            }));
+        }
+        for (Future<?> tarea : tareas) {
+            tarea.get();
+        }
+        ejecutor.shutdown();
+        assertEquals(8000, contadorVentas.pendientes());
+        estadisticas.clear();
+
+        // ACT:
+        int actualizados = contadorVentas.vaciar();
+
+        // ASSERT:
+        assertEquals(2, actualizados);
+        assertEquals(0, contadorVentas.pendientes());
+        assertEquals(0, estadisticas.getEntityUpdateCount(), "El flush no debe pasar por Hibernate");
+        assertEquals(5 + 4000, productoRepository.findById(primero).orElseThrow().getCantidadVendida());
+        assertEquals(4000, productoRepository.findById(segundo).orElseThrow().getCantidadVendida());
+        assertEquals(0, contadorVentas.vaciar(), "Sin ventas nuevas no hay nada que escribir");
+    }
+
+    @Test
+    void vaciar_ProductoCacheado_BloqueaSoloSuEntrada() {
+        // ARRANGE: ambos productos quedan en la cache de segundo nivel
+        Long vendido = crearProducto(0);
+        Long otro = crearProducto(0);
+        productoService.obtenerProductoPorId(vendido);
+        productoService.obtenerProductoPorId(otro);
+        contadorVentas.registrar(vendido, 3);
+
+        // ACT:
+        contadorVentas.vaciar();
+
+        // ASSERT: el otro producto se sigue leyendo de la cache y el vendido se lee actualizado
+        EntityStatistics cacheProductos = estadisticas.getEntityStatistics(Producto.class.getName());
+        long aciertos = cacheProductos.getCacheHitCount();
+        productoService.obtenerProductoPorId(otro);
+        assertEquals(aciertos + 1, cacheProductos.getCacheHitCount());
+        assertEquals(3, productoService.obtenerProductoPorId(vendido).orElseThrow().getCantidadVendida());
+    }
+
+    @Test
+    void vaciar_ProductoEliminado_DescartaSusVentas() {
+        // ARRANGE:
+        Long id = crearProducto(0);
+        contadorVentas.registrar(id, 2);
+        productoRepository.deleteById(id);
+
+        // ACT:
+        contadorVentas.vaciar();
+
+        // ASSERT:
+        assertEquals(0, contadorVentas.pendientes());
+    }
+
+    @Test
+    void metricas_PublicaPendientesRetrasoEIntervalo() {
+        // ARRANGE:
+        Long id = crearProducto(0);
+        contadorVentas.registrar(id, 7);
+
+        // ASSERT:
+        assertEquals(7, meterRegistry.get("evaluacion.ventas.pendientes").gauge().value());
+        assertEquals(3600, meterRegistry.get("evaluacion.ventas.intervalo").gauge().value());
+        long flushes = meterRegistry.get("evaluacion.ventas.flush").timer().count();
+
+        // ACT:
+        contadorVentas.vaciar();
+
+        // ASSERT:
+        assertEquals(0, meterRegistry.get("evaluacion.ventas.pendientes").gauge().value());
+        assertEquals(flushes + 1, meterRegistry.get("evaluacion.ventas.flush").timer().count());
+        assertTrue(meterRegistry.get("evaluacion.ventas.retraso").gauge().value() < 60);
+    }
+
+    private Long crearProducto(int cantidadVendida) {
+        Producto producto = new Producto();
+        producto.setTitulo("Zapatillas running");
+        producto.setPrecio(new BigDecimal("59990"));
+        producto.setMoneda("CLP");
+        producto.setStockDisponible(100);
+        producto.setDescripcion("Zapatillas livianas");
+        producto.setCantidadVendida(cantidadVendida);
+        producto.setEspecificaciones(List.of());
+        producto.setUrlsImagenes(List.of());
+        return productoRepository.save(producto).getId();
+    }
+}
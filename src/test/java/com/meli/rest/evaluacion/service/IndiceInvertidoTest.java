@@ -0,0 +1,99 @@
+package com.meli.rest.evaluacion.service;
+
+import com.meli.rest.evaluacion.util.TokenizadorEspanol;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias del índice invertido y su tokenización en español.
+ */
+public class IndiceInvertidoTest {
+
+    @Test
+    void tokenizar_TextoConTildesPluralesYPalabrasVacias_NormalizaTerminos() {
+        List<String> terminos = TokenizadorEspanol.tokenizar("Cámara de los Celulares con Luces LED");
+
+        assertEquals(List.of("camara", "celular", "luz", "led"), terminos);
+    }
+
+    @Test
+    void buscar_TituloPesaMasQueDescripcion_OrdenaPorRelevancia() {
+        // ARRANGE:
+        IndiceInvertido indice = IndiceInvertido.construir(List.of(
+                documento(1L, "Funda para celular", "Accesorio compatible con notebook"),
+                documento(2L, "Notebook Lenovo 15 pulgadas", "Notebook liviano"),
+                documento(3L, "Mouse inalámbrico", "Sin relación")));
+
+        // ACT:
+        IndiceInvertido.Resultado resultado = indice.buscar("Notebook", 10);
+
+        // ASSERT:
+        assertEquals(2, resultado.total());
+        assertEquals(2L, resultado.coincidencias().get(0).productoId());
+        assertEquals(1L, resultado.coincidencias().get(1).productoId());
+    }
+
+    @Test
+    void indexar_ProductoActualizado_ReemplazaDocumentoAnterior() {
+        // ARRANGE:
+        IndiceInvertido indice = IndiceInvertido.construir(List.of(documento(1L, "Parlante bluetooth", "Portátil")));
+
+        // ACT:
+        indice.indexar(List.of(documento(1L, "Audífonos bluetooth", "Inalámbricos")));
+
+        // ASSERT:
+        assertEquals(1, indice.tamanio());
+        assertEquals(0, indice.buscar("parlante", 10).total());
+        assertEquals(1L, indice.buscar("audifono", 10).coincidencias().get(0).productoId());
+        assertEquals(1, indice.buscar("bluetooth", 10).total());
+    }
+
+    @Test
+    void indexar_MuchasReindexaciones_RenumeraLosDocumentosAlPurgar() {
+        // ARRANGE:
+        IndiceInvertido indice = IndiceInvertido.construir(List.of(
+                documento(1L, "Parlante bluetooth", "Portátil"),
+                documento(2L, "Mouse inalámbrico", "Óptico")));
+
+        // ACT: el mismo producto se re-indexa muchas veces
+        for (int i = 0; i < 10_000; i++) {
+            indice.indexar(List.of(documento(1L, "Parlante bluetooth " + i, "Portátil")));
+        }
+
+        // ASSERT: los números de documento no crecen con las re-indexaciones
+        assertEquals(2, indice.tamanio());
+        assertTrue(indice.documentosAsignados() <= 3, "Documentos asignados: " + indice.documentosAsignados());
+        assertEquals(1L, indice.buscar("9999", 10).coincidencias().get(0).productoId());
+        assertEquals(0, indice.buscar("9998", 10).total());
+        assertEquals(2L, indice.buscar("mouse", 10).coincidencias().get(0).productoId());
+        assertEquals(1, indice.buscar("parlante", 10).total());
+    }
+
+    @Test
+    void construir_CatalogoGrande_IgualQueIndexarIncremental() {
+        // ARRANGE: suficientes documentos para dividir la construcción en varios segmentos
+        List<IndiceInvertido.Documento> documentos = new ArrayList<>();
+        for (long id = 1; id <= 20_000; id++) {
+            documentos.add(documento(id, "Producto " + (id % 100 == 0 ? "destacado" : "comun"), "Modelo " + id));
+        }
+        IndiceInvertido incremental = new IndiceInvertido();
+        incremental.indexar(documentos);
+
+        // ACT:
+        IndiceInvertido paralelo = IndiceInvertido.construir(documentos);
+
+        // ASSERT:
+        assertEquals(20_000, paralelo.tamanio());
+        assertEquals(incremental.buscar("destacado", 500).coincidencias(), paralelo.buscar("destacado", 500).coincidencias());
+        assertEquals(200, paralelo.buscar("destacados", 500).total());
+        assertEquals(1234L, paralelo.buscar("1234", 5).coincidencias().get(0).productoId());
+    }
+
+    private IndiceInvertido.Documento documento(Long id, String titulo, String descripcion) {
+        return new IndiceInvertido.Documento(id, titulo, descripcion, List.of());
+    }
+}
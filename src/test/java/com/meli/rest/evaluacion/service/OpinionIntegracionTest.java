@@ -0,0 +1,194 @@
+package com.meli.rest.evaluacion.service;
+
+import com.meli.rest.evaluacion.dto.PaginaOpiniones;
+import com.meli.rest.evaluacion.dto.SolicitudOpinion;
+import com.meli.rest.evaluacion.exceptions.InvalidDataException;
+import com.meli.rest.evaluacion.exceptions.RecursoNoEncontradoException;
+import com.meli.rest.evaluacion.model.Opinion;
+import com.meli.rest.evaluacion.model.Producto;
+import com.meli.rest.evaluacion.repository.OpinionRepository;
+import com.meli.rest.evaluacion.repository.ProductoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas de integración de las opiniones contra H2: agregados incrementales bajo concurrencia
+ * y paginación por clave del listado.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:opinionesdb",
+        "spring.jpa.show-sql=false"
+})
+public class OpinionIntegracionTest {
+
+    private static final int HILOS = 16;
+    private static final int OPINIONES_POR_HILO = 25;
+
+    @Autowired
+    private OpinionService opinionService;
+
+    @Autowired
+    private ProductoService productoService;
+
+    @Autowired
+    private OpinionRepository opinionRepository;
+
+    @Autowired
+    private ProductoRepository productoRepository;
+
+    @BeforeEach
+    void setUp() {
+        opinionRepository.deleteAll();
+        productoRepository.deleteAll();
+    }
+
+    @Test
+    void publicarOpinion_Concurrentes_NoPierdeIncrementos() throws Exception {
+        // ARRANGE: el producto queda en la cache de segundo nivel antes de las opiniones
+        Long id = crearProducto(0.0f, 0);
+        productoService.obtenerProductoPorId(id);
+        ExecutorService ejecutor = Executors.newFixedThreadPool(HILOS);
+        List<Future<?>> tareas = new ArrayList<>();
+
+        // ACT: 16 hilos x 25 opiniones; el hilo h publica siempre el puntaje (h % 5) + 1
+        for (int h = 0; h < HILOS; h++) {
+            int puntaje = (h % 5) + 1;
+            tareas.add(ejecutor.submit(() -> {
+                for (int i = 0; i < OPINIONES_POR_HILO; i++) {
+                    opinionService.publicarOpinion(id, solicitud(puntaje));
+                }
+            }));
+        }
+        for (Future<?> tarea : tareas) {
+            tarea.get();
+        }
+        ejecutor.shutdown();
+
+        // ASSERT: hilos por puntaje: 1 -> 4, 2 -> 3, 3 -> 3, 4 -> 3, 5 -> 3
+        Producto producto = productoService.obtenerProductoPorId(id).orElseThrow();
+        int total = HILOS * OPINIONES_POR_HILO;
+        int suma = (4 * 1 + 3 * 2 + 3 * 3 + 3 * 4 + 3 * 5) * OPINIONES_POR_HILO;
+        assertEquals(total, producto.getTotalOpiniones());
+        assertEquals(4 * OPINIONES_POR_HILO, producto.getOpiniones1());
+        assertEquals(3 * OPINIONES_POR_HILO, producto.getOpiniones5());
+        assertEquals((float) suma / total, producto.getRatingPromedio(), 1e-5);
+        assertEquals(total, opinionRepository.count());
+    }
+
+    @Test
+    void publicarOpinion_ProductoConAgregadosIniciales_PartenDeEllos() {
+        // ARRANGE: 10 opiniones previas con promedio 4.0
+        Long id = crearProducto(4.0f, 10);
+
+        // ACT:
+        opinionService.publicarOpinion(id, solicitud(1));
+
+        // ASSERT:
+        Producto producto = productoService.obtenerProductoPorId(id).orElseThrow();
+        assertEquals(11, producto.getTotalOpiniones());
+        assertEquals(41f / 11, producto.getRatingPromedio(), 1e-5);
+        assertEquals(1, producto.getOpiniones1());
+    }
+
+    @Test
+    void guardarProducto_Actualizacion_ConservaLosAgregados() {
+        // ARRANGE:
+        Long id = crearProducto(0.0f, 0);
+        opinionService.publicarOpinion(id, solicitud(5));
+        Producto cambios = productoService.obtenerProductoPorId(id).orElseThrow();
+        cambios.setTitulo("Zapatillas trail");
+        cambios.setRatingPromedio(1.0f);
+        cambios.setTotalOpiniones(0);
+
+        // ACT:
+        Producto guardado = productoService.guardarProducto(cambios);
+
+        // ASSERT:
+        assertEquals(1, guardado.getTotalOpiniones());
+        assertEquals(5.0f, guardado.getRatingPromedio());
+        Producto leido = productoService.obtenerProductoPorId(id).orElseThrow();
+        assertEquals("Zapatillas trail", leido.getTitulo());
+        assertEquals(1, leido.getTotalOpiniones());
+    }
+
+    @Test
+    void obtenerOpiniones_RecorreTodasLasPaginasSinRepetir() {
+        // ARRANGE:
+        Long id = crearProducto(0.0f, 0);
+        Long otro = crearProducto(0.0f, 0);
+        for (int i = 0; i < 7; i++) {
+            opinionService.publicarOpinion(id, solicitud((i % 5) + 1));
+        }
+        opinionService.publicarOpinion(otro, solicitud(3));
+
+        // ACT:
+        List<Long> ids = new ArrayList<>();
+        String cursor = null;
+        int paginas = 0;
+        do {
+            PaginaOpiniones pagina = opinionService.obtenerOpiniones(id, cursor, 3);
+            pagina.getOpiniones().forEach(opinion -> ids.add(opinion.getId()));
+            cursor = pagina.getSiguienteCursor();
+            paginas++;
+        } while (cursor != null);
+
+        // ASSERT: 3 + 3 + 1, de la más reciente a la más antigua y solo del producto pedido
+        assertEquals(3, paginas);
+        assertEquals(7, ids.size());
+        Set<Long> distintos = new HashSet<>(ids);
+        assertEquals(7, distintos.size());
+        for (int i = 1; i < ids.size(); i++) {
+            assertTrue(ids.get(i - 1) > ids.get(i));
+        }
+    }
+
+    @Test
+    void publicarOpinion_DatosInvalidos_NoModificaElProducto() {
+        // ARRANGE:
+        Long id = crearProducto(0.0f, 0);
+
+        // ACT & ASSERT:
+        assertThrows(InvalidDataException.class, () -> opinionService.publicarOpinion(id, solicitud(0)));
+        assertThrows(InvalidDataException.class, () -> opinionService.publicarOpinion(id, solicitud(6)));
+        assertThrows(RecursoNoEncontradoException.class, () -> opinionService.publicarOpinion(id + 1000, solicitud(3)));
+        assertThrows(RecursoNoEncontradoException.class, () -> opinionService.obtenerOpiniones(id + 1000, null, null));
+        assertThrows(InvalidDataException.class, () -> opinionService.obtenerOpiniones(id, "no-es-un-cursor", null));
+        assertEquals(0, productoRepository.findById(id).orElseThrow().getTotalOpiniones());
+        assertEquals(0, opinionRepository.count());
+    }
+
+    private static SolicitudOpinion solicitud(int puntaje) {
+        SolicitudOpinion solicitud = new SolicitudOpinion();
+        solicitud.setPuntaje(puntaje);
+        solicitud.setAutor("Cliente");
+        solicitud.setComentario("Opinión de " + puntaje + " estrellas");
+        return solicitud;
+    }
+
+    private Long crearProducto(float rating, int totalOpiniones) {
+        Producto producto = new Producto();
+        producto.setTitulo("Zapatillas running");
+        producto.setPrecio(new BigDecimal("59990"));
+        producto.setMoneda("CLP");
+        producto.setStockDisponible(100);
+        producto.setDescripcion("Zapatillas livianas");
+        producto.setRatingPromedio(rating);
+        producto.setTotalOpiniones(totalOpiniones);
+        producto.setEspecificaciones(List.of());
+        producto.setUrlsImagenes(List.of());
+        return productoRepository.save(producto).getId();
+    }
+}
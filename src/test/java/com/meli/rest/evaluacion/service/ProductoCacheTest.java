@@ -0,0 +1,112 @@
+package com.meli.rest.evaluacion.service;
+
+import com.meli.rest.evaluacion.config.CacheProductosEndpoint;
+import com.meli.rest.evaluacion.model.Producto;
+import com.meli.rest.evaluacion.repository.ProductoRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas de integración de la cache de segundo nivel de Producto.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:cachedb")
+public class ProductoCacheTest {
+
+    @Autowired
+    private ProductoService productoService;
+
+    @Autowired
+    private ProductoRepository productoRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CacheProductosEndpoint cacheProductosEndpoint;
+
+    private Statistics estadisticas;
+
+    @BeforeEach
+    void setUp() {
+        productoRepository.deleteAll();
+        entityManagerFactory.getCache().evictAll();
+        estadisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void obtenerProductoPorId_LecturaRepetida_NoConsultaLaBaseDeDatos() {
+        // ARRANGE: la primera lectura llena la cache
+        Long id = productoService.guardarProducto(crearProducto()).getId();
+        entityManagerFactory.getCache().evictAll();
+        productoService.obtenerProductoPorId(id);
+
+        // ACT:
+        estadisticas.clear();
+        Producto producto = productoService.obtenerProductoPorId(id).orElseThrow();
+
+        // ASSERT: entidad y colecciones servidas desde la cache
+        assertEquals(0, estadisticas.getPrepareStatementCount(), "La lectura repetida no debe ejecutar SQL.");
+        assertEquals(2, producto.getUrlsImagenes().size());
+        assertTrue(estadisticas.getSecondLevelCacheHitCount() >= 3);
+    }
+
+    @Test
+    void guardarProducto_Actualizacion_InvalidaLaCache() {
+        // ARRANGE: producto leído y cacheado
+        Long id = productoService.guardarProducto(crearProducto()).getId();
+        Producto cacheado = productoService.obtenerProductoPorId(id).orElseThrow();
+        LocalDateTime fechaAnterior = cacheado.getFechaActualizacion();
+
+        // ACT: se actualiza el título y una colección
+        cacheado.setTitulo("Titulo actualizado");
+        cacheado.setEspecificaciones(new ArrayList<>(List.of("Color: Rojo")));
+        productoService.guardarProducto(cacheado);
+        Producto releido = productoService.obtenerProductoPorId(id).orElseThrow();
+
+        // ASSERT: sin datos obsoletos y con la fecha de actualización renovada
+        assertEquals("Titulo actualizado", releido.getTitulo());
+        assertTrue(releido.getFechaActualizacion().isAfter(fechaAnterior));
+        assertEquals(releido.getFechaActualizacion(),
+                productoService.obtenerVersionProducto(id).orElseThrow().fechaActualizacion());
+        assertEquals(List.of("Color: Rojo"), releido.getEspecificaciones());
+    }
+
+    @Test
+    void cacheProductosEndpoint_ExponeTasaDeAciertos() {
+        // ARRANGE:
+        Long id = productoService.guardarProducto(crearProducto()).getId();
+        productoService.obtenerProductoPorId(id);
+        productoService.obtenerProductoPorId(id);
+
+        // ACT:
+        Map<String, Map<String, Object>> regiones = cacheProductosEndpoint.estadisticas();
+
+        // ASSERT:
+        assertEquals(3, regiones.size());
+        assertTrue((double) regiones.get(Producto.REGION_CACHE).get("tasaAciertos") > 0.0);
+    }
+
+    private Producto crearProducto() {
+        Producto producto = new Producto();
+        producto.setTitulo("Producto cacheado");
+        producto.setPrecio(new BigDecimal("5000"));
+        producto.setStockDisponible(3);
+        producto.setDescripcion("Descripción");
+        producto.setEspecificaciones(new ArrayList<>(List.of("Color: Negro", "Peso: 1 kg")));
+        producto.setUrlsImagenes(new ArrayList<>(List.of("https://img.meli/a.webp", "https://img.meli/b.webp")));
+        return producto;
+    }
+}
@@ -0,0 +1,186 @@
+package com.meli.rest.evaluacion.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.meli.rest.evaluacion.dto.CamposProducto;
+import com.meli.rest.evaluacion.dto.FiltroProductos;
+import com.meli.rest.evaluacion.dto.PaginaProductos;
+import com.meli.rest.evaluacion.dto.PaginaProductosParciales;
+import com.meli.rest.evaluacion.dto.ProductoParcial;
+import com.meli.rest.evaluacion.exceptions.InvalidDataException;
+import com.meli.rest.evaluacion.model.Producto;
+import com.meli.rest.evaluacion.repository.ProductoRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas de integración de las lecturas con campos parciales ({@code fields}) contra H2.
+ * Verifican que no se cargan entidades ni colecciones que no se pidieron.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:camposdb",
+        "spring.jpa.show-sql=false"
+})
+public class ProductoCamposTest {
+
+    @Autowired
+    private ProductoService productoService;
+
+    @Autowired
+    private ProductoRepository productoRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Statistics estadisticas;
+
+    @BeforeEach
+    void setUp() {
+        productoRepository.deleteAll();
+        estadisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void obtenerCamposProducto_SoloEscalares_UnaConsultaSinEntidadesNiColecciones() throws Exception {
+        // ARRANGE:
+        Long id = crearProductos(1).get(0).getId();
+        estadisticas.clear();
+
+        // ACT:
+        ProductoParcial parcial = productoService.obtenerCamposProducto(id, CamposProducto.desde("titulo,precio,moneda"))
+                .orElseThrow();
+        String json = objectMapper.writeValueAsString(parcial);
+
+        // ASSERT:
+        assertEquals(1, estadisticas.getPrepareStatementCount());
+        assertEquals(0, estadisticas.getEntityLoadCount());
+        assertEquals(0, estadisticas.getCollectionFetchCount());
+        assertEquals(List.of("id", "titulo", "precio", "moneda"), List.copyOf(parcial.getCampos().keySet()));
+        assertFalse(json.contains("descripcion"));
+        assertFalse(json.contains("fechaActualizacion"));
+    }
+
+    @Test
+    void obtenerCamposProducto_PrimeraImagen_LeeLasImagenesSinCargarLaEntidad() {
+        // ARRANGE:
+        Long id = crearProductos(1).get(0).getId();
+        estadisticas.clear();
+
+        // ACT:
+        ProductoParcial parcial = productoService.obtenerCamposProducto(id, CamposProducto.desde("titulo,primeraImagen"))
+                .orElseThrow();
+
+        // ASSERT: una consulta para las columnas y otra para las imágenes
+        assertEquals(2, estadisticas.getPrepareStatementCount());
+        assertEquals(0, estadisticas.getEntityLoadCount());
+        assertEquals("https://img.meli/1-0.webp", parcial.getCampos().get("primeraImagen"));
+        assertFalse(parcial.getCampos().containsKey("urlsImagenes"));
+    }
+
+    @Test
+    void obtenerCamposProducto_NoExiste_RetornaVacio() {
+        assertTrue(productoService.obtenerCamposProducto(999L, CamposProducto.desde("titulo")).isEmpty());
+    }
+
+    @Test
+    void obtenerPaginaProductos_ConCampos_MismosProductosYCursorQueElListadoCompleto() {
+        // ARRANGE:
+        crearProductos(7);
+        CamposProducto campos = CamposProducto.desde("titulo,especificaciones");
+        PaginaProductos completa = productoService.obtenerPaginaProductos(null, 3);
+        estadisticas.clear();
+
+        // ACT: primera página con campos y la siguiente con el cursor del listado completo
+        PaginaProductosParciales parcial = productoService.obtenerPaginaProductos(null, null, 3, campos);
+        long consultas = estadisticas.getPrepareStatementCount();
+        PaginaProductosParciales siguiente = productoService.obtenerPaginaProductos(
+                null, completa.getSiguienteCursor(), 3, campos);
+
+        // ASSERT: una consulta de columnas + una de especificaciones para toda la página
+        assertEquals(2, consultas);
+        assertEquals(0, estadisticas.getEntityLoadCount());
+        assertEquals(completa.getSiguienteCursor(), parcial.getSiguienteCursor());
+        for (int i = 0; i < 3; i++) {
+            Producto producto = completa.getProductos().get(i);
+            assertEquals(producto.getId(), parcial.getProductos().get(i).getId());
+            assertEquals(List.copyOf(producto.getEspecificaciones()), parcial.getProductos().get(i).getCampos().get("especificaciones"));
+        }
+        assertEquals(3, siguiente.getProductos().size());
+        assertTrue(siguiente.getProductos().get(0).getId() < parcial.getProductos().get(2).getId());
+    }
+
+    @Test
+    void obtenerPaginaProductos_ConCamposYFiltro_RecorreTodasLasPaginas() {
+        // ARRANGE:
+        crearProductos(5);
+        FiltroProductos filtro = new FiltroProductos();
+        filtro.setOrden("precio");
+        CamposProducto campos = CamposProducto.desde("precio");
+
+        // ACT:
+        List<Object> precios = new ArrayList<>();
+        String cursor = null;
+        do {
+            PaginaProductosParciales pagina = productoService.obtenerPaginaProductos(filtro, cursor, 2, campos);
+            pagina.getProductos().forEach(producto -> precios.add(producto.getCampos().get("precio")));
+            cursor = pagina.getSiguienteCursor();
+        } while (cursor != null);
+
+        // ASSERT: orden ascendente por precio, sin repetidos ni omitidos
+        assertEquals(5, precios.size());
+        for (int i = 1; i < precios.size(); i++) {
+            assertTrue(((BigDecimal) precios.get(i - 1)).compareTo((BigDecimal) precios.get(i)) < 0);
+        }
+    }
+
+    @Test
+    void obtenerCamposProductosPorIds_RespetaElOrdenYOmiteInexistentes() {
+        // ARRANGE:
+        List<Producto> productos = crearProductos(3);
+        Long primero = productos.get(0).getId();
+        Long tercero = productos.get(2).getId();
+
+        // ACT:
+        List<ProductoParcial> parciales = productoService.obtenerCamposProductosPorIds(
+                List.of(tercero, 999L, primero, tercero), CamposProducto.desde("urlsImagenes"));
+
+        // ASSERT:
+        assertEquals(List.of(tercero, primero), parciales.stream().map(ProductoParcial::getId).toList());
+        assertEquals(2, ((List<?>) parciales.get(0).getCampos().get("urlsImagenes")).size());
+    }
+
+    @Test
+    void camposProducto_CampoInexistente_LanzaInvalidDataException() {
+        assertThrows(InvalidDataException.class, () -> CamposProducto.desde("titulo,clave"));
+        assertThrows(InvalidDataException.class, () -> CamposProducto.desde(" , "));
+    }
+
+    private List<Producto> crearProductos(int cantidad) {
+        List<Producto> productos = new ArrayList<>();
+        for (int i = 1; i <= cantidad; i++) {
+            Producto producto = new Producto();
+            producto.setTitulo("Producto " + i);
+            producto.setPrecio(new BigDecimal(1000 * i));
+            producto.setStockDisponible(10);
+            producto.setDescripcion("Descripción del producto " + i);
+            producto.setEspecificaciones(new ArrayList<>(List.of("Color: Negro", "Peso: " + i + " kg")));
+            producto.setUrlsImagenes(new ArrayList<>(List.of("https://img.meli/" + i + "-0.webp",
+                    "https://img.meli/" + i + "-1.webp")));
+            productos.add(producto);
+        }
+        return productoRepository.saveAll(productos);
+    }
+}
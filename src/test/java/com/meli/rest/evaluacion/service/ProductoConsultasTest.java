@@ -0,0 +1,127 @@
+package com.meli.rest.evaluacion.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.meli.rest.evaluacion.dto.PaginaProductos;
+import com.meli.rest.evaluacion.model.Producto;
+import com.meli.rest.evaluacion.repository.ProductoRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas de integración de las lecturas del catálogo contra H2.
+ * Verifican que la cantidad de consultas SQL por página no crece con la cantidad de productos (sin N+1).
+ */
+@SpringBootTest(properties = {
+        // Base de datos propia para no compartir datos con otros contextos de prueba
+        "spring.datasource.url=jdbc:h2:mem:consultasdb",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+public class ProductoConsultasTest {
+
+    @Autowired
+    private ProductoService productoService;
+
+    @Autowired
+    private ProductoRepository productoRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Statistics estadisticas;
+
+    @BeforeEach
+    void setUp() {
+        productoRepository.deleteAll();
+        estadisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void obtenerPaginaProductos_CantidadDeConsultasNoDependeDelTamanioDePagina() throws Exception {
+        // ARRANGE:
+        crearProductos(60);
+
+        // ACT: una página chica y una grande, serializadas a JSON como lo hace el controlador
+        long consultasPaginaChica = contarConsultas(5);
+        long consultasPaginaGrande = contarConsultas(50);
+
+        // ASSERT: 1 consulta de productos + 1 por cada colección, independiente de N
+        assertEquals(consultasPaginaChica, consultasPaginaGrande,
+                "La cantidad de consultas no debe crecer con el tamaño de la página.");
+        assertTrue(consultasPaginaGrande <= 3, "Se esperaban a lo más 3 consultas y fueron " + consultasPaginaGrande);
+    }
+
+    @Test
+    void obtenerProductoPorId_RetornaColeccionesInicializadas() throws Exception {
+        // ARRANGE:
+        Long id = crearProductos(1).get(0).getId();
+
+        // ACT: la serialización ocurre fuera de la transacción (open-in-view deshabilitado)
+        Producto producto = productoService.obtenerProductoPorId(id).orElseThrow();
+        String json = objectMapper.writeValueAsString(producto);
+
+        // ASSERT:
+        assertEquals(2, producto.getEspecificaciones().size());
+        assertTrue(json.contains("https://img.meli/1-0.webp"));
+    }
+
+    @Test
+    void exportarCatalogo_EscribeUnProductoPorLineaSinPasarPorLaCache() throws Exception {
+        // ARRANGE:
+        crearProductos(7);
+        entityManagerFactory.getCache().evictAll();
+        estadisticas.clear();
+        ByteArrayOutputStream salida = new ByteArrayOutputStream();
+
+        // ACT:
+        productoService.exportarCatalogo(salida);
+
+        // ASSERT: la exportación no llena la cache de segundo nivel
+        assertEquals(0, estadisticas.getSecondLevelCachePutCount());
+        String[] lineas = salida.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(7, lineas.length);
+        for (String linea : lineas) {
+            Producto producto = objectMapper.readValue(linea, Producto.class);
+            assertEquals(2, producto.getUrlsImagenes().size());
+        }
+    }
+
+    private long contarConsultas(int tamanio) throws Exception {
+        estadisticas.clear();
+        PaginaProductos pagina = productoService.obtenerPaginaProductos(null, tamanio);
+        objectMapper.writeValueAsString(pagina);
+        assertEquals(tamanio, pagina.getProductos().size());
+        return estadisticas.getPrepareStatementCount();
+    }
+
+    private List<Producto> crearProductos(int cantidad) {
+        List<Producto> productos = new ArrayList<>();
+        for (int i = 1; i <= cantidad; i++) {
+            Producto producto = new Producto();
+            producto.setTitulo("Producto " + i);
+            producto.setPrecio(new BigDecimal("1000.00"));
+            producto.setStockDisponible(10);
+            producto.setDescripcion("Descripción del producto " + i);
+            producto.setEspecificaciones(new ArrayList<>(List.of("Color: Negro", "Peso: " + i + " kg")));
+            producto.setUrlsImagenes(new ArrayList<>(List.of("https://img.meli/" + i + "-0.webp",
+                    "https://img.meli/" + i + "-1.webp")));
+            productos.add(producto);
+        }
+        return productoRepository.saveAll(productos);
+    }
+}
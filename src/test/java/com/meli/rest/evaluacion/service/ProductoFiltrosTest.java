@@ -0,0 +1,194 @@
+package com.meli.rest.evaluacion.service;
+
+import com.meli.rest.evaluacion.dto.FiltroProductos;
+import com.meli.rest.evaluacion.dto.PaginaProductos;
+import com.meli.rest.evaluacion.dto.PaginaVersiones;
+import com.meli.rest.evaluacion.exceptions.InvalidDataException;
+import com.meli.rest.evaluacion.model.Producto;
+import com.meli.rest.evaluacion.repository.ProductoRepository;
+import com.meli.rest.evaluacion.util.EtagProducto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas de integración del listado filtrado contra H2: resultados y paginación por cursor
+ * para cada orden, y uso de los índices compuestos declarados en {@link Producto}.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:filtrosdb",
+        "spring.jpa.show-sql=false"
+})
+public class ProductoFiltrosTest {
+
+    @Autowired
+    private ProductoService productoService;
+
+    @Autowired
+    private ProductoRepository productoRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private List<Producto> catalogo;
+
+    @BeforeEach
+    void setUp() {
+        productoRepository.deleteAll();
+        catalogo = new ArrayList<>();
+        LocalDateTime base = LocalDateTime.of(2025, 12, 1, 10, 0);
+        for (int i = 0; i < 120; i++) {
+            Producto producto = new Producto();
+            producto.setTitulo("Producto " + i);
+            // Precios repetidos para ejercitar el desempate por id
+            producto.setPrecio(new BigDecimal(1000 + (i % 20) * 250));
+            producto.setMoneda(i % 3 == 0 ? "USD" : "CLP");
+            producto.setEnvioGratis(i % 2 == 0);
+            producto.setIdVendedor(1000L + i % 4);
+            producto.setRatingPromedio((i % 6) * 1.0f);
+            producto.setCantidadVendida(i % 10);
+            producto.setFechaPublicacion(base.plusMinutes(i));
+            producto.setStockDisponible(5);
+            producto.setDescripcion("Descripción");
+            catalogo.add(productoRepository.save(producto));
+        }
+    }
+
+    @Test
+    void obtenerPaginaProductos_FiltroPorMonedaPrecioYEnvio_OrdenPrecioAscendente() {
+        // ARRANGE:
+        FiltroProductos filtro = new FiltroProductos();
+        filtro.setMoneda("clp");
+        filtro.setPrecioMin(new BigDecimal("1500"));
+        filtro.setPrecioMax(new BigDecimal("4000"));
+        filtro.setEnvioGratis(true);
+        filtro.setOrden("precio");
+
+        List<Long> esperados = catalogo.stream()
+                .filter(p -> p.getMoneda().equals("CLP") && p.getEnvioGratis()
+                        && p.getPrecio().compareTo(new BigDecimal("1500")) >= 0
+                        && p.getPrecio().compareTo(new BigDecimal("4000")) <= 0)
+                .sorted(Comparator.comparing(Producto::getPrecio).thenComparing(Producto::getId))
+                .map(Producto::getId)
+                .toList();
+
+        // ACT:
+        List<Long> obtenidos = recorrerPaginas(filtro, 7);
+
+        // ASSERT:
+        assertFalse(esperados.isEmpty());
+        assertEquals(esperados, obtenidos);
+    }
+
+    @Test
+    void obtenerPaginaProductos_FiltroPorVendedorYRating_OrdenVentasDescendente() {
+        // ARRANGE:
+        FiltroProductos filtro = new FiltroProductos();
+        filtro.setIdVendedor(1002L);
+        filtro.setRatingMin(2.0f);
+        filtro.setOrden("cantidadVendida");
+
+        List<Long> esperados = catalogo.stream()
+                .filter(p -> p.getIdVendedor() == 1002L && p.getRatingPromedio() >= 2.0f)
+                .sorted(Comparator.comparing(Producto::getCantidadVendida).thenComparing(Producto::getId).reversed())
+                .map(Producto::getId)
+                .toList();
+
+        // ACT:
+        List<Long> obtenidos = recorrerPaginas(filtro, 4);
+
+        // ASSERT:
+        assertFalse(esperados.isEmpty());
+        assertEquals(esperados, obtenidos);
+    }
+
+    @Test
+    void obtenerPaginaProductos_OrdenFechaAscendente_RecorreTodoElCatalogo() {
+        // ARRANGE:
+        FiltroProductos filtro = new FiltroProductos();
+        filtro.setDireccion("asc");
+
+        // ACT:
+        List<Long> obtenidos = recorrerPaginas(filtro, 25);
+
+        // ASSERT:
+        assertEquals(catalogo.stream().map(Producto::getId).toList(), obtenidos);
+    }
+
+    @Test
+    void obtenerVersionesPagina_MismoEtagYCursorQueLaPaginaCompleta() {
+        // ARRANGE: listado por defecto y listado filtrado con otro orden
+        FiltroProductos filtrado = new FiltroProductos();
+        filtrado.setMoneda("CLP");
+        filtrado.setOrden("precio");
+
+        for (FiltroProductos filtro : List.of(new FiltroProductos(), filtrado)) {
+            String cursor = null;
+            for (int pagina = 0; pagina < 3; pagina++) {
+                // ACT:
+                PaginaVersiones versiones = productoService.obtenerVersionesPagina(filtro, cursor, 25);
+                PaginaProductos completa = productoService.obtenerPaginaProductos(filtro, cursor, 25);
+
+                // ASSERT:
+                assertEquals(EtagProducto.dePagina(completa.getProductos(), completa.getSiguienteCursor()),
+                        EtagProducto.deVersiones(versiones.getVersiones(), versiones.getSiguienteCursor()));
+                assertEquals(completa.getSiguienteCursor(), versiones.getSiguienteCursor());
+                cursor = completa.getSiguienteCursor();
+            }
+        }
+    }
+
+    @Test
+    void obtenerPaginaProductos_CursorDeOtroOrden_LanzaInvalidDataException() {
+        // ARRANGE:
+        FiltroProductos porPrecio = new FiltroProductos();
+        porPrecio.setOrden("precio");
+        String cursor = productoService.obtenerPaginaProductos(porPrecio, null, 5).getSiguienteCursor();
+        FiltroProductos porVentas = new FiltroProductos();
+        porVentas.setOrden("cantidadVendida");
+
+        // ACT & ASSERT:
+        assertThrows(InvalidDataException.class, () -> productoService.obtenerPaginaProductos(porVentas, cursor, 5));
+    }
+
+    @Test
+    void indices_CadaCombinacionDeFiltrosUsaUnIndice() {
+        // Con el límite de página, como las consultas del listado. H2 no usa el índice solo para
+        // ordenar la primera página sin filtros, pero sí desde que hay una condición sobre la columna
+        String[] consultas = {
+                "select * from productos where precio between 1000 and 2000 order by precio, id fetch first 21 rows only",
+                // Página posterior a la primera: la condición del cursor permite posicionar el índice
+                "select * from productos where cantidad_vendida <= 5 and (cantidad_vendida < 5 or id < 100)"
+                        + " order by cantidad_vendida desc, id desc fetch first 21 rows only",
+                "select * from productos where moneda = 'USD' and precio >= 1500 order by precio, id fetch first 21 rows only",
+                "select * from productos where id_vendedor = 1001 order by fecha_publicacion desc, id desc fetch first 21 rows only",
+                "select * from productos where envio_gratis = true order by fecha_publicacion desc, id desc fetch first 21 rows only",
+                "select * from productos where rating_promedio >= 4 fetch first 21 rows only"
+        };
+        for (String consulta : consultas) {
+            String plan = jdbcTemplate.queryForObject("explain " + consulta, String.class);
+            assertTrue(plan.toUpperCase().contains("IDX_PRODUCTOS_"), "Sin índice para: " + consulta + "\n" + plan);
+        }
+    }
+
+    private List<Long> recorrerPaginas(FiltroProductos filtro, int tamanio) {
+        List<Long> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            PaginaProductos pagina = productoService.obtenerPaginaProductos(filtro, cursor, tamanio);
+            pagina.getProductos().forEach(p -> ids.add(p.getId()));
+            cursor = pagina.getSiguienteCursor();
+        } while (cursor != null);
+        return ids;
+    }
+}
@@ -0,0 +1,102 @@
+package com.meli.rest.evaluacion.service;
+
+import com.meli.rest.evaluacion.dto.RespuestaIngestaLote;
+import com.meli.rest.evaluacion.dto.ResultadoIngesta;
+import com.meli.rest.evaluacion.model.Producto;
+import com.meli.rest.evaluacion.repository.ProductoRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas de integración de la carga masiva contra H2.
+ * Verifican los resultados por producto y que los INSERT se envían en batch JDBC.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:ingestadb",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "evaluacion.ingesta.tamanio-lote=200"
+})
+public class ProductoIngestaTest {
+
+    @Autowired
+    private ProductoService productoService;
+
+    @Autowired
+    private ProductoRepository productoRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics estadisticas;
+
+    @BeforeEach
+    void setUp() {
+        productoRepository.deleteAll();
+        estadisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        estadisticas.clear();
+    }
+
+    @Test
+    void guardarProductos_ProductosValidosEInvalidos_RetornaResultadoPorProducto() {
+        // ARRANGE: el producto de índice 1 tiene precio inválido
+        List<Producto> productos = crearProductos(3);
+        productos.get(1).setPrecio(BigDecimal.ZERO);
+
+        // ACT:
+        RespuestaIngestaLote respuesta = productoService.guardarProductos(productos);
+
+        // ASSERT:
+        assertEquals(3, respuesta.getTotal());
+        assertEquals(2, respuesta.getGuardados());
+        assertEquals(ResultadoIngesta.Estado.GUARDADO, respuesta.getResultados().get(0).getEstado());
+        assertNotNull(respuesta.getResultados().get(0).getId());
+        assertEquals(ResultadoIngesta.Estado.RECHAZADO, respuesta.getResultados().get(1).getEstado());
+        assertEquals(1, respuesta.getResultados().get(1).getIndice());
+        assertEquals(2, productoRepository.count());
+    }
+
+    @Test
+    void guardarProductos_CargaGrande_UsaBatchJdbc() {
+        // ARRANGE: 2.000 productos con 2 especificaciones y 2 imágenes cada uno (10.000 filas)
+        int cantidad = 2_000;
+        List<Producto> productos = crearProductos(cantidad);
+
+        // ACT:
+        RespuestaIngestaLote respuesta = productoService.guardarProductos(productos);
+
+        // ASSERT:
+        assertTrue(respuesta.esCompleta());
+        assertEquals(cantidad, productoRepository.count());
+        // Sin batch serían ~10.000 sentencias; con batch de 50 se preparan muchas menos
+        assertTrue(estadisticas.getPrepareStatementCount() < cantidad,
+                "Sentencias preparadas: " + estadisticas.getPrepareStatementCount());
+    }
+
+    private List<Producto> crearProductos(int cantidad) {
+        List<Producto> productos = new ArrayList<>(cantidad);
+        for (int i = 1; i <= cantidad; i++) {
+            Producto producto = new Producto();
+            producto.setTitulo("Producto " + i);
+            producto.setPrecio(new BigDecimal("1990.00"));
+            producto.setStockDisponible(5);
+            producto.setDescripcion("Descripción del producto " + i);
+            producto.setEspecificaciones(new ArrayList<>(List.of("Color: Azul", "Modelo: " + i)));
+            producto.setUrlsImagenes(new ArrayList<>(List.of("https://img.meli/" + i + "-0.webp",
+                    "https://img.meli/" + i + "-1.webp")));
+            productos.add(producto);
+        }
+        return productos;
+    }
+}
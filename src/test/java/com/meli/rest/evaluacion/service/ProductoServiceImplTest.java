@@ -1,17 +1,27 @@
 package com.meli.rest.evaluacion.service;
 
+import com.meli.rest.evaluacion.dto.PaginaProductos;
+import com.meli.rest.evaluacion.dto.VersionProducto;
 import com.meli.rest.evaluacion.exceptions.InvalidDataException;
+import com.meli.rest.evaluacion.exceptions.RecursoNoEncontradoException;
 import com.meli.rest.evaluacion.model.Producto;
 import com.meli.rest.evaluacion.repository.ProductoRepository;
+import com.meli.rest.evaluacion.util.CursorProducto;
 import com.meli.rest.evaluacion.validation.ProductoValidator;
+import com.meli.rest.evaluacion.validation.ResultadoValidacion;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -30,6 +40,18 @@ public class ProductoServiceImplTest {
     @Mock
     private ProductoValidator productoValidator;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private CargadorProductos cargadorProductos;
+
+    @Mock
+    private ContadorVentas contadorVentas;
+
+    @Mock
+    private CacheVendedores cacheVendedores;
+
     // 3. Inyecta los mocks en la clase a probar
     @InjectMocks
     private ProductoServiceImpl productoService;
@@ -43,6 +65,10 @@ public class ProductoServiceImplTest {
         productoValido.setId(1L);
         productoValido.setTitulo("Test Item");
         productoValido.setPrecio(new BigDecimal("100.00"));
+
+        // Los tamaños de página se inyectan con @Value, no están disponibles con Mockito
+        ReflectionTestUtils.setField(productoService, "tamanioPaginaDefecto", 2);
+        ReflectionTestUtils.setField(productoService, "tamanioPaginaMaximo", 3);
     }
 
     // -------------------------------------------------------------------------
@@ -52,8 +78,8 @@ public class ProductoServiceImplTest {
     @Test
     void guardarProducto_DatosValidos_LlamaValidadorYGuarda() {
         // ARRANGE:
-        // 1. Configurar el validador para que no haga nada (simula que la validación pasa).
-        doNothing().when(productoValidator).validarDatosCreacion(any(Producto.class));
+        // 1. Configurar el validador para que no informe errores (simula que la validación pasa).
+        when(productoValidator.validar(any(Producto.class))).thenReturn(new ResultadoValidacion());
 
         // 2. Configurar el repositorio para devolver el producto guardado.
         when(productoRepository.save(any(Producto.class))).thenReturn(productoValido);
@@ -65,22 +91,25 @@ public class ProductoServiceImplTest {
         assertNotNull(resultado, "El producto no debe ser nulo.");
 
         // 1. Verificar que el validador fue llamado exactamente una vez.
-        verify(productoValidator, times(1)).validarDatosCreacion(productoValido);
+        verify(productoValidator, times(1)).validar(productoValido);
 
         // 2. Verificar que el método save() del repositorio fue llamado DESPUÉS.
         verify(productoRepository, times(1)).save(productoValido);
 
         // 3. El orden de las verificaciones es implícito por la lógica del servicio.
+
+        // 4. Se publica el evento que actualiza el índice de búsqueda.
+        verify(eventPublisher, times(1)).publishEvent(any(ProductosGuardadosEvent.class));
     }
 
     @Test
     void guardarProducto_DatosInvalidos_LanzaInvalidDataException() {
         // ARRANGE:
-        // 1. Configurar el validador para que LANCE la excepción al ser llamado.
+        // 1. Configurar el validador para que informe una regla incumplida.
         // Simulamos el fallo de negocio.
-        doThrow(new InvalidDataException("Precio inválido"))
-                .when(productoValidator)
-                .validarDatosCreacion(any(Producto.class));
+        ResultadoValidacion invalido = new ResultadoValidacion();
+        invalido.agregar("Precio inválido");
+        when(productoValidator.validar(any(Producto.class))).thenReturn(invalido);
 
         // ACT & ASSERT:
         // 1. Verificar que el servicio lanza la excepción esperada.
@@ -95,6 +124,41 @@ public class ProductoServiceImplTest {
     }
 
 
+    // -------------------------------------------------------------------------
+    // TEST: registrarVenta()
+    // -------------------------------------------------------------------------
+
+    @Test
+    void registrarVenta_ProductoExiste_AcumulaSinEscribir() {
+        // ARRANGE:
+        when(cargadorProductos.cargar(1L)).thenReturn(Optional.of(productoValido));
+
+        // ACT:
+        productoService.registrarVenta(1L, 3);
+
+        // ASSERT:
+        verify(contadorVentas).registrar(1L, 3);
+        verifyNoInteractions(productoRepository);
+    }
+
+    @Test
+    void registrarVenta_ProductoNoExiste_LanzaRecursoNoEncontrado() {
+        // ARRANGE:
+        when(cargadorProductos.cargar(99L)).thenReturn(Optional.empty());
+
+        // ACT & ASSERT:
+        assertThrows(RecursoNoEncontradoException.class, () -> productoService.registrarVenta(99L, 1));
+        verify(contadorVentas, never()).registrar(anyLong(), anyInt());
+    }
+
+    @Test
+    void registrarVenta_CantidadNoPositiva_LanzaInvalidDataException() {
+        // ACT & ASSERT:
+        assertThrows(InvalidDataException.class, () -> productoService.registrarVenta(1L, 0));
+        assertThrows(InvalidDataException.class, () -> productoService.registrarVenta(1L, null));
+        verifyNoInteractions(cargadorProductos, contadorVentas);
+    }
+
     // -------------------------------------------------------------------------
     // TEST: obtenerProductoPorId()
     // -------------------------------------------------------------------------
@@ -102,7 +166,7 @@ public class ProductoServiceImplTest {
     @Test
     void obtenerProductoPorId_ProductoExiste_RetornaOptionalConProducto() {
         // ARRANGE:
-        when(productoRepository.findById(1L)).thenReturn(Optional.of(productoValido));
+        when(cargadorProductos.cargar(1L)).thenReturn(Optional.of(productoValido));
 
         // ACT:
         Optional<Producto> resultado = productoService.obtenerProductoPorId(1L);
@@ -110,51 +174,136 @@ public class ProductoServiceImplTest {
         // ASSERT:
         assertTrue(resultado.isPresent(), "El producto debe estar presente.");
         assertEquals("Test Item", resultado.get().getTitulo());
-        verify(productoRepository, times(1)).findById(1L);
+        verify(cargadorProductos, times(1)).cargar(1L);
     }
 
     @Test
     void obtenerProductoPorId_ProductoNoExiste_RetornaOptionalVacio() {
         // ARRANGE:
-        when(productoRepository.findById(anyLong())).thenReturn(Optional.empty());
+        when(cargadorProductos.cargar(anyLong())).thenReturn(Optional.empty());
 
         // ACT:
         Optional<Producto> resultado = productoService.obtenerProductoPorId(99L);
 
         // ASSERT:
         assertFalse(resultado.isPresent(), "El Optional debe estar vacío.");
-        verify(productoRepository, times(1)).findById(99L);
+        verify(cargadorProductos, times(1)).cargar(99L);
     }
 
     // -------------------------------------------------------------------------
-    // TEST: obtenerTodosLosProductos()
+    // TEST: obtenerProductosPorIds()
     // -------------------------------------------------------------------------
 
     @Test
-    void obtenerTodosLosProductos_ConDatos_RetornaListaConProductos() {
+    void obtenerProductosPorIds_IdsValidos_DelegaEnElCargador() {
         // ARRANGE:
-        List<Producto> listaMock = List.of(productoValido);
-        when(productoRepository.findAll()).thenReturn(listaMock);
+        when(cargadorProductos.cargarTodos(List.of(1L, 2L, 1L))).thenReturn(List.of(productoValido));
 
         // ACT:
-        List<Producto> resultado = productoService.obtenerTodosLosProductos();
+        List<Producto> resultado = productoService.obtenerProductosPorIds(List.of(1L, 2L, 1L));
 
         // ASSERT:
-        assertNotNull(resultado, "La lista no debe ser nula.");
-        assertEquals(1, resultado.size(), "La lista debe contener un elemento.");
-        verify(productoRepository, times(1)).findAll();
+        assertEquals(List.of(productoValido), resultado);
     }
 
     @Test
-    void obtenerTodosLosProductos_SinDatos_RetornaListaVacia() {
+    void obtenerProductosPorIds_MasIdsQueElMaximo_LanzaInvalidDataException() {
+        // ARRANGE: el máximo de página en la prueba es 3
+        List<Long> ids = List.of(1L, 2L, 3L, 4L);
+
+        // ACT & ASSERT:
+        assertThrows(InvalidDataException.class, () -> productoService.obtenerProductosPorIds(ids));
+        verifyNoInteractions(cargadorProductos);
+    }
+
+    @Test
+    void obtenerProductosPorIds_SinIds_LanzaInvalidDataException() {
+        assertThrows(InvalidDataException.class, () -> productoService.obtenerProductosPorIds(List.of()));
+        verifyNoInteractions(cargadorProductos);
+    }
+
+    @Test
+    void obtenerVersionProducto_ConsultaSoloLaVersion() {
+        // ARRANGE:
+        VersionProducto version = new VersionProducto(1L, LocalDateTime.of(2025, 12, 4, 10, 0));
+        when(productoRepository.buscarVersion(1L)).thenReturn(Optional.of(version));
+
+        // ACT:
+        Optional<VersionProducto> resultado = productoService.obtenerVersionProducto(1L);
+
+        // ASSERT: no se carga la entidad completa
+        assertEquals(Optional.of(version), resultado);
+        verify(productoRepository, never()).findById(anyLong());
+    }
+
+    // -------------------------------------------------------------------------
+    // TEST: obtenerPaginaProductos()
+    // -------------------------------------------------------------------------
+
+    @Test
+    void obtenerPaginaProductos_SinCursorYMasDatos_RetornaPaginaConCursorSiguiente() {
+        // ARRANGE: el repositorio devuelve tamaño + 1 registros, lo que indica que hay otra página
+        Producto segundo = crearProducto(2L, LocalDateTime.of(2025, 12, 3, 10, 0));
+        Producto tercero = crearProducto(3L, LocalDateTime.of(2025, 12, 2, 10, 0));
+        when(productoRepository.buscarPrimeraPagina(any(Pageable.class)))
+                .thenReturn(List.of(productoValido, segundo, tercero));
+
+        // ACT: sin tamaño se usa el valor por defecto (2)
+        PaginaProductos pagina = productoService.obtenerPaginaProductos(null, null);
+
+        // ASSERT:
+        assertEquals(2, pagina.getProductos().size(), "La página debe respetar el tamaño por defecto.");
+        assertNotNull(pagina.getSiguienteCursor(), "Debe existir cursor para la página siguiente.");
+        CursorProducto cursor = CursorProducto.decodificar(pagina.getSiguienteCursor());
+        assertEquals(2L, cursor.id(), "El cursor debe apuntar al último producto entregado.");
+        verify(productoRepository, times(1)).buscarPrimeraPagina(PageRequest.of(0, 3));
+    }
+
+    @Test
+    void obtenerPaginaProductos_ConCursor_ConsultaDesdeLaPosicionDelCursor() {
+        // ARRANGE:
+        LocalDateTime fecha = LocalDateTime.of(2025, 12, 4, 10, 0);
+        String cursor = new CursorProducto(fecha, 10L).codificar();
+        when(productoRepository.buscarPaginaDespuesDe(eq(fecha), eq(10L), any(Pageable.class)))
+                .thenReturn(List.of(productoValido));
+
+        // ACT: el tamaño solicitado (50) se acota al máximo configurado (3)
+        PaginaProductos pagina = productoService.obtenerPaginaProductos(cursor, 50);
+
+        // ASSERT: menos registros que el tamaño, es la última página
+        assertEquals(1, pagina.getProductos().size());
+        assertNull(pagina.getSiguienteCursor(), "La última página no debe tener cursor siguiente.");
+        verify(productoRepository, times(1)).buscarPaginaDespuesDe(fecha, 10L, PageRequest.of(0, 4));
+        verify(productoRepository, never()).buscarPrimeraPagina(any(Pageable.class));
+    }
+
+    @Test
+    void obtenerPaginaProductos_SinDatos_RetornaPaginaVacia() {
         // ARRANGE:
-        when(productoRepository.findAll()).thenReturn(Collections.emptyList());
+        when(productoRepository.buscarPrimeraPagina(any(Pageable.class))).thenReturn(Collections.emptyList());
 
         // ACT:
-        List<Producto> resultado = productoService.obtenerTodosLosProductos();
+        PaginaProductos pagina = productoService.obtenerPaginaProductos(null, 2);
 
         // ASSERT:
-        assertTrue(resultado.isEmpty(), "La lista debe estar vacía.");
-        verify(productoRepository, times(1)).findAll();
+        assertTrue(pagina.getProductos().isEmpty(), "La lista debe estar vacía.");
+        assertNull(pagina.getSiguienteCursor());
+    }
+
+    @Test
+    void obtenerPaginaProductos_CursorInvalido_LanzaInvalidDataException() {
+        // ACT & ASSERT:
+        assertThrows(InvalidDataException.class,
+                () -> productoService.obtenerPaginaProductos("no-es-un-cursor", 2));
+        verifyNoInteractions(productoRepository);
+    }
+
+    private Producto crearProducto(Long id, LocalDateTime fechaPublicacion) {
+        Producto producto = new Producto();
+        producto.setId(id);
+        producto.setTitulo("Item " + id);
+        producto.setPrecio(new BigDecimal("10.00"));
+        producto.setFechaPublicacion(fechaPublicacion);
+        return producto;
     }
 }
\ No newline at end of file
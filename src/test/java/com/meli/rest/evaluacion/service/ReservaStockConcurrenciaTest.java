@@ -0,0 +1,233 @@
+package com.meli.rest.evaluacion.service;
+
+import com.meli.rest.evaluacion.exceptions.RecursoNoEncontradoException;
+import com.meli.rest.evaluacion.exceptions.StockInsuficienteException;
+import com.meli.rest.evaluacion.model.Producto;
+import com.meli.rest.evaluacion.model.ReservaStock;
+import com.meli.rest.evaluacion.repository.ProductoRepository;
+import com.meli.rest.evaluacion.repository.ReservaStockRepository;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.EntityStatistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas de integración de las reservas de stock bajo concurrencia contra H2.
+ * Verifican que no se sobrevende y que cada reserva se confirma o libera una sola vez.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:reservasdb",
+        "spring.jpa.show-sql=false"
+})
+public class ReservaStockConcurrenciaTest {
+
+    private static final int HILOS = 16;
+
+    @Autowired
+    private ReservaStockService reservaStockService;
+
+    @Autowired
+    private ProductoRepository productoRepository;
+
+    @Autowired
+    private ReservaStockRepository reservaStockRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CargadorProductos cargadorProductos;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        reservaStockRepository.deleteAll();
+        productoRepository.deleteAll();
+    }
+
+    @Test
+    void reservar_MuchasPeticionesConcurrentes_NoSobrevende() throws Exception {
+        // ARRANGE: 16 hilos x 50 reservas de 1 unidad sobre un producto con 500 unidades
+        Long id = crearProducto(500);
+        AtomicInteger exitosas = new AtomicInteger();
+        AtomicInteger rechazadas = new AtomicInteger();
+
+        // ACT:
+        ejecutarEnParalelo(HILOS, () -> {
+            for (int i = 0; i < 50; i++) {
+                try {
+                    reservaStockService.reservar(id, 1);
+                    exitosas.incrementAndGet();
+                } catch (StockInsuficienteException e) {
+                    rechazadas.incrementAndGet();
+                }
+            }
+            return null;
+        });
+
+        // ASSERT:
+        assertEquals(500, exitosas.get());
+        assertEquals(HILOS * 50 - 500, rechazadas.get());
+        assertEquals(0, productoRepository.findById(id).orElseThrow().getStockDisponible());
+        assertEquals(500, reservaStockRepository.count());
+    }
+
+    @Test
+    void confirmarYLiberar_ActualizanStockYVentas() {
+        // ARRANGE:
+        Long id = crearProducto(10);
+        ReservaStock aConfirmar = reservaStockService.reservar(id, 3);
+        ReservaStock aLiberar = reservaStockService.reservar(id, 4);
+
+        // ACT:
+        ReservaStock confirmada = reservaStockService.confirmar(aConfirmar.getId());
+        ReservaStock liberada = reservaStockService.liberar(aLiberar.getId());
+
+        // ASSERT:
+        assertEquals(ReservaStock.Estado.CONFIRMADA, confirmada.getEstado());
+        assertEquals(ReservaStock.Estado.LIBERADA, liberada.getEstado());
+        Producto producto = productoRepository.findById(id).orElseThrow();
+        assertEquals(7, producto.getStockDisponible());
+        assertEquals(3, producto.getCantidadVendida());
+        assertThrows(StockInsuficienteException.class, () -> reservaStockService.liberar(aConfirmar.getId()));
+    }
+
+    @Test
+    void reservarYConfirmar_SoloInvalidanElProductoModificadoEnLaCache() {
+        // ARRANGE: dos productos leídos y en la cache de segundo nivel
+        Long reservado = crearProducto(10);
+        Long otro = crearProducto(10);
+        productoRepository.findById(reservado).orElseThrow();
+        productoRepository.findById(otro).orElseThrow();
+        Cache cache = entityManagerFactory.getCache();
+        assertTrue(cache.contains(Producto.class, otro));
+
+        // ACT:
+        ReservaStock reserva = reservaStockService.reservar(reservado, 2);
+        reservaStockService.confirmar(reserva.getId());
+
+        // ASSERT: el otro producto sigue en la cache y el reservado se lee actualizado
+        assertTrue(cache.contains(Producto.class, otro));
+        Producto producto = productoRepository.findById(reservado).orElseThrow();
+        assertEquals(8, producto.getStockDisponible());
+        assertEquals(2, producto.getCantidadVendida());
+    }
+
+    @Test
+    void descontarStock_LecturaConcurrenteAntesDelCommit_NoCacheaLaFilaAnterior() throws Exception {
+        // ARRANGE:
+        Long id = crearProducto(10);
+        EntityStatistics estadisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics()
+                .getEntityStatistics(Producto.class.getName());
+        ExecutorService lector = Executors.newSingleThreadExecutor();
+
+        // ACT: otra petición lee el producto entre el UPDATE y el commit
+        long[] cacheadas = new long[1];
+        Producto leido = transactionTemplate.execute(tx -> {
+            productoRepository.descontarStock(id, 3, LocalDateTime.now());
+            long antes = estadisticas.getCachePutCount();
+            try {
+                Producto producto = lector.submit(() -> cargadorProductos.cargar(id).orElseThrow()).get(10, TimeUnit.SECONDS);
+                cacheadas[0] = estadisticas.getCachePutCount() - antes;
+                return producto;
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        lector.shutdown();
+
+        // ASSERT: la lectura vio la fila anterior, pero no la dejó en la cache
+        assertEquals(10, leido.getStockDisponible());
+        assertEquals(0, cacheadas[0]);
+        assertEquals(7, cargadorProductos.cargar(id).orElseThrow().getStockDisponible());
+    }
+
+    @Test
+    void confirmarYLiberar_MismaReservaEnParalelo_SoloUnaTransicionGana() throws Exception {
+        // ARRANGE:
+        Long id = crearProducto(5);
+        Long reservaId = reservaStockService.reservar(id, 5).getId();
+        Queue<String> resultados = new ConcurrentLinkedQueue<>();
+        AtomicInteger turno = new AtomicInteger();
+
+        // ACT: la mitad de los hilos confirma y la otra mitad libera
+        ejecutarEnParalelo(HILOS, () -> {
+            boolean confirmar = turno.getAndIncrement() % 2 == 0;
+            try {
+                resultados.add((confirmar ? reservaStockService.confirmar(reservaId)
+                        : reservaStockService.liberar(reservaId)).getEstado().name());
+            } catch (StockInsuficienteException e) {
+                resultados.add("CONFLICTO");
+            }
+            return null;
+        });
+
+        // ASSERT: exactamente una transición aplicada y el producto consistente con ella
+        assertEquals(HILOS - 1, resultados.stream().filter("CONFLICTO"::equals).count());
+        Producto producto = productoRepository.findById(id).orElseThrow();
+        if (resultados.contains("CONFIRMADA")) {
+            assertEquals(0, producto.getStockDisponible());
+            assertEquals(5, producto.getCantidadVendida());
+        } else {
+            assertEquals(5, producto.getStockDisponible());
+        }
+    }
+
+    @Test
+    void reservar_ProductoInexistente_LanzaRecursoNoEncontrado() {
+        assertThrows(RecursoNoEncontradoException.class, () -> reservaStockService.reservar(999_999L, 1));
+    }
+
+    private void ejecutarEnParalelo(int hilos, Callable<Void> tarea) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(hilos);
+        CountDownLatch largada = new CountDownLatch(1);
+        try {
+            List<Future<Void>> futuros = new ArrayList<>();
+            for (int i = 0; i < hilos; i++) {
+                futuros.add(executor.submit(() -> {
+                    largada.await();
+                    return tarea.call();
+                }));
+            }
+            largada.countDown();
+            for (Future<Void> futuro : futuros) {
+                futuro.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Long crearProducto(int stock) {
+        Producto producto = new Producto();
+        producto.setTitulo("Producto con reservas");
+        producto.setPrecio(new BigDecimal("1000"));
+        producto.setStockDisponible(stock);
+        producto.setCantidadVendida(0);
+        producto.setDescripcion("Descripción");
+        return productoRepository.save(producto).getId();
+    }
+}
@@ -0,0 +1,174 @@
+package com.meli.rest.evaluacion.service;
+
+import com.meli.rest.evaluacion.EvaluacionApplication;
+import com.meli.rest.evaluacion.model.Producto;
+import com.meli.rest.evaluacion.repository.ProductoRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas de integración del snapshot del catálogo: cada prueba levanta la aplicación más de una
+ * vez sobre bases H2 en memoria distintas que comparten el archivo de snapshot, como un reinicio.
+ */
+public class SnapshotCatalogoTest {
+
+    @TempDir
+    Path directorio;
+
+    @Test
+    void reinicio_CargaElCatalogoAntesDeAtenderPeticiones() {
+        // ARRANGE:
+        Path archivo = directorio.resolve("catalogo.snapshot");
+        Producto completo;
+        Producto conNulos;
+        try (ConfigurableApplicationContext contexto = iniciar(archivo)) {
+            ProductoService productoService = contexto.getBean(ProductoService.class);
+            completo = productoService.guardarProducto(crearProducto("Cámara réflex Ñandú 📷",
+                    List.of("Sensor: APS-C", "Montura: EF"), List.of("https://img/1.jpg", "https://img/2.jpg")));
+            Producto sinOpcionales = crearProducto("Teclado mecánico", List.of(), List.of());
+            sinOpcionales.setIdVendedor(null);
+            sinOpcionales.setNombreVendedor(null);
+            sinOpcionales.setReputacionVendedor(null);
+            sinOpcionales.setEnvioGratis(null);
+            sinOpcionales.setRatingPromedio(null);
+            conNulos = productoService.guardarProducto(sinOpcionales);
+        } // Al detenerse escribe el snapshot final
+
+        // ACT:
+        try (ConfigurableApplicationContext contexto = iniciar(archivo)) {
+            ProductoService productoService = contexto.getBean(ProductoService.class);
+
+            // ASSERT:
+            assertEquals(2, contexto.getBean(ProductoRepository.class).count());
+            assertIguales(completo, productoService.obtenerProductoPorId(completo.getId()).orElseThrow());
+            assertIguales(conNulos, productoService.obtenerProductoPorId(conNulos.getId()).orElseThrow());
+            // El índice de búsqueda se construye con el catálogo ya cargado
+            assertEquals(1, contexto.getBean(BusquedaService.class).buscar("camara nandu", 10).getTotal());
+            // La secuencia continúa después del último id cargado
+            Producto nuevo = productoService.guardarProducto(crearProducto("Mouse", List.of(), List.of()));
+            assertTrue(nuevo.getId() > conNulos.getId());
+        }
+    }
+
+    @Test
+    void reinicio_ReservasPendientes_DevuelvenSuStock() {
+        // ARRANGE: 7 unidades, 3 reservadas sin confirmar y 1 reservada y confirmada
+        Path archivo = directorio.resolve("catalogo.snapshot");
+        Long id;
+        try (ConfigurableApplicationContext contexto = iniciar(archivo)) {
+            ReservaStockService reservaStockService = contexto.getBean(ReservaStockService.class);
+            id = contexto.getBean(ProductoService.class)
+                    .guardarProducto(crearProducto("Silla gamer", List.of(), List.of())).getId();
+            reservaStockService.reservar(id, 3);
+            reservaStockService.confirmar(reservaStockService.reservar(id, 1).getId());
+        }
+
+        // ACT:
+        try (ConfigurableApplicationContext contexto = iniciar(archivo)) {
+            Producto producto = contexto.getBean(ProductoService.class).obtenerProductoPorId(id).orElseThrow();
+
+            // ASSERT: la reserva pendiente no sobrevive al reinicio, sus unidades vuelven al stock
+            assertEquals(6, producto.getStockDisponible());
+            assertEquals(1, producto.getCantidadVendida());
+        }
+    }
+
+    @Test
+    void escribirSnapshot_SinCambios_NoReescribe() {
+        // ARRANGE:
+        Path archivo = directorio.resolve("catalogo.snapshot");
+        try (ConfigurableApplicationContext contexto = iniciar(archivo)) {
+            SnapshotCatalogoService snapshotService = contexto.getBean(SnapshotCatalogoService.class);
+            ProductoService productoService = contexto.getBean(ProductoService.class);
+            productoService.guardarProducto(crearProducto("Silla gamer", List.of("Color: Negro"), List.of()));
+
+            // ACT / ASSERT:
+            assertEquals(1, snapshotService.escribirSnapshot());
+            assertEquals(-1, snapshotService.escribirSnapshot());
+            productoService.guardarProducto(crearProducto("Escritorio", List.of(), List.of()));
+            assertEquals(2, snapshotService.escribirSnapshot());
+        }
+    }
+
+    @Test
+    void cargarSnapshot_ArchivoCorrupto_SeRenombraYNoInsertaNada() throws Exception {
+        // ARRANGE:
+        Path archivo = directorio.resolve("catalogo.snapshot");
+        try (ConfigurableApplicationContext contexto = iniciar(archivo)) {
+            ProductoService productoService = contexto.getBean(ProductoService.class);
+            for (int i = 0; i < 5; i++) {
+                productoService.guardarProducto(crearProducto("Producto " + i, List.of("Talla: M"), List.of()));
+            }
+        }
+        byte[] bytes = Files.readAllBytes(archivo);
+        bytes[bytes.length / 2] ^= 0x5A;
+        Files.write(archivo, bytes);
+
+        // ACT:
+        try (ConfigurableApplicationContext contexto = iniciar(archivo)) {
+
+            // ASSERT:
+            assertEquals(0, contexto.getBean(ProductoRepository.class).count());
+            assertTrue(Files.exists(archivo.resolveSibling("catalogo.snapshot.corrupto")));
+        }
+    }
+
+    private static ConfigurableApplicationContext iniciar(Path archivo) {
+        return new SpringApplicationBuilder(EvaluacionApplication.class).run(
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:snapshot" + UUID.randomUUID().toString().replace("-", ""),
+                "--spring.jpa.show-sql=false",
+                "--evaluacion.snapshot.habilitado=true",
+                "--evaluacion.snapshot.intervalo=0",
+                "--evaluacion.snapshot.archivo=" + archivo);
+    }
+
+    private static void assertIguales(Producto esperado, Producto actual) {
+        assertEquals(esperado.getTitulo(), actual.getTitulo());
+        assertEquals(0, esperado.getPrecio().compareTo(actual.getPrecio()));
+        assertEquals(esperado.getMoneda(), actual.getMoneda());
+        assertEquals(esperado.getStockDisponible(), actual.getStockDisponible());
+        assertEquals(esperado.getDescripcion(), actual.getDescripcion());
+        assertEquals(esperado.getIdVendedor(), actual.getIdVendedor());
+        assertEquals(esperado.getNombreVendedor(), actual.getNombreVendedor());
+        assertEquals(esperado.getReputacionVendedor(), actual.getReputacionVendedor());
+        assertEquals(esperado.getCantidadVendida(), actual.getCantidadVendida());
+        assertEquals(esperado.getFechaPublicacion(), actual.getFechaPublicacion());
+        assertEquals(esperado.getEnvioGratis(), actual.getEnvioGratis());
+        assertEquals(esperado.getMetodoEnvioPrincipal(), actual.getMetodoEnvioPrincipal());
+        assertEquals(esperado.getRatingPromedio(), actual.getRatingPromedio());
+        assertEquals(esperado.getTotalOpiniones(), actual.getTotalOpiniones());
+        assertEquals(esperado.getFechaActualizacion(), actual.getFechaActualizacion());
+        assertEquals(List.copyOf(esperado.getEspecificaciones()), List.copyOf(actual.getEspecificaciones()));
+        assertEquals(List.copyOf(esperado.getUrlsImagenes()), List.copyOf(actual.getUrlsImagenes()));
+    }
+
+    private static Producto crearProducto(String titulo, List<String> especificaciones, List<String> imagenes) {
+        Producto producto = new Producto();
+        producto.setTitulo(titulo);
+        producto.setPrecio(new BigDecimal("129990.50"));
+        producto.setMoneda("CLP");
+        producto.setStockDisponible(7);
+        producto.setDescripcion("Descripción de " + titulo);
+        producto.setIdVendedor(42L);
+        producto.setNombreVendedor("Tienda Oficial");
+        producto.setReputacionVendedor(4.5f);
+        producto.setFechaPublicacion(LocalDateTime.of(2025, 3, 14, 10, 30, 15, 123_000_000));
+        producto.setEnvioGratis(true);
+        producto.setMetodoEnvioPrincipal("Mercado Envíos");
+        producto.setEspecificaciones(especificaciones);
+        producto.setUrlsImagenes(imagenes);
+        return producto;
+    }
+}
@@ -0,0 +1,240 @@
+package com.meli.rest.evaluacion.service;
+
+import com.meli.rest.evaluacion.dto.CamposProducto;
+import com.meli.rest.evaluacion.dto.PaginaProductos;
+import com.meli.rest.evaluacion.dto.ProductoParcial;
+import com.meli.rest.evaluacion.dto.SolicitudVendedor;
+import com.meli.rest.evaluacion.exceptions.InvalidDataException;
+import com.meli.rest.evaluacion.exceptions.RecursoNoEncontradoException;
+import com.meli.rest.evaluacion.model.Producto;
+import com.meli.rest.evaluacion.repository.ProductoRepository;
+import com.meli.rest.evaluacion.repository.VendedorRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas de integración de los vendedores contra H2: registro desde los productos, datos del
+ * vendedor resueltos en la lectura, actualización de una sola fila y catálogo por vendedor.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:vendedoresdb",
+        "spring.jpa.show-sql=false"
+})
+public class VendedorIntegracionTest {
+
+    @Autowired
+    private VendedorService vendedorService;
+
+    @Autowired
+    private ProductoService productoService;
+
+    @Autowired
+    private ProductoRepository productoRepository;
+
+    @Autowired
+    private VendedorRepository vendedorRepository;
+
+    @Autowired
+    private CacheVendedores cacheVendedores;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics estadisticas;
+
+    @BeforeEach
+    void setUp() {
+        productoRepository.deleteAll();
+        vendedorRepository.deleteAll();
+        cacheVendedores.invalidar(7L);
+        cacheVendedores.invalidar(8L);
+        estadisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void guardarProducto_VendedorNuevo_LoRegistraConLosDatosDelProducto() {
+        // ACT:
+        Producto guardado = productoService.guardarProducto(crearProducto(7L, "Tienda Oficial", 4.5f, 0));
+
+        // ASSERT:
+        assertEquals("Tienda Oficial", vendedorRepository.findById(7L).orElseThrow().getNombre());
+        Producto leido = productoService.obtenerProductoPorId(guardado.getId()).orElseThrow();
+        assertEquals("Tienda Oficial", leido.getNombreVendedor());
+        assertEquals(4.5f, leido.getReputacionVendedor());
+    }
+
+    @Test
+    void guardarProducto_VendedorExistente_NoPisaSusDatos() {
+        // ARRANGE:
+        vendedorService.guardarVendedor(7L, solicitud("Tienda Oficial", 4.9f));
+
+        // ACT:
+        Producto guardado = productoService.guardarProducto(crearProducto(7L, "Otro nombre", 1.0f, 0));
+
+        // ASSERT:
+        assertEquals("Tienda Oficial", guardado.getNombreVendedor());
+        assertEquals(4.9f, guardado.getReputacionVendedor());
+        assertEquals(4.9f, productoService.obtenerProductoPorId(guardado.getId()).orElseThrow().getReputacionVendedor());
+    }
+
+    @Test
+    void guardarVendedor_CambioDeReputacion_NoEscribeNiInvalidaLosProductos() {
+        // ARRANGE: los productos del vendedor quedan en la cache de segundo nivel
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            ids.add(productoService.guardarProducto(crearProducto(7L, "Tienda Oficial", 4.0f, i)).getId());
+        }
+        ids.forEach(productoService::obtenerProductoPorId);
+        LocalDateTime versionAnterior = productoService.obtenerVersionProducto(ids.get(0)).orElseThrow().fechaActualizacion();
+        estadisticas.clear();
+
+        // ACT:
+        vendedorService.guardarVendedor(7L, solicitud("Tienda Oficial", 3.2f));
+
+        // ASSERT:
+        assertEquals(0, estadisticas.getEntityStatistics(Producto.class.getName()).getUpdateCount());
+        assertEquals(1, estadisticas.getEntityUpdateCount());
+        for (Long id : ids) {
+            assertTrue(entityManagerFactory.getCache().contains(Producto.class, id));
+            assertEquals(3.2f, productoService.obtenerProductoPorId(id).orElseThrow().getReputacionVendedor());
+        }
+        // El ETag del producto cambia porque su representación incluye al vendedor
+        Producto producto = productoService.obtenerProductoPorId(ids.get(0)).orElseThrow();
+        LocalDateTime versionNueva = productoService.obtenerVersionProducto(ids.get(0)).orElseThrow().fechaActualizacion();
+        assertTrue(versionNueva.isAfter(versionAnterior));
+        assertEquals(versionNueva, producto.fechaVersion());
+    }
+
+    @Test
+    void obtenerCamposProducto_DatosDelVendedor_SeResuelvenSinColumnas() {
+        // ARRANGE:
+        Long id = productoService.guardarProducto(crearProducto(7L, "Tienda Oficial", 4.5f, 0)).getId();
+
+        // ACT:
+        ProductoParcial parcial = productoService.obtenerCamposProducto(id,
+                CamposProducto.desde("titulo,nombreVendedor,reputacionVendedor")).orElseThrow();
+
+        // ASSERT:
+        assertEquals("Tienda Oficial", parcial.getCampos().get("nombreVendedor"));
+        assertEquals(4.5f, parcial.getCampos().get("reputacionVendedor"));
+        assertFalse(parcial.getCampos().containsKey("idVendedor"));
+    }
+
+    @Test
+    void obtenerProductos_PaginaSoloLosDelVendedorDelMasReciente() {
+        // ARRANGE: 8 productos del vendedor 7 y 4 del vendedor 8, intercalados
+        List<Long> delVendedor = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            long idVendedor = i % 3 == 2 ? 8L : 7L;
+            Producto guardado = productoService.guardarProducto(crearProducto(idVendedor, "Vendedor " + idVendedor, 4.0f, i));
+            if (idVendedor == 7L) {
+                delVendedor.add(0, guardado.getId());
+            }
+        }
+
+        // ACT:
+        List<Long> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            PaginaProductos pagina = vendedorService.obtenerProductos(7L, cursor, 3);
+            pagina.getProductos().forEach(producto -> {
+                assertEquals("Vendedor 7", producto.getNombreVendedor());
+                ids.add(producto.getId());
+            });
+            cursor = pagina.getSiguienteCursor();
+        } while (cursor != null);
+
+        // ASSERT:
+        assertEquals(delVendedor, ids);
+        assertThrows(RecursoNoEncontradoException.class, () -> vendedorService.obtenerProductos(99L, null, null));
+    }
+
+    @Test
+    void obtenerTodos_VendedorInexistente_SeCacheaLaAusencia() {
+        // ARRANGE: el vendedor 8 no existe al resolverlo
+        productoService.guardarProducto(crearProducto(7L, "Tienda Oficial", 4.5f, 0));
+        cacheVendedores.invalidar(7L);
+
+        // ACT:
+        Map<Long, CacheVendedores.DatosVendedor> vendedores = cacheVendedores.obtenerTodos(List.of(7L, 8L, 7L));
+        jdbcTemplate.update("insert into vendedores (id, nombre, reputacion, fecha_actualizacion) values (8, 'Nuevo', 3.0, ?)",
+                LocalDateTime.now());
+
+        // ASSERT: la ausencia queda cacheada hasta que se invalida
+        assertEquals(Set.of(7L), vendedores.keySet());
+        assertEquals("Tienda Oficial", vendedores.get(7L).nombre());
+        assertTrue(cacheVendedores.obtener(8L).isEmpty());
+        cacheVendedores.invalidar(8L);
+        assertEquals("Nuevo", cacheVendedores.obtener(8L).orElseThrow().nombre());
+    }
+
+    @Test
+    void guardarProducto_VendedorCacheadoComoAusente_SeRegistraYSeResuelve() {
+        // ARRANGE:
+        assertTrue(cacheVendedores.obtener(8L).isEmpty());
+
+        // ACT:
+        Producto guardado = productoService.guardarProducto(crearProducto(8L, "Tienda Nueva", 4.0f, 0));
+
+        // ASSERT:
+        assertEquals("Tienda Nueva", guardado.getNombreVendedor());
+        assertEquals("Tienda Nueva", productoService.obtenerProductoPorId(guardado.getId()).orElseThrow().getNombreVendedor());
+    }
+
+    @Test
+    void guardarVendedor_DatosInvalidos_LanzaInvalidDataException() {
+        assertThrows(InvalidDataException.class, () -> vendedorService.guardarVendedor(7L, solicitud(" ", 4.0f)));
+        assertThrows(InvalidDataException.class, () -> vendedorService.guardarVendedor(7L, solicitud("Tienda", 5.5f)));
+        assertTrue(vendedorRepository.findById(7L).isEmpty());
+    }
+
+    @Test
+    void catalogoPorVendedor_UsaElIndiceDelVendedor() {
+        // Primera página del catálogo de un vendedor, con el límite de página del listado
+        String plan = jdbcTemplate.queryForObject("explain select * from productos where id_vendedor = 7"
+                + " order by fecha_publicacion desc, id desc fetch first 21 rows only", String.class);
+
+        assertTrue(plan.toUpperCase().contains("IDX_PRODUCTOS_VENDEDOR_FECHA_ID"), plan);
+    }
+
+    private static SolicitudVendedor solicitud(String nombre, Float reputacion) {
+        SolicitudVendedor solicitud = new SolicitudVendedor();
+        solicitud.setNombre(nombre);
+        solicitud.setReputacion(reputacion);
+        return solicitud;
+    }
+
+    private static Producto crearProducto(Long idVendedor, String nombreVendedor, Float reputacion, int minutos) {
+        Producto producto = new Producto();
+        producto.setTitulo("Audífonos inalámbricos");
+        producto.setPrecio(new BigDecimal("29990"));
+        producto.setMoneda("CLP");
+        producto.setStockDisponible(10);
+        producto.setDescripcion("Audífonos con cancelación de ruido");
+        producto.setIdVendedor(idVendedor);
+        producto.setNombreVendedor(nombreVendedor);
+        producto.setReputacionVendedor(reputacion);
+        producto.setFechaPublicacion(LocalDateTime.of(2025, 12, 1, 10, 0).plusMinutes(minutos));
+        producto.setEspecificaciones(List.of());
+        producto.setUrlsImagenes(List.of());
+        return producto;
+    }
+}
@@ -0,0 +1,126 @@
+package com.meli.rest.evaluacion.util;
+
+import com.meli.rest.evaluacion.model.Producto;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias del formato binario del snapshot del catálogo.
+ */
+public class ArchivoSnapshotTest {
+
+    @TempDir
+    Path directorio;
+
+    @Test
+    void leer_VentanasPequenias_RecuperaTodosLosProductos() throws IOException {
+        // ARRANGE: ventanas de 1 KB obligan a remapear y a mapear registros más grandes que la ventana
+        List<Producto> productos = new ArrayList<>();
+        for (int i = 1; i <= 200; i++) {
+            productos.add(crearProducto(i, "x".repeat(i * 20)));
+        }
+        Path archivo = escribir(productos);
+
+        // ACT:
+        List<Producto> leidos = new ArrayList<>();
+        long cantidad = ArchivoSnapshot.leer(archivo, 1024, leidos::add);
+
+        // ASSERT:
+        assertEquals(200, cantidad);
+        for (int i = 0; i < productos.size(); i++) {
+            assertEquals(productos.get(i), leidos.get(i));
+        }
+    }
+
+    @Test
+    void leer_CamposNulosYColeccionesVacias_SeConservan() throws IOException {
+        // ARRANGE:
+        Producto producto = crearProducto(1, "Sin vendedor");
+        producto.setIdVendedor(null);
+        producto.setNombreVendedor(null);
+        producto.setReputacionVendedor(null);
+        producto.setEnvioGratis(null);
+        producto.setFechaActualizacion(null);
+        producto.setEspecificaciones(List.of());
+        producto.setUrlsImagenes(List.of());
+        Path archivo = escribir(List.of(producto));
+
+        // ACT:
+        List<Producto> leidos = new ArrayList<>();
+        ArchivoSnapshot.leer(archivo, leidos::add);
+
+        // ASSERT:
+        assertEquals(List.of(producto), leidos);
+    }
+
+    @Test
+    void leer_ArchivoCorruptoOTruncado_NoEntregaProductos() throws IOException {
+        // ARRANGE:
+        byte[] original = Files.readAllBytes(escribir(List.of(crearProducto(1, "a"), crearProducto(2, "b"))));
+        byte[] alterado = original.clone();
+        alterado[original.length / 2] ^= 0x01;
+        byte[] truncado = Arrays.copyOf(original, original.length - 10);
+        byte[] otraVersion = original.clone();
+        ByteBuffer.wrap(otraVersion).putShort(4, (short) (ArchivoSnapshot.VERSION + 1));
+
+        for (byte[] contenido : List.of(alterado, truncado, otraVersion)) {
+            Path archivo = Files.write(directorio.resolve("invalido.snapshot"), contenido);
+            List<Producto> leidos = new ArrayList<>();
+
+            // ACT / ASSERT:
+            assertThrows(IOException.class, () -> ArchivoSnapshot.leer(archivo, leidos::add));
+            assertTrue(leidos.isEmpty());
+        }
+    }
+
+    private Path escribir(List<Producto> productos) throws IOException {
+        Path archivo = directorio.resolve("catalogo.snapshot");
+        try (OutputStream salida = Files.newOutputStream(archivo);
+             ArchivoSnapshot.Escritor escritor = new ArchivoSnapshot.Escritor(salida)) {
+            for (Producto producto : productos) {
+                escritor.escribir(producto);
+            }
+            escritor.terminar();
+        }
+        return archivo;
+    }
+
+    private static Producto crearProducto(long id, String descripcion) {
+        Producto producto = new Producto();
+        producto.setId(id);
+        producto.setTitulo("Producto " + id + " ñandú");
+        producto.setPrecio(new BigDecimal("19990.99").multiply(BigDecimal.valueOf(id)));
+        producto.setMoneda("CLP");
+        producto.setStockDisponible((int) id);
+        producto.setDescripcion(descripcion);
+        producto.setIdVendedor(id % 7);
+        producto.setNombreVendedor("Vendedor " + id % 7);
+        producto.setReputacionVendedor(4.25f);
+        producto.setCantidadVendida((int) id * 3);
+        producto.setFechaPublicacion(LocalDateTime.of(2025, 1, 1, 12, 0).plusSeconds(id).withNano(456_789_000));
+        producto.setEnvioGratis(id % 2 == 0);
+        producto.setMetodoEnvioPrincipal("Mercado Envíos");
+        producto.setRatingPromedio(4.8f);
+        producto.setTotalOpiniones(542);
+        producto.setSumaPuntajes(2602L);
+        producto.setOpiniones4((int) id);
+        producto.setOpiniones5(null);
+        producto.setFechaActualizacion(LocalDateTime.of(2025, 6, 1, 8, 0));
+        producto.setEspecificaciones(List.of("Color: Rojo", "Peso: " + id + " kg"));
+        producto.setUrlsImagenes(List.of("https://img/" + id + ".jpg"));
+        return producto;
+    }
+}
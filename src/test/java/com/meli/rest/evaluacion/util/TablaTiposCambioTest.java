@@ -0,0 +1,87 @@
+package com.meli.rest.evaluacion.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias de la tabla de tipos de cambio y del redondeo por moneda.
+ */
+public class TablaTiposCambioTest {
+
+    private static final String TASAS = """
+            tasa.USD=1
+            tasa.CLP=950.25
+            tasa.JPY=150
+            tasa.EUR=0.92
+            redondeo.CLP=0,HALF_UP
+            """;
+
+    @Test
+    void convertir_EntreMonedas_RedondeaSegunLaMonedaDestino() throws IOException {
+        // ARRANGE:
+        TablaTiposCambio tabla = tabla(TASAS);
+
+        // ACT / ASSERT: USD con 2 decimales ISO 4217, CLP con la regla del archivo (9502.5 y 1900.5 suben), JPY sin decimales
+        assertEquals(new BigDecimal("63.13"), tabla.hacia("USD").convertir(new BigDecimal("59990"), "CLP"));
+        assertEquals(new BigDecimal("9503"), tabla.hacia("CLP").convertir(new BigDecimal("10.00"), "USD"));
+        assertEquals(new BigDecimal("1901"), tabla.hacia("CLP").convertir(new BigDecimal("2"), "USD"));
+        assertEquals(new BigDecimal("1630"), tabla.hacia("JPY").convertir(new BigDecimal("10"), "EUR"));
+        assertEquals(new TablaTiposCambio.Redondeo(2, RoundingMode.HALF_EVEN), tabla.hacia("EUR").getRedondeo());
+    }
+
+    @Test
+    void convertir_MismaMonedaOMonedaDesconocida_NoConvierte() throws IOException {
+        // ARRANGE:
+        TablaTiposCambio tabla = tabla(TASAS);
+        BigDecimal precio = new BigDecimal("10.123");
+
+        // ACT / ASSERT:
+        assertSame(precio, tabla.hacia("USD").convertir(precio, "USD"));
+        assertNull(tabla.hacia("USD").convertir(precio, "ARS"));
+        assertNull(tabla.hacia("USD").convertir(null, "CLP"));
+        assertNull(tabla.hacia("ARS"));
+    }
+
+    @Test
+    void version_DependeSoloDelContenido() throws IOException {
+        // ARRANGE / ACT:
+        TablaTiposCambio tabla = tabla(TASAS);
+        TablaTiposCambio misma = tabla(TASAS.replace("tasa.USD=1", "tasa.USD=1.000"));
+        TablaTiposCambio otra = tabla(TASAS.replace("tasa.CLP=950.25", "tasa.CLP=951"));
+
+        // ASSERT:
+        assertEquals(tabla.getVersion(), misma.getVersion());
+        assertNotEquals(tabla.getVersion(), otra.getVersion());
+        assertEquals(tabla.getVersion(), tabla.hacia("CLP").getVersion());
+    }
+
+    @Test
+    void version_MismoContenido_MismoValorEnCualquierEjecucion() throws IOException {
+        // ARRANGE / ACT:
+        TablaTiposCambio tabla = tabla(TASAS);
+
+        // ASSERT: valor fijo; no puede depender de hashCode de identidad (como el de RoundingMode)
+        assertEquals(1374481835238295006L, tabla.getVersion());
+    }
+
+    @Test
+    void desde_ContenidoInvalido_LanzaIllegalArgumentException() {
+        for (String contenido : new String[]{"", "tasa.usd=1", "tasa.USD=0", "tasa.USD=uno", "moneda=USD",
+                "tasa.USD=1\nredondeo.USD=-1", "tasa.USD=1\nredondeo.USD=2,REDONDO", "tasa.USD=1\nredondeo.CLP=0"}) {
+            assertThrows(IllegalArgumentException.class, () -> tabla(contenido), contenido);
+        }
+    }
+
+    private static TablaTiposCambio tabla(String contenido) throws IOException {
+        Properties propiedades = new Properties();
+        propiedades.load(new StringReader(contenido));
+        return TablaTiposCambio.desde(propiedades);
+    }
+}
@@ -0,0 +1,130 @@
+package com.meli.rest.evaluacion.validation;
+
+import com.meli.rest.evaluacion.exceptions.InvalidDataException;
+import com.meli.rest.evaluacion.model.Producto;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias de las reglas de validación de productos.
+ */
+public class ProductoValidatorTest {
+
+    private final ProductoValidator validator = new ProductoValidator();
+
+    @Test
+    void validar_ProductoValido_SinErrores() {
+        // ACT:
+        ResultadoValidacion resultado = validator.validar(crearProducto());
+
+        // ASSERT:
+        assertTrue(resultado.esValido());
+        assertTrue(resultado.getErrores().isEmpty());
+        assertNull(resultado.mensaje());
+    }
+
+    @Test
+    void validar_VariasReglasIncumplidas_InformaTodasEnOrden() {
+        // ARRANGE:
+        Producto producto = crearProducto();
+        producto.setTitulo(null);
+        producto.setPrecio(new BigDecimal("-10"));
+        producto.setMoneda("PESOS");
+
+        // ACT:
+        ResultadoValidacion resultado = validator.validar(producto);
+
+        // ASSERT:
+        assertEquals(List.of(
+                "El título del producto es obligatorio.",
+                "El precio del producto debe ser mayor que cero.",
+                "La moneda del producto es obligatoria y no puede superar 3 caracteres."), resultado.getErrores());
+    }
+
+    @Test
+    void validar_PrecioNulo_SoloInformaQueEsObligatorio() {
+        // ARRANGE:
+        Producto producto = crearProducto();
+        producto.setPrecio(null);
+
+        // ACT:
+        ResultadoValidacion resultado = validator.validar(producto);
+
+        // ASSERT:
+        assertEquals(List.of("El precio del producto es obligatorio y no puede ser nulo."), resultado.getErrores());
+    }
+
+    @Test
+    void validar_ResultadoReutilizado_SeLimpiaEntreProductos() {
+        // ARRANGE:
+        Producto invalido = crearProducto();
+        invalido.setPrecio(BigDecimal.ZERO);
+        ResultadoValidacion resultado = new ResultadoValidacion();
+
+        // ACT & ASSERT:
+        assertFalse(validator.validar(invalido, resultado));
+        assertTrue(validator.validar(crearProducto(), resultado));
+        assertTrue(resultado.esValido());
+        assertFalse(validator.validar(null, resultado));
+        assertEquals(List.of("El producto no puede ser nulo."), resultado.getErrores());
+    }
+
+    @Test
+    void comoExcepcion_SinTrazaYConTodosLosErrores() {
+        // ARRANGE:
+        Producto producto = crearProducto();
+        producto.setDescripcion(null);
+        producto.setStockDisponible(null);
+
+        // ACT:
+        InvalidDataException excepcion = validator.validar(producto).comoExcepcion();
+
+        // ASSERT:
+        assertEquals(0, excepcion.getStackTrace().length);
+        assertEquals(2, excepcion.getErrores().size());
+        assertEquals("El stock disponible del producto es obligatorio. La descripción del producto es obligatoria.",
+                excepcion.getMessage());
+    }
+
+    @Test
+    void validarLote_VariosTramos_MensajePorPosicionYNuloParaLosValidos() {
+        // ARRANGE: más de dos tramos, con inválidos en los bordes de los tramos
+        int cantidad = ProductoValidator.TAMANIO_TRAMO_PARALELO * 2 + 10;
+        List<Producto> productos = new ArrayList<>(cantidad);
+        for (int i = 0; i < cantidad; i++) {
+            productos.add(crearProducto());
+        }
+        productos.get(0).setPrecio(BigDecimal.ZERO);
+        productos.set(ProductoValidator.TAMANIO_TRAMO_PARALELO - 1, null);
+        productos.get(ProductoValidator.TAMANIO_TRAMO_PARALELO).setTitulo(null);
+        productos.get(cantidad - 1).setPrecio(null);
+
+        // ACT:
+        String[] mensajes = validator.validarLote(productos);
+
+        // ASSERT:
+        assertEquals(cantidad, mensajes.length);
+        assertEquals("El precio del producto debe ser mayor que cero.", mensajes[0]);
+        assertEquals("El producto no puede ser nulo.", mensajes[ProductoValidator.TAMANIO_TRAMO_PARALELO - 1]);
+        assertEquals("El título del producto es obligatorio.", mensajes[ProductoValidator.TAMANIO_TRAMO_PARALELO]);
+        assertEquals("El precio del producto es obligatorio y no puede ser nulo.", mensajes[cantidad - 1]);
+        long invalidos = Arrays.stream(mensajes).filter(Objects::nonNull).count();
+        assertEquals(4, invalidos);
+    }
+
+    private static Producto crearProducto() {
+        Producto producto = new Producto();
+        producto.setTitulo("Audífonos inalámbricos");
+        producto.setPrecio(new BigDecimal("29990"));
+        producto.setStockDisponible(10);
+        producto.setDescripcion("Audífonos con cancelación de ruido");
+        return producto;
+    }
+}